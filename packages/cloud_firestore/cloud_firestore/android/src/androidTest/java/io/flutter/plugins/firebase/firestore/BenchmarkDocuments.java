@@ -0,0 +1,115 @@
+/*
+ * Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+ * for details. All rights reserved. Use of this source code is governed by a
+ * BSD-style license that can be found in the LICENSE file.
+ */
+
+package io.flutter.plugins.firebase.firestore;
+
+import android.content.Context;
+import androidx.test.platform.app.InstrumentationRegistry;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.FirebaseOptions;
+import com.google.firebase.Timestamp;
+import com.google.firebase.firestore.Blob;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.FirebaseFirestoreSettings;
+import com.google.firebase.firestore.GeoPoint;
+import com.google.firebase.firestore.MemoryCacheSettings;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Synthetic Firestore data for the benchmarks, sized by its encoded form. */
+final class BenchmarkDocuments {
+  /** Encoded payload sizes every size-dependent benchmark runs with: 1 KB to 10 MB. */
+  static final List<Object[]> SIZES =
+      Arrays.asList(new Object[][] {{1 << 10}, {100 << 10}, {1 << 20}, {10 << 20}});
+
+  // Firestore documents are limited to 1 MiB, so larger payloads are split across documents.
+  private static final int MAX_DOCUMENT_BYTES = 64 << 10;
+  private static final String APP_NAME = "flutterfire-benchmark";
+
+  private static FirebaseFirestore firestore;
+
+  private BenchmarkDocuments() {}
+
+  /** Returns a document tree whose encoded size is about `targetBytes`. */
+  static Map<String, Object> create(int targetBytes) {
+    return create(targetBytes, 0);
+  }
+
+  /** Returns documents whose encoded sizes add up to about `targetBytes`. */
+  static List<Map<String, Object>> createDocuments(int targetBytes) {
+    List<Map<String, Object>> documents = new ArrayList<>();
+    for (int remaining = targetBytes; remaining > 0; remaining -= MAX_DOCUMENT_BYTES) {
+      documents.add(create(Math.min(remaining, MAX_DOCUMENT_BYTES), documents.size()));
+    }
+    return documents;
+  }
+
+  /**
+   * Returns a Firestore instance of a dedicated app, with an in-memory cache and the network
+   * disabled, so that benchmarks only ever read local data.
+   */
+  static synchronized FirebaseFirestore getFirestore() throws Exception {
+    if (firestore == null) {
+      Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+      FirebaseOptions options =
+          new FirebaseOptions.Builder()
+              .setApiKey("benchmark")
+              .setApplicationId("1:000000000000:android:0000000000000000")
+              .setProjectId("demo-benchmark")
+              .build();
+      FirebaseApp app = FirebaseApp.initializeApp(context, options, APP_NAME);
+
+      firestore = FirebaseFirestore.getInstance(app);
+      firestore.setFirestoreSettings(
+          new FirebaseFirestoreSettings.Builder()
+              .setLocalCacheSettings(MemoryCacheSettings.newBuilder().build())
+              .build());
+      Tasks.await(firestore.disableNetwork());
+    }
+    return firestore;
+  }
+
+  private static Map<String, Object> create(int targetBytes, int seed) {
+    List<Object> items = new ArrayList<>();
+    Map<String, Object> document = new HashMap<>();
+    document.put("seed", (long) seed);
+    document.put("items", items);
+
+    int size = encodedSize(document);
+    for (int i = 0; size < targetBytes; i++) {
+      Map<String, Object> item = createItem(seed, i);
+      items.add(item);
+      size += encodedSize(item);
+    }
+    return document;
+  }
+
+  private static Map<String, Object> createItem(int seed, int index) {
+    Map<String, Object> nested = new HashMap<>();
+    nested.put("enabled", index % 2 == 0);
+    nested.put("ratio", index / 7.0);
+    nested.put("label", "label-" + seed + "-" + index);
+
+    Map<String, Object> item = new HashMap<>();
+    item.put("name", "item-" + seed + "-" + index + "-lorem-ipsum-dolor-sit-amet-consectetur");
+    item.put("count", (long) index);
+    item.put("score", index * 1.5);
+    item.put("createdAt", new Timestamp(1_700_000_000L + index, index % 1_000_000));
+    item.put("location", new GeoPoint(index % 90, index % 180));
+    item.put("tags", Arrays.asList("alpha", "beta", "gamma", "tag-" + index));
+    item.put("payload", Blob.fromBytes(new byte[32]));
+    item.put("nested", nested);
+    return item;
+  }
+
+  private static int encodedSize(Object value) {
+    return FlutterFirebaseFirestoreMessageCodec.INSTANCE.encodeMessage(value).capacity();
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+ * for details. All rights reserved. Use of this source code is governed by a
+ * BSD-style license that can be found in the LICENSE file.
+ */
+
+package io.flutter.plugins.firebase.firestore;
+
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/** Measures encoding and decoding document trees with the Firestore message codec. */
+@RunWith(Parameterized.class)
+public class FlutterFirebaseFirestoreMessageCodecBenchmark {
+  @Rule public BenchmarkRule benchmarkRule = new BenchmarkRule();
+
+  @Parameterized.Parameters(name = "{0}B")
+  public static Collection<Object[]> sizes() {
+    return BenchmarkDocuments.SIZES;
+  }
+
+  private final int targetBytes;
+  private Map<String, Object> document;
+  private ByteBuffer encoded;
+
+  public FlutterFirebaseFirestoreMessageCodecBenchmark(int targetBytes) {
+    this.targetBytes = targetBytes;
+  }
+
+  @Before
+  public void setUp() {
+    document = BenchmarkDocuments.create(targetBytes);
+    encoded = FlutterFirebaseFirestoreMessageCodec.INSTANCE.encodeMessage(document);
+  }
+
+  @Test
+  public void writeValue() {
+    BenchmarkState state = benchmarkRule.getState();
+    while (state.keepRunning()) {
+      FlutterFirebaseFirestoreMessageCodec.INSTANCE.encodeMessage(document);
+    }
+  }
+
+  @Test
+  public void readValueOfType() {
+    BenchmarkState state = benchmarkRule.getState();
+    while (state.keepRunning()) {
+      encoded.rewind();
+      FlutterFirebaseFirestoreMessageCodec.INSTANCE.decodeMessage(encoded);
+    }
+  }
+}
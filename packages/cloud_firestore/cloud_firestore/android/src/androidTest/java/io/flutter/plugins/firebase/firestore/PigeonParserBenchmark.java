@@ -0,0 +1,65 @@
+/*
+ * Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+ * for details. All rights reserved. Use of this source code is governed by a
+ * BSD-style license that can be found in the LICENSE file.
+ */
+
+package io.flutter.plugins.firebase.firestore;
+
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import com.google.firebase.firestore.FieldPath;
+import com.google.firebase.firestore.FirebaseFirestore;
+import io.flutter.plugins.firebase.firestore.utils.PigeonParser;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/** Measures building SDK queries from the Pigeon query parameters sent by Dart. */
+public class PigeonParserBenchmark {
+  @Rule public BenchmarkRule benchmarkRule = new BenchmarkRule();
+
+  private FirebaseFirestore firestore;
+  private GeneratedAndroidFirebaseFirestore.PigeonQueryParameters parameters;
+
+  @Before
+  public void setUp() throws Exception {
+    firestore = BenchmarkDocuments.getFirestore();
+
+    List<List<Object>> where =
+        Arrays.asList(
+            Arrays.<Object>asList(FieldPath.of("count"), ">=", 10L),
+            Arrays.<Object>asList(FieldPath.of("nested", "enabled"), "==", true),
+            Arrays.<Object>asList(FieldPath.of("tags"), "array-contains", "alpha"));
+    List<List<Object>> orderBy =
+        Arrays.asList(
+            Arrays.<Object>asList(FieldPath.of("count"), false),
+            Arrays.<Object>asList(FieldPath.of("score"), true));
+    parameters =
+        new GeneratedAndroidFirebaseFirestore.PigeonQueryParameters.Builder()
+            .setWhere(where)
+            .setOrderBy(orderBy)
+            .setLimit(100L)
+            .setStartAfter(Collections.<Object>singletonList(10L))
+            .build();
+  }
+
+  @Test
+  public void parseQuery() {
+    BenchmarkState state = benchmarkRule.getState();
+    while (state.keepRunning()) {
+      PigeonParser.parseQuery(firestore, "benchmark/items/entries", false, parameters);
+    }
+  }
+
+  @Test
+  public void buildQuery() {
+    BenchmarkState state = benchmarkRule.getState();
+    while (state.keepRunning()) {
+      PigeonParser.buildQuery(firestore, "benchmark/items/entries", false, parameters);
+    }
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+ * for details. All rights reserved. Use of this source code is governed by a
+ * BSD-style license that can be found in the LICENSE file.
+ */
+
+package io.flutter.plugins.firebase.firestore;
+
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import com.google.android.gms.tasks.Tasks;
+import com.google.firebase.firestore.CollectionReference;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.QuerySnapshot;
+import com.google.firebase.firestore.Source;
+import io.flutter.plugins.firebase.firestore.utils.PigeonParser;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/**
+ * Measures converting SDK query snapshots to the messages sent to Dart, through the Pigeon classes
+ * and directly with {@link FlutterFirebaseFirestoreSnapshot}.
+ */
+@RunWith(Parameterized.class)
+public class PigeonQuerySnapshotBenchmark {
+  @Rule public BenchmarkRule benchmarkRule = new BenchmarkRule();
+
+  @Parameterized.Parameters(name = "{0}B")
+  public static Collection<Object[]> sizes() {
+    return BenchmarkDocuments.SIZES;
+  }
+
+  private final int targetBytes;
+  private QuerySnapshot querySnapshot;
+
+  public PigeonQuerySnapshotBenchmark(int targetBytes) {
+    this.targetBytes = targetBytes;
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    CollectionReference collection =
+        BenchmarkDocuments.getFirestore().collection("benchmark-" + targetBytes);
+
+    querySnapshot = Tasks.await(collection.get(Source.CACHE));
+    if (querySnapshot.isEmpty()) {
+      List<Map<String, Object>> documents = BenchmarkDocuments.createDocuments(targetBytes);
+      for (int i = 0; i < documents.size(); i++) {
+        // The network is disabled, so the write never completes; it is visible in the cache
+        // as a pending write right away.
+        collection.document("document-" + i).set(documents.get(i));
+      }
+      querySnapshot = Tasks.await(collection.get(Source.CACHE));
+    }
+  }
+
+  @Test
+  public void toPigeonQuerySnapshot() {
+    BenchmarkState state = benchmarkRule.getState();
+    while (state.keepRunning()) {
+      PigeonParser.toPigeonQuerySnapshot(
+          querySnapshot, DocumentSnapshot.ServerTimestampBehavior.NONE);
+    }
+  }
+
+  @Test
+  public void encodePigeonQuerySnapshot() {
+    BenchmarkState state = benchmarkRule.getState();
+    while (state.keepRunning()) {
+      FlutterFirebaseFirestoreMessageCodec.INSTANCE.encodeMessage(
+          PigeonParser.toPigeonQuerySnapshot(
+                  querySnapshot, DocumentSnapshot.ServerTimestampBehavior.NONE)
+              .toList());
+    }
+  }
+
+  @Test
+  public void encodeQuerySnapshot() {
+    BenchmarkState state = benchmarkRule.getState();
+    while (state.keepRunning()) {
+      FlutterFirebaseFirestoreMessageCodec.INSTANCE.encodeMessage(
+          FlutterFirebaseFirestoreSnapshot.of(
+              querySnapshot, DocumentSnapshot.ServerTimestampBehavior.NONE));
+    }
+  }
+}
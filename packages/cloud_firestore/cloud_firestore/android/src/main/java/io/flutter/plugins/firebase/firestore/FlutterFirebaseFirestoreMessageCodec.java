@@ -5,6 +5,7 @@
 package io.flutter.plugins.firebase.firestore;
 
 import android.util.Log;
+import androidx.annotation.Nullable;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.Timestamp;
 import com.google.firebase.firestore.Blob;
@@ -24,9 +25,12 @@ import com.google.firebase.firestore.Query;
 import com.google.firebase.firestore.QuerySnapshot;
 import com.google.firebase.firestore.SnapshotMetadata;
 import io.flutter.plugin.common.StandardMessageCodec;
+import io.flutter.plugins.firebase.firestore.utils.PigeonParser;
 import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -55,10 +59,28 @@ class FlutterFirebaseFirestoreMessageCodec extends StandardMessageCodec {
   private static final byte DATA_TYPE_FIRESTORE_INSTANCE = (byte) 196;
   private static final byte DATA_TYPE_FIRESTORE_QUERY = (byte) 197;
   private static final byte DATA_TYPE_FIRESTORE_SETTINGS = (byte) 198;
+  private static final byte DATA_TYPE_QUERY_SNAPSHOT = (byte) 199;
+  private static final byte DATA_TYPE_DOCUMENT_SNAPSHOT = (byte) 200;
+  private static final byte DATA_TYPE_QUERY_SNAPSHOT_CHANGES = (byte) 201;
+  private static final byte DATA_TYPE_STRING_TABLE_ENTRY = (byte) 202;
+  private static final byte DATA_TYPE_STRING_TABLE_REFERENCE = (byte) 203;
+
+  // Longer strings, which are unlikely to be field names or repeated values, are written as they
+  // are, so that the string table only holds short strings.
+  private static final int MAX_STRING_TABLE_ENTRY_LENGTH = 64;
+
+  // Offset of an event in the messages of an event channel, after the success envelope byte of
+  // StandardMethodCodec.
+  static final int EVENT_OFFSET = 1;
+
+  // String table of the snapshot being written on the current thread, see {@link #writeString}.
+  private static final ThreadLocal<Map<String, Integer>> stringTable = new ThreadLocal<>();
 
   @Override
   protected void writeValue(ByteArrayOutputStream stream, Object value) {
-    if (value instanceof Date) {
+    if (value instanceof String) {
+      writeString(stream, (String) value);
+    } else if (value instanceof Date) {
       stream.write(DATA_TYPE_DATE_TIME);
       writeLong(stream, ((Date) value).getTime());
     } else if (value instanceof Timestamp) {
@@ -76,14 +98,13 @@ class FlutterFirebaseFirestoreMessageCodec extends StandardMessageCodec {
       String appName = firestore.getApp().getName();
       writeValue(stream, appName);
       writeValue(stream, ((DocumentReference) value).getPath());
-      String databaseURL;
       // There is no way of getting database URL from Firebase android SDK API so we cache it ourselves
-      synchronized (FlutterFirebaseFirestorePlugin.firestoreInstanceCache) {
-        databaseURL =
-            FlutterFirebaseFirestorePlugin.getCachedFirebaseFirestoreInstanceForKey(firestore)
-                .getDatabaseURL();
-      }
+      String databaseURL =
+          FlutterFirebaseFirestorePlugin.getCachedFirebaseFirestoreInstanceForKey(firestore)
+              .getDatabaseURL();
       writeValue(stream, databaseURL);
+    } else if (value instanceof FlutterFirebaseFirestoreSnapshot) {
+      writeSnapshot(stream, (FlutterFirebaseFirestoreSnapshot) value);
     } else if (value instanceof DocumentSnapshot) {
       writeDocumentSnapshot(stream, (DocumentSnapshot) value);
     } else if (value instanceof QuerySnapshot) {
@@ -113,6 +134,221 @@ class FlutterFirebaseFirestoreMessageCodec extends StandardMessageCodec {
     }
   }
 
+  /**
+   * Writes a listener snapshot field by field, in the layout of the matching Pigeon class, which
+   * the Dart codec decodes directly.
+   *
+   * <p>A snapshot encoded ahead of time, see {@link #encodeSnapshot}, or shared between listeners
+   * is encoded once and its bytes are copied to every message it is sent in. Values are aligned
+   * relative to the start of the message, so the bytes are only reused at the same offset modulo
+   * 8, which is the case for every event of an event channel.
+   */
+  private void writeSnapshot(
+      ByteArrayOutputStream stream, FlutterFirebaseFirestoreSnapshot snapshot) {
+    int offset = stream.size() % 8;
+    if (snapshot.encoded == null || snapshot.encodedOffset != offset) {
+      if (!snapshot.shared) {
+        writeSnapshotFields(stream, snapshot);
+        return;
+      }
+      encodeSnapshot(snapshot, offset);
+    }
+
+    byte[] encoded = Objects.requireNonNull(snapshot.encoded);
+    stream.write(encoded, offset, encoded.length - offset);
+  }
+
+  /**
+   * Encodes `snapshot` as if it was written `offset` bytes into a message, and keeps the bytes in
+   * the snapshot for {@link #writeSnapshot}.
+   */
+  void encodeSnapshot(FlutterFirebaseFirestoreSnapshot snapshot, int offset) {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    for (int i = 0; i < offset; i++) {
+      buffer.write(0);
+    }
+    writeSnapshotFields(buffer, snapshot);
+    snapshot.encoded = buffer.toByteArray();
+    snapshot.encodedOffset = offset;
+  }
+
+  /**
+   * Writes `snapshot` with a string table of its own, so that the field names and string values
+   * its documents share are only written once.
+   */
+  private void writeSnapshotFields(
+      ByteArrayOutputStream stream, FlutterFirebaseFirestoreSnapshot snapshot) {
+    Map<String, Integer> previousTable = stringTable.get();
+    stringTable.set(new HashMap<>());
+    try {
+      writeSnapshotFieldsWithTable(stream, snapshot);
+    } finally {
+      stringTable.set(previousTable);
+    }
+  }
+
+  private void writeSnapshotFieldsWithTable(
+      ByteArrayOutputStream stream, FlutterFirebaseFirestoreSnapshot snapshot) {
+    if (snapshot.querySnapshot != null && snapshot.changesOnly) {
+      stream.write(DATA_TYPE_QUERY_SNAPSHOT_CHANGES);
+      writeQuerySnapshotChangesFields(stream, snapshot);
+    } else if (snapshot.querySnapshot != null) {
+      stream.write(DATA_TYPE_QUERY_SNAPSHOT);
+      writeQuerySnapshotFields(stream, snapshot);
+    } else {
+      stream.write(DATA_TYPE_DOCUMENT_SNAPSHOT);
+      writeDocumentSnapshotFields(
+          stream,
+          Objects.requireNonNull(snapshot.documentSnapshot),
+          snapshot.serverTimestampBehavior);
+    }
+  }
+
+  private void writeQuerySnapshotFields(
+      ByteArrayOutputStream stream, FlutterFirebaseFirestoreSnapshot snapshot) {
+    QuerySnapshot value = Objects.requireNonNull(snapshot.querySnapshot);
+    DocumentSnapshot.ServerTimestampBehavior serverTimestampBehavior =
+        snapshot.serverTimestampBehavior;
+
+    List<DocumentSnapshot> documents = value.getDocuments();
+    String prefix = pathPrefix(documents, snapshot.documentChanges);
+    writeValue(stream, prefix);
+    writeSize(stream, documents.size());
+    for (DocumentSnapshot document : documents) {
+      writeDocumentSnapshotFields(stream, document, prefix, serverTimestampBehavior);
+    }
+
+    if (snapshot.documentsAdded) {
+      writeSize(stream, documents.size());
+      for (int i = 0; i < documents.size(); i++) {
+        stream.write(GeneratedAndroidFirebaseFirestore.DocumentChangeType.ADDED.index);
+        writeInt(stream, -1);
+        writeInt(stream, i);
+        writeDocumentSnapshotFields(stream, documents.get(i), prefix, serverTimestampBehavior);
+      }
+      writeSnapshotMetadataFields(stream, value.getMetadata());
+      return;
+    }
+
+    writeSize(stream, snapshot.documentChanges.size());
+    for (DocumentChange documentChange : snapshot.documentChanges) {
+      stream.write(PigeonParser.toPigeonDocumentChangeType(documentChange.getType()).index);
+      writeInt(stream, documentChange.getOldIndex());
+      writeInt(stream, documentChange.getNewIndex());
+      writeDocumentSnapshotFields(
+          stream, documentChange.getDocument(), prefix, serverTimestampBehavior);
+    }
+
+    writeSnapshotMetadataFields(stream, value.getMetadata());
+  }
+
+  /**
+   * Writes every document change of the snapshot, including the metadata-only ones, so that Dart
+   * keeps the metadata of its copy of the documents up to date. Each change is flagged with
+   * whether it belongs to the changes reported to the app, which exclude metadata-only changes.
+   */
+  private void writeQuerySnapshotChangesFields(
+      ByteArrayOutputStream stream, FlutterFirebaseFirestoreSnapshot snapshot) {
+    QuerySnapshot value = Objects.requireNonNull(snapshot.querySnapshot);
+    String prefix = pathPrefix(Collections.emptyList(), snapshot.documentChanges);
+
+    writeValue(stream, prefix);
+    writeSize(stream, snapshot.documentChanges.size());
+    for (int i = 0; i < snapshot.documentChanges.size(); i++) {
+      DocumentChange documentChange = snapshot.documentChanges.get(i);
+
+      stream.write(PigeonParser.toPigeonDocumentChangeType(documentChange.getType()).index);
+      stream.write(snapshot.reportedChanges.get(i) ? 1 : 0);
+      writeInt(stream, documentChange.getOldIndex());
+      writeInt(stream, documentChange.getNewIndex());
+      writeDocumentSnapshotFields(
+          stream, documentChange.getDocument(), prefix, snapshot.serverTimestampBehavior);
+    }
+
+    writeSnapshotMetadataFields(stream, value.getMetadata());
+  }
+
+  private void writeDocumentSnapshotFields(
+      ByteArrayOutputStream stream,
+      DocumentSnapshot value,
+      DocumentSnapshot.ServerTimestampBehavior serverTimestampBehavior) {
+    writeDocumentSnapshotFields(stream, value, null, serverTimestampBehavior);
+  }
+
+  /**
+   * Writes only the ID of a document of the collection at `prefix`, and the full path of any other
+   * document. As an ID never contains a slash, Dart tells both apart without an extra byte.
+   */
+  private void writeDocumentSnapshotFields(
+      ByteArrayOutputStream stream,
+      DocumentSnapshot value,
+      @Nullable String prefix,
+      DocumentSnapshot.ServerTimestampBehavior serverTimestampBehavior) {
+    DocumentReference reference = value.getReference();
+    String path = reference.getPath();
+    writeValue(stream, isInCollection(path, prefix) ? reference.getId() : path);
+    writeValue(stream, value.getData(serverTimestampBehavior));
+    writeSnapshotMetadataFields(stream, value.getMetadata());
+  }
+
+  /**
+   * Returns the path of the collection of the first document of a query snapshot, which the paths
+   * of its documents are written relative to, or null if it has no documents.
+   *
+   * <p>Every document of a collection query shares it. A collection group query may return
+   * documents of other collections too, whose full paths are written instead.
+   */
+  private static @Nullable String pathPrefix(
+      List<DocumentSnapshot> documents, List<DocumentChange> documentChanges) {
+    DocumentReference first;
+    if (!documents.isEmpty()) {
+      first = documents.get(0).getReference();
+    } else if (!documentChanges.isEmpty()) {
+      first = documentChanges.get(0).getDocument().getReference();
+    } else {
+      return null;
+    }
+    return first.getParent().getPath();
+  }
+
+  private static boolean isInCollection(String path, @Nullable String prefix) {
+    return prefix != null
+        && path.length() > prefix.length() + 1
+        && path.startsWith(prefix)
+        && path.charAt(prefix.length()) == '/'
+        && path.indexOf('/', prefix.length() + 1) < 0;
+  }
+
+  /**
+   * Writes a string of a snapshot as an entry of its string table the first time, which Dart
+   * appends to its own copy of the table, and as the index of that entry every following time.
+   */
+  private void writeString(ByteArrayOutputStream stream, String value) {
+    Map<String, Integer> table = stringTable.get();
+    if (table == null) {
+      super.writeValue(stream, value);
+      return;
+    }
+
+    Integer index = table.get(value);
+    if (index != null) {
+      stream.write(DATA_TYPE_STRING_TABLE_REFERENCE);
+      writeSize(stream, index);
+    } else if (value.length() <= MAX_STRING_TABLE_ENTRY_LENGTH) {
+      table.put(value, table.size());
+      stream.write(DATA_TYPE_STRING_TABLE_ENTRY);
+      writeBytes(stream, value.getBytes(StandardCharsets.UTF_8));
+    } else {
+      super.writeValue(stream, value);
+    }
+  }
+
+  private static void writeSnapshotMetadataFields(
+      ByteArrayOutputStream stream, SnapshotMetadata value) {
+    stream.write(value.hasPendingWrites() ? 1 : 0);
+    stream.write(value.isFromCache() ? 1 : 0);
+  }
+
   private void writeSnapshotMetadata(ByteArrayOutputStream stream, SnapshotMetadata value) {
     Map<String, Boolean> metadataMap = new HashMap<>();
     metadataMap.put("hasPendingWrites", value.hasPendingWrites());
@@ -152,16 +388,9 @@ class FlutterFirebaseFirestoreMessageCodec extends StandardMessageCodec {
     List<Map<String, Object>> documents = new ArrayList<>();
     List<SnapshotMetadata> metadatas = new ArrayList<>();
 
-    DocumentSnapshot.ServerTimestampBehavior serverTimestampBehavior =
-        FlutterFirebaseFirestorePlugin.serverTimestampBehaviorHashMap.get(value.hashCode());
-
     for (DocumentSnapshot document : value.getDocuments()) {
       paths.add(document.getReference().getPath());
-      if (serverTimestampBehavior != null) {
-        documents.add(document.getData(serverTimestampBehavior));
-      } else {
-        documents.add(document.getData());
-      }
+      documents.add(document.getData());
       metadatas.add(document.getMetadata());
     }
 
@@ -171,7 +400,6 @@ class FlutterFirebaseFirestoreMessageCodec extends StandardMessageCodec {
     querySnapshotMap.put("documentChanges", value.getDocumentChanges());
     querySnapshotMap.put("metadata", value.getMetadata());
 
-    FlutterFirebaseFirestorePlugin.serverTimestampBehaviorHashMap.remove(value.hashCode());
     writeValue(stream, querySnapshotMap);
   }
 
@@ -211,20 +439,13 @@ class FlutterFirebaseFirestoreMessageCodec extends StandardMessageCodec {
     snapshotMap.put("path", value.getReference().getPath());
 
     if (value.exists()) {
-      DocumentSnapshot.ServerTimestampBehavior serverTimestampBehavior =
-          FlutterFirebaseFirestorePlugin.serverTimestampBehaviorHashMap.get(value.hashCode());
-      if (serverTimestampBehavior != null) {
-        snapshotMap.put("data", value.getData(serverTimestampBehavior));
-      } else {
-        snapshotMap.put("data", value.getData());
-      }
+      snapshotMap.put("data", value.getData());
     } else {
       snapshotMap.put("data", null);
     }
 
     snapshotMap.put("metadata", value.getMetadata());
 
-    FlutterFirebaseFirestorePlugin.serverTimestampBehaviorHashMap.remove(value.hashCode());
     writeValue(stream, snapshotMap);
   }
 
@@ -289,12 +510,19 @@ class FlutterFirebaseFirestoreMessageCodec extends StandardMessageCodec {
     String appName = (String) readValue(buffer);
     String databaseURL = (String) readValue(buffer);
     FirebaseFirestoreSettings settings = (FirebaseFirestoreSettings) readValue(buffer);
-    synchronized (FlutterFirebaseFirestorePlugin.firestoreInstanceCache) {
-      if (FlutterFirebaseFirestorePlugin.getFirestoreInstanceByNameAndDatabaseUrl(
-              appName, databaseURL)
-          != null) {
-        return FlutterFirebaseFirestorePlugin.getFirestoreInstanceByNameAndDatabaseUrl(
+    FirebaseFirestore cachedFirestore =
+        FlutterFirebaseFirestorePlugin.getFirestoreInstanceByNameAndDatabaseUrl(
             appName, databaseURL);
+    if (cachedFirestore != null) {
+      return cachedFirestore;
+    }
+
+    synchronized (FlutterFirebaseFirestorePlugin.firestoreInstanceCache) {
+      cachedFirestore =
+          FlutterFirebaseFirestorePlugin.getFirestoreInstanceByNameAndDatabaseUrl(
+              appName, databaseURL);
+      if (cachedFirestore != null) {
+        return cachedFirestore;
       }
 
       FirebaseApp app = FirebaseApp.getInstance(appName);
@@ -31,7 +31,6 @@ import com.google.firebase.firestore.Query;
 import com.google.firebase.firestore.QuerySnapshot;
 import com.google.firebase.firestore.SetOptions;
 import com.google.firebase.firestore.Source;
-import com.google.firebase.firestore.Transaction;
 import com.google.firebase.firestore.WriteBatch;
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.embedding.engine.plugins.activity.ActivityAware;
@@ -40,16 +39,25 @@ import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugin.common.EventChannel.StreamHandler;
 import io.flutter.plugin.common.StandardMethodCodec;
+import io.flutter.plugins.firebase.core.FlutterFirebaseChannelMetrics;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutor;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutors;
 import io.flutter.plugins.firebase.core.FlutterFirebasePlugin;
 import io.flutter.plugins.firebase.core.FlutterFirebasePluginRegistry;
+import io.flutter.plugins.firebase.core.FlutterFirebaseTasks;
+import io.flutter.plugins.firebase.firestore.streamhandler.BulkWriterStreamHandler;
 import io.flutter.plugins.firebase.firestore.streamhandler.DocumentSnapshotsStreamHandler;
 import io.flutter.plugins.firebase.firestore.streamhandler.LoadBundleStreamHandler;
-import io.flutter.plugins.firebase.firestore.streamhandler.OnTransactionResultListener;
+import io.flutter.plugins.firebase.firestore.streamhandler.QueryPagesStreamHandler;
+import io.flutter.plugins.firebase.firestore.streamhandler.QuerySnapshotListenerHub;
 import io.flutter.plugins.firebase.firestore.streamhandler.QuerySnapshotsStreamHandler;
 import io.flutter.plugins.firebase.firestore.streamhandler.SnapshotsInSyncStreamHandler;
+import io.flutter.plugins.firebase.firestore.streamhandler.TransactionScheduler;
 import io.flutter.plugins.firebase.firestore.streamhandler.TransactionStreamHandler;
 import io.flutter.plugins.firebase.firestore.utils.ExceptionConverter;
 import io.flutter.plugins.firebase.firestore.utils.PigeonParser;
+import io.flutter.plugins.firebase.firestore.utils.QueryCache;
+import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -57,6 +65,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class FlutterFirebaseFirestorePlugin
@@ -64,12 +73,27 @@ public class FlutterFirebaseFirestorePlugin
         FlutterPlugin,
         ActivityAware,
         GeneratedAndroidFirebaseFirestore.FirebaseFirestoreHostApi {
-  protected static final HashMap<FirebaseFirestore, FlutterFirebaseFirestoreExtension>
-      firestoreInstanceCache = new HashMap<>();
+  // The instances in use, by instance for the database URL the Android SDK does not expose, and
+  // by app name and database URL for the lookup done on every call. Reads do not lock; creating and
+  // removing an instance is done while holding `firestoreInstanceCache`.
+  protected static final ConcurrentHashMap<FirebaseFirestore, FlutterFirebaseFirestoreExtension>
+      firestoreInstanceCache = new ConcurrentHashMap<>();
+  private static final ConcurrentHashMap<String, FirebaseFirestore> firestoreInstancesByName =
+      new ConcurrentHashMap<>();
   public static final String TAG = "FlutterFirestorePlugin";
   public static final String DEFAULT_ERROR_CODE = "firebase_firestore";
 
   private static final String METHOD_CHANNEL_NAME = "plugins.flutter.io/firebase_firestore";
+  // The SDK runs transaction attempts on a pool of 5 threads; more transactions would only wait
+  // there, with their timeout running.
+  private static final int MAX_CONCURRENT_TRANSACTIONS = 5;
+  private static final FlutterFirebaseExecutor executor =
+      FlutterFirebaseExecutors.getExecutor(METHOD_CHANNEL_NAME);
+  // Runs snapshot listeners and encodes their snapshots off the main thread. Each listener uses a
+  // serial executor of its own on top of it, which keeps its events in order without holding up
+  // the others.
+  private static final FlutterFirebaseExecutor snapshotExecutor =
+      FlutterFirebaseExecutors.getExecutor(METHOD_CHANNEL_NAME + "_snapshots");
 
   final StandardMethodCodec MESSAGE_CODEC =
       new StandardMethodCodec(
@@ -79,20 +103,20 @@ public class FlutterFirebaseFirestorePlugin
 
   private final AtomicReference<Activity> activity = new AtomicReference<>(null);
 
-  private final Map<String, Transaction> transactions = new HashMap<>();
   private final Map<String, EventChannel> eventChannels = new HashMap<>();
   private final Map<String, StreamHandler> streamHandlers = new HashMap<>();
-  private final Map<String, OnTransactionResultListener> transactionHandlers = new HashMap<>();
-
-  // Used in the decoder to know which ServerTimestampBehavior to use
-  public static final Map<Integer, DocumentSnapshot.ServerTimestampBehavior>
-      serverTimestampBehaviorHashMap = new HashMap<>();
+  private final Map<String, TransactionStreamHandler> transactionHandlers =
+      new ConcurrentHashMap<>();
+  private final Map<String, QueryPagesStreamHandler> queryPagesHandlers =
+      new ConcurrentHashMap<>();
+  private final TransactionScheduler transactionScheduler =
+      new TransactionScheduler(MAX_CONCURRENT_TRANSACTIONS);
+  private final QuerySnapshotListenerHub querySnapshotListenerHub =
+      new QuerySnapshotListenerHub(snapshotExecutor);
 
   protected static FlutterFirebaseFirestoreExtension getCachedFirebaseFirestoreInstanceForKey(
       FirebaseFirestore firestore) {
-    synchronized (firestoreInstanceCache) {
-      return firestoreInstanceCache.get(firestore);
-    }
+    return firestoreInstanceCache.get(firestore);
   }
 
   protected static void setCachedFirebaseFirestoreInstanceForKey(
@@ -102,20 +126,15 @@ public class FlutterFirebaseFirestorePlugin
       if (existingInstance == null) {
         firestoreInstanceCache.put(
             firestore, new FlutterFirebaseFirestoreExtension(firestore, databaseURL));
+        firestoreInstancesByName.put(
+            instanceKey(firestore.getApp().getName(), databaseURL), firestore);
       }
     }
   }
 
   protected static FirebaseFirestore getFirestoreInstanceByNameAndDatabaseUrl(
       String appName, String databaseURL) {
-    for (Map.Entry<FirebaseFirestore, FlutterFirebaseFirestoreExtension> entry :
-        firestoreInstanceCache.entrySet()) {
-      if (entry.getValue().getInstance().getApp().getName().equals(appName)
-          && entry.getValue().getDatabaseURL().equals(databaseURL)) {
-        return entry.getKey();
-      }
-    }
-    return null;
+    return firestoreInstancesByName.get(instanceKey(appName, databaseURL));
   }
 
   private static void destroyCachedFirebaseFirestoreInstanceForKey(FirebaseFirestore firestore) {
@@ -123,8 +142,16 @@ public class FlutterFirebaseFirestorePlugin
       FlutterFirebaseFirestoreExtension existingInstance = firestoreInstanceCache.get(firestore);
       if (existingInstance != null) {
         firestoreInstanceCache.remove(firestore);
+        String key = instanceKey(firestore.getApp().getName(), existingInstance.getDatabaseURL());
+        firestoreInstancesByName.remove(key, firestore);
       }
     }
+    QueryCache.invalidate(firestore);
+  }
+
+  private static String instanceKey(String appName, String databaseURL) {
+    // App names cannot contain a NUL character, so keys of different pairs never collide.
+    return appName + '\u0000' + databaseURL;
   }
 
   @Override
@@ -173,14 +200,15 @@ public class FlutterFirebaseFirestorePlugin
 
     FlutterFirebasePluginRegistry.registerPlugin(METHOD_CHANNEL_NAME, this);
 
-    GeneratedAndroidFirebaseFirestore.FirebaseFirestoreHostApi.setup(binaryMessenger, this);
+    GeneratedAndroidFirebaseFirestore.FirebaseFirestoreHostApi.setup(
+        FlutterFirebaseChannelMetrics.instrument(binaryMessenger), this);
   }
 
   @Override
   public Task<Map<String, Object>> getPluginConstantsForFirebaseApp(FirebaseApp firebaseApp) {
     TaskCompletionSource<Map<String, Object>> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             taskCompletionSource.setResult(null);
@@ -194,29 +222,35 @@ public class FlutterFirebaseFirestorePlugin
 
   @Override
   public Task<Void> didReinitializeFirebaseCore() {
-    TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
-        () -> {
-          try {
-            // Context is ignored by API so we don't send it over even though annotated non-null.
-            for (Map.Entry<FirebaseFirestore, FlutterFirebaseFirestoreExtension> entry :
-                firestoreInstanceCache.entrySet()) {
-              FirebaseFirestore firestore = entry.getKey();
-              Tasks.await(firestore.terminate());
-              FlutterFirebaseFirestorePlugin.destroyCachedFirebaseFirestoreInstanceForKey(
-                  firestore);
-            }
-            removeEventListeners();
+    List<FirebaseFirestore> firestoreInstances = new ArrayList<>(firestoreInstanceCache.keySet());
+
+    // Context is ignored by API so we don't send it over even though annotated non-null.
+    // Instances are independent, so they are all terminated at once.
+    List<Task<Void>> terminateTasks = new ArrayList<>(firestoreInstances.size());
+    for (FirebaseFirestore firestore : firestoreInstances) {
+      terminateTasks.add(
+          FlutterFirebaseTasks.map(
+              firestore.terminate(),
+              executor,
+              terminated -> {
+                destroyCachedFirebaseFirestoreInstanceForKey(firestore);
+                return null;
+              }));
+    }
 
-            taskCompletionSource.setResult(null);
+    return FlutterFirebaseTasks.map(
+        Tasks.whenAllComplete(terminateTasks),
+        executor,
+        ignored -> {
+          removeEventListeners();
 
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
+          for (Task<Void> terminateTask : terminateTasks) {
+            if (!terminateTask.isSuccessful()) {
+              throw FlutterFirebaseTasks.getException(terminateTask);
+            }
           }
+          return null;
         });
-
-    return taskCompletionSource.getTask();
   }
 
   /**
@@ -277,6 +311,17 @@ public class FlutterFirebaseFirestorePlugin
     }
 
     transactionHandlers.clear();
+    queryPagesHandlers.clear();
+  }
+
+  /**
+   * Replies to a Pigeon call once `task` completes, without holding an executor thread while it
+   * runs. Failures are reported through {@link ExceptionConverter}.
+   */
+  private static <T> void forwardResult(
+      Task<T> task, GeneratedAndroidFirebaseFirestore.Result<T> result) {
+    FlutterFirebaseTasks.forward(
+        task, executor, result::success, e -> ExceptionConverter.sendErrorToFlutter(result, e));
   }
 
   static FirebaseFirestoreSettings getSettingsFromPigeon(
@@ -308,12 +353,19 @@ public class FlutterFirebaseFirestorePlugin
 
   public static FirebaseFirestore getFirestoreFromPigeon(
       GeneratedAndroidFirebaseFirestore.FirestorePigeonFirebaseApp pigeonApp) {
-    synchronized (FlutterFirebaseFirestorePlugin.firestoreInstanceCache) {
-      if (FlutterFirebaseFirestorePlugin.getFirestoreInstanceByNameAndDatabaseUrl(
-              pigeonApp.getAppName(), pigeonApp.getDatabaseURL())
-          != null) {
-        return FlutterFirebaseFirestorePlugin.getFirestoreInstanceByNameAndDatabaseUrl(
+    FirebaseFirestore cachedFirestore =
+        getFirestoreInstanceByNameAndDatabaseUrl(
             pigeonApp.getAppName(), pigeonApp.getDatabaseURL());
+    if (cachedFirestore != null) {
+      return cachedFirestore;
+    }
+
+    synchronized (FlutterFirebaseFirestorePlugin.firestoreInstanceCache) {
+      cachedFirestore =
+          getFirestoreInstanceByNameAndDatabaseUrl(
+              pigeonApp.getAppName(), pigeonApp.getDatabaseURL());
+      if (cachedFirestore != null) {
+        return cachedFirestore;
       }
 
       FirebaseApp app = FirebaseApp.getInstance(pigeonApp.getAppName());
@@ -347,43 +399,58 @@ public class FlutterFirebaseFirestorePlugin
                   GeneratedAndroidFirebaseFirestore.PigeonQuerySnapshot>
               result) {
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             FirebaseFirestore firestore = getFirestoreFromPigeon(app);
-            Query query = Tasks.await(firestore.getNamedQuery(name));
-
-            if (query == null) {
-              result.error(
-                  new NullPointerException(
-                      "Named query has not been found. Please check it has been loaded properly via loadBundle()."));
-              return;
-            }
-
-            final QuerySnapshot querySnapshot =
-                Tasks.await(query.get(PigeonParser.parsePigeonSource(options.getSource())));
-
-            result.success(
-                PigeonParser.toPigeonQuerySnapshot(
-                    querySnapshot,
-                    PigeonParser.parsePigeonServerTimestampBehavior(
-                        options.getServerTimestampBehavior())));
+            Task<QuerySnapshot> querySnapshotTask =
+                FlutterFirebaseTasks.chain(
+                    firestore.getNamedQuery(name),
+                    executor,
+                    query -> {
+                      if (query == null) {
+                        throw new NullPointerException(
+                            "Named query has not been found. Please check it has been loaded properly via loadBundle().");
+                      }
+                      return query.get(PigeonParser.parsePigeonSource(options.getSource()));
+                    });
+
+            forwardResult(
+                FlutterFirebaseTasks.map(
+                    querySnapshotTask,
+                    executor,
+                    querySnapshot ->
+                        PigeonParser.toPigeonQuerySnapshot(
+                            querySnapshot,
+                            PigeonParser.parsePigeonServerTimestampBehavior(
+                                options.getServerTimestampBehavior()))),
+                result);
           } catch (Exception e) {
             ExceptionConverter.sendErrorToFlutter(result, e);
           }
         });
   }
 
+  @Override
+  public void loadBundleFromFile(
+      @NonNull GeneratedAndroidFirebaseFirestore.FirestorePigeonFirebaseApp app,
+      @NonNull String path,
+      @NonNull GeneratedAndroidFirebaseFirestore.Result<String> result) {
+    result.success(
+        registerEventChannel(
+            METHOD_CHANNEL_NAME + "/loadBundle",
+            new LoadBundleStreamHandler(getFirestoreFromPigeon(app), new File(path))));
+  }
+
   @Override
   public void clearPersistence(
       @NonNull GeneratedAndroidFirebaseFirestore.FirestorePigeonFirebaseApp app,
       @NonNull GeneratedAndroidFirebaseFirestore.Result<Void> result) {
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             FirebaseFirestore firestore = getFirestoreFromPigeon(app);
-            Tasks.await(firestore.clearPersistence());
-            result.success(null);
+            forwardResult(firestore.clearPersistence(), result);
           } catch (Exception e) {
             ExceptionConverter.sendErrorToFlutter(result, e);
           }
@@ -394,12 +461,11 @@ public class FlutterFirebaseFirestorePlugin
   public void disableNetwork(
       @NonNull GeneratedAndroidFirebaseFirestore.FirestorePigeonFirebaseApp app,
       @NonNull GeneratedAndroidFirebaseFirestore.Result<Void> result) {
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             FirebaseFirestore firestore = getFirestoreFromPigeon(app);
-            Tasks.await(firestore.disableNetwork());
-            result.success(null);
+            forwardResult(firestore.disableNetwork(), result);
           } catch (Exception e) {
             ExceptionConverter.sendErrorToFlutter(result, e);
           }
@@ -410,12 +476,11 @@ public class FlutterFirebaseFirestorePlugin
   public void enableNetwork(
       @NonNull GeneratedAndroidFirebaseFirestore.FirestorePigeonFirebaseApp app,
       @NonNull GeneratedAndroidFirebaseFirestore.Result<Void> result) {
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             FirebaseFirestore firestore = getFirestoreFromPigeon(app);
-            Tasks.await(firestore.enableNetwork());
-            result.success(null);
+            forwardResult(firestore.enableNetwork(), result);
           } catch (Exception e) {
             ExceptionConverter.sendErrorToFlutter(result, e);
           }
@@ -426,13 +491,19 @@ public class FlutterFirebaseFirestorePlugin
   public void terminate(
       @NonNull GeneratedAndroidFirebaseFirestore.FirestorePigeonFirebaseApp app,
       @NonNull GeneratedAndroidFirebaseFirestore.Result<Void> result) {
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             FirebaseFirestore firestore = getFirestoreFromPigeon(app);
-            Tasks.await(firestore.terminate());
-            destroyCachedFirebaseFirestoreInstanceForKey(firestore);
-            result.success(null);
+            forwardResult(
+                FlutterFirebaseTasks.map(
+                    firestore.terminate(),
+                    executor,
+                    terminated -> {
+                      destroyCachedFirebaseFirestoreInstanceForKey(firestore);
+                      return null;
+                    }),
+                result);
           } catch (Exception e) {
             ExceptionConverter.sendErrorToFlutter(result, e);
           }
@@ -443,12 +514,11 @@ public class FlutterFirebaseFirestorePlugin
   public void waitForPendingWrites(
       @NonNull GeneratedAndroidFirebaseFirestore.FirestorePigeonFirebaseApp app,
       @NonNull GeneratedAndroidFirebaseFirestore.Result<Void> result) {
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             FirebaseFirestore firestore = getFirestoreFromPigeon(app);
-            Tasks.await(firestore.waitForPendingWrites());
-            result.success(null);
+            forwardResult(firestore.waitForPendingWrites(), result);
           } catch (Exception e) {
             ExceptionConverter.sendErrorToFlutter(result, e);
           }
@@ -462,13 +532,11 @@ public class FlutterFirebaseFirestorePlugin
       @NonNull GeneratedAndroidFirebaseFirestore.FirestorePigeonFirebaseApp app,
       @NonNull String indexConfiguration,
       @NonNull GeneratedAndroidFirebaseFirestore.Result<Void> result) {
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             FirebaseFirestore firestore = getFirestoreFromPigeon(app);
-            Tasks.await(firestore.setIndexConfiguration(indexConfiguration));
-
-            result.success(null);
+            forwardResult(firestore.setIndexConfiguration(indexConfiguration), result);
           } catch (Exception e) {
             ExceptionConverter.sendErrorToFlutter(result, e);
           }
@@ -480,7 +548,7 @@ public class FlutterFirebaseFirestorePlugin
       @NonNull GeneratedAndroidFirebaseFirestore.FirestorePigeonFirebaseApp app,
       @NonNull GeneratedAndroidFirebaseFirestore.PersistenceCacheIndexManagerRequest request,
       @NonNull GeneratedAndroidFirebaseFirestore.Result<Void> result) {
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           PersistentCacheIndexManager indexManager =
               getFirestoreFromPigeon(app).getPersistentCacheIndexManager();
@@ -508,7 +576,7 @@ public class FlutterFirebaseFirestorePlugin
   public void setLoggingEnabled(
       @NonNull Boolean loggingEnabled,
       @NonNull GeneratedAndroidFirebaseFirestore.Result<Void> result) {
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             FirebaseFirestore.setLoggingEnabled(loggingEnabled);
@@ -542,11 +610,12 @@ public class FlutterFirebaseFirestorePlugin
     final String transactionId = UUID.randomUUID().toString().toLowerCase(Locale.US);
     final TransactionStreamHandler handler =
         new TransactionStreamHandler(
-            transaction -> transactions.put(transactionId, transaction),
             firestore,
             transactionId,
             timeout,
-            maxAttempts);
+            maxAttempts,
+            transactionScheduler,
+            () -> transactionHandlers.remove(transactionId));
 
     registerEventChannel(METHOD_CHANNEL_NAME + "/transaction", transactionId, handler);
     transactionHandlers.put(transactionId, handler);
@@ -573,29 +642,45 @@ public class FlutterFirebaseFirestorePlugin
           GeneratedAndroidFirebaseFirestore.Result<
                   GeneratedAndroidFirebaseFirestore.PigeonDocumentSnapshot>
               result) {
-    cachedThreadPool.execute(
-        () -> {
-          try {
-            DocumentReference documentReference = getFirestoreFromPigeon(app).document(path);
+    TransactionStreamHandler handler = transactionHandlers.get(transactionId);
 
-            Transaction transaction = transactions.get(transactionId);
+    if (handler == null) {
+      result.error(
+          new Exception(
+              "Transaction.getDocument(): No transaction handler exists for ID: "
+                  + transactionId));
+      return;
+    }
 
-            if (transaction == null) {
-              result.error(
-                  new Exception(
-                      "Transaction.getDocument(): No transaction handler exists for ID: "
-                          + transactionId));
-              return;
-            }
+    // The read runs on the thread of the current attempt, see TransactionStreamHandler.
+    handler.get(getFirestoreFromPigeon(app).document(path), result);
+  }
 
-            result.success(
-                PigeonParser.toPigeonDocumentSnapshot(
-                    transaction.get(documentReference),
-                    DocumentSnapshot.ServerTimestampBehavior.NONE));
-          } catch (Exception e) {
-            ExceptionConverter.sendErrorToFlutter(result, e);
-          }
-        });
+  @Override
+  public void transactionGetAll(
+      @NonNull GeneratedAndroidFirebaseFirestore.FirestorePigeonFirebaseApp app,
+      @NonNull String transactionId,
+      @NonNull List<String> paths,
+      @NonNull
+          GeneratedAndroidFirebaseFirestore.Result<
+                  List<GeneratedAndroidFirebaseFirestore.PigeonDocumentSnapshot>>
+              result) {
+    TransactionStreamHandler handler = transactionHandlers.get(transactionId);
+
+    if (handler == null) {
+      result.error(
+          new Exception(
+              "Transaction.getAll(): No transaction handler exists for ID: " + transactionId));
+      return;
+    }
+
+    FirebaseFirestore firestore = getFirestoreFromPigeon(app);
+    List<DocumentReference> documentReferences = new ArrayList<>(paths.size());
+    for (String path : paths) {
+      documentReferences.add(firestore.document(path));
+    }
+    // All reads run in one request on the thread of the current attempt.
+    handler.getAll(documentReferences, result);
   }
 
   @Override
@@ -603,7 +688,7 @@ public class FlutterFirebaseFirestorePlugin
       @NonNull GeneratedAndroidFirebaseFirestore.FirestorePigeonFirebaseApp app,
       @NonNull GeneratedAndroidFirebaseFirestore.DocumentReferenceRequest request,
       @NonNull GeneratedAndroidFirebaseFirestore.Result<Void> result) {
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             DocumentReference documentReference =
@@ -625,7 +710,7 @@ public class FlutterFirebaseFirestorePlugin
               setTask = documentReference.set(data);
             }
 
-            result.success(Tasks.await(setTask));
+            forwardResult(setTask, result);
           } catch (Exception e) {
             ExceptionConverter.sendErrorToFlutter(result, e);
           }
@@ -637,7 +722,7 @@ public class FlutterFirebaseFirestorePlugin
       @NonNull GeneratedAndroidFirebaseFirestore.FirestorePigeonFirebaseApp app,
       @NonNull GeneratedAndroidFirebaseFirestore.DocumentReferenceRequest request,
       @NonNull GeneratedAndroidFirebaseFirestore.Result<Void> result) {
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             DocumentReference documentReference =
@@ -669,9 +754,9 @@ public class FlutterFirebaseFirestorePlugin
               flattenData.add(fieldPath);
               flattenData.add(data.get(fieldPath));
             }
-            result.success(
-                Tasks.await(
-                    documentReference.update(firstFieldPath, firstObject, flattenData.toArray())));
+            forwardResult(
+                documentReference.update(firstFieldPath, firstObject, flattenData.toArray()),
+                result);
           } catch (Exception e) {
             ExceptionConverter.sendErrorToFlutter(result, e);
           }
@@ -686,7 +771,7 @@ public class FlutterFirebaseFirestorePlugin
           GeneratedAndroidFirebaseFirestore.Result<
                   GeneratedAndroidFirebaseFirestore.PigeonDocumentSnapshot>
               result) {
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             assert request.getSource() != null;
@@ -694,14 +779,68 @@ public class FlutterFirebaseFirestorePlugin
             DocumentReference documentReference =
                 getFirestoreFromPigeon(app).document(request.getPath());
 
-            final DocumentSnapshot documentSnapshot = Tasks.await(documentReference.get(source));
-
             assert request.getServerTimestampBehavior() != null;
-            result.success(
-                PigeonParser.toPigeonDocumentSnapshot(
-                    documentSnapshot,
-                    PigeonParser.parsePigeonServerTimestampBehavior(
-                        request.getServerTimestampBehavior())));
+            forwardResult(
+                FlutterFirebaseTasks.map(
+                    documentReference.get(source),
+                    executor,
+                    documentSnapshot ->
+                        PigeonParser.toPigeonDocumentSnapshot(
+                            documentSnapshot,
+                            PigeonParser.parsePigeonServerTimestampBehavior(
+                                request.getServerTimestampBehavior()))),
+                result);
+          } catch (Exception e) {
+            ExceptionConverter.sendErrorToFlutter(result, e);
+          }
+        });
+  }
+
+  @Override
+  public void documentReferenceGetAll(
+      @NonNull GeneratedAndroidFirebaseFirestore.FirestorePigeonFirebaseApp app,
+      @NonNull List<String> paths,
+      @NonNull GeneratedAndroidFirebaseFirestore.PigeonGetOptions options,
+      @NonNull GeneratedAndroidFirebaseFirestore.Result<List<Object>> result) {
+    executor.execute(
+        () -> {
+          try {
+            FirebaseFirestore firestore = getFirestoreFromPigeon(app);
+            Source source = PigeonParser.parsePigeonSource(options.getSource());
+            DocumentSnapshot.ServerTimestampBehavior serverTimestampBehavior =
+                PigeonParser.parsePigeonServerTimestampBehavior(
+                    options.getServerTimestampBehavior());
+
+            // All reads are issued at once; none of them holds a thread while it runs.
+            List<Task<DocumentSnapshot>> getTasks = new ArrayList<>(paths.size());
+            for (String path : paths) {
+              try {
+                getTasks.add(firestore.document(path).get(source));
+              } catch (Exception e) {
+                getTasks.add(Tasks.forException(e));
+              }
+            }
+
+            forwardResult(
+                FlutterFirebaseTasks.map(
+                    Tasks.whenAllComplete(getTasks),
+                    executor,
+                    ignored -> {
+                      List<Object> results = new ArrayList<>(getTasks.size());
+                      for (Task<DocumentSnapshot> getTask : getTasks) {
+                        if (getTask.isSuccessful()) {
+                          results.add(
+                              PigeonParser.toPigeonDocumentSnapshot(
+                                  getTask.getResult(), serverTimestampBehavior));
+                        } else {
+                          results.add(
+                              ExceptionConverter.createDetailsWithMessage(
+                                  FlutterFirebaseTasks.getException(getTask)));
+                        }
+                      }
+                      return results;
+                    }),
+                result);
           } catch (Exception e) {
             ExceptionConverter.sendErrorToFlutter(result, e);
           }
@@ -713,13 +852,13 @@ public class FlutterFirebaseFirestorePlugin
       @NonNull GeneratedAndroidFirebaseFirestore.FirestorePigeonFirebaseApp app,
       @NonNull GeneratedAndroidFirebaseFirestore.DocumentReferenceRequest request,
       @NonNull GeneratedAndroidFirebaseFirestore.Result<Void> result) {
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             DocumentReference documentReference =
                 getFirestoreFromPigeon(app).document(request.getPath());
 
-            result.success(Tasks.await(documentReference.delete()));
+            forwardResult(documentReference.delete(), result);
           } catch (Exception e) {
             ExceptionConverter.sendErrorToFlutter(result, e);
           }
@@ -737,7 +876,7 @@ public class FlutterFirebaseFirestorePlugin
           GeneratedAndroidFirebaseFirestore.Result<
                   GeneratedAndroidFirebaseFirestore.PigeonQuerySnapshot>
               result) {
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             Source source = PigeonParser.parsePigeonSource(options.getSource());
@@ -753,19 +892,72 @@ public class FlutterFirebaseFirestorePlugin
                       null));
               return;
             }
-            final QuerySnapshot querySnapshot = Tasks.await(query.get(source));
 
-            result.success(
-                PigeonParser.toPigeonQuerySnapshot(
-                    querySnapshot,
-                    PigeonParser.parsePigeonServerTimestampBehavior(
-                        options.getServerTimestampBehavior())));
+            forwardResult(
+                FlutterFirebaseTasks.map(
+                    query.get(source),
+                    executor,
+                    querySnapshot ->
+                        PigeonParser.toPigeonQuerySnapshot(
+                            querySnapshot,
+                            PigeonParser.parsePigeonServerTimestampBehavior(
+                                options.getServerTimestampBehavior()))),
+                result);
           } catch (Exception e) {
             ExceptionConverter.sendErrorToFlutter(result, e);
           }
         });
   }
 
+  @Override
+  public void queryGetPages(
+      @NonNull GeneratedAndroidFirebaseFirestore.FirestorePigeonFirebaseApp app,
+      @NonNull String path,
+      @NonNull Boolean isCollectionGroup,
+      @NonNull GeneratedAndroidFirebaseFirestore.PigeonQueryParameters parameters,
+      @NonNull GeneratedAndroidFirebaseFirestore.PigeonGetOptions options,
+      @NonNull Long pageSize,
+      @NonNull GeneratedAndroidFirebaseFirestore.Result<String> result) {
+    Query query =
+        PigeonParser.parseQuery(getFirestoreFromPigeon(app), path, isCollectionGroup, parameters);
+
+    if (query == null) {
+      result.error(
+          new GeneratedAndroidFirebaseFirestore.FlutterError(
+              "invalid_query",
+              "An error occurred while parsing query arguments, see native logs for more information. Please report this issue.",
+              null));
+      return;
+    }
+
+    final String pagesId = UUID.randomUUID().toString().toLowerCase(Locale.US);
+    final QueryPagesStreamHandler handler =
+        new QueryPagesStreamHandler(
+            query,
+            PigeonParser.parsePigeonSource(options.getSource()),
+            PigeonParser.parsePigeonServerTimestampBehavior(options.getServerTimestampBehavior()),
+            pageSize,
+            parameters.getLimit(),
+            parameters.getLimitToLast() != null,
+            () -> queryPagesHandlers.remove(pagesId));
+
+    queryPagesHandlers.put(pagesId, handler);
+    result.success(registerEventChannel(METHOD_CHANNEL_NAME + "/queryPages", pagesId, handler));
+  }
+
+  @Override
+  public void queryGetPagesNext(
+      @NonNull GeneratedAndroidFirebaseFirestore.FirestorePigeonFirebaseApp app,
+      @NonNull String pagesId,
+      @NonNull GeneratedAndroidFirebaseFirestore.Result<Void> result) {
+    // The stream may have ended already, in which case there is nothing left to read.
+    QueryPagesStreamHandler handler = queryPagesHandlers.get(pagesId);
+    if (handler != null) {
+      handler.requestNextPage();
+    }
+    result.success(null);
+  }
+
   @Override
   public void aggregateQuery(
       @NonNull GeneratedAndroidFirebaseFirestore.FirestorePigeonFirebaseApp app,
@@ -781,7 +973,72 @@ public class FlutterFirebaseFirestorePlugin
     Query query =
         PigeonParser.parseQuery(getFirestoreFromPigeon(app), path, isCollectionGroup, parameters);
 
-    AggregateQuery aggregateQuery;
+    assert query != null;
+    forwardResult(
+        FlutterFirebaseTasks.map(
+            toAggregateQuery(query, queries).get(PigeonParser.parseAggregateSource(source)),
+            executor,
+            aggregateQuerySnapshot -> toAggregateQueryResponses(aggregateQuerySnapshot, queries)),
+        result);
+  }
+
+  @Override
+  public void aggregateQueryBatch(
+      @NonNull GeneratedAndroidFirebaseFirestore.FirestorePigeonFirebaseApp app,
+      @NonNull List<GeneratedAndroidFirebaseFirestore.AggregateQueryRequest> requests,
+      @NonNull GeneratedAndroidFirebaseFirestore.AggregateSource source,
+      @NonNull GeneratedAndroidFirebaseFirestore.Result<List<Object>> result) {
+    FirebaseFirestore firestore = getFirestoreFromPigeon(app);
+    com.google.firebase.firestore.AggregateSource aggregateSource =
+        PigeonParser.parseAggregateSource(source);
+
+    // All queries run at once; none of them holds a thread while it runs.
+    List<Task<List<GeneratedAndroidFirebaseFirestore.AggregateQueryResponse>>> queryTasks =
+        new ArrayList<>(requests.size());
+    for (GeneratedAndroidFirebaseFirestore.AggregateQueryRequest request : requests) {
+      List<GeneratedAndroidFirebaseFirestore.AggregateQuery> queries = request.getQueries();
+      try {
+        Query query =
+            PigeonParser.parseQuery(
+                firestore,
+                request.getPath(),
+                request.getIsCollectionGroup(),
+                request.getParameters());
+        assert query != null;
+        queryTasks.add(
+            FlutterFirebaseTasks.map(
+                toAggregateQuery(query, queries).get(aggregateSource),
+                executor,
+                aggregateQuerySnapshot ->
+                    toAggregateQueryResponses(aggregateQuerySnapshot, queries)));
+      } catch (Exception e) {
+        queryTasks.add(Tasks.forException(e));
+      }
+    }
+
+    forwardResult(
+        FlutterFirebaseTasks.map(
+            Tasks.whenAllComplete(queryTasks),
+            executor,
+            ignored -> {
+              List<Object> results = new ArrayList<>(queryTasks.size());
+              for (Task<List<GeneratedAndroidFirebaseFirestore.AggregateQueryResponse>> queryTask :
+                  queryTasks) {
+                if (queryTask.isSuccessful()) {
+                  results.add(queryTask.getResult());
+                } else {
+                  results.add(
+                      ExceptionConverter.createDetailsWithMessage(
+                          FlutterFirebaseTasks.getException(queryTask)));
+                }
+              }
+              return results;
+            }),
+        result);
+  }
+
+  private static AggregateQuery toAggregateQuery(
+      Query query, List<GeneratedAndroidFirebaseFirestore.AggregateQuery> queries) {
     ArrayList<AggregateField> aggregateFields = new ArrayList<>();
 
     for (GeneratedAndroidFirebaseFirestore.AggregateQuery queryRequest : queries) {
@@ -800,63 +1057,55 @@ public class FlutterFirebaseFirestorePlugin
       }
     }
 
-    assert query != null;
-    aggregateQuery =
-        query.aggregate(
-            aggregateFields.get(0),
-            aggregateFields.subList(1, aggregateFields.size()).toArray(new AggregateField[0]));
+    return query.aggregate(
+        aggregateFields.get(0),
+        aggregateFields.subList(1, aggregateFields.size()).toArray(new AggregateField[0]));
+  }
 
-    cachedThreadPool.execute(
-        () -> {
-          try {
-            AggregateQuerySnapshot aggregateQuerySnapshot =
-                Tasks.await(aggregateQuery.get(PigeonParser.parseAggregateSource(source)));
-
-            ArrayList<GeneratedAndroidFirebaseFirestore.AggregateQueryResponse> aggregateResponse =
-                new ArrayList<>();
-            for (GeneratedAndroidFirebaseFirestore.AggregateQuery queryRequest : queries) {
-              switch (queryRequest.getType()) {
-                case COUNT:
-                  GeneratedAndroidFirebaseFirestore.AggregateQueryResponse.Builder builder =
-                      new GeneratedAndroidFirebaseFirestore.AggregateQueryResponse.Builder();
-                  builder.setType(GeneratedAndroidFirebaseFirestore.AggregateType.COUNT);
-                  builder.setValue((double) aggregateQuerySnapshot.getCount());
-
-                  aggregateResponse.add(builder.build());
-                  break;
-                case SUM:
-                  assert queryRequest.getField() != null;
-                  GeneratedAndroidFirebaseFirestore.AggregateQueryResponse.Builder builderSum =
-                      new GeneratedAndroidFirebaseFirestore.AggregateQueryResponse.Builder();
-                  builderSum.setType(GeneratedAndroidFirebaseFirestore.AggregateType.SUM);
-                  builderSum.setValue(
-                      ((Number)
-                              Objects.requireNonNull(
-                                  aggregateQuerySnapshot.get(sum(queryRequest.getField()))))
-                          .doubleValue());
-                  builderSum.setField(queryRequest.getField());
-
-                  aggregateResponse.add(builderSum.build());
-                  break;
-                case AVERAGE:
-                  assert queryRequest.getField() != null;
-                  GeneratedAndroidFirebaseFirestore.AggregateQueryResponse.Builder builderAverage =
-                      new GeneratedAndroidFirebaseFirestore.AggregateQueryResponse.Builder();
-                  builderAverage.setType(GeneratedAndroidFirebaseFirestore.AggregateType.AVERAGE);
-                  builderAverage.setValue(
-                      aggregateQuerySnapshot.get(average(queryRequest.getField())));
-                  builderAverage.setField(queryRequest.getField());
-
-                  aggregateResponse.add(builderAverage.build());
-                  break;
-              }
-            }
+  private static List<GeneratedAndroidFirebaseFirestore.AggregateQueryResponse>
+      toAggregateQueryResponses(
+          AggregateQuerySnapshot aggregateQuerySnapshot,
+          List<GeneratedAndroidFirebaseFirestore.AggregateQuery> queries) {
+    ArrayList<GeneratedAndroidFirebaseFirestore.AggregateQueryResponse> aggregateResponse =
+        new ArrayList<>();
+    for (GeneratedAndroidFirebaseFirestore.AggregateQuery queryRequest : queries) {
+      switch (queryRequest.getType()) {
+        case COUNT:
+          GeneratedAndroidFirebaseFirestore.AggregateQueryResponse.Builder builder =
+              new GeneratedAndroidFirebaseFirestore.AggregateQueryResponse.Builder();
+          builder.setType(GeneratedAndroidFirebaseFirestore.AggregateType.COUNT);
+          builder.setValue((double) aggregateQuerySnapshot.getCount());
 
-            result.success(aggregateResponse);
-          } catch (Exception e) {
-            ExceptionConverter.sendErrorToFlutter(result, e);
-          }
-        });
+          aggregateResponse.add(builder.build());
+          break;
+        case SUM:
+          assert queryRequest.getField() != null;
+          GeneratedAndroidFirebaseFirestore.AggregateQueryResponse.Builder builderSum =
+              new GeneratedAndroidFirebaseFirestore.AggregateQueryResponse.Builder();
+          builderSum.setType(GeneratedAndroidFirebaseFirestore.AggregateType.SUM);
+          builderSum.setValue(
+              ((Number)
+                      Objects.requireNonNull(
+                          aggregateQuerySnapshot.get(sum(queryRequest.getField()))))
+                  .doubleValue());
+          builderSum.setField(queryRequest.getField());
+
+          aggregateResponse.add(builderSum.build());
+          break;
+        case AVERAGE:
+          assert queryRequest.getField() != null;
+          GeneratedAndroidFirebaseFirestore.AggregateQueryResponse.Builder builderAverage =
+              new GeneratedAndroidFirebaseFirestore.AggregateQueryResponse.Builder();
+          builderAverage.setType(GeneratedAndroidFirebaseFirestore.AggregateType.AVERAGE);
+          builderAverage.setValue(aggregateQuerySnapshot.get(average(queryRequest.getField())));
+          builderAverage.setField(queryRequest.getField());
+
+          aggregateResponse.add(builderAverage.build());
+          break;
+      }
+    }
+
+    return aggregateResponse;
   }
 
   @Override
@@ -864,59 +1113,37 @@ public class FlutterFirebaseFirestorePlugin
       @NonNull GeneratedAndroidFirebaseFirestore.FirestorePigeonFirebaseApp app,
       @NonNull List<GeneratedAndroidFirebaseFirestore.PigeonTransactionCommand> writes,
       @NonNull GeneratedAndroidFirebaseFirestore.Result<Void> result) {
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             FirebaseFirestore firestore = getFirestoreFromPigeon(app);
             WriteBatch batch = firestore.batch();
 
             for (GeneratedAndroidFirebaseFirestore.PigeonTransactionCommand write : writes) {
-              GeneratedAndroidFirebaseFirestore.PigeonTransactionType type =
-                  Objects.requireNonNull(write.getType());
-              String path = Objects.requireNonNull(write.getPath());
-              Map<String, Object> data = write.getData();
-
-              DocumentReference documentReference = firestore.document(path);
-
-              switch (type) {
-                case DELETE_TYPE:
-                  batch = batch.delete(documentReference);
-                  break;
-                case UPDATE:
-                  batch = batch.update(documentReference, Objects.requireNonNull(data));
-                  break;
-                case SET:
-                  GeneratedAndroidFirebaseFirestore.PigeonDocumentOption options =
-                      Objects.requireNonNull(write.getOption());
-
-                  if (options.getMerge() != null && options.getMerge()) {
-                    batch =
-                        batch.set(
-                            documentReference, Objects.requireNonNull(data), SetOptions.merge());
-                  } else if (options.getMergeFields() != null) {
-                    List<FieldPath> fieldPathList =
-                        PigeonParser.parseFieldPath(
-                            Objects.requireNonNull(options.getMergeFields()));
-                    batch =
-                        batch.set(
-                            documentReference,
-                            Objects.requireNonNull(data),
-                            SetOptions.mergeFieldPaths(fieldPathList));
-                  } else {
-                    batch = batch.set(documentReference, Objects.requireNonNull(data));
-                  }
-                  break;
-              }
+              PigeonParser.addToWriteBatch(firestore, batch, write);
             }
 
-            Tasks.await(batch.commit());
-            result.success(null);
+            forwardResult(batch.commit(), result);
           } catch (Exception e) {
             ExceptionConverter.sendErrorToFlutter(result, e);
           }
         });
   }
 
+  @Override
+  public void bulkWriterCommit(
+      @NonNull GeneratedAndroidFirebaseFirestore.FirestorePigeonFirebaseApp app,
+      @NonNull List<GeneratedAndroidFirebaseFirestore.PigeonTransactionCommand> writes,
+      @NonNull Long maxConcurrency,
+      @NonNull Long maxAttempts,
+      @NonNull GeneratedAndroidFirebaseFirestore.Result<String> result) {
+    result.success(
+        registerEventChannel(
+            METHOD_CHANNEL_NAME + "/bulkWriter",
+            new BulkWriterStreamHandler(
+                executor, getFirestoreFromPigeon(app), writes, maxConcurrency, maxAttempts)));
+  }
+
   @Override
   public void querySnapshot(
       @NonNull GeneratedAndroidFirebaseFirestore.FirestorePigeonFirebaseApp app,
@@ -926,6 +1153,8 @@ public class FlutterFirebaseFirestorePlugin
       @NonNull GeneratedAndroidFirebaseFirestore.PigeonGetOptions options,
       @NonNull Boolean includeMetadataChanges,
       @NonNull GeneratedAndroidFirebaseFirestore.ListenSource source,
+      @NonNull Boolean deltaOnly,
+      @NonNull Long maxEventsPerSecond,
       @NonNull GeneratedAndroidFirebaseFirestore.Result<String> result) {
     Query query =
         PigeonParser.parseQuery(getFirestoreFromPigeon(app), path, isCollectionGroup, parameters);
@@ -943,11 +1172,14 @@ public class FlutterFirebaseFirestorePlugin
         registerEventChannel(
             METHOD_CHANNEL_NAME + "/query",
             new QuerySnapshotsStreamHandler(
+                querySnapshotListenerHub,
                 query,
                 includeMetadataChanges,
                 PigeonParser.parsePigeonServerTimestampBehavior(
                     options.getServerTimestampBehavior()),
-                PigeonParser.parseListenSource(source))));
+                PigeonParser.parseListenSource(source),
+                deltaOnly,
+                maxEventsPerSecond)));
   }
 
   @Override
@@ -956,6 +1188,7 @@ public class FlutterFirebaseFirestorePlugin
       @NonNull GeneratedAndroidFirebaseFirestore.DocumentReferenceRequest parameters,
       @NonNull Boolean includeMetadataChanges,
       @NonNull GeneratedAndroidFirebaseFirestore.ListenSource source,
+      @NonNull Long maxEventsPerSecond,
       @NonNull GeneratedAndroidFirebaseFirestore.Result<String> result) {
     FirebaseFirestore firestore = getFirestoreFromPigeon(app);
     DocumentReference documentReference =
@@ -965,11 +1198,13 @@ public class FlutterFirebaseFirestorePlugin
         registerEventChannel(
             METHOD_CHANNEL_NAME + "/document",
             new DocumentSnapshotsStreamHandler(
+                snapshotExecutor,
                 firestore,
                 documentReference,
                 includeMetadataChanges,
                 PigeonParser.parsePigeonServerTimestampBehavior(
                     parameters.getServerTimestampBehavior()),
-                PigeonParser.parseListenSource(source))));
+                PigeonParser.parseListenSource(source),
+                maxEventsPerSecond)));
   }
 }
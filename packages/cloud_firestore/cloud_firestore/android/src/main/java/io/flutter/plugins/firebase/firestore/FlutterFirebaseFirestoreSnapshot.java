@@ -0,0 +1,231 @@
+/*
+ * Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+ * for details. All rights reserved. Use of this source code is governed by a
+ * BSD-style license that can be found in the LICENSE file.
+ */
+
+package io.flutter.plugins.firebase.firestore;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.firebase.firestore.DocumentChange;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.MetadataChanges;
+import com.google.firebase.firestore.QuerySnapshot;
+import io.flutter.plugins.firebase.core.FlutterFirebaseChannelMetrics;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A query or document snapshot sent to Dart by a snapshot listener.
+ *
+ * <p>{@link FlutterFirebaseFirestoreMessageCodec} writes it straight to the message in a single
+ * pass, instead of building the Pigeon objects and their lists first.
+ *
+ * <p>A query snapshot created with {@link #changesOf} only carries its document changes and
+ * metadata. The Dart side applies the changes to the documents of the previous snapshot, so events
+ * cost as much as the number of changed documents rather than the size of the result.
+ */
+public class FlutterFirebaseFirestoreSnapshot {
+  final @Nullable QuerySnapshot querySnapshot;
+  final @Nullable DocumentSnapshot documentSnapshot;
+  final @NonNull DocumentSnapshot.ServerTimestampBehavior serverTimestampBehavior;
+  final boolean changesOnly;
+
+  // The document changes sent with a query snapshot. With `changesOnly`, they include the
+  // metadata-only changes, and `reportedChanges` flags the ones the app is told about.
+  final @NonNull List<DocumentChange> documentChanges;
+  final @NonNull BitSet reportedChanges;
+
+  // Whether every document of the query snapshot is reported as added, instead of
+  // `documentChanges`, see #initialOf.
+  final boolean documentsAdded;
+
+  // Set by #share and #encode; the codec then keeps the encoded snapshot to reuse it.
+  boolean shared;
+  @Nullable byte[] encoded;
+  int encodedOffset;
+
+  private FlutterFirebaseFirestoreSnapshot(
+      @Nullable QuerySnapshot querySnapshot,
+      @Nullable DocumentSnapshot documentSnapshot,
+      @NonNull DocumentSnapshot.ServerTimestampBehavior serverTimestampBehavior,
+      boolean changesOnly,
+      @NonNull List<DocumentChange> documentChanges,
+      @NonNull BitSet reportedChanges,
+      boolean documentsAdded) {
+    this.querySnapshot = querySnapshot;
+    this.documentSnapshot = documentSnapshot;
+    this.serverTimestampBehavior = serverTimestampBehavior;
+    this.changesOnly = changesOnly;
+    this.documentChanges = documentChanges;
+    this.reportedChanges = reportedChanges;
+    this.documentsAdded = documentsAdded;
+  }
+
+  public static FlutterFirebaseFirestoreSnapshot of(
+      @NonNull QuerySnapshot querySnapshot,
+      @NonNull DocumentSnapshot.ServerTimestampBehavior serverTimestampBehavior) {
+    List<DocumentChange> documentChanges = querySnapshot.getDocumentChanges();
+    BitSet reportedChanges = new BitSet(documentChanges.size());
+    reportedChanges.set(0, documentChanges.size());
+    return new FlutterFirebaseFirestoreSnapshot(
+        querySnapshot,
+        null,
+        serverTimestampBehavior,
+        false,
+        documentChanges,
+        reportedChanges,
+        false);
+  }
+
+  /**
+   * Returns `querySnapshot` as the first snapshot of a listener, with every document reported as
+   * added, for listeners that join a query other listeners already receive snapshots of.
+   */
+  public static FlutterFirebaseFirestoreSnapshot initialOf(
+      @NonNull QuerySnapshot querySnapshot,
+      @NonNull DocumentSnapshot.ServerTimestampBehavior serverTimestampBehavior) {
+    return new FlutterFirebaseFirestoreSnapshot(
+        querySnapshot,
+        null,
+        serverTimestampBehavior,
+        false,
+        Collections.emptyList(),
+        new BitSet(),
+        true);
+  }
+
+  /**
+   * Returns the changes of `querySnapshot` since the previous snapshot of the same listener, to be
+   * applied to the documents Dart received before.
+   */
+  public static FlutterFirebaseFirestoreSnapshot changesOf(
+      @NonNull QuerySnapshot querySnapshot,
+      @NonNull DocumentSnapshot.ServerTimestampBehavior serverTimestampBehavior) {
+    List<DocumentChange> documentChanges =
+        querySnapshot.getDocumentChanges(MetadataChanges.INCLUDE);
+    List<DocumentChange> reported = querySnapshot.getDocumentChanges();
+    BitSet reportedChanges = new BitSet(documentChanges.size());
+
+    if (reported.size() == documentChanges.size()) {
+      reportedChanges.set(0, documentChanges.size());
+    } else {
+      Set<String> reportedPaths = new HashSet<>(reported.size());
+      for (DocumentChange documentChange : reported) {
+        reportedPaths.add(documentChange.getDocument().getReference().getPath());
+      }
+      for (int i = 0; i < documentChanges.size(); i++) {
+        String path = documentChanges.get(i).getDocument().getReference().getPath();
+        reportedChanges.set(i, reportedPaths.contains(path));
+      }
+    }
+
+    return new FlutterFirebaseFirestoreSnapshot(
+        querySnapshot,
+        null,
+        serverTimestampBehavior,
+        true,
+        documentChanges,
+        reportedChanges,
+        false);
+  }
+
+  public static FlutterFirebaseFirestoreSnapshot of(
+      @NonNull DocumentSnapshot documentSnapshot,
+      @NonNull DocumentSnapshot.ServerTimestampBehavior serverTimestampBehavior) {
+    return new FlutterFirebaseFirestoreSnapshot(
+        null,
+        documentSnapshot,
+        serverTimestampBehavior,
+        false,
+        Collections.emptyList(),
+        new BitSet(),
+        false);
+  }
+
+  /**
+   * Marks this snapshot as sent to several listeners, so that it is encoded once. It must not be
+   * changed afterwards.
+   */
+  @NonNull
+  public FlutterFirebaseFirestoreSnapshot share() {
+    shared = true;
+    return this;
+  }
+
+  /**
+   * Encodes this snapshot for an event channel on the calling thread, so that sending it on the
+   * main thread only copies bytes, and shares it like {@link #share}. The encoding time and size
+   * are recorded in the event metrics of `metricName`, see {@link
+   * FlutterFirebaseChannelMetrics#recordEvent}.
+   */
+  @NonNull
+  public FlutterFirebaseFirestoreSnapshot encode(@NonNull String metricName) {
+    shared = true;
+    long startNanos = System.nanoTime();
+    FlutterFirebaseFirestoreMessageCodec.INSTANCE.encodeSnapshot(
+        this, FlutterFirebaseFirestoreMessageCodec.EVENT_OFFSET);
+    long serializationNanos = System.nanoTime() - startNanos;
+
+    byte[] encoded = Objects.requireNonNull(this.encoded);
+    FlutterFirebaseChannelMetrics.recordEvent(
+        metricName, serializationNanos, encoded.length - encodedOffset);
+    return this;
+  }
+
+  /**
+   * Returns a single snapshot that stands for this snapshot followed by `later`, for listeners
+   * that coalesce events which arrive faster than Dart should receive them.
+   *
+   * <p>A document snapshot is simply replaced. A query snapshot takes the documents and metadata of
+   * `later`, and the document changes of both in order; each change is relative to the result of
+   * the ones before it, so applying them in turn still yields the documents of `later`. The merged
+   * snapshot carries the full result if this one did, and only changes otherwise. If this one
+   * reported every document as added, so does the merged snapshot.
+   */
+  @NonNull
+  public FlutterFirebaseFirestoreSnapshot merge(@NonNull FlutterFirebaseFirestoreSnapshot later) {
+    if (querySnapshot == null || later.querySnapshot == null) {
+      return later;
+    }
+    if (documentsAdded) {
+      return initialOf(later.querySnapshot, later.serverTimestampBehavior);
+    }
+
+    List<DocumentChange> mergedChanges =
+        new ArrayList<>(documentChanges.size() + later.documentChanges.size());
+    BitSet mergedReportedChanges = new BitSet();
+    appendChanges(mergedChanges, mergedReportedChanges, this);
+    appendChanges(mergedChanges, mergedReportedChanges, later);
+
+    return new FlutterFirebaseFirestoreSnapshot(
+        later.querySnapshot,
+        null,
+        later.serverTimestampBehavior,
+        changesOnly,
+        mergedChanges,
+        mergedReportedChanges,
+        false);
+  }
+
+  private void appendChanges(
+      List<DocumentChange> changes,
+      BitSet reportedChanges,
+      FlutterFirebaseFirestoreSnapshot snapshot) {
+    for (int i = 0; i < snapshot.documentChanges.size(); i++) {
+      boolean isReported = snapshot.reportedChanges.get(i);
+      // A full snapshot replaces the documents on the Dart side, so it only needs the changes the
+      // app is told about.
+      if (changesOnly || isReported) {
+        reportedChanges.set(changes.size(), isReported);
+        changes.add(snapshot.documentChanges.get(i));
+      }
+    }
+  }
+}
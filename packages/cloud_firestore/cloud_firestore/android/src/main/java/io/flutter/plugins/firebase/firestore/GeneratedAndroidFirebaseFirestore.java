@@ -1625,6 +1625,130 @@ public class GeneratedAndroidFirebaseFirestore {
     }
   }
 
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class AggregateQueryRequest {
+    private @NonNull String path;
+
+    public @NonNull String getPath() {
+      return path;
+    }
+
+    public void setPath(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"path\" is null.");
+      }
+      this.path = setterArg;
+    }
+
+    private @NonNull PigeonQueryParameters parameters;
+
+    public @NonNull PigeonQueryParameters getParameters() {
+      return parameters;
+    }
+
+    public void setParameters(@NonNull PigeonQueryParameters setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"parameters\" is null.");
+      }
+      this.parameters = setterArg;
+    }
+
+    private @NonNull List<AggregateQuery> queries;
+
+    public @NonNull List<AggregateQuery> getQueries() {
+      return queries;
+    }
+
+    public void setQueries(@NonNull List<AggregateQuery> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"queries\" is null.");
+      }
+      this.queries = setterArg;
+    }
+
+    private @NonNull Boolean isCollectionGroup;
+
+    public @NonNull Boolean getIsCollectionGroup() {
+      return isCollectionGroup;
+    }
+
+    public void setIsCollectionGroup(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"isCollectionGroup\" is null.");
+      }
+      this.isCollectionGroup = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    AggregateQueryRequest() {}
+
+    public static final class Builder {
+
+      private @Nullable String path;
+
+      public @NonNull Builder setPath(@NonNull String setterArg) {
+        this.path = setterArg;
+        return this;
+      }
+
+      private @Nullable PigeonQueryParameters parameters;
+
+      public @NonNull Builder setParameters(@NonNull PigeonQueryParameters setterArg) {
+        this.parameters = setterArg;
+        return this;
+      }
+
+      private @Nullable List<AggregateQuery> queries;
+
+      public @NonNull Builder setQueries(@NonNull List<AggregateQuery> setterArg) {
+        this.queries = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean isCollectionGroup;
+
+      public @NonNull Builder setIsCollectionGroup(@NonNull Boolean setterArg) {
+        this.isCollectionGroup = setterArg;
+        return this;
+      }
+
+      public @NonNull AggregateQueryRequest build() {
+        AggregateQueryRequest pigeonReturn = new AggregateQueryRequest();
+        pigeonReturn.setPath(path);
+        pigeonReturn.setParameters(parameters);
+        pigeonReturn.setQueries(queries);
+        pigeonReturn.setIsCollectionGroup(isCollectionGroup);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    public ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<Object>(4);
+      toListResult.add(path);
+      toListResult.add((parameters == null) ? null : parameters.toList());
+      toListResult.add(queries);
+      toListResult.add(isCollectionGroup);
+      return toListResult;
+    }
+
+    static @NonNull AggregateQueryRequest fromList(@NonNull ArrayList<Object> list) {
+      AggregateQueryRequest pigeonResult = new AggregateQueryRequest();
+      Object path = list.get(0);
+      pigeonResult.setPath((String) path);
+      Object parameters = list.get(1);
+      pigeonResult.setParameters(
+          (parameters == null)
+              ? null
+              : PigeonQueryParameters.fromList((ArrayList<Object>) parameters));
+      Object queries = list.get(2);
+      pigeonResult.setQueries((List<AggregateQuery>) queries);
+      Object isCollectionGroup = list.get(3);
+      pigeonResult.setIsCollectionGroup((Boolean) isCollectionGroup);
+      return pigeonResult;
+    }
+  }
+
   public interface Result<T> {
     @SuppressWarnings("UnknownNullness")
     void success(T result);
@@ -1644,28 +1768,30 @@ public class GeneratedAndroidFirebaseFirestore {
         case (byte) 128:
           return AggregateQuery.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 129:
-          return AggregateQueryResponse.fromList((ArrayList<Object>) readValue(buffer));
+          return AggregateQueryRequest.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 130:
-          return DocumentReferenceRequest.fromList((ArrayList<Object>) readValue(buffer));
+          return AggregateQueryResponse.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 131:
-          return FirestorePigeonFirebaseApp.fromList((ArrayList<Object>) readValue(buffer));
+          return DocumentReferenceRequest.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 132:
-          return PigeonDocumentChange.fromList((ArrayList<Object>) readValue(buffer));
+          return FirestorePigeonFirebaseApp.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 133:
-          return PigeonDocumentOption.fromList((ArrayList<Object>) readValue(buffer));
+          return PigeonDocumentChange.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 134:
-          return PigeonDocumentSnapshot.fromList((ArrayList<Object>) readValue(buffer));
+          return PigeonDocumentOption.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 135:
-          return PigeonFirebaseSettings.fromList((ArrayList<Object>) readValue(buffer));
+          return PigeonDocumentSnapshot.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 136:
-          return PigeonGetOptions.fromList((ArrayList<Object>) readValue(buffer));
+          return PigeonFirebaseSettings.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 137:
-          return PigeonQueryParameters.fromList((ArrayList<Object>) readValue(buffer));
+          return PigeonGetOptions.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 138:
-          return PigeonQuerySnapshot.fromList((ArrayList<Object>) readValue(buffer));
+          return PigeonQueryParameters.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 139:
-          return PigeonSnapshotMetadata.fromList((ArrayList<Object>) readValue(buffer));
+          return PigeonQuerySnapshot.fromList((ArrayList<Object>) readValue(buffer));
         case (byte) 140:
+          return PigeonSnapshotMetadata.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 141:
           return PigeonTransactionCommand.fromList((ArrayList<Object>) readValue(buffer));
         default:
           return super.readValueOfType(type, buffer);
@@ -1677,41 +1803,44 @@ public class GeneratedAndroidFirebaseFirestore {
       if (value instanceof AggregateQuery) {
         stream.write(128);
         writeValue(stream, ((AggregateQuery) value).toList());
-      } else if (value instanceof AggregateQueryResponse) {
+      } else if (value instanceof AggregateQueryRequest) {
         stream.write(129);
+        writeValue(stream, ((AggregateQueryRequest) value).toList());
+      } else if (value instanceof AggregateQueryResponse) {
+        stream.write(130);
         writeValue(stream, ((AggregateQueryResponse) value).toList());
       } else if (value instanceof DocumentReferenceRequest) {
-        stream.write(130);
+        stream.write(131);
         writeValue(stream, ((DocumentReferenceRequest) value).toList());
       } else if (value instanceof FirestorePigeonFirebaseApp) {
-        stream.write(131);
+        stream.write(132);
         writeValue(stream, ((FirestorePigeonFirebaseApp) value).toList());
       } else if (value instanceof PigeonDocumentChange) {
-        stream.write(132);
+        stream.write(133);
         writeValue(stream, ((PigeonDocumentChange) value).toList());
       } else if (value instanceof PigeonDocumentOption) {
-        stream.write(133);
+        stream.write(134);
         writeValue(stream, ((PigeonDocumentOption) value).toList());
       } else if (value instanceof PigeonDocumentSnapshot) {
-        stream.write(134);
+        stream.write(135);
         writeValue(stream, ((PigeonDocumentSnapshot) value).toList());
       } else if (value instanceof PigeonFirebaseSettings) {
-        stream.write(135);
+        stream.write(136);
         writeValue(stream, ((PigeonFirebaseSettings) value).toList());
       } else if (value instanceof PigeonGetOptions) {
-        stream.write(136);
+        stream.write(137);
         writeValue(stream, ((PigeonGetOptions) value).toList());
       } else if (value instanceof PigeonQueryParameters) {
-        stream.write(137);
+        stream.write(138);
         writeValue(stream, ((PigeonQueryParameters) value).toList());
       } else if (value instanceof PigeonQuerySnapshot) {
-        stream.write(138);
+        stream.write(139);
         writeValue(stream, ((PigeonQuerySnapshot) value).toList());
       } else if (value instanceof PigeonSnapshotMetadata) {
-        stream.write(139);
+        stream.write(140);
         writeValue(stream, ((PigeonSnapshotMetadata) value).toList());
       } else if (value instanceof PigeonTransactionCommand) {
-        stream.write(140);
+        stream.write(141);
         writeValue(stream, ((PigeonTransactionCommand) value).toList());
       } else {
         super.writeValue(stream, value);
@@ -1733,6 +1862,11 @@ public class GeneratedAndroidFirebaseFirestore {
         @NonNull PigeonGetOptions options,
         @NonNull Result<PigeonQuerySnapshot> result);
 
+    void loadBundleFromFile(
+        @NonNull FirestorePigeonFirebaseApp app,
+        @NonNull String path,
+        @NonNull Result<String> result);
+
     void clearPersistence(@NonNull FirestorePigeonFirebaseApp app, @NonNull Result<Void> result);
 
     void disableNetwork(@NonNull FirestorePigeonFirebaseApp app, @NonNull Result<Void> result);
@@ -1772,6 +1906,12 @@ public class GeneratedAndroidFirebaseFirestore {
         @NonNull String path,
         @NonNull Result<PigeonDocumentSnapshot> result);
 
+    void transactionGetAll(
+        @NonNull FirestorePigeonFirebaseApp app,
+        @NonNull String transactionId,
+        @NonNull List<String> paths,
+        @NonNull Result<List<PigeonDocumentSnapshot>> result);
+
     void documentReferenceSet(
         @NonNull FirestorePigeonFirebaseApp app,
         @NonNull DocumentReferenceRequest request,
@@ -1787,6 +1927,12 @@ public class GeneratedAndroidFirebaseFirestore {
         @NonNull DocumentReferenceRequest request,
         @NonNull Result<PigeonDocumentSnapshot> result);
 
+    void documentReferenceGetAll(
+        @NonNull FirestorePigeonFirebaseApp app,
+        @NonNull List<String> paths,
+        @NonNull PigeonGetOptions options,
+        @NonNull Result<List<Object>> result);
+
     void documentReferenceDelete(
         @NonNull FirestorePigeonFirebaseApp app,
         @NonNull DocumentReferenceRequest request,
@@ -1800,6 +1946,20 @@ public class GeneratedAndroidFirebaseFirestore {
         @NonNull PigeonGetOptions options,
         @NonNull Result<PigeonQuerySnapshot> result);
 
+    void queryGetPages(
+        @NonNull FirestorePigeonFirebaseApp app,
+        @NonNull String path,
+        @NonNull Boolean isCollectionGroup,
+        @NonNull PigeonQueryParameters parameters,
+        @NonNull PigeonGetOptions options,
+        @NonNull Long pageSize,
+        @NonNull Result<String> result);
+
+    void queryGetPagesNext(
+        @NonNull FirestorePigeonFirebaseApp app,
+        @NonNull String pagesId,
+        @NonNull Result<Void> result);
+
     void aggregateQuery(
         @NonNull FirestorePigeonFirebaseApp app,
         @NonNull String path,
@@ -1809,11 +1969,24 @@ public class GeneratedAndroidFirebaseFirestore {
         @NonNull Boolean isCollectionGroup,
         @NonNull Result<List<AggregateQueryResponse>> result);
 
+    void aggregateQueryBatch(
+        @NonNull FirestorePigeonFirebaseApp app,
+        @NonNull List<AggregateQueryRequest> requests,
+        @NonNull AggregateSource source,
+        @NonNull Result<List<Object>> result);
+
     void writeBatchCommit(
         @NonNull FirestorePigeonFirebaseApp app,
         @NonNull List<PigeonTransactionCommand> writes,
         @NonNull Result<Void> result);
 
+    void bulkWriterCommit(
+        @NonNull FirestorePigeonFirebaseApp app,
+        @NonNull List<PigeonTransactionCommand> writes,
+        @NonNull Long maxConcurrency,
+        @NonNull Long maxAttempts,
+        @NonNull Result<String> result);
+
     void querySnapshot(
         @NonNull FirestorePigeonFirebaseApp app,
         @NonNull String path,
@@ -1822,6 +1995,8 @@ public class GeneratedAndroidFirebaseFirestore {
         @NonNull PigeonGetOptions options,
         @NonNull Boolean includeMetadataChanges,
         @NonNull ListenSource source,
+        @NonNull Boolean deltaOnly,
+        @NonNull Long maxEventsPerSecond,
         @NonNull Result<String> result);
 
     void documentReferenceSnapshot(
@@ -1829,6 +2004,7 @@ public class GeneratedAndroidFirebaseFirestore {
         @NonNull DocumentReferenceRequest parameters,
         @NonNull Boolean includeMetadataChanges,
         @NonNull ListenSource source,
+        @NonNull Long maxEventsPerSecond,
         @NonNull Result<String> result);
 
     void persistenceCacheIndexManagerRequest(
@@ -1911,6 +2087,38 @@ public class GeneratedAndroidFirebaseFirestore {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.loadBundleFromFile",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                FirestorePigeonFirebaseApp appArg = (FirestorePigeonFirebaseApp) args.get(0);
+                String pathArg = (String) args.get(1);
+                Result<String> resultCallback =
+                    new Result<String>() {
+                      public void success(String result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.loadBundleFromFile(appArg, pathArg, resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
@@ -2266,6 +2474,39 @@ public class GeneratedAndroidFirebaseFirestore {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.transactionGetAll",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                FirestorePigeonFirebaseApp appArg = (FirestorePigeonFirebaseApp) args.get(0);
+                String transactionIdArg = (String) args.get(1);
+                List<String> pathsArg = (List<String>) args.get(2);
+                Result<List<PigeonDocumentSnapshot>> resultCallback =
+                    new Result<List<PigeonDocumentSnapshot>>() {
+                      public void success(List<PigeonDocumentSnapshot> result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.transactionGetAll(appArg, transactionIdArg, pathsArg, resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
@@ -2362,6 +2603,39 @@ public class GeneratedAndroidFirebaseFirestore {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.documentReferenceGetAll",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                FirestorePigeonFirebaseApp appArg = (FirestorePigeonFirebaseApp) args.get(0);
+                List<String> pathsArg = (List<String>) args.get(1);
+                PigeonGetOptions optionsArg = (PigeonGetOptions) args.get(2);
+                Result<List<Object>> resultCallback =
+                    new Result<List<Object>>() {
+                      public void success(List<Object> result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.documentReferenceGetAll(appArg, pathsArg, optionsArg, resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
@@ -2435,6 +2709,81 @@ public class GeneratedAndroidFirebaseFirestore {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.queryGetPages",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                FirestorePigeonFirebaseApp appArg = (FirestorePigeonFirebaseApp) args.get(0);
+                String pathArg = (String) args.get(1);
+                Boolean isCollectionGroupArg = (Boolean) args.get(2);
+                PigeonQueryParameters parametersArg = (PigeonQueryParameters) args.get(3);
+                PigeonGetOptions optionsArg = (PigeonGetOptions) args.get(4);
+                Number pageSizeArg = (Number) args.get(5);
+                Result<String> resultCallback =
+                    new Result<String>() {
+                      public void success(String result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.queryGetPages(
+                    appArg,
+                    pathArg,
+                    isCollectionGroupArg,
+                    parametersArg,
+                    optionsArg,
+                    (pageSizeArg == null) ? null : pageSizeArg.longValue(),
+                    resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.queryGetPagesNext",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                FirestorePigeonFirebaseApp appArg = (FirestorePigeonFirebaseApp) args.get(0);
+                String pagesIdArg = (String) args.get(1);
+                Result<Void> resultCallback =
+                    new Result<Void>() {
+                      public void success(Void result) {
+                        wrapped.add(0, null);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.queryGetPagesNext(appArg, pagesIdArg, resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
@@ -2478,6 +2827,40 @@ public class GeneratedAndroidFirebaseFirestore {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.aggregateQueryBatch",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                FirestorePigeonFirebaseApp appArg = (FirestorePigeonFirebaseApp) args.get(0);
+                List<AggregateQueryRequest> requestsArg = (List<AggregateQueryRequest>) args.get(1);
+                AggregateSource sourceArg =
+                    args.get(2) == null ? null : AggregateSource.values()[(int) args.get(2)];
+                Result<List<Object>> resultCallback =
+                    new Result<List<Object>>() {
+                      public void success(List<Object> result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.aggregateQueryBatch(appArg, requestsArg, sourceArg, resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
@@ -2511,6 +2894,46 @@ public class GeneratedAndroidFirebaseFirestore {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.bulkWriterCommit",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                FirestorePigeonFirebaseApp appArg = (FirestorePigeonFirebaseApp) args.get(0);
+                List<PigeonTransactionCommand> writesArg =
+                    (List<PigeonTransactionCommand>) args.get(1);
+                Number maxConcurrencyArg = (Number) args.get(2);
+                Number maxAttemptsArg = (Number) args.get(3);
+                Result<String> resultCallback =
+                    new Result<String>() {
+                      public void success(String result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.bulkWriterCommit(
+                    appArg,
+                    writesArg,
+                    (maxConcurrencyArg == null) ? null : maxConcurrencyArg.longValue(),
+                    (maxAttemptsArg == null) ? null : maxAttemptsArg.longValue(),
+                    resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
@@ -2529,6 +2952,8 @@ public class GeneratedAndroidFirebaseFirestore {
                 PigeonGetOptions optionsArg = (PigeonGetOptions) args.get(4);
                 Boolean includeMetadataChangesArg = (Boolean) args.get(5);
                 ListenSource sourceArg = ListenSource.values()[(int) args.get(6)];
+                Boolean deltaOnlyArg = (Boolean) args.get(7);
+                Number maxEventsPerSecondArg = (Number) args.get(8);
                 Result<String> resultCallback =
                     new Result<String>() {
                       public void success(String result) {
@@ -2550,6 +2975,8 @@ public class GeneratedAndroidFirebaseFirestore {
                     optionsArg,
                     includeMetadataChangesArg,
                     sourceArg,
+                    deltaOnlyArg,
+                    (maxEventsPerSecondArg == null) ? null : maxEventsPerSecondArg.longValue(),
                     resultCallback);
               });
         } else {
@@ -2571,6 +2998,7 @@ public class GeneratedAndroidFirebaseFirestore {
                 DocumentReferenceRequest parametersArg = (DocumentReferenceRequest) args.get(1);
                 Boolean includeMetadataChangesArg = (Boolean) args.get(2);
                 ListenSource sourceArg = ListenSource.values()[(int) args.get(3)];
+                Number maxEventsPerSecondArg = (Number) args.get(4);
                 Result<String> resultCallback =
                     new Result<String>() {
                       public void success(String result) {
@@ -2585,7 +3013,12 @@ public class GeneratedAndroidFirebaseFirestore {
                     };
 
                 api.documentReferenceSnapshot(
-                    appArg, parametersArg, includeMetadataChangesArg, sourceArg, resultCallback);
+                    appArg,
+                    parametersArg,
+                    includeMetadataChangesArg,
+                    sourceArg,
+                    (maxEventsPerSecondArg == null) ? null : maxEventsPerSecondArg.longValue(),
+                    resultCallback);
               });
         } else {
           channel.setMessageHandler(null);
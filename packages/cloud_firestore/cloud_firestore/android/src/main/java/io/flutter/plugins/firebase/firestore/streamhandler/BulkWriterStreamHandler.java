@@ -0,0 +1,272 @@
+/*
+ * Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+ * for details. All rights reserved. Use of this source code is governed by a
+ * BSD-style license that can be found in the LICENSE file.
+ */
+
+package io.flutter.plugins.firebase.firestore.streamhandler;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.FirebaseFirestoreException;
+import com.google.firebase.firestore.WriteBatch;
+import io.flutter.plugin.common.EventChannel.EventSink;
+import io.flutter.plugin.common.EventChannel.StreamHandler;
+import io.flutter.plugins.firebase.firestore.GeneratedAndroidFirebaseFirestore;
+import io.flutter.plugins.firebase.firestore.utils.ExceptionConverter;
+import io.flutter.plugins.firebase.firestore.utils.PigeonParser;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executor;
+
+/**
+ * Commits a list of writes of any length as a series of write batches, and streams the outcome of
+ * each write to Dart.
+ *
+ * <p>Writes are grouped in order into batches of {@link #BATCH_SIZE}, and up to `maxConcurrency`
+ * batches are committed at a time. The write rate follows the 500/50/5 rule: it starts at {@link
+ * #INITIAL_OPERATIONS_PER_SECOND} and grows by 50% every {@link #RAMP_UP_INTERVAL_MILLIS}, so that
+ * the backend can scale up for the new traffic.
+ *
+ * <p>A batch that fails with a transient error is committed again after an exponential backoff, up
+ * to `maxAttempts` times. A batch of several writes that fails otherwise is split into batches of a
+ * single write, so that only the writes at fault are reported as failed.
+ *
+ * <p>Every committed batch sends an event with the index of its first write in the list, the
+ * number of writes, the error if it failed, and the number of writes done so far. The stream ends
+ * once every write succeeded or failed. Batches are built on `executor`; the rest of the state is
+ * only accessed on the main thread.
+ */
+public class BulkWriterStreamHandler implements StreamHandler {
+  // Small batches keep a failing write from holding back many others, like the BulkWriter of the
+  // server SDKs; the backend accepts up to 500 writes per batch.
+  static final int BATCH_SIZE = 20;
+  static final int INITIAL_OPERATIONS_PER_SECOND = 500;
+  static final double RAMP_UP_FACTOR = 1.5;
+  static final long RAMP_UP_INTERVAL_MILLIS = 5 * 60 * 1000;
+  static final long INITIAL_BACKOFF_MILLIS = 1000;
+  static final long MAX_BACKOFF_MILLIS = 60 * 1000;
+  static final double BACKOFF_FACTOR = 1.5;
+  static final double BACKOFF_JITTER = 0.3;
+
+  private static final class Batch {
+    final int start;
+    final int count;
+    int attempts;
+    long backoffMillis;
+
+    Batch(int start, int count) {
+      this.start = start;
+      this.count = count;
+    }
+  }
+
+  private final FirebaseFirestore firestore;
+  private final List<GeneratedAndroidFirebaseFirestore.PigeonTransactionCommand> writes;
+  private final int maxConcurrency;
+  private final int maxAttempts;
+  private final Executor executor;
+  private final Handler handler = new Handler(Looper.getMainLooper());
+  private final Runnable pumpRunnable = this::pump;
+  private final Random random = new Random();
+
+  // Only accessed on the main thread.
+  private final ArrayDeque<Batch> pendingBatches = new ArrayDeque<>();
+  private EventSink events;
+  private int inFlightBatches;
+  private int backingOffBatches;
+  private int succeededWrites;
+  private int failedWrites;
+  private long startMillis;
+  private long lastRefillMillis;
+  private double availableOperations;
+  private boolean cancelled;
+
+  public BulkWriterStreamHandler(
+      @NonNull Executor executor,
+      @NonNull FirebaseFirestore firestore,
+      @NonNull List<GeneratedAndroidFirebaseFirestore.PigeonTransactionCommand> writes,
+      long maxConcurrency,
+      long maxAttempts) {
+    this.executor = executor;
+    this.firestore = firestore;
+    this.writes = writes;
+    this.maxConcurrency = (int) Math.max(1, maxConcurrency);
+    this.maxAttempts = (int) Math.max(1, maxAttempts);
+
+    for (int start = 0; start < writes.size(); start += BATCH_SIZE) {
+      pendingBatches.add(new Batch(start, Math.min(BATCH_SIZE, writes.size() - start)));
+    }
+  }
+
+  @Override
+  public void onListen(Object arguments, EventSink events) {
+    this.events = events;
+    startMillis = SystemClock.uptimeMillis();
+    lastRefillMillis = startMillis;
+    availableOperations = INITIAL_OPERATIONS_PER_SECOND;
+    pump();
+  }
+
+  /** Stops committing batches; the ones in flight complete, but are no longer reported. */
+  @Override
+  public void onCancel(Object arguments) {
+    cancelled = true;
+    handler.removeCallbacksAndMessages(null);
+    pendingBatches.clear();
+  }
+
+  /** Commits the pending batches the concurrency and the write rate allow. */
+  private void pump() {
+    handler.removeCallbacks(pumpRunnable);
+    if (cancelled) {
+      return;
+    }
+
+    while (inFlightBatches < maxConcurrency && !pendingBatches.isEmpty()) {
+      Batch batch = pendingBatches.peek();
+      double operationsPerSecond = refillOperations();
+      if (availableOperations < batch.count) {
+        long delayMillis =
+            (long) Math.ceil((batch.count - availableOperations) * 1000 / operationsPerSecond);
+        handler.postDelayed(pumpRunnable, Math.max(1, delayMillis));
+        return;
+      }
+
+      availableOperations -= batch.count;
+      pendingBatches.poll();
+      commit(batch);
+    }
+
+    if (inFlightBatches == 0 && backingOffBatches == 0 && pendingBatches.isEmpty()) {
+      events.endOfStream();
+    }
+  }
+
+  /** Adds the operations allowed since the last call and returns the current write rate. */
+  private double refillOperations() {
+    long now = SystemClock.uptimeMillis();
+    long rampUps = (now - startMillis) / RAMP_UP_INTERVAL_MILLIS;
+    double operationsPerSecond = INITIAL_OPERATIONS_PER_SECOND * Math.pow(RAMP_UP_FACTOR, rampUps);
+
+    availableOperations =
+        Math.min(
+            operationsPerSecond,
+            availableOperations + operationsPerSecond * (now - lastRefillMillis) / 1000);
+    lastRefillMillis = now;
+    return operationsPerSecond;
+  }
+
+  private void commit(Batch batch) {
+    inFlightBatches++;
+    batch.attempts++;
+    executor.execute(
+        () -> {
+          try {
+            WriteBatch writeBatch = firestore.batch();
+            for (int i = batch.start; i < batch.start + batch.count; i++) {
+              PigeonParser.addToWriteBatch(firestore, writeBatch, writes.get(i));
+            }
+            writeBatch
+                .commit()
+                .addOnCompleteListener(task -> onCommitted(batch, task.getException()));
+          } catch (Exception e) {
+            handler.post(() -> onCommitted(batch, e));
+          }
+        });
+  }
+
+  private void onCommitted(Batch batch, @Nullable Exception exception) {
+    inFlightBatches--;
+    if (cancelled) {
+      return;
+    }
+
+    if (exception == null) {
+      succeededWrites += batch.count;
+      sendResult(batch, null);
+    } else if (isRetryable(exception) && batch.attempts < maxAttempts) {
+      retry(batch, exception);
+    } else if (batch.count > 1 && !isRetryable(exception)) {
+      // Find the writes that fail by committing them one by one, ahead of the other batches.
+      for (int i = batch.start + batch.count - 1; i >= batch.start; i--) {
+        pendingBatches.addFirst(new Batch(i, 1));
+      }
+    } else {
+      failedWrites += batch.count;
+      sendResult(batch, exception);
+    }
+    pump();
+  }
+
+  private void retry(Batch batch, Exception exception) {
+    if (getCode(exception) == FirebaseFirestoreException.Code.RESOURCE_EXHAUSTED) {
+      batch.backoffMillis = MAX_BACKOFF_MILLIS;
+    } else if (batch.backoffMillis == 0) {
+      batch.backoffMillis = INITIAL_BACKOFF_MILLIS;
+    } else {
+      batch.backoffMillis =
+          Math.min(MAX_BACKOFF_MILLIS, (long) (batch.backoffMillis * BACKOFF_FACTOR));
+    }
+    double jitter = 1 + BACKOFF_JITTER * (2 * random.nextDouble() - 1);
+
+    backingOffBatches++;
+    handler.postDelayed(
+        () -> {
+          backingOffBatches--;
+          pendingBatches.addFirst(batch);
+          pump();
+        },
+        (long) (batch.backoffMillis * jitter));
+  }
+
+  private void sendResult(Batch batch, @Nullable Exception exception) {
+    Map<String, Object> event = new HashMap<>();
+    event.put("index", batch.start);
+    event.put("count", batch.count);
+    if (exception != null) {
+      event.put("error", ExceptionConverter.createDetailsWithMessage(exception));
+    }
+    event.put("succeeded", succeededWrites);
+    event.put("failed", failedWrites);
+    event.put("total", writes.size());
+    events.success(event);
+  }
+
+  private static boolean isRetryable(Exception exception) {
+    FirebaseFirestoreException.Code code = getCode(exception);
+    if (code == null) {
+      return false;
+    }
+    switch (code) {
+      case ABORTED:
+      case CANCELLED:
+      case DEADLINE_EXCEEDED:
+      case INTERNAL:
+      case RESOURCE_EXHAUSTED:
+      case UNAVAILABLE:
+      case UNKNOWN:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  @Nullable
+  private static FirebaseFirestoreException.Code getCode(Exception exception) {
+    if (exception instanceof FirebaseFirestoreException) {
+      return ((FirebaseFirestoreException) exception).getCode();
+    }
+    if (exception.getCause() instanceof FirebaseFirestoreException) {
+      return ((FirebaseFirestoreException) exception.getCause()).getCode();
+    }
+    return null;
+  }
+}
@@ -17,13 +17,21 @@ import com.google.firebase.firestore.MetadataChanges;
 import com.google.firebase.firestore.SnapshotListenOptions;
 import io.flutter.plugin.common.EventChannel.EventSink;
 import io.flutter.plugin.common.EventChannel.StreamHandler;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutor;
+import io.flutter.plugins.firebase.firestore.FlutterFirebaseFirestoreSnapshot;
 import io.flutter.plugins.firebase.firestore.utils.ExceptionConverter;
-import io.flutter.plugins.firebase.firestore.utils.PigeonParser;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 public class DocumentSnapshotsStreamHandler implements StreamHandler {
+  // Event metrics of document snapshots, see FlutterFirebaseChannelMetrics#recordEvent.
+  private static final String METRIC_NAME =
+      "plugins.flutter.io/firebase_firestore/document#snapshot";
 
   ListenerRegistration listenerRegistration;
+  // Runs the listener and encodes its snapshots away from the main thread, each listener through
+  // a serial executor of its own.
+  FlutterFirebaseExecutor snapshotExecutor;
   FirebaseFirestore firestore;
   DocumentReference documentReference;
   MetadataChanges metadataChanges;
@@ -31,25 +39,39 @@ public class DocumentSnapshotsStreamHandler implements StreamHandler {
   DocumentSnapshot.ServerTimestampBehavior serverTimestampBehavior;
   ListenSource source;
 
+  // Events beyond this rate are coalesced, see SnapshotEventThrottle. 0 means no limit.
+  long maxEventsPerSecond;
+  SnapshotEventThrottle throttle;
+
   public DocumentSnapshotsStreamHandler(
+      FlutterFirebaseExecutor snapshotExecutor,
       FirebaseFirestore firestore,
       DocumentReference documentReference,
       Boolean includeMetadataChanges,
       DocumentSnapshot.ServerTimestampBehavior serverTimestampBehavior,
-      ListenSource source) {
+      ListenSource source,
+      Long maxEventsPerSecond) {
+    this.snapshotExecutor = snapshotExecutor;
     this.firestore = firestore;
     this.documentReference = documentReference;
     this.metadataChanges =
         includeMetadataChanges ? MetadataChanges.INCLUDE : MetadataChanges.EXCLUDE;
     this.serverTimestampBehavior = serverTimestampBehavior;
     this.source = source;
+    this.maxEventsPerSecond = maxEventsPerSecond;
   }
 
   @Override
   public void onListen(Object arguments, EventSink events) {
+    Executor executor = snapshotExecutor.newSerialExecutor();
     SnapshotListenOptions.Builder optionsBuilder = new SnapshotListenOptions.Builder();
     optionsBuilder.setMetadataChanges(metadataChanges);
     optionsBuilder.setSource(source);
+    optionsBuilder.setExecutor(executor);
+
+    SnapshotEventThrottle throttle =
+        new SnapshotEventThrottle(events, executor, METRIC_NAME, maxEventsPerSecond);
+    this.throttle = throttle;
 
     listenerRegistration =
         documentReference.addSnapshotListener(
@@ -57,14 +79,14 @@ public class DocumentSnapshotsStreamHandler implements StreamHandler {
             (documentSnapshot, exception) -> {
               if (exception != null) {
                 Map<String, String> exceptionDetails = ExceptionConverter.createDetails(exception);
-                events.error(DEFAULT_ERROR_CODE, exception.getMessage(), exceptionDetails);
-                events.endOfStream();
+                throttle.error(DEFAULT_ERROR_CODE, exception.getMessage(), exceptionDetails);
+                throttle.endOfStream();
 
                 onCancel(null);
               } else {
-                events.success(
-                    PigeonParser.toPigeonDocumentSnapshot(documentSnapshot, serverTimestampBehavior)
-                        .toList());
+                throttle.success(
+                    FlutterFirebaseFirestoreSnapshot.of(documentSnapshot, serverTimestampBehavior)
+                        .encode(METRIC_NAME));
               }
             });
   }
@@ -75,5 +97,9 @@ public class DocumentSnapshotsStreamHandler implements StreamHandler {
       listenerRegistration.remove();
       listenerRegistration = null;
     }
+    if (throttle != null) {
+      throttle.cancel();
+      throttle = null;
+    }
   }
 }
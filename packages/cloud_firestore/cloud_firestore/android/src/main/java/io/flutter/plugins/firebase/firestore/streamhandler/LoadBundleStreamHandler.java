@@ -8,42 +8,117 @@ package io.flutter.plugins.firebase.firestore.streamhandler;
 
 import static io.flutter.plugins.firebase.firestore.FlutterFirebaseFirestorePlugin.DEFAULT_ERROR_CODE;
 
+import android.os.SystemClock;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import com.google.firebase.firestore.FirebaseFirestore;
 import com.google.firebase.firestore.LoadBundleTask;
+import com.google.firebase.firestore.LoadBundleTaskProgress;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugins.firebase.firestore.utils.ExceptionConverter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
 
+/**
+ * Loads a bundle, given as bytes or as a file, and streams its progress to Dart.
+ *
+ * <p>A bundle file is streamed into the SDK, so it never has to be held in memory as a whole.
+ *
+ * <p>A progress event of a running load is only sent once both `progressIntervalMillis` have
+ * passed and `progressStep` of the total bytes have been loaded since the previous one; both are
+ * read from the listen arguments. The final success or error event is always sent.
+ */
 public class LoadBundleStreamHandler implements EventChannel.StreamHandler {
+  static final long DEFAULT_PROGRESS_INTERVAL_MILLIS = 100;
 
   public LoadBundleStreamHandler(FirebaseFirestore firestore, @NonNull byte[] bundle) {
     this.firestore = firestore;
     this.bundle = bundle;
+    this.bundleFile = null;
+  }
+
+  public LoadBundleStreamHandler(FirebaseFirestore firestore, @NonNull File bundleFile) {
+    this.firestore = firestore;
+    this.bundle = null;
+    this.bundleFile = bundleFile;
   }
 
   private EventChannel.EventSink eventSink;
 
   private final FirebaseFirestore firestore;
-  private final @NonNull byte[] bundle;
+  private final @Nullable byte[] bundle;
+  private final @Nullable File bundleFile;
+  private long progressIntervalMillis = DEFAULT_PROGRESS_INTERVAL_MILLIS;
+  private double progressStep;
+  private long lastProgressMillis;
+  private long lastProgressBytes;
 
   @Override
   public void onListen(Object arguments, EventChannel.EventSink events) {
     eventSink = events;
-    LoadBundleTask task = firestore.loadBundle(bundle);
+    if (arguments instanceof Map) {
+      Map<?, ?> options = (Map<?, ?>) arguments;
+      if (options.get("progressIntervalMillis") instanceof Number) {
+        progressIntervalMillis = ((Number) options.get("progressIntervalMillis")).longValue();
+      }
+      if (options.get("progressStep") instanceof Number) {
+        progressStep = ((Number) options.get("progressStep")).doubleValue();
+      }
+    }
+
+    LoadBundleTask task;
+    if (bundleFile != null) {
+      InputStream bundleStream;
+      try {
+        bundleStream = new FileInputStream(bundleFile);
+      } catch (IOException exception) {
+        sendError(exception);
+        return;
+      }
+      task = firestore.loadBundle(bundleStream);
+      task.addOnCompleteListener(ignored -> closeQuietly(bundleStream));
+    } else {
+      task = firestore.loadBundle(bundle);
+    }
 
-    task.addOnProgressListener(events::success);
+    task.addOnProgressListener(this::onProgress);
 
-    task.addOnFailureListener(
-        exception -> {
-          Map<String, String> exceptionDetails = ExceptionConverter.createDetails(exception);
-          events.error(DEFAULT_ERROR_CODE, exception.getMessage(), exceptionDetails);
-          onCancel(null);
-        });
+    task.addOnFailureListener(this::sendError);
   }
 
   @Override
   public void onCancel(Object arguments) {
     eventSink.endOfStream();
   }
+
+  private void onProgress(LoadBundleTaskProgress progress) {
+    if (progress.getTaskState() == LoadBundleTaskProgress.TaskState.RUNNING) {
+      long now = SystemClock.uptimeMillis();
+      long bytes = progress.getBytesLoaded();
+      if (now - lastProgressMillis < progressIntervalMillis
+          || bytes - lastProgressBytes < progressStep * progress.getTotalBytes()) {
+        return;
+      }
+      lastProgressMillis = now;
+      lastProgressBytes = bytes;
+    }
+    eventSink.success(progress);
+  }
+
+  private void sendError(Exception exception) {
+    Map<String, String> exceptionDetails = ExceptionConverter.createDetails(exception);
+    eventSink.error(DEFAULT_ERROR_CODE, exception.getMessage(), exceptionDetails);
+    onCancel(null);
+  }
+
+  private static void closeQuietly(InputStream stream) {
+    try {
+      stream.close();
+    } catch (IOException ignored) {
+      // The bundle has been read already.
+    }
+  }
 }
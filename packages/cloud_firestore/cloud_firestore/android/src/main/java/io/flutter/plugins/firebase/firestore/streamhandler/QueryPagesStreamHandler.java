@@ -0,0 +1,142 @@
+/*
+ * Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+ * for details. All rights reserved. Use of this source code is governed by a
+ * BSD-style license that can be found in the LICENSE file.
+ */
+
+package io.flutter.plugins.firebase.firestore.streamhandler;
+
+import static io.flutter.plugins.firebase.firestore.FlutterFirebaseFirestorePlugin.DEFAULT_ERROR_CODE;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.gms.tasks.Task;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.Query;
+import com.google.firebase.firestore.QuerySnapshot;
+import com.google.firebase.firestore.Source;
+import io.flutter.plugin.common.EventChannel.EventSink;
+import io.flutter.plugin.common.EventChannel.StreamHandler;
+import io.flutter.plugins.firebase.firestore.FlutterFirebaseFirestoreSnapshot;
+import io.flutter.plugins.firebase.firestore.utils.ExceptionConverter;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Streams the result of a query to Dart in pages of at most `pageSize` documents, so that neither
+ * side ever holds more than a page of it.
+ *
+ * <p>Each page is read with the query limited to `pageSize` documents and started after the last
+ * document of the previous page. Only the first page is read on listen; each following one is read
+ * once Dart asks for it with {@link #requestNextPage}, so pages are never read faster than Dart
+ * handles them. The stream ends after the first page shorter than `pageSize`, or once the limit of
+ * the query is reached.
+ *
+ * <p>A query limited to its last documents can not be paged with cursors, and is sent as a single
+ * page. All state is only accessed on the main thread.
+ */
+public class QueryPagesStreamHandler implements StreamHandler {
+  private final Query query;
+  private final Source source;
+  private final DocumentSnapshot.ServerTimestampBehavior serverTimestampBehavior;
+  private final int pageSize;
+  private final @Nullable Long limit;
+  private final boolean limitToLast;
+  private final Runnable onCompleteListener;
+
+  private EventSink events;
+  private @Nullable DocumentSnapshot lastDocument;
+  private long readDocuments;
+  private boolean reading;
+  private boolean completed;
+
+  /**
+   * `limit` and `limitToLast` are the ones `query` was built with. `onCompleteListener` is called
+   * once the stream ends or is cancelled.
+   */
+  public QueryPagesStreamHandler(
+      @NonNull Query query,
+      @NonNull Source source,
+      @NonNull DocumentSnapshot.ServerTimestampBehavior serverTimestampBehavior,
+      long pageSize,
+      @Nullable Long limit,
+      boolean limitToLast,
+      @NonNull Runnable onCompleteListener) {
+    this.query = query;
+    this.source = source;
+    this.serverTimestampBehavior = serverTimestampBehavior;
+    this.pageSize = (int) Math.max(1, pageSize);
+    this.limit = limit;
+    this.limitToLast = limitToLast;
+    this.onCompleteListener = onCompleteListener;
+  }
+
+  @Override
+  public void onListen(Object arguments, EventSink events) {
+    this.events = events;
+    readNextPage();
+  }
+
+  @Override
+  public void onCancel(Object arguments) {
+    complete();
+  }
+
+  /** Reads the next page, unless one is being read already or the stream ended. */
+  public void requestNextPage() {
+    if (events == null || reading || completed) {
+      return;
+    }
+    readNextPage();
+  }
+
+  private void readNextPage() {
+    reading = true;
+    if (limitToLast) {
+      query.get(source).addOnCompleteListener(task -> onPageRead(task, Integer.MAX_VALUE));
+      return;
+    }
+
+    int pageLimit = limit == null ? pageSize : (int) Math.min(pageSize, limit - readDocuments);
+    Query page = lastDocument == null ? query : query.startAfter(lastDocument);
+    page.limit(pageLimit).get(source).addOnCompleteListener(task -> onPageRead(task, pageLimit));
+  }
+
+  private void onPageRead(Task<QuerySnapshot> task, int pageLimit) {
+    reading = false;
+    if (completed) {
+      return;
+    }
+
+    if (!task.isSuccessful()) {
+      Exception exception = Objects.requireNonNull(task.getException());
+      Map<String, String> exceptionDetails = ExceptionConverter.createDetails(exception);
+      events.error(DEFAULT_ERROR_CODE, exception.getMessage(), exceptionDetails);
+      events.endOfStream();
+      complete();
+      return;
+    }
+
+    QuerySnapshot snapshot = task.getResult();
+    List<DocumentSnapshot> documents = snapshot.getDocuments();
+    readDocuments += documents.size();
+    if (!documents.isEmpty()) {
+      lastDocument = documents.get(documents.size() - 1);
+      events.success(FlutterFirebaseFirestoreSnapshot.of(snapshot, serverTimestampBehavior));
+    }
+
+    if (documents.size() < pageLimit || (limit != null && readDocuments >= limit)) {
+      events.endOfStream();
+      complete();
+    }
+  }
+
+  private void complete() {
+    if (completed) {
+      return;
+    }
+    completed = true;
+    onCompleteListener.run();
+  }
+}
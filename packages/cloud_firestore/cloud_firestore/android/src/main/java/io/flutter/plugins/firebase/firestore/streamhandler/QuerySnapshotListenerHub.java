@@ -0,0 +1,299 @@
+/*
+ * Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+ * for details. All rights reserved. Use of this source code is governed by a
+ * BSD-style license that can be found in the LICENSE file.
+ */
+
+package io.flutter.plugins.firebase.firestore.streamhandler;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FirebaseFirestoreException;
+import com.google.firebase.firestore.ListenSource;
+import com.google.firebase.firestore.ListenerRegistration;
+import com.google.firebase.firestore.MetadataChanges;
+import com.google.firebase.firestore.Query;
+import com.google.firebase.firestore.QuerySnapshot;
+import com.google.firebase.firestore.SnapshotListenOptions;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutor;
+import io.flutter.plugins.firebase.firestore.FlutterFirebaseFirestoreSnapshot;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * Shares one native snapshot listener between every Dart listener of the same query.
+ *
+ * <p>Queries are identified by their parsed {@link Query}, which compares the path, filters,
+ * order, limits and cursors, together with the listen options and the server timestamp behavior.
+ * Each snapshot is turned into a single {@link FlutterFirebaseFirestoreSnapshot} per form, which
+ * is encoded once for all subscribers away from the main thread. The native listener is removed
+ * with its last subscriber.
+ *
+ * <p>Every shared listener runs on its own serial executor on top of the snapshot executor, see
+ * {@link FlutterFirebaseExecutor#newSerialExecutor()}, so its events stay in order while a large
+ * snapshot of one query does not hold up the others.
+ */
+public class QuerySnapshotListenerHub {
+  // Event metrics of query snapshots, see FlutterFirebaseChannelMetrics#recordEvent.
+  static final String METRIC_NAME = "plugins.flutter.io/firebase_firestore/query#snapshot";
+
+  /** Receives the snapshots of a shared listener, on the listener's serial executor. */
+  interface Subscriber {
+    /**
+     * Called on `executor`, the serial executor of the listener, before any other callback. Work
+     * that must stay in order with the events goes there.
+     */
+    void onSubscribed(@NonNull Executor executor);
+
+    void onSnapshot(@NonNull Event event);
+
+    void onError(@NonNull FirebaseFirestoreException exception);
+  }
+
+  /** A snapshot of a shared listener, in the forms subscribers may send it to Dart in. */
+  static class Event {
+    private final QuerySnapshot querySnapshot;
+    private final DocumentSnapshot.ServerTimestampBehavior serverTimestampBehavior;
+    private final boolean initial;
+    @Nullable private FlutterFirebaseFirestoreSnapshot snapshot;
+    @Nullable private FlutterFirebaseFirestoreSnapshot changes;
+
+    Event(
+        QuerySnapshot querySnapshot,
+        DocumentSnapshot.ServerTimestampBehavior serverTimestampBehavior,
+        boolean initial) {
+      this.querySnapshot = querySnapshot;
+      this.serverTimestampBehavior = serverTimestampBehavior;
+      this.initial = initial;
+    }
+
+    /** The full snapshot, with the document changes since the subscriber's previous event. */
+    synchronized FlutterFirebaseFirestoreSnapshot snapshot() {
+      if (snapshot == null) {
+        snapshot =
+            initial
+                ? FlutterFirebaseFirestoreSnapshot.initialOf(querySnapshot, serverTimestampBehavior)
+                : FlutterFirebaseFirestoreSnapshot.of(querySnapshot, serverTimestampBehavior);
+        snapshot.encode(METRIC_NAME);
+      }
+      return snapshot;
+    }
+
+    /** The document changes only, see {@link FlutterFirebaseFirestoreSnapshot#changesOf}. */
+    synchronized FlutterFirebaseFirestoreSnapshot changes() {
+      if (changes == null) {
+        changes =
+            FlutterFirebaseFirestoreSnapshot.changesOf(querySnapshot, serverTimestampBehavior)
+                .encode(METRIC_NAME);
+      }
+      return changes;
+    }
+  }
+
+  private final FlutterFirebaseExecutor executor;
+  private final Map<Key, SharedListener> listeners = new HashMap<>();
+  // The listener of each subscriber, from the moment it subscribes until it unsubscribes.
+  private final Map<Subscriber, SharedListener> subscriptions = new HashMap<>();
+
+  /**
+   * `executor` is the pool the native listeners run on, each through a serial executor of its own.
+   */
+  public QuerySnapshotListenerHub(FlutterFirebaseExecutor executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * Subscribes to the snapshots of `query`, adding the native listener if no one listens to the
+   * same query yet. If a snapshot was already received, it is sent to the subscriber right away,
+   * with every document reported as added.
+   *
+   * <p>The subscriber joins on the listener's serial executor, like snapshots are received, so its
+   * first event is never sent after a more recent snapshot.
+   */
+  void subscribe(
+      Query query,
+      MetadataChanges metadataChanges,
+      ListenSource source,
+      DocumentSnapshot.ServerTimestampBehavior serverTimestampBehavior,
+      Subscriber subscriber) {
+    Key key = new Key(query, metadataChanges, source, serverTimestampBehavior);
+    SharedListener listener;
+    synchronized (this) {
+      listener = listeners.get(key);
+      if (listener == null) {
+        listener = new SharedListener(key, executor.newSerialExecutor());
+        listeners.put(key, listener);
+        listener.listen();
+      }
+      listener.subscriberCount++;
+      subscriptions.put(subscriber, listener);
+    }
+
+    SharedListener joinedListener = listener;
+    listener.executor.execute(() -> join(joinedListener, subscriber));
+  }
+
+  /** Removes `subscriber`, and the native listener along with its last subscriber. */
+  synchronized void unsubscribe(Subscriber subscriber) {
+    SharedListener listener = subscriptions.remove(subscriber);
+    if (listener == null) {
+      return;
+    }
+
+    listener.subscribers.remove(subscriber);
+    listener.subscriberCount--;
+    if (listener.subscriberCount == 0 && listeners.get(listener.key) == listener) {
+      listener.remove();
+      listeners.remove(listener.key);
+    }
+  }
+
+  private void join(SharedListener listener, Subscriber subscriber) {
+    QuerySnapshot lastSnapshot;
+    FirebaseFirestoreException exception;
+    synchronized (this) {
+      // The subscriber left before it could join.
+      if (subscriptions.get(subscriber) != listener) {
+        return;
+      }
+      exception = listener.exception;
+      if (exception != null) {
+        subscriptions.remove(subscriber);
+      } else {
+        listener.subscribers.add(subscriber);
+      }
+      lastSnapshot = listener.lastSnapshot;
+    }
+
+    subscriber.onSubscribed(listener.executor);
+    if (exception != null) {
+      subscriber.onError(exception);
+    } else if (lastSnapshot != null) {
+      subscriber.onSnapshot(new Event(lastSnapshot, listener.key.serverTimestampBehavior, true));
+    }
+  }
+
+  private void onSnapshot(SharedListener listener, QuerySnapshot querySnapshot) {
+    List<Subscriber> subscribers;
+    synchronized (this) {
+      if (listeners.get(listener.key) != listener) {
+        return;
+      }
+      listener.lastSnapshot = querySnapshot;
+      subscribers = new ArrayList<>(listener.subscribers);
+    }
+
+    Event event = new Event(querySnapshot, listener.key.serverTimestampBehavior, false);
+    for (Subscriber subscriber : subscribers) {
+      subscriber.onSnapshot(event);
+    }
+  }
+
+  private void onError(SharedListener listener, FirebaseFirestoreException exception) {
+    List<Subscriber> subscribers;
+    synchronized (this) {
+      if (listeners.get(listener.key) != listener) {
+        return;
+      }
+      // The SDK does not send anything after an error, so the next subscriber starts over. The
+      // ones that did not join yet receive the error when they do.
+      listeners.remove(listener.key);
+      listener.remove();
+      listener.exception = exception;
+      subscribers = new ArrayList<>(listener.subscribers);
+      listener.subscribers.clear();
+      for (Subscriber subscriber : subscribers) {
+        subscriptions.remove(subscriber);
+      }
+    }
+
+    for (Subscriber subscriber : subscribers) {
+      subscriber.onError(exception);
+    }
+  }
+
+  private final class SharedListener {
+    final Key key;
+    final Executor executor;
+    // The subscribers that joined on the executor; `subscriberCount` also counts the ones that
+    // did not yet.
+    final List<Subscriber> subscribers = new ArrayList<>();
+    int subscriberCount;
+    @Nullable QuerySnapshot lastSnapshot;
+    @Nullable FirebaseFirestoreException exception;
+    @Nullable ListenerRegistration listenerRegistration;
+
+    SharedListener(Key key, Executor executor) {
+      this.key = key;
+      this.executor = executor;
+    }
+
+    void listen() {
+      SnapshotListenOptions.Builder optionsBuilder = new SnapshotListenOptions.Builder();
+      optionsBuilder.setMetadataChanges(key.metadataChanges);
+      optionsBuilder.setSource(key.source);
+      optionsBuilder.setExecutor(executor);
+
+      listenerRegistration =
+          key.query.addSnapshotListener(
+              optionsBuilder.build(),
+              (querySnapshot, exception) -> {
+                if (exception != null) {
+                  onError(this, exception);
+                } else {
+                  onSnapshot(this, Objects.requireNonNull(querySnapshot));
+                }
+              });
+    }
+
+    void remove() {
+      if (listenerRegistration != null) {
+        listenerRegistration.remove();
+        listenerRegistration = null;
+      }
+    }
+  }
+
+  private static final class Key {
+    final Query query;
+    final MetadataChanges metadataChanges;
+    final ListenSource source;
+    final DocumentSnapshot.ServerTimestampBehavior serverTimestampBehavior;
+
+    Key(
+        Query query,
+        MetadataChanges metadataChanges,
+        ListenSource source,
+        DocumentSnapshot.ServerTimestampBehavior serverTimestampBehavior) {
+      this.query = query;
+      this.metadataChanges = metadataChanges;
+      this.source = source;
+      this.serverTimestampBehavior = serverTimestampBehavior;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) o;
+      return query.equals(that.query)
+          && metadataChanges == that.metadataChanges
+          && source == that.source
+          && serverTimestampBehavior == that.serverTimestampBehavior;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(query, metadataChanges, source, serverTimestampBehavior);
+    }
+  }
+}
@@ -8,23 +8,22 @@ package io.flutter.plugins.firebase.firestore.streamhandler;
 
 import static io.flutter.plugins.firebase.firestore.FlutterFirebaseFirestorePlugin.DEFAULT_ERROR_CODE;
 
-import com.google.firebase.firestore.DocumentChange;
+import androidx.annotation.NonNull;
 import com.google.firebase.firestore.DocumentSnapshot;
+import com.google.firebase.firestore.FirebaseFirestoreException;
 import com.google.firebase.firestore.ListenSource;
-import com.google.firebase.firestore.ListenerRegistration;
 import com.google.firebase.firestore.MetadataChanges;
 import com.google.firebase.firestore.Query;
-import com.google.firebase.firestore.SnapshotListenOptions;
 import io.flutter.plugin.common.EventChannel.EventSink;
 import io.flutter.plugin.common.EventChannel.StreamHandler;
 import io.flutter.plugins.firebase.firestore.utils.ExceptionConverter;
-import io.flutter.plugins.firebase.firestore.utils.PigeonParser;
-import java.util.ArrayList;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
-public class QuerySnapshotsStreamHandler implements StreamHandler {
+public class QuerySnapshotsStreamHandler
+    implements StreamHandler, QuerySnapshotListenerHub.Subscriber {
 
-  ListenerRegistration listenerRegistration;
+  QuerySnapshotListenerHub listenerHub;
 
   Query query;
   MetadataChanges metadataChanges;
@@ -32,66 +31,93 @@ public class QuerySnapshotsStreamHandler implements StreamHandler {
 
   ListenSource source;
 
+  // Whether events after the first one only carry the document changes, see
+  // FlutterFirebaseFirestoreSnapshot#changesOf.
+  boolean deltaOnly;
+  boolean sentFullSnapshot;
+
+  // Events beyond this rate are coalesced, see SnapshotEventThrottle. 0 means no limit.
+  long maxEventsPerSecond;
+  // Set while Dart listens; the throttle is created on the listener's executor once subscribed.
+  volatile EventSink events;
+  volatile SnapshotEventThrottle throttle;
+
   public QuerySnapshotsStreamHandler(
+      QuerySnapshotListenerHub listenerHub,
       Query query,
       Boolean includeMetadataChanges,
       DocumentSnapshot.ServerTimestampBehavior serverTimestampBehavior,
-      ListenSource source) {
+      ListenSource source,
+      Boolean deltaOnly,
+      Long maxEventsPerSecond) {
+    this.listenerHub = listenerHub;
     this.query = query;
     this.metadataChanges =
         includeMetadataChanges ? MetadataChanges.INCLUDE : MetadataChanges.EXCLUDE;
     this.serverTimestampBehavior = serverTimestampBehavior;
     this.source = source;
+    this.deltaOnly = deltaOnly;
+    this.maxEventsPerSecond = maxEventsPerSecond;
   }
 
   @Override
   public void onListen(Object arguments, EventSink events) {
-    SnapshotListenOptions.Builder optionsBuilder = new SnapshotListenOptions.Builder();
-    optionsBuilder.setMetadataChanges(metadataChanges);
-    optionsBuilder.setSource(source);
-
-    listenerRegistration =
-        query.addSnapshotListener(
-            optionsBuilder.build(),
-            (querySnapshot, exception) -> {
-              if (exception != null) {
-                Map<String, String> exceptionDetails = ExceptionConverter.createDetails(exception);
-                events.error(DEFAULT_ERROR_CODE, exception.getMessage(), exceptionDetails);
-                events.endOfStream();
-
-                onCancel(null);
-              } else {
-                ArrayList<Object> toListResult = new ArrayList<Object>(3);
-                ArrayList<Object> documents =
-                    new ArrayList<Object>(querySnapshot.getDocuments().size());
-                ArrayList<Object> documentChanges =
-                    new ArrayList<Object>(querySnapshot.getDocumentChanges().size());
-                for (DocumentSnapshot documentSnapshot : querySnapshot.getDocuments()) {
-                  documents.add(
-                      PigeonParser.toPigeonDocumentSnapshot(
-                              documentSnapshot, serverTimestampBehavior)
-                          .toList());
-                }
-                for (DocumentChange documentChange : querySnapshot.getDocumentChanges()) {
-                  documentChanges.add(
-                      PigeonParser.toPigeonDocumentChange(documentChange, serverTimestampBehavior)
-                          .toList());
-                }
-                toListResult.add(documents);
-                toListResult.add(documentChanges);
-                toListResult.add(
-                    PigeonParser.toPigeonSnapshotMetadata(querySnapshot.getMetadata()).toList());
-
-                events.success(toListResult);
-              }
-            });
+    sentFullSnapshot = false;
+    this.events = events;
+    listenerHub.subscribe(query, metadataChanges, source, serverTimestampBehavior, this);
+  }
+
+  @Override
+  public void onSubscribed(@NonNull Executor executor) {
+    EventSink events = this.events;
+    if (events == null) {
+      return;
+    }
+
+    throttle =
+        new SnapshotEventThrottle(
+            events, executor, QuerySnapshotListenerHub.METRIC_NAME, maxEventsPerSecond);
+  }
+
+  @Override
+  public void onSnapshot(@NonNull QuerySnapshotListenerHub.Event event) {
+    SnapshotEventThrottle throttle = this.throttle;
+    if (throttle == null) {
+      return;
+    }
+
+    if (deltaOnly && sentFullSnapshot) {
+      throttle.success(event.changes());
+    } else {
+      // A full snapshot held back by the throttle absorbs the changes that follow it, so it
+      // counts as sent from here on.
+      throttle.success(event.snapshot());
+      sentFullSnapshot = true;
+    }
+  }
+
+  @Override
+  public void onError(@NonNull FirebaseFirestoreException exception) {
+    SnapshotEventThrottle throttle = this.throttle;
+    if (throttle == null) {
+      return;
+    }
+
+    Map<String, String> exceptionDetails = ExceptionConverter.createDetails(exception);
+    throttle.error(DEFAULT_ERROR_CODE, exception.getMessage(), exceptionDetails);
+    throttle.endOfStream();
+
+    onCancel(null);
   }
 
   @Override
   public void onCancel(Object arguments) {
-    if (listenerRegistration != null) {
-      listenerRegistration.remove();
-      listenerRegistration = null;
+    events = null;
+    listenerHub.unsubscribe(this);
+    SnapshotEventThrottle throttle = this.throttle;
+    if (throttle != null) {
+      throttle.cancel();
+      this.throttle = null;
     }
   }
 }
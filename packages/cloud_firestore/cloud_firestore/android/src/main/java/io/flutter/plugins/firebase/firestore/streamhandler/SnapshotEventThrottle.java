@@ -0,0 +1,139 @@
+/*
+ * Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+ * for details. All rights reserved. Use of this source code is governed by a
+ * BSD-style license that can be found in the LICENSE file.
+ */
+
+package io.flutter.plugins.firebase.firestore.streamhandler;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import androidx.annotation.Nullable;
+import io.flutter.plugin.common.EventChannel.EventSink;
+import io.flutter.plugins.firebase.firestore.FlutterFirebaseFirestoreSnapshot;
+import java.util.concurrent.Executor;
+
+/**
+ * Forwards the snapshots of a listener to Dart on the main thread, at most `maxEventsPerSecond`
+ * times per second.
+ *
+ * <p>Snapshots, errors and the end of the stream are handed to this class on the serial executor
+ * of the listener, where snapshots are encoded; every event is then posted to the main thread, in
+ * order.
+ *
+ * <p>A snapshot that arrives too early is held back and merged with the ones after it, see {@link
+ * FlutterFirebaseFirestoreSnapshot#merge}, and the result is sent once the interval has passed. The
+ * last snapshot is therefore always delivered, only later. Merging and encoding the result happen
+ * on that executor as well, so the main thread only ever copies encoded bytes.
+ */
+class SnapshotEventThrottle {
+  private final EventSink events;
+  private final Executor executor;
+  private final String metricName;
+  private final long minIntervalMillis;
+  private final Handler handler = new Handler(Looper.getMainLooper());
+  private final Runnable flushRunnable = this::flush;
+  private final Runnable scheduleFlushRunnable = () -> executor.execute(flushRunnable);
+
+  // Only accessed on the executor.
+  @Nullable private FlutterFirebaseFirestoreSnapshot pendingSnapshot;
+  private long nextEventMillis;
+  private boolean stopped;
+
+  // Only accessed on the main thread.
+  private boolean cancelled;
+
+  /**
+   * `executor` is the serial executor the snapshots are received on. Merged snapshots are encoded
+   * with the event metrics of `metricName`. `maxEventsPerSecond` of 0 or less forwards every
+   * snapshot right away.
+   */
+  SnapshotEventThrottle(
+      EventSink events, Executor executor, String metricName, long maxEventsPerSecond) {
+    this.events = events;
+    this.executor = executor;
+    this.metricName = metricName;
+    this.minIntervalMillis = maxEventsPerSecond > 0 ? Math.max(1, 1000 / maxEventsPerSecond) : 0;
+  }
+
+  /** Sends an encoded snapshot, or holds it back; must be called on the executor. */
+  void success(FlutterFirebaseFirestoreSnapshot snapshot) {
+    if (stopped) {
+      return;
+    }
+    if (pendingSnapshot != null) {
+      FlutterFirebaseFirestoreSnapshot merged = pendingSnapshot.merge(snapshot);
+      pendingSnapshot = merged == snapshot ? snapshot : merged.encode(metricName);
+      return;
+    }
+
+    long now = SystemClock.uptimeMillis();
+    if (now >= nextEventMillis) {
+      send(snapshot, now);
+    } else {
+      pendingSnapshot = snapshot;
+      handler.postDelayed(scheduleFlushRunnable, nextEventMillis - now);
+    }
+  }
+
+  /** Sends the snapshot held back, if any, then the error; must be called on the executor. */
+  void error(String errorCode, String errorMessage, Object errorDetails) {
+    if (stopped) {
+      return;
+    }
+    flush();
+    postToMainThread(() -> events.error(errorCode, errorMessage, errorDetails));
+  }
+
+  /** Must be called on the executor. */
+  void endOfStream() {
+    if (stopped) {
+      return;
+    }
+    postToMainThread(events::endOfStream);
+  }
+
+  /** Drops the snapshot held back and the events not sent yet, once Dart stopped listening. */
+  void cancel() {
+    handler.removeCallbacks(scheduleFlushRunnable);
+    runOnMainThread(() -> cancelled = true);
+    executor.execute(
+        () -> {
+          stopped = true;
+          pendingSnapshot = null;
+        });
+  }
+
+  private void flush() {
+    handler.removeCallbacks(scheduleFlushRunnable);
+    if (!stopped && pendingSnapshot != null) {
+      FlutterFirebaseFirestoreSnapshot snapshot = pendingSnapshot;
+      pendingSnapshot = null;
+      send(snapshot, SystemClock.uptimeMillis());
+    }
+  }
+
+  private void send(FlutterFirebaseFirestoreSnapshot snapshot, long now) {
+    nextEventMillis = now + minIntervalMillis;
+    postToMainThread(() -> events.success(snapshot));
+  }
+
+  /** Posts an event, which is dropped if Dart stopped listening in the meantime. */
+  private void postToMainThread(Runnable event) {
+    handler.post(
+        () -> {
+          if (!cancelled) {
+            event.run();
+          }
+        });
+  }
+
+  private void runOnMainThread(Runnable runnable) {
+    if (Looper.myLooper() == Looper.getMainLooper()) {
+      runnable.run();
+    } else {
+      handler.post(runnable);
+    }
+  }
+}
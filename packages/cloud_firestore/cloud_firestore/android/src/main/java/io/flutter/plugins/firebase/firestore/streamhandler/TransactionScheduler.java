@@ -0,0 +1,59 @@
+/*
+ * Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+ * for details. All rights reserved. Use of this source code is governed by a
+ * BSD-style license that can be found in the LICENSE file.
+ */
+
+package io.flutter.plugins.firebase.firestore.streamhandler;
+
+import java.util.ArrayDeque;
+
+/**
+ * Caps the number of transactions running at a time.
+ *
+ * <p>Transactions over the cap wait in order for a running one to complete, without holding a
+ * thread. Running fewer transactions at once also lowers the contention between them, and so the
+ * attempts they need.
+ */
+public class TransactionScheduler {
+  private final int maxConcurrentTransactions;
+  private final ArrayDeque<Runnable> pendingTransactions = new ArrayDeque<>();
+  private int runningTransactions;
+
+  public TransactionScheduler(int maxConcurrentTransactions) {
+    this.maxConcurrentTransactions = maxConcurrentTransactions;
+  }
+
+  /**
+   * Runs `start` now if fewer than the maximum transactions are running, or once one completes
+   * otherwise. The transaction it starts must call {@link #release} when it completes.
+   */
+  void schedule(Runnable start) {
+    synchronized (this) {
+      if (runningTransactions >= maxConcurrentTransactions) {
+        pendingTransactions.add(start);
+        return;
+      }
+      runningTransactions++;
+    }
+    start.run();
+  }
+
+  /** Removes `start` if it is still waiting, and returns whether it was. */
+  synchronized boolean cancel(Runnable start) {
+    return pendingTransactions.remove(start);
+  }
+
+  /** Marks a transaction as complete, and starts the next waiting one, if any. */
+  void release() {
+    Runnable next;
+    synchronized (this) {
+      next = pendingTransactions.poll();
+      if (next == null) {
+        runningTransactions--;
+        return;
+      }
+    }
+    next.run();
+  }
+}
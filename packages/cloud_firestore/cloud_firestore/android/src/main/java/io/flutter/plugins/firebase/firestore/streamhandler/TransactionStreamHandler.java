@@ -8,8 +8,11 @@ package io.flutter.plugins.firebase.firestore.streamhandler;
 
 import android.os.Handler;
 import android.os.Looper;
+import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import com.google.android.gms.tasks.Task;
 import com.google.firebase.firestore.DocumentReference;
+import com.google.firebase.firestore.DocumentSnapshot;
 import com.google.firebase.firestore.FieldPath;
 import com.google.firebase.firestore.FirebaseFirestore;
 import com.google.firebase.firestore.FirebaseFirestoreException;
@@ -19,153 +22,317 @@ import com.google.firebase.firestore.Transaction;
 import com.google.firebase.firestore.TransactionOptions;
 import io.flutter.plugin.common.EventChannel.EventSink;
 import io.flutter.plugin.common.EventChannel.StreamHandler;
+import io.flutter.plugins.firebase.core.FlutterFirebaseChannelMetrics;
 import io.flutter.plugins.firebase.firestore.FlutterFirebaseFirestoreTransactionResult;
 import io.flutter.plugins.firebase.firestore.GeneratedAndroidFirebaseFirestore;
 import io.flutter.plugins.firebase.firestore.utils.ExceptionConverter;
 import io.flutter.plugins.firebase.firestore.utils.PigeonParser;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Runs a transaction whose reads and writes are decided in Dart.
+ *
+ * <p>The SDK runs each attempt of a transaction on one of its transaction threads, and the attempt
+ * must read and write synchronously from there. The attempt therefore waits for the requests of
+ * Dart, document reads and then the writes to commit, and handles each of them on its own thread;
+ * reads no longer hold a plugin executor thread of their own. Transactions start through a {@link
+ * TransactionScheduler}, which caps how many attempts can wait at a time.
+ *
+ * <p>The time each transaction waited to start and ran, and the number of attempts it took, are
+ * recorded in the channel metrics under {@link #METRIC_NAME}.
+ */
 public class TransactionStreamHandler implements OnTransactionResultListener, StreamHandler {
+  static final String METRIC_NAME = "plugins.flutter.io/firebase_firestore/transaction#run";
+
+  /** A request of Dart, handled on the thread of the current attempt. */
+  private abstract static class Request {
+    /** Handles the request, and returns the result of the attempt if it ends it, or null. */
+    @Nullable
+    abstract FlutterFirebaseFirestoreTransactionResult handle(Transaction transaction);
 
-  /** Callback when the transaction has been started. */
-  public interface OnTransactionStartedListener {
-    void onStarted(Transaction transaction);
+    /** Answers the request once no attempt is left to handle it. */
+    void abandon() {}
   }
 
-  final OnTransactionStartedListener onTransactionStartedListener;
   final FirebaseFirestore firestore;
   final String transactionId;
   final Long timeout;
-
   final Long maxAttempts;
 
+  private final TransactionScheduler scheduler;
+  private final Runnable onCompleteListener;
+  private final Runnable startRunnable = this::start;
+  private final LinkedBlockingQueue<Request> requests = new LinkedBlockingQueue<>();
+  private final AtomicInteger attempts = new AtomicInteger();
+  private final Handler mainLooper = new Handler(Looper.getMainLooper());
+
+  private EventSink events;
+  private long listenNanos;
+  private long startNanos;
+  private volatile boolean completed;
+
+  /** `onCompleteListener` is called on the main thread once the transaction completes. */
   public TransactionStreamHandler(
-      OnTransactionStartedListener onTransactionStartedListener,
       FirebaseFirestore firestore,
       String transactionId,
       Long timeout,
-      Long maxAttempts) {
-    this.onTransactionStartedListener = onTransactionStartedListener;
+      Long maxAttempts,
+      TransactionScheduler scheduler,
+      Runnable onCompleteListener) {
     this.firestore = firestore;
     this.transactionId = transactionId;
     this.timeout = timeout;
     this.maxAttempts = maxAttempts;
+    this.scheduler = scheduler;
+    this.onCompleteListener = onCompleteListener;
   }
 
-  final Semaphore semaphore = new Semaphore(0);
-  private GeneratedAndroidFirebaseFirestore.PigeonTransactionResult resultType;
-  private List<GeneratedAndroidFirebaseFirestore.PigeonTransactionCommand> commands;
+  @Override
+  public void onListen(Object arguments, EventSink events) {
+    this.events = events;
+    listenNanos = System.nanoTime();
+    scheduler.schedule(startRunnable);
+  }
 
-  final Handler mainLooper = new Handler(Looper.getMainLooper());
+  @Override
+  public void onCancel(Object arguments) {
+    if (scheduler.cancel(startRunnable)) {
+      complete();
+      return;
+    }
+    requests.add(
+        new Request() {
+          @Override
+          FlutterFirebaseFirestoreTransactionResult handle(Transaction transaction) {
+            return FlutterFirebaseFirestoreTransactionResult.failed(
+                new FirebaseFirestoreException("cancelled", Code.CANCELLED));
+          }
+        });
+  }
 
   @Override
-  public void onListen(Object arguments, EventSink events) {
+  public void receiveTransactionResponse(
+      GeneratedAndroidFirebaseFirestore.PigeonTransactionResult resultType,
+      List<GeneratedAndroidFirebaseFirestore.PigeonTransactionCommand> commands) {
+    requests.add(
+        new Request() {
+          @Override
+          FlutterFirebaseFirestoreTransactionResult handle(Transaction transaction) {
+            if (resultType == GeneratedAndroidFirebaseFirestore.PigeonTransactionResult.FAILURE
+                || commands == null) {
+              return FlutterFirebaseFirestoreTransactionResult.complete();
+            }
+            for (GeneratedAndroidFirebaseFirestore.PigeonTransactionCommand command : commands) {
+              applyCommand(transaction, command);
+            }
+            return FlutterFirebaseFirestoreTransactionResult.complete();
+          }
+        });
+  }
+
+  /** Reads `documentReference` in the current attempt, and replies to `result`. */
+  public void get(
+      @NonNull DocumentReference documentReference,
+      @NonNull
+          GeneratedAndroidFirebaseFirestore.Result<
+                  GeneratedAndroidFirebaseFirestore.PigeonDocumentSnapshot>
+              result) {
+    requests.add(
+        new Request() {
+          @Override
+          FlutterFirebaseFirestoreTransactionResult handle(Transaction transaction) {
+            try {
+              result.success(
+                  PigeonParser.toPigeonDocumentSnapshot(
+                      transaction.get(documentReference),
+                      DocumentSnapshot.ServerTimestampBehavior.NONE));
+            } catch (Exception e) {
+              ExceptionConverter.sendErrorToFlutter(result, e);
+            }
+            return null;
+          }
+
+          @Override
+          void abandon() {
+            result.error(
+                new Exception(
+                    "Transaction.getDocument(): No transaction handler exists for ID: "
+                        + transactionId));
+          }
+        });
+    if (completed) {
+      abandonRequests();
+    }
+  }
+
+  /**
+   * Reads all of `documentReferences` in the current attempt, in order, and replies to `result`
+   * with their snapshots once, or with the first error.
+   */
+  public void getAll(
+      @NonNull List<DocumentReference> documentReferences,
+      @NonNull
+          GeneratedAndroidFirebaseFirestore.Result<
+                  List<GeneratedAndroidFirebaseFirestore.PigeonDocumentSnapshot>>
+              result) {
+    requests.add(
+        new Request() {
+          @Override
+          FlutterFirebaseFirestoreTransactionResult handle(Transaction transaction) {
+            List<GeneratedAndroidFirebaseFirestore.PigeonDocumentSnapshot> snapshots =
+                new ArrayList<>(documentReferences.size());
+            try {
+              for (DocumentReference documentReference : documentReferences) {
+                snapshots.add(
+                    PigeonParser.toPigeonDocumentSnapshot(
+                        transaction.get(documentReference),
+                        DocumentSnapshot.ServerTimestampBehavior.NONE));
+              }
+            } catch (Exception e) {
+              ExceptionConverter.sendErrorToFlutter(result, e);
+              return null;
+            }
+            result.success(snapshots);
+            return null;
+          }
+
+          @Override
+          void abandon() {
+            result.error(
+                new Exception(
+                    "Transaction.getAll(): No transaction handler exists for ID: "
+                        + transactionId));
+          }
+        });
+    if (completed) {
+      abandonRequests();
+    }
+  }
+
+  private void start() {
+    startNanos = System.nanoTime();
     firestore
         .runTransaction(
             new TransactionOptions.Builder().setMaxAttempts(maxAttempts.intValue()).build(),
-            transaction -> {
-              onTransactionStartedListener.onStarted(transaction);
-
-              Map<String, Object> attemptMap = new HashMap<>();
-              attemptMap.put("appName", firestore.getApp().getName());
-
-              mainLooper.post(() -> events.success(attemptMap));
-
-              try {
-                if (!semaphore.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
-                  return FlutterFirebaseFirestoreTransactionResult.failed(
-                      new FirebaseFirestoreException("timed out", Code.DEADLINE_EXCEEDED));
-                }
-              } catch (InterruptedException e) {
-                return FlutterFirebaseFirestoreTransactionResult.failed(
-                    new FirebaseFirestoreException("interrupted", Code.DEADLINE_EXCEEDED));
-              }
+            this::runAttempt)
+        .addOnCompleteListener(this::onTransactionComplete);
+  }
 
-              if (commands.isEmpty()) {
-                return FlutterFirebaseFirestoreTransactionResult.complete();
-              }
+  private FlutterFirebaseFirestoreTransactionResult runAttempt(Transaction transaction) {
+    attempts.incrementAndGet();
+    // Requests left over from a previous attempt no longer apply.
+    abandonRequests();
 
-              if (resultType == GeneratedAndroidFirebaseFirestore.PigeonTransactionResult.FAILURE) {
-                return FlutterFirebaseFirestoreTransactionResult.complete();
-              }
+    Map<String, Object> attemptMap = new HashMap<>();
+    attemptMap.put("appName", firestore.getApp().getName());
+    mainLooper.post(() -> events.success(attemptMap));
 
-              for (GeneratedAndroidFirebaseFirestore.PigeonTransactionCommand command : commands) {
-                DocumentReference documentReference = firestore.document(command.getPath());
-
-                switch (command.getType()) {
-                  case DELETE_TYPE:
-                    transaction.delete(documentReference);
-                    break;
-                  case UPDATE:
-                    transaction.update(
-                        documentReference, Objects.requireNonNull(command.getData()));
-                    break;
-                  case SET:
-                    {
-                      GeneratedAndroidFirebaseFirestore.PigeonDocumentOption options =
-                          Objects.requireNonNull(command.getOption());
-                      SetOptions setOptions = null;
-
-                      if (options.getMerge() != null && options.getMerge()) {
-                        setOptions = SetOptions.merge();
-                      } else if (options.getMergeFields() != null) {
-                        List<List<String>> fieldList =
-                            Objects.requireNonNull(options.getMergeFields());
-                        List<FieldPath> fieldPathList = PigeonParser.parseFieldPath(fieldList);
-
-                        setOptions = SetOptions.mergeFieldPaths(fieldPathList);
-                      }
-
-                      Map<String, Object> data = Objects.requireNonNull(command.getData());
-
-                      if (setOptions == null) {
-                        transaction.set(documentReference, data);
-                      } else {
-                        transaction.set(documentReference, data, setOptions);
-                      }
-
-                      break;
-                    }
-                }
-              }
-              return FlutterFirebaseFirestoreTransactionResult.complete();
-            })
-        .addOnCompleteListener(
-            task -> {
-              final HashMap<String, Object> map = new HashMap<>();
-              if (task.getException() != null || task.getResult().exception != null) {
-                final @Nullable Exception exception =
-                    task.getException() != null ? task.getException() : task.getResult().exception;
-                map.put("appName", firestore.getApp().getName());
-                map.put("error", ExceptionConverter.createDetails(exception));
-              } else if (task.getResult() != null) {
-                map.put("complete", true);
-              }
+    long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+    while (true) {
+      Request request;
+      try {
+        request = requests.poll(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return FlutterFirebaseFirestoreTransactionResult.failed(
+            new FirebaseFirestoreException("interrupted", Code.DEADLINE_EXCEEDED));
+      }
+      if (request == null) {
+        return FlutterFirebaseFirestoreTransactionResult.failed(
+            new FirebaseFirestoreException("timed out", Code.DEADLINE_EXCEEDED));
+      }
 
-              mainLooper.post(
-                  () -> {
-                    events.success(map);
-                    events.endOfStream();
-                  });
-            });
+      FlutterFirebaseFirestoreTransactionResult result = request.handle(transaction);
+      if (result != null) {
+        return result;
+      }
+    }
   }
 
-  @Override
-  public void onCancel(Object arguments) {
-    semaphore.release();
+  private void onTransactionComplete(Task<FlutterFirebaseFirestoreTransactionResult> task) {
+    final @Nullable Exception exception =
+        task.getException() != null ? task.getException() : task.getResult().exception;
+
+    FlutterFirebaseChannelMetrics.recordOperation(
+        METRIC_NAME,
+        startNanos - listenNanos,
+        System.nanoTime() - startNanos,
+        attempts.get(),
+        exception != null);
+
+    final HashMap<String, Object> map = new HashMap<>();
+    if (exception != null) {
+      map.put("appName", firestore.getApp().getName());
+      map.put("error", ExceptionConverter.createDetails(exception));
+    } else {
+      map.put("complete", true);
+    }
+
+    scheduler.release();
+    complete();
+    mainLooper.post(
+        () -> {
+          events.success(map);
+          events.endOfStream();
+        });
   }
 
-  @Override
-  public void receiveTransactionResponse(
-      GeneratedAndroidFirebaseFirestore.PigeonTransactionResult resultType,
-      List<GeneratedAndroidFirebaseFirestore.PigeonTransactionCommand> commands) {
-    this.resultType = resultType;
-    this.commands = commands;
-    semaphore.release();
+  private void complete() {
+    completed = true;
+    abandonRequests();
+    mainLooper.post(onCompleteListener);
+  }
+
+  private void abandonRequests() {
+    Request request;
+    while ((request = requests.poll()) != null) {
+      request.abandon();
+    }
+  }
+
+  private void applyCommand(
+      Transaction transaction, GeneratedAndroidFirebaseFirestore.PigeonTransactionCommand command) {
+    DocumentReference documentReference = firestore.document(command.getPath());
+
+    switch (command.getType()) {
+      case DELETE_TYPE:
+        transaction.delete(documentReference);
+        break;
+      case UPDATE:
+        transaction.update(documentReference, Objects.requireNonNull(command.getData()));
+        break;
+      case SET:
+        {
+          GeneratedAndroidFirebaseFirestore.PigeonDocumentOption options =
+              Objects.requireNonNull(command.getOption());
+          SetOptions setOptions = null;
+
+          if (options.getMerge() != null && options.getMerge()) {
+            setOptions = SetOptions.merge();
+          } else if (options.getMergeFields() != null) {
+            List<List<String>> fieldList = Objects.requireNonNull(options.getMergeFields());
+            List<FieldPath> fieldPathList = PigeonParser.parseFieldPath(fieldList);
+
+            setOptions = SetOptions.mergeFieldPaths(fieldPathList);
+          }
+
+          Map<String, Object> data = Objects.requireNonNull(command.getData());
+
+          if (setOptions == null) {
+            transaction.set(documentReference, data);
+          } else {
+            transaction.set(documentReference, data, setOptions);
+          }
+
+          break;
+        }
+    }
   }
 }
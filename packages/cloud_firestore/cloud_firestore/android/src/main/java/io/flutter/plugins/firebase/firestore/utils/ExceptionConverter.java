@@ -54,6 +54,18 @@ public class ExceptionConverter {
     return details;
   }
 
+  /**
+   * Like {@link #createDetails}, but falls back to the message of `exception` when it is not a
+   * Firestore exception, for errors reported as part of a result rather than thrown.
+   */
+  public static Map<String, String> createDetailsWithMessage(Exception exception) {
+    Map<String, String> details = createDetails(exception);
+    if (exception != null && !details.containsKey("message")) {
+      details.put("message", exception.getMessage());
+    }
+    return details;
+  }
+
   public static void sendErrorToFlutter(
       GeneratedAndroidFirebaseFirestore.Result result, Exception exception) {
     Map<String, String> exceptionDetails = ExceptionConverter.createDetails(exception);
@@ -10,13 +10,16 @@ import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.google.firebase.firestore.AggregateSource;
+import com.google.firebase.firestore.DocumentReference;
 import com.google.firebase.firestore.DocumentSnapshot;
 import com.google.firebase.firestore.FieldPath;
 import com.google.firebase.firestore.Filter;
 import com.google.firebase.firestore.FirebaseFirestore;
 import com.google.firebase.firestore.ListenSource;
 import com.google.firebase.firestore.Query;
+import com.google.firebase.firestore.SetOptions;
 import com.google.firebase.firestore.Source;
+import com.google.firebase.firestore.WriteBatch;
 import io.flutter.plugins.firebase.firestore.GeneratedAndroidFirebaseFirestore;
 import java.util.ArrayList;
 import java.util.List;
@@ -161,11 +164,71 @@ public class PigeonParser {
     return paths;
   }
 
+  /** Adds `write`, a delete, update or set of a document of `firestore`, to `batch`. */
+  public static void addToWriteBatch(
+      FirebaseFirestore firestore,
+      WriteBatch batch,
+      GeneratedAndroidFirebaseFirestore.PigeonTransactionCommand write) {
+    GeneratedAndroidFirebaseFirestore.PigeonTransactionType type =
+        Objects.requireNonNull(write.getType());
+    String path = Objects.requireNonNull(write.getPath());
+    Map<String, Object> data = write.getData();
+
+    DocumentReference documentReference = firestore.document(path);
+
+    switch (type) {
+      case DELETE_TYPE:
+        batch.delete(documentReference);
+        break;
+      case UPDATE:
+        batch.update(documentReference, Objects.requireNonNull(data));
+        break;
+      case SET:
+        GeneratedAndroidFirebaseFirestore.PigeonDocumentOption options =
+            Objects.requireNonNull(write.getOption());
+
+        if (options.getMerge() != null && options.getMerge()) {
+          batch.set(documentReference, Objects.requireNonNull(data), SetOptions.merge());
+        } else if (options.getMergeFields() != null) {
+          List<FieldPath> fieldPathList =
+              parseFieldPath(Objects.requireNonNull(options.getMergeFields()));
+          batch.set(
+              documentReference,
+              Objects.requireNonNull(data),
+              SetOptions.mergeFieldPaths(fieldPathList));
+        } else {
+          batch.set(documentReference, Objects.requireNonNull(data));
+        }
+        break;
+    }
+  }
+
+  /**
+   * Returns the query for `path` and `parameters`, or null if they are invalid. Queries are
+   * memoized, see {@link QueryCache}.
+   */
   public static Query parseQuery(
       FirebaseFirestore firestore,
       @NonNull String path,
       boolean isCollectionGroup,
       GeneratedAndroidFirebaseFirestore.PigeonQueryParameters parameters) {
+    List<Object> key = QueryCache.keyOf(firestore, path, isCollectionGroup, parameters);
+    Query query = QueryCache.get(key);
+    if (query == null) {
+      query = buildQuery(firestore, path, isCollectionGroup, parameters);
+      if (query != null) {
+        QueryCache.put(key, query);
+      }
+    }
+    return query;
+  }
+
+  /** Builds the query for `path` and `parameters`, bypassing {@link QueryCache}. */
+  public static Query buildQuery(
+      FirebaseFirestore firestore,
+      @NonNull String path,
+      boolean isCollectionGroup,
+      GeneratedAndroidFirebaseFirestore.PigeonQueryParameters parameters) {
     try {
       Query query;
       if (isCollectionGroup) {
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+ * for details. All rights reserved. Use of this source code is governed by a
+ * BSD-style license that can be found in the LICENSE file.
+ */
+
+package io.flutter.plugins.firebase.firestore.utils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.firebase.firestore.FirebaseFirestore;
+import com.google.firebase.firestore.Query;
+import io.flutter.plugins.firebase.firestore.GeneratedAndroidFirebaseFirestore;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded LRU cache of the queries built by {@link PigeonParser#parseQuery}.
+ *
+ * <p>Screens that page through a list send the same query again and again. Queries are immutable,
+ * so the one built for a previous call is returned as is. Entries are keyed by the Firestore
+ * instance, the path, the collection group flag and the content of the parameters, which the
+ * Pigeon codec decodes into lists, maps and values that all compare by value.
+ */
+public class QueryCache {
+  static final int MAX_ENTRIES = 128;
+
+  private static final Map<List<Object>, Query> queries =
+      new LinkedHashMap<List<Object>, Query>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<List<Object>, Query> eldest) {
+          return size() > MAX_ENTRIES;
+        }
+      };
+  private static final AtomicLong hits = new AtomicLong();
+  private static final AtomicLong misses = new AtomicLong();
+
+  private QueryCache() {}
+
+  /** Returns the number of queries found in the cache since the app started. */
+  public static long getHits() {
+    return hits.get();
+  }
+
+  /** Returns the number of queries that had to be built since the app started. */
+  public static long getMisses() {
+    return misses.get();
+  }
+
+  /** Removes the queries of `firestore`, once the instance is terminated. */
+  public static void invalidate(@NonNull FirebaseFirestore firestore) {
+    synchronized (queries) {
+      Iterator<List<Object>> keys = queries.keySet().iterator();
+      while (keys.hasNext()) {
+        if (keys.next().get(0) == firestore) {
+          keys.remove();
+        }
+      }
+    }
+  }
+
+  @Nullable
+  static Query get(List<Object> key) {
+    Query query;
+    synchronized (queries) {
+      query = queries.get(key);
+    }
+    if (query != null) {
+      hits.incrementAndGet();
+    } else {
+      misses.incrementAndGet();
+    }
+    return query;
+  }
+
+  static void put(List<Object> key, Query query) {
+    synchronized (queries) {
+      queries.put(key, query);
+    }
+  }
+
+  static List<Object> keyOf(
+      FirebaseFirestore firestore,
+      String path,
+      boolean isCollectionGroup,
+      @Nullable GeneratedAndroidFirebaseFirestore.PigeonQueryParameters parameters) {
+    if (parameters == null) {
+      return Arrays.<Object>asList(firestore, path, isCollectionGroup);
+    }
+    return Arrays.<Object>asList(
+        firestore,
+        path,
+        isCollectionGroup,
+        parameters.getWhere(),
+        parameters.getOrderBy(),
+        parameters.getLimit(),
+        parameters.getLimitToLast(),
+        parameters.getStartAt(),
+        parameters.getStartAfter(),
+        parameters.getEndAt(),
+        parameters.getEndBefore(),
+        parameters.getFilters());
+  }
+}
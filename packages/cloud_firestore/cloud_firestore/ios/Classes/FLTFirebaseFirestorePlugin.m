@@ -11,6 +11,7 @@
 #import "Private/FLTFirebaseFirestoreReader.h"
 #import "Private/FLTFirebaseFirestoreUtils.h"
 #import "Private/FLTLoadBundleStreamHandler.h"
+#import "Private/FLTQueryPagesStreamHandler.h"
 #import "Private/FLTQuerySnapshotStreamHandler.h"
 #import "Private/FLTSnapshotsInSyncStreamHandler.h"
 #import "Private/FLTTransactionStreamHandler.h"
@@ -28,6 +29,8 @@ NSString *const kFLTFirebaseFirestoreTransactionChannelName =
     @"plugins.flutter.io/firebase_firestore/transaction";
 NSString *const kFLTFirebaseFirestoreLoadBundleChannelName =
     @"plugins.flutter.io/firebase_firestore/loadBundle";
+NSString *const kFLTFirebaseFirestoreQueryPagesChannelName =
+    @"plugins.flutter.io/firebase_firestore/queryPages";
 
 @interface FLTFirebaseFirestorePlugin ()
 @property(nonatomic, retain) NSMutableDictionary *transactions;
@@ -69,6 +72,7 @@ static NSCache<NSNumber *, NSString *> *_serverTimestampMap;
   NSMutableDictionary<NSString *, FlutterEventChannel *> *_eventChannels;
   NSMutableDictionary<NSString *, NSObject<FlutterStreamHandler> *> *_streamHandlers;
   NSMutableDictionary<NSString *, FLTTransactionStreamHandler *> *_transactionHandlers;
+  NSMutableDictionary<NSString *, FLTQueryPagesStreamHandler *> *_queryPagesHandlers;
   NSObject<FlutterBinaryMessenger> *_binaryMessenger;
 }
 
@@ -111,6 +115,7 @@ FlutterStandardMethodCodec *_codec;
     _eventChannels = [NSMutableDictionary dictionary];
     _streamHandlers = [NSMutableDictionary dictionary];
     _transactionHandlers = [NSMutableDictionary dictionary];
+    _queryPagesHandlers = [NSMutableDictionary dictionary];
   }
   return self;
 }
@@ -348,6 +353,43 @@ FlutterStandardMethodCodec *_codec;
   [document getDocumentWithSource:source completion:completionGet];
 }
 
+- (void)documentReferenceGetAllApp:(nonnull FirestorePigeonFirebaseApp *)app
+                             paths:(nonnull NSArray<NSString *> *)paths
+                           options:(nonnull PigeonGetOptions *)options
+                        completion:(nonnull void (^)(NSArray *_Nullable,
+                                                     FlutterError *_Nullable))completion {
+  FIRFirestore *firestore = [self getFIRFirestoreFromAppNameFromPigeon:app];
+  FIRFirestoreSource source = [FirestorePigeonParser parseSource:options.source];
+  FIRServerTimestampBehavior serverTimestampBehavior =
+      [FirestorePigeonParser parseServerTimestampBehavior:options.serverTimestampBehavior];
+
+  // Completion blocks run on the serial Firestore queue set as the settings' dispatchQueue, so they
+  // fill in the results one at a time. dispatch_group_notify only runs once every block has left
+  // the group, which makes their writes visible to the main queue that reads them.
+  NSMutableArray *results = [NSMutableArray arrayWithCapacity:paths.count];
+  dispatch_group_t group = dispatch_group_create();
+  for (NSUInteger i = 0; i < paths.count; i++) {
+    [results addObject:[NSNull null]];
+    dispatch_group_enter(group);
+    [[firestore documentWithPath:paths[i]]
+        getDocumentWithSource:source
+                   completion:^(FIRDocumentSnapshot *_Nullable snapshot, NSError *_Nullable error) {
+                     if (error != nil) {
+                       results[i] = [self convertToFlutterError:error].details;
+                     } else {
+                       results[i] = [FirestorePigeonParser
+                           toPigeonDocumentSnapshot:snapshot
+                            serverTimestampBehavior:serverTimestampBehavior];
+                     }
+                     dispatch_group_leave(group);
+                   }];
+  }
+
+  dispatch_group_notify(group, dispatch_get_main_queue(), ^{
+    completion(results, nil);
+  });
+}
+
 - (void)documentReferenceSetApp:(nonnull FirestorePigeonFirebaseApp *)app
                         request:(nonnull DocumentReferenceRequest *)request
                      completion:(nonnull void (^)(FlutterError *_Nullable))completion {
@@ -378,6 +420,7 @@ FlutterStandardMethodCodec *_codec;
                           parameters:(nonnull DocumentReferenceRequest *)parameters
               includeMetadataChanges:(nonnull NSNumber *)includeMetadataChanges
                               source:(ListenSource)source
+                  maxEventsPerSecond:(nonnull NSNumber *)maxEventsPerSecond
                           completion:(nonnull void (^)(NSString *_Nullable,
                                                        FlutterError *_Nullable))completion {
   FIRFirestore *firestore = [self getFIRFirestoreFromAppNameFromPigeon:app];
@@ -439,6 +482,19 @@ FlutterStandardMethodCodec *_codec;
              nil);
 }
 
+- (void)loadBundleFromFileApp:(nonnull FirestorePigeonFirebaseApp *)app
+                         path:(nonnull NSString *)path
+                   completion:
+                       (nonnull void (^)(NSString *_Nullable, FlutterError *_Nullable))completion {
+  FIRFirestore *firestore = [self getFIRFirestoreFromAppNameFromPigeon:app];
+
+  completion([self registerEventChannelWithPrefix:kFLTFirebaseFirestoreLoadBundleChannelName
+                                    streamHandler:[[FLTLoadBundleStreamHandler alloc]
+                                                      initWithFirestore:firestore
+                                                             bundlePath:path]],
+             nil);
+}
+
 - (void)namedQueryGetApp:(nonnull FirestorePigeonFirebaseApp *)app
                     name:(nonnull NSString *)name
                  options:(nonnull PigeonGetOptions *)options
@@ -514,6 +570,56 @@ FlutterStandardMethodCodec *_codec;
                      }];
 }
 
+- (void)queryGetPagesApp:(nonnull FirestorePigeonFirebaseApp *)app
+                     path:(nonnull NSString *)path
+        isCollectionGroup:(nonnull NSNumber *)isCollectionGroup
+               parameters:(nonnull PigeonQueryParameters *)parameters
+                  options:(nonnull PigeonGetOptions *)options
+                 pageSize:(nonnull NSNumber *)pageSize
+               completion:
+                   (nonnull void (^)(NSString *_Nullable, FlutterError *_Nullable))completion {
+  FIRFirestore *firestore = [self getFIRFirestoreFromAppNameFromPigeon:app];
+  FIRQuery *query = [FirestorePigeonParser parseQueryWithParameters:parameters
+                                                          firestore:firestore
+                                                               path:path
+                                                  isCollectionGroup:[isCollectionGroup boolValue]];
+  if (query == nil) {
+    completion(nil, [FlutterError errorWithCode:@"error-parsing"
+                                        message:@"An error occurred while parsing query arguments, "
+                                                @"this is most likely an error with this SDK."
+                                        details:nil]);
+    return;
+  }
+
+  NSString *pagesId = [[[NSUUID UUID] UUIDString] lowercaseString];
+  FLTQueryPagesStreamHandler *handler = [[FLTQueryPagesStreamHandler alloc]
+                initWithQuery:query
+                       source:[FirestorePigeonParser parseSource:options.source]
+      serverTimestampBehavior:[FirestorePigeonParser
+                                  parseServerTimestampBehavior:options.serverTimestampBehavior]
+                     pageSize:[pageSize integerValue]
+                        limit:parameters.limit
+                  limitToLast:parameters.limitToLast != nil
+                    completed:^{
+                      [self->_queryPagesHandlers removeObjectForKey:pagesId];
+                    }];
+
+  _queryPagesHandlers[pagesId] = handler;
+
+  completion([self registerEventChannelWithPrefix:kFLTFirebaseFirestoreQueryPagesChannelName
+                                       identifier:pagesId
+                                    streamHandler:handler],
+             nil);
+}
+
+- (void)queryGetPagesNextApp:(nonnull FirestorePigeonFirebaseApp *)app
+                     pagesId:(nonnull NSString *)pagesId
+                  completion:(nonnull void (^)(FlutterError *_Nullable))completion {
+  // The stream may have ended already, in which case there is nothing left to read.
+  [_queryPagesHandlers[pagesId] requestNextPage];
+  completion(nil);
+}
+
 - (void)querySnapshotApp:(nonnull FirestorePigeonFirebaseApp *)app
                       path:(nonnull NSString *)path
          isCollectionGroup:(nonnull NSNumber *)isCollectionGroup
@@ -521,6 +627,8 @@ FlutterStandardMethodCodec *_codec;
                    options:(nonnull PigeonGetOptions *)options
     includeMetadataChanges:(nonnull NSNumber *)includeMetadataChanges
                     source:(ListenSource)source
+                 deltaOnly:(nonnull NSNumber *)deltaOnly
+        maxEventsPerSecond:(nonnull NSNumber *)maxEventsPerSecond
                 completion:
                     (nonnull void (^)(NSString *_Nullable, FlutterError *_Nullable))completion {
   FIRFirestore *firestore = [self getFIRFirestoreFromAppNameFromPigeon:app];
@@ -653,6 +761,45 @@ FlutterStandardMethodCodec *_codec;
   });
 }
 
+- (void)transactionGetAllApp:(nonnull FirestorePigeonFirebaseApp *)app
+               transactionId:(nonnull NSString *)transactionId
+                       paths:(nonnull NSArray<NSString *> *)paths
+                  completion:(nonnull void (^)(NSArray<PigeonDocumentSnapshot *> *_Nullable,
+                                               FlutterError *_Nullable))completion {
+  dispatch_async(dispatch_get_global_queue(DISPATCH_QUEUE_PRIORITY_DEFAULT, 0), ^{
+    FIRFirestore *firestore = [self getFIRFirestoreFromAppNameFromPigeon:app];
+    FIRTransaction *transaction = self->_transactions[transactionId];
+
+    if (transaction == nil) {
+      completion(
+          nil,
+          [FlutterError
+              errorWithCode:@"missing-transaction"
+                    message:@"An error occurred while getting the native transaction. "
+                            @"It could be caused by a timeout in a preceding transaction operation."
+                    details:nil]);
+      return;
+    }
+
+    NSMutableArray<PigeonDocumentSnapshot *> *snapshots =
+        [NSMutableArray arrayWithCapacity:paths.count];
+    for (NSString *path in paths) {
+      NSError *error = nil;
+      FIRDocumentSnapshot *snapshot = [transaction getDocument:[firestore documentWithPath:path]
+                                                         error:&error];
+      if (error != nil) {
+        completion(nil, [self convertToFlutterError:error]);
+        return;
+      }
+      [snapshots addObject:[FirestorePigeonParser
+                                toPigeonDocumentSnapshot:snapshot
+                                 serverTimestampBehavior:FIRServerTimestampBehaviorNone]];
+    }
+
+    completion(snapshots, nil);
+  });
+}
+
 - (void)transactionStoreResultTransactionId:(nonnull NSString *)transactionId
                                  resultType:(PigeonTransactionResult)resultType
                                    commands:(nullable NSArray<PigeonTransactionCommand *> *)commands
@@ -717,6 +864,18 @@ FlutterStandardMethodCodec *_codec;
   }];
 }
 
+- (void)bulkWriterCommitApp:(nonnull FirestorePigeonFirebaseApp *)app
+                     writes:(nonnull NSArray<PigeonTransactionCommand *> *)writes
+             maxConcurrency:(nonnull NSNumber *)maxConcurrency
+                maxAttempts:(nonnull NSNumber *)maxAttempts
+                 completion:(nonnull void (^)(NSString *_Nullable,
+                                              FlutterError *_Nullable))completion {
+  // The Dart side commits the writes with writeBatchCommit instead.
+  completion(nil, [FlutterError errorWithCode:@"unimplemented"
+                                      message:@"The bulk writer is not available on this platform."
+                                      details:nil]);
+}
+
 - (void)snapshotsInSyncSetupApp:(nonnull FirestorePigeonFirebaseApp *)app
                      completion:(nonnull void (^)(NSString *_Nullable,
                                                   FlutterError *_Nullable))completion {
@@ -872,4 +1031,47 @@ FlutterStandardMethodCodec *_codec;
                  }];
 }
 
+- (void)aggregateQueryBatchApp:(nonnull FirestorePigeonFirebaseApp *)app
+                      requests:(nonnull NSArray<AggregateQueryRequest *> *)requests
+                        source:(AggregateSource)source
+                    completion:(nonnull void (^)(NSArray *_Nullable,
+                                                 FlutterError *_Nullable))completion {
+  // Completion blocks run on the Firestore queue, except for queries that fail to parse, whose
+  // completion runs right away on the calling thread. Every write to `results` is dispatched to the
+  // serial Firestore queue so they happen one at a time, and dispatch_group_notify only reads it
+  // once every write has left the group.
+  dispatch_queue_t resultsQueue = [FLTFirebaseFirestoreReader getFirestoreQueue];
+  NSMutableArray *results = [NSMutableArray arrayWithCapacity:requests.count];
+  dispatch_group_t group = dispatch_group_create();
+  for (NSUInteger i = 0; i < requests.count; i++) {
+    AggregateQueryRequest *request = requests[i];
+    [results addObject:[NSNull null]];
+    dispatch_group_enter(group);
+    [self aggregateQueryApp:app
+                       path:request.path
+                 parameters:request.parameters
+                     source:source
+                    queries:request.queries
+          isCollectionGroup:request.isCollectionGroup
+                 completion:^(NSArray<AggregateQueryResponse *> *_Nullable responses,
+                              FlutterError *_Nullable error) {
+                   dispatch_async(resultsQueue, ^{
+                     if (error != nil) {
+                       results[i] = @{
+                         @"code" : error.code,
+                         @"message" : error.message ?: [NSNull null],
+                       };
+                     } else {
+                       results[i] = responses;
+                     }
+                     dispatch_group_leave(group);
+                   });
+                 }];
+  }
+
+  dispatch_group_notify(group, dispatch_get_main_queue(), ^{
+    completion(results, nil);
+  });
+}
+
 @end
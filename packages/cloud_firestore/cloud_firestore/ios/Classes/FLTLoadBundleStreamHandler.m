@@ -15,8 +15,15 @@
 #import "Private/FLTFirebaseFirestoreUtils.h"
 #import "Private/FLTLoadBundleStreamHandler.h"
 
+// The default minimum interval between two progress events of a running load, in seconds.
+static const NSTimeInterval kFLTLoadBundleDefaultProgressInterval = 0.1;
+
 @interface FLTLoadBundleStreamHandler ()
 @property(readwrite, strong) FIRLoadBundleTask *task;
+@property(readwrite, assign) NSTimeInterval progressInterval;
+@property(readwrite, assign) double progressStep;
+@property(readwrite, assign) NSTimeInterval lastProgressTime;
+@property(readwrite, assign) int64_t lastProgressBytes;
 @end
 
 @implementation FLTLoadBundleStreamHandler
@@ -31,12 +38,34 @@
   return self;
 }
 
+- (nonnull instancetype)initWithFirestore:(nonnull FIRFirestore *)firestore
+                               bundlePath:(nonnull NSString *)bundlePath {
+  self = [super init];
+  if (self) {
+    _firestore = firestore;
+    _bundlePath = bundlePath;
+  }
+  return self;
+}
+
 - (FlutterError *_Nullable)onListenWithArguments:(id _Nullable)arguments
                                        eventSink:(nonnull FlutterEventSink)events {
+  self.progressInterval = kFLTLoadBundleDefaultProgressInterval;
+  self.progressStep = 0;
+  if ([arguments isKindOfClass:[NSDictionary class]]) {
+    NSNumber *progressIntervalMillis = arguments[@"progressIntervalMillis"];
+    NSNumber *progressStep = arguments[@"progressStep"];
+    if ([progressIntervalMillis isKindOfClass:[NSNumber class]]) {
+      self.progressInterval = [progressIntervalMillis doubleValue] / 1000;
+    }
+    if ([progressStep isKindOfClass:[NSNumber class]]) {
+      self.progressStep = [progressStep doubleValue];
+    }
+  }
+
   // use completion handler to inform user of platform error.
-  self.task = [_firestore
-      loadBundle:_bundle.data
-      completion:^(FIRLoadBundleTaskProgress *_Nullable snapshot, NSError *_Nullable error) {
+  void (^completion)(FIRLoadBundleTaskProgress *_Nullable, NSError *_Nullable) =
+      ^(FIRLoadBundleTaskProgress *_Nullable snapshot, NSError *_Nullable error) {
         if (error != nil) {
           NSArray *codeAndMessage =
               [FLTFirebaseFirestoreUtils ErrorCodeAndMessageFromNSError:error];
@@ -54,10 +83,35 @@
                                               andOptionalNSError:error]);
           });
         }
-      }];
+      };
+  if (_bundlePath != nil) {
+    // The file is streamed into the SDK rather than read into memory first.
+    NSInputStream *bundleStream = [NSInputStream inputStreamWithFileAtPath:_bundlePath];
+    if (bundleStream == nil) {
+      NSString *message = [NSString stringWithFormat:@"Could not read the bundle file at %@",
+                                                     _bundlePath];
+      events([FlutterError errorWithCode:@"load-bundle-error"
+                                 message:message
+                                 details:@{@"code" : @"load-bundle-error", @"message" : message}]);
+      return nil;
+    }
+    self.task = [_firestore loadBundleStream:bundleStream completion:completion];
+  } else {
+    self.task = [_firestore loadBundle:_bundle.data completion:completion];
+  }
   // use addObserver to update user with snapshot progress
   [self.task addObserver:^(FIRLoadBundleTaskProgress *_Nullable progress) {
     dispatch_async(dispatch_get_main_queue(), ^{
+      if (progress.state == FIRLoadBundleTaskStateInProgress) {
+        NSTimeInterval now = [NSDate timeIntervalSinceReferenceDate];
+        if (now - self.lastProgressTime < self.progressInterval ||
+            progress.bytesLoaded - self.lastProgressBytes <
+                self.progressStep * progress.totalBytes) {
+          return;
+        }
+        self.lastProgressTime = now;
+        self.lastProgressBytes = progress.bytesLoaded;
+      }
       if (progress.state != FIRLoadBundleTaskStateError) {
         events(progress);
       }
@@ -0,0 +1,156 @@
+// Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+// for details. All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+#import <Firebase/Firebase.h>
+#import <firebase_core/FLTFirebasePluginRegistry.h>
+
+#import "Private/FLTFirebaseFirestoreUtils.h"
+#import "Private/FLTQueryPagesStreamHandler.h"
+#import "Private/FirestorePigeonParser.h"
+#import "Public/CustomPigeonHeaderFirestore.h"
+
+// All state is only accessed on the main queue.
+@implementation FLTQueryPagesStreamHandler {
+  FIRQuery *_query;
+  FIRFirestoreSource _source;
+  FIRServerTimestampBehavior _serverTimestampBehavior;
+  NSInteger _pageSize;
+  NSNumber *_Nullable _limit;
+  BOOL _limitToLast;
+  void (^_completed)(void);
+
+  FlutterEventSink _events;
+  FIRDocumentSnapshot *_Nullable _lastDocument;
+  NSInteger _readDocuments;
+  BOOL _reading;
+  BOOL _done;
+}
+
+- (instancetype)initWithQuery:(FIRQuery *)query
+                       source:(FIRFirestoreSource)source
+      serverTimestampBehavior:(FIRServerTimestampBehavior)serverTimestampBehavior
+                     pageSize:(NSInteger)pageSize
+                        limit:(nullable NSNumber *)limit
+                  limitToLast:(BOOL)limitToLast
+                    completed:(void (^)(void))completed {
+  self = [super init];
+  if (self) {
+    _query = query;
+    _source = source;
+    _serverTimestampBehavior = serverTimestampBehavior;
+    _pageSize = MAX(1, pageSize);
+    _limit = limit;
+    _limitToLast = limitToLast;
+    _completed = completed;
+  }
+  return self;
+}
+
+- (FlutterError *_Nullable)onListenWithArguments:(id _Nullable)arguments
+                                       eventSink:(nonnull FlutterEventSink)events {
+  _events = events;
+  [self readNextPage];
+  return nil;
+}
+
+- (FlutterError *_Nullable)onCancelWithArguments:(id _Nullable)arguments {
+  [self complete];
+  return nil;
+}
+
+- (void)requestNextPage {
+  if (_events == nil || _reading || _done) {
+    return;
+  }
+  [self readNextPage];
+}
+
+- (void)readNextPage {
+  _reading = YES;
+  FIRQuery *page = _query;
+  NSInteger pageLimit = NSIntegerMax;
+  if (!_limitToLast) {
+    pageLimit = _limit == nil ? _pageSize : MIN(_pageSize, _limit.integerValue - _readDocuments);
+    if (_lastDocument != nil) {
+      page = [page queryStartingAfterDocument:_lastDocument];
+    }
+    page = [page queryLimitedTo:pageLimit];
+  }
+
+  [page getDocumentsWithSource:_source
+                    completion:^(FIRQuerySnapshot *_Nullable snapshot, NSError *_Nullable error) {
+                      dispatch_async(dispatch_get_main_queue(), ^{
+                        [self onPageRead:snapshot error:error pageLimit:pageLimit];
+                      });
+                    }];
+}
+
+- (void)onPageRead:(FIRQuerySnapshot *_Nullable)snapshot
+             error:(NSError *_Nullable)error
+         pageLimit:(NSInteger)pageLimit {
+  _reading = NO;
+  if (_done) {
+    return;
+  }
+
+  if (error != nil) {
+    NSArray *codeAndMessage = [FLTFirebaseFirestoreUtils ErrorCodeAndMessageFromNSError:error];
+    NSString *code = codeAndMessage[0];
+    NSString *message = codeAndMessage[1];
+    NSDictionary *details = @{
+      @"code" : code,
+      @"message" : message,
+    };
+    _events([FLTFirebasePlugin createFlutterErrorFromCode:code
+                                                  message:message
+                                          optionalDetails:details
+                                       andOptionalNSError:error]);
+    _events(FlutterEndOfEventStream);
+    [self complete];
+    return;
+  }
+
+  NSArray<FIRDocumentSnapshot *> *documentSnapshots = snapshot.documents;
+  _readDocuments += documentSnapshots.count;
+  if (documentSnapshots.count > 0) {
+    _lastDocument = documentSnapshots.lastObject;
+
+    // Sent in the same form as the events of query snapshot listeners.
+    NSMutableArray *documents = [[NSMutableArray alloc] initWithCapacity:documentSnapshots.count];
+    NSMutableArray *documentChanges =
+        [[NSMutableArray alloc] initWithCapacity:snapshot.documentChanges.count];
+    for (FIRDocumentSnapshot *documentSnapshot in documentSnapshots) {
+      [documents
+          addObject:[[FirestorePigeonParser toPigeonDocumentSnapshot:documentSnapshot
+                                             serverTimestampBehavior:_serverTimestampBehavior]
+                        toList]];
+    }
+    for (FIRDocumentChange *documentChange in snapshot.documentChanges) {
+      [documentChanges
+          addObject:[[FirestorePigeonParser toPigeonDocumentChange:documentChange
+                                           serverTimestampBehavior:_serverTimestampBehavior]
+                        toList]];
+    }
+    _events(@[
+      documents, documentChanges,
+      [[FirestorePigeonParser toPigeonSnapshotMetadata:snapshot.metadata] toList]
+    ]);
+  }
+
+  if ((NSInteger)documentSnapshots.count < pageLimit ||
+      (_limit != nil && _readDocuments >= _limit.integerValue)) {
+    _events(FlutterEndOfEventStream);
+    [self complete];
+  }
+}
+
+- (void)complete {
+  if (_done) {
+    return;
+  }
+  _done = YES;
+  _completed();
+}
+
+@end
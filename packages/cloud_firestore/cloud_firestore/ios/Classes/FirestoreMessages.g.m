@@ -210,6 +210,12 @@ static id GetNullableObjectAtIndex(NSArray *array, NSInteger key) {
 - (NSArray *)toList;
 @end
 
+@interface AggregateQueryRequest ()
++ (AggregateQueryRequest *)fromList:(NSArray *)list;
++ (nullable AggregateQueryRequest *)nullableFromList:(NSArray *)list;
+- (NSArray *)toList;
+@end
+
 @implementation PigeonFirebaseSettings
 + (instancetype)makeWithPersistenceEnabled:(nullable NSNumber *)persistenceEnabled
                                       host:(nullable NSString *)host
@@ -649,6 +655,44 @@ static id GetNullableObjectAtIndex(NSArray *array, NSInteger key) {
 }
 @end
 
+@implementation AggregateQueryRequest
++ (instancetype)makeWithPath:(NSString *)path
+                  parameters:(PigeonQueryParameters *)parameters
+                     queries:(NSArray<AggregateQuery *> *)queries
+           isCollectionGroup:(NSNumber *)isCollectionGroup {
+  AggregateQueryRequest *pigeonResult = [[AggregateQueryRequest alloc] init];
+  pigeonResult.path = path;
+  pigeonResult.parameters = parameters;
+  pigeonResult.queries = queries;
+  pigeonResult.isCollectionGroup = isCollectionGroup;
+  return pigeonResult;
+}
++ (AggregateQueryRequest *)fromList:(NSArray *)list {
+  AggregateQueryRequest *pigeonResult = [[AggregateQueryRequest alloc] init];
+  pigeonResult.path = GetNullableObjectAtIndex(list, 0);
+  NSAssert(pigeonResult.path != nil, @"");
+  pigeonResult.parameters =
+      [PigeonQueryParameters nullableFromList:(GetNullableObjectAtIndex(list, 1))];
+  NSAssert(pigeonResult.parameters != nil, @"");
+  pigeonResult.queries = GetNullableObjectAtIndex(list, 2);
+  NSAssert(pigeonResult.queries != nil, @"");
+  pigeonResult.isCollectionGroup = GetNullableObjectAtIndex(list, 3);
+  NSAssert(pigeonResult.isCollectionGroup != nil, @"");
+  return pigeonResult;
+}
++ (nullable AggregateQueryRequest *)nullableFromList:(NSArray *)list {
+  return (list) ? [AggregateQueryRequest fromList:list] : nil;
+}
+- (NSArray *)toList {
+  return @[
+    (self.path ?: [NSNull null]),
+    (self.parameters ? [self.parameters toList] : [NSNull null]),
+    (self.queries ?: [NSNull null]),
+    (self.isCollectionGroup ?: [NSNull null]),
+  ];
+}
+@end
+
 @interface FirebaseFirestoreHostApiCodecReader : FLTFirebaseFirestoreReader
 @end
 @implementation FirebaseFirestoreHostApiCodecReader
@@ -657,28 +701,30 @@ static id GetNullableObjectAtIndex(NSArray *array, NSInteger key) {
     case 128:
       return [AggregateQuery fromList:[self readValue]];
     case 129:
-      return [AggregateQueryResponse fromList:[self readValue]];
+      return [AggregateQueryRequest fromList:[self readValue]];
     case 130:
-      return [DocumentReferenceRequest fromList:[self readValue]];
+      return [AggregateQueryResponse fromList:[self readValue]];
     case 131:
-      return [FirestorePigeonFirebaseApp fromList:[self readValue]];
+      return [DocumentReferenceRequest fromList:[self readValue]];
     case 132:
-      return [PigeonDocumentChange fromList:[self readValue]];
+      return [FirestorePigeonFirebaseApp fromList:[self readValue]];
     case 133:
-      return [PigeonDocumentOption fromList:[self readValue]];
+      return [PigeonDocumentChange fromList:[self readValue]];
     case 134:
-      return [PigeonDocumentSnapshot fromList:[self readValue]];
+      return [PigeonDocumentOption fromList:[self readValue]];
     case 135:
-      return [PigeonFirebaseSettings fromList:[self readValue]];
+      return [PigeonDocumentSnapshot fromList:[self readValue]];
     case 136:
-      return [PigeonGetOptions fromList:[self readValue]];
+      return [PigeonFirebaseSettings fromList:[self readValue]];
     case 137:
-      return [PigeonQueryParameters fromList:[self readValue]];
+      return [PigeonGetOptions fromList:[self readValue]];
     case 138:
-      return [PigeonQuerySnapshot fromList:[self readValue]];
+      return [PigeonQueryParameters fromList:[self readValue]];
     case 139:
-      return [PigeonSnapshotMetadata fromList:[self readValue]];
+      return [PigeonQuerySnapshot fromList:[self readValue]];
     case 140:
+      return [PigeonSnapshotMetadata fromList:[self readValue]];
+    case 141:
       return [PigeonTransactionCommand fromList:[self readValue]];
     default:
       return [super readValueOfType:type];
@@ -693,42 +739,45 @@ static id GetNullableObjectAtIndex(NSArray *array, NSInteger key) {
   if ([value isKindOfClass:[AggregateQuery class]]) {
     [self writeByte:128];
     [self writeValue:[value toList]];
-  } else if ([value isKindOfClass:[AggregateQueryResponse class]]) {
+  } else if ([value isKindOfClass:[AggregateQueryRequest class]]) {
     [self writeByte:129];
     [self writeValue:[value toList]];
-  } else if ([value isKindOfClass:[DocumentReferenceRequest class]]) {
+  } else if ([value isKindOfClass:[AggregateQueryResponse class]]) {
     [self writeByte:130];
     [self writeValue:[value toList]];
-  } else if ([value isKindOfClass:[FirestorePigeonFirebaseApp class]]) {
+  } else if ([value isKindOfClass:[DocumentReferenceRequest class]]) {
     [self writeByte:131];
     [self writeValue:[value toList]];
-  } else if ([value isKindOfClass:[PigeonDocumentChange class]]) {
+  } else if ([value isKindOfClass:[FirestorePigeonFirebaseApp class]]) {
     [self writeByte:132];
     [self writeValue:[value toList]];
-  } else if ([value isKindOfClass:[PigeonDocumentOption class]]) {
+  } else if ([value isKindOfClass:[PigeonDocumentChange class]]) {
     [self writeByte:133];
     [self writeValue:[value toList]];
-  } else if ([value isKindOfClass:[PigeonDocumentSnapshot class]]) {
+  } else if ([value isKindOfClass:[PigeonDocumentOption class]]) {
     [self writeByte:134];
     [self writeValue:[value toList]];
-  } else if ([value isKindOfClass:[PigeonFirebaseSettings class]]) {
+  } else if ([value isKindOfClass:[PigeonDocumentSnapshot class]]) {
     [self writeByte:135];
     [self writeValue:[value toList]];
-  } else if ([value isKindOfClass:[PigeonGetOptions class]]) {
+  } else if ([value isKindOfClass:[PigeonFirebaseSettings class]]) {
     [self writeByte:136];
     [self writeValue:[value toList]];
-  } else if ([value isKindOfClass:[PigeonQueryParameters class]]) {
+  } else if ([value isKindOfClass:[PigeonGetOptions class]]) {
     [self writeByte:137];
     [self writeValue:[value toList]];
-  } else if ([value isKindOfClass:[PigeonQuerySnapshot class]]) {
+  } else if ([value isKindOfClass:[PigeonQueryParameters class]]) {
     [self writeByte:138];
     [self writeValue:[value toList]];
-  } else if ([value isKindOfClass:[PigeonSnapshotMetadata class]]) {
+  } else if ([value isKindOfClass:[PigeonQuerySnapshot class]]) {
     [self writeByte:139];
     [self writeValue:[value toList]];
-  } else if ([value isKindOfClass:[PigeonTransactionCommand class]]) {
+  } else if ([value isKindOfClass:[PigeonSnapshotMetadata class]]) {
     [self writeByte:140];
     [self writeValue:[value toList]];
+  } else if ([value isKindOfClass:[PigeonTransactionCommand class]]) {
+    [self writeByte:141];
+    [self writeValue:[value toList]];
   } else {
     [super writeValue:value];
   }
@@ -812,6 +861,31 @@ void FirebaseFirestoreHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger,
       [channel setMessageHandler:nil];
     }
   }
+  {
+    FlutterBasicMessageChannel *channel = [[FlutterBasicMessageChannel alloc]
+           initWithName:@"dev.flutter.pigeon.cloud_firestore_platform_interface."
+                        @"FirebaseFirestoreHostApi.loadBundleFromFile"
+        binaryMessenger:binaryMessenger
+                  codec:FirebaseFirestoreHostApiGetCodec()];
+    if (api) {
+      NSCAssert([api respondsToSelector:@selector(loadBundleFromFileApp:path:completion:)],
+                @"FirebaseFirestoreHostApi api (%@) doesn't respond to "
+                @"@selector(loadBundleFromFileApp:path:completion:)",
+                api);
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        NSArray *args = message;
+        FirestorePigeonFirebaseApp *arg_app = GetNullableObjectAtIndex(args, 0);
+        NSString *arg_path = GetNullableObjectAtIndex(args, 1);
+        [api loadBundleFromFileApp:arg_app
+                              path:arg_path
+                        completion:^(NSString *_Nullable output, FlutterError *_Nullable error) {
+                          callback(wrapResult(output, error));
+                        }];
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
   {
     FlutterBasicMessageChannel *channel = [[FlutterBasicMessageChannel alloc]
            initWithName:@"dev.flutter.pigeon.cloud_firestore_platform_interface."
@@ -1084,6 +1158,35 @@ void FirebaseFirestoreHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger,
       [channel setMessageHandler:nil];
     }
   }
+  {
+    FlutterBasicMessageChannel *channel = [[FlutterBasicMessageChannel alloc]
+           initWithName:@"dev.flutter.pigeon.cloud_firestore_platform_interface."
+                        @"FirebaseFirestoreHostApi.transactionGetAll"
+        binaryMessenger:binaryMessenger
+                  codec:FirebaseFirestoreHostApiGetCodec()];
+    if (api) {
+      NSCAssert([api respondsToSelector:@selector(transactionGetAllApp:
+                                                             transactionId:paths:completion:)],
+                @"FirebaseFirestoreHostApi api (%@) doesn't respond to "
+                @"@selector(transactionGetAllApp:transactionId:paths:completion:)",
+                api);
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        NSArray *args = message;
+        FirestorePigeonFirebaseApp *arg_app = GetNullableObjectAtIndex(args, 0);
+        NSString *arg_transactionId = GetNullableObjectAtIndex(args, 1);
+        NSArray<NSString *> *arg_paths = GetNullableObjectAtIndex(args, 2);
+        [api transactionGetAllApp:arg_app
+                    transactionId:arg_transactionId
+                            paths:arg_paths
+                       completion:^(NSArray<PigeonDocumentSnapshot *> *_Nullable output,
+                                    FlutterError *_Nullable error) {
+                         callback(wrapResult(output, error));
+                       }];
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
   {
     FlutterBasicMessageChannel *channel = [[FlutterBasicMessageChannel alloc]
            initWithName:@"dev.flutter.pigeon.cloud_firestore_platform_interface."
@@ -1160,6 +1263,35 @@ void FirebaseFirestoreHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger,
       [channel setMessageHandler:nil];
     }
   }
+  {
+    FlutterBasicMessageChannel *channel = [[FlutterBasicMessageChannel alloc]
+           initWithName:@"dev.flutter.pigeon.cloud_firestore_platform_interface."
+                        @"FirebaseFirestoreHostApi.documentReferenceGetAll"
+        binaryMessenger:binaryMessenger
+                  codec:FirebaseFirestoreHostApiGetCodec()];
+    if (api) {
+      NSCAssert([api respondsToSelector:@selector(documentReferenceGetAllApp:
+                                                                     paths:options:completion:)],
+                @"FirebaseFirestoreHostApi api (%@) doesn't respond to "
+                @"@selector(documentReferenceGetAllApp:paths:options:completion:)",
+                api);
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        NSArray *args = message;
+        FirestorePigeonFirebaseApp *arg_app = GetNullableObjectAtIndex(args, 0);
+        NSArray<NSString *> *arg_paths = GetNullableObjectAtIndex(args, 1);
+        PigeonGetOptions *arg_options = GetNullableObjectAtIndex(args, 2);
+        [api documentReferenceGetAllApp:arg_app
+                                  paths:arg_paths
+                                options:arg_options
+                             completion:^(NSArray *_Nullable output,
+                                          FlutterError *_Nullable error) {
+                               callback(wrapResult(output, error));
+                             }];
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
   {
     FlutterBasicMessageChannel *channel = [[FlutterBasicMessageChannel alloc]
            initWithName:@"dev.flutter.pigeon.cloud_firestore_platform_interface."
@@ -1218,6 +1350,67 @@ void FirebaseFirestoreHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger,
       [channel setMessageHandler:nil];
     }
   }
+  {
+    FlutterBasicMessageChannel *channel = [[FlutterBasicMessageChannel alloc]
+           initWithName:@"dev.flutter.pigeon.cloud_firestore_platform_interface."
+                        @"FirebaseFirestoreHostApi.queryGetPages"
+        binaryMessenger:binaryMessenger
+                  codec:FirebaseFirestoreHostApiGetCodec()];
+    if (api) {
+      NSCAssert([api respondsToSelector:@selector
+                     (queryGetPagesApp:
+                                  path:isCollectionGroup:parameters:options:pageSize:completion:)],
+                @"FirebaseFirestoreHostApi api (%@) doesn't respond to "
+                @"@selector(queryGetPagesApp:path:isCollectionGroup:parameters:options:pageSize:"
+                @"completion:)",
+                api);
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        NSArray *args = message;
+        FirestorePigeonFirebaseApp *arg_app = GetNullableObjectAtIndex(args, 0);
+        NSString *arg_path = GetNullableObjectAtIndex(args, 1);
+        NSNumber *arg_isCollectionGroup = GetNullableObjectAtIndex(args, 2);
+        PigeonQueryParameters *arg_parameters = GetNullableObjectAtIndex(args, 3);
+        PigeonGetOptions *arg_options = GetNullableObjectAtIndex(args, 4);
+        NSNumber *arg_pageSize = GetNullableObjectAtIndex(args, 5);
+        [api queryGetPagesApp:arg_app
+                         path:arg_path
+            isCollectionGroup:arg_isCollectionGroup
+                   parameters:arg_parameters
+                      options:arg_options
+                     pageSize:arg_pageSize
+                   completion:^(NSString *_Nullable output, FlutterError *_Nullable error) {
+                     callback(wrapResult(output, error));
+                   }];
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
+  {
+    FlutterBasicMessageChannel *channel = [[FlutterBasicMessageChannel alloc]
+           initWithName:@"dev.flutter.pigeon.cloud_firestore_platform_interface."
+                        @"FirebaseFirestoreHostApi.queryGetPagesNext"
+        binaryMessenger:binaryMessenger
+                  codec:FirebaseFirestoreHostApiGetCodec()];
+    if (api) {
+      NSCAssert([api respondsToSelector:@selector(queryGetPagesNextApp:pagesId:completion:)],
+                @"FirebaseFirestoreHostApi api (%@) doesn't respond to "
+                @"@selector(queryGetPagesNextApp:pagesId:completion:)",
+                api);
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        NSArray *args = message;
+        FirestorePigeonFirebaseApp *arg_app = GetNullableObjectAtIndex(args, 0);
+        NSString *arg_pagesId = GetNullableObjectAtIndex(args, 1);
+        [api queryGetPagesNextApp:arg_app
+                          pagesId:arg_pagesId
+                       completion:^(FlutterError *_Nullable error) {
+                         callback(wrapResult(nil, error));
+                       }];
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
   {
     FlutterBasicMessageChannel *channel = [[FlutterBasicMessageChannel alloc]
            initWithName:@"dev.flutter.pigeon.cloud_firestore_platform_interface."
@@ -1255,6 +1448,35 @@ void FirebaseFirestoreHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger,
       [channel setMessageHandler:nil];
     }
   }
+  {
+    FlutterBasicMessageChannel *channel = [[FlutterBasicMessageChannel alloc]
+           initWithName:@"dev.flutter.pigeon.cloud_firestore_platform_interface."
+                        @"FirebaseFirestoreHostApi.aggregateQueryBatch"
+        binaryMessenger:binaryMessenger
+                  codec:FirebaseFirestoreHostApiGetCodec()];
+    if (api) {
+      NSCAssert([api respondsToSelector:@selector(aggregateQueryBatchApp:
+                                                                  requests:source:completion:)],
+                @"FirebaseFirestoreHostApi api (%@) doesn't respond to "
+                @"@selector(aggregateQueryBatchApp:requests:source:completion:)",
+                api);
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        NSArray *args = message;
+        FirestorePigeonFirebaseApp *arg_app = GetNullableObjectAtIndex(args, 0);
+        NSArray<AggregateQueryRequest *> *arg_requests = GetNullableObjectAtIndex(args, 1);
+        AggregateSource arg_source = [GetNullableObjectAtIndex(args, 2) integerValue];
+        [api aggregateQueryBatchApp:arg_app
+                           requests:arg_requests
+                             source:arg_source
+                         completion:^(NSArray *_Nullable output,
+                                      FlutterError *_Nullable error) {
+                           callback(wrapResult(output, error));
+                         }];
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
   {
     FlutterBasicMessageChannel *channel = [[FlutterBasicMessageChannel alloc]
            initWithName:@"dev.flutter.pigeon.cloud_firestore_platform_interface."
@@ -1280,6 +1502,36 @@ void FirebaseFirestoreHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger,
       [channel setMessageHandler:nil];
     }
   }
+  {
+    FlutterBasicMessageChannel *channel = [[FlutterBasicMessageChannel alloc]
+           initWithName:@"dev.flutter.pigeon.cloud_firestore_platform_interface."
+                        @"FirebaseFirestoreHostApi.bulkWriterCommit"
+        binaryMessenger:binaryMessenger
+                  codec:FirebaseFirestoreHostApiGetCodec()];
+    if (api) {
+      NSCAssert([api respondsToSelector:@selector
+                     (bulkWriterCommitApp:writes:maxConcurrency:maxAttempts:completion:)],
+                @"FirebaseFirestoreHostApi api (%@) doesn't respond to "
+                @"@selector(bulkWriterCommitApp:writes:maxConcurrency:maxAttempts:completion:)",
+                api);
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        NSArray *args = message;
+        FirestorePigeonFirebaseApp *arg_app = GetNullableObjectAtIndex(args, 0);
+        NSArray<PigeonTransactionCommand *> *arg_writes = GetNullableObjectAtIndex(args, 1);
+        NSNumber *arg_maxConcurrency = GetNullableObjectAtIndex(args, 2);
+        NSNumber *arg_maxAttempts = GetNullableObjectAtIndex(args, 3);
+        [api bulkWriterCommitApp:arg_app
+                          writes:arg_writes
+                  maxConcurrency:arg_maxConcurrency
+                     maxAttempts:arg_maxAttempts
+                      completion:^(NSString *_Nullable output, FlutterError *_Nullable error) {
+                        callback(wrapResult(output, error));
+                      }];
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
   {
     FlutterBasicMessageChannel *channel = [[FlutterBasicMessageChannel alloc]
            initWithName:@"dev.flutter.pigeon.cloud_firestore_platform_interface."
@@ -1290,10 +1542,10 @@ void FirebaseFirestoreHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger,
       NSCAssert([api respondsToSelector:@selector
                      (querySnapshotApp:
                                   path:isCollectionGroup:parameters:options:includeMetadataChanges
-                                      :source:completion:)],
+                                      :source:deltaOnly:maxEventsPerSecond:completion:)],
                 @"FirebaseFirestoreHostApi api (%@) doesn't respond to "
                 @"@selector(querySnapshotApp:path:isCollectionGroup:parameters:options:"
-                @"includeMetadataChanges:source:completion:)",
+                @"includeMetadataChanges:source:deltaOnly:maxEventsPerSecond:completion:)",
                 api);
       [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
         NSArray *args = message;
@@ -1304,6 +1556,8 @@ void FirebaseFirestoreHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger,
         PigeonGetOptions *arg_options = GetNullableObjectAtIndex(args, 4);
         NSNumber *arg_includeMetadataChanges = GetNullableObjectAtIndex(args, 5);
         ListenSource arg_source = [GetNullableObjectAtIndex(args, 6) integerValue];
+        NSNumber *arg_deltaOnly = GetNullableObjectAtIndex(args, 7);
+        NSNumber *arg_maxEventsPerSecond = GetNullableObjectAtIndex(args, 8);
         [api querySnapshotApp:arg_app
                               path:arg_path
                  isCollectionGroup:arg_isCollectionGroup
@@ -1311,6 +1565,8 @@ void FirebaseFirestoreHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger,
                            options:arg_options
             includeMetadataChanges:arg_includeMetadataChanges
                             source:arg_source
+                         deltaOnly:arg_deltaOnly
+                maxEventsPerSecond:arg_maxEventsPerSecond
                         completion:^(NSString *_Nullable output, FlutterError *_Nullable error) {
                           callback(wrapResult(output, error));
                         }];
@@ -1328,10 +1584,11 @@ void FirebaseFirestoreHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger,
     if (api) {
       NSCAssert([api respondsToSelector:@selector
                      (documentReferenceSnapshotApp:
-                                        parameters:includeMetadataChanges:source:completion:)],
+                                        parameters:includeMetadataChanges:source
+                                                  :maxEventsPerSecond:completion:)],
                 @"FirebaseFirestoreHostApi api (%@) doesn't respond to "
                 @"@selector(documentReferenceSnapshotApp:parameters:includeMetadataChanges:source:"
-                @"completion:)",
+                @"maxEventsPerSecond:completion:)",
                 api);
       [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
         NSArray *args = message;
@@ -1339,10 +1596,12 @@ void FirebaseFirestoreHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger,
         DocumentReferenceRequest *arg_parameters = GetNullableObjectAtIndex(args, 1);
         NSNumber *arg_includeMetadataChanges = GetNullableObjectAtIndex(args, 2);
         ListenSource arg_source = [GetNullableObjectAtIndex(args, 3) integerValue];
+        NSNumber *arg_maxEventsPerSecond = GetNullableObjectAtIndex(args, 4);
         [api documentReferenceSnapshotApp:arg_app
                                parameters:arg_parameters
                    includeMetadataChanges:arg_includeMetadataChanges
                                    source:arg_source
+                       maxEventsPerSecond:arg_maxEventsPerSecond
                                completion:^(NSString *_Nullable output,
                                             FlutterError *_Nullable error) {
                                  callback(wrapResult(output, error));
@@ -24,13 +24,23 @@
 
 NS_ASSUME_NONNULL_BEGIN
 
+/// Loads a bundle, given as bytes or as a file, and streams its progress.
+///
+/// A bundle file is streamed into the SDK, so it never has to be held in memory as a whole.
+///
+/// A progress event of a running load is only sent once both `progressIntervalMillis` have passed
+/// and `progressStep` of the total bytes have been loaded since the previous one; both are read
+/// from the listen arguments. The final success or error event is always sent.
 @interface FLTLoadBundleStreamHandler : NSObject <FlutterStreamHandler>
 @property(nonatomic, strong) FIRFirestore *firestore;
-@property(nonatomic, strong) FlutterStandardTypedData *bundle;
+@property(nonatomic, strong, nullable) FlutterStandardTypedData *bundle;
+@property(nonatomic, copy, nullable) NSString *bundlePath;
 
 - (instancetype)initWithFirestore:(FIRFirestore *)firestore
                            bundle:(FlutterStandardTypedData *)bundle;
 
+- (instancetype)initWithFirestore:(FIRFirestore *)firestore bundlePath:(NSString *)bundlePath;
+
 @end
 
 NS_ASSUME_NONNULL_END
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+ * for details. All rights reserved. Use of this source code is governed by a
+ * BSD-style license that can be found in the LICENSE file.
+ */
+
+#import <TargetConditionals.h>
+
+#if TARGET_OS_OSX
+#import <FlutterMacOS/FlutterMacOS.h>
+#else
+#import <Flutter/Flutter.h>
+#endif
+
+#import <Firebase/Firebase.h>
+
+#import <Foundation/Foundation.h>
+
+NS_ASSUME_NONNULL_BEGIN
+
+/// Streams the result of a query in pages of at most `pageSize` documents.
+///
+/// Each page is read with the query limited to `pageSize` documents and started after the last
+/// document of the previous page. Only the first page is read on listen; each following one is
+/// read once Dart asks for it with `requestNextPage`. The stream ends after the first page shorter
+/// than `pageSize`, or once the limit of the query is reached. A query limited to its last
+/// documents is sent as a single page.
+@interface FLTQueryPagesStreamHandler : NSObject <FlutterStreamHandler>
+
+/// `limit` and `limitToLast` are the ones `query` was built with. `completed` is called once the
+/// stream ends or is cancelled.
+- (instancetype)initWithQuery:(FIRQuery *)query
+                       source:(FIRFirestoreSource)source
+      serverTimestampBehavior:(FIRServerTimestampBehavior)serverTimestampBehavior
+                     pageSize:(NSInteger)pageSize
+                        limit:(nullable NSNumber *)limit
+                  limitToLast:(BOOL)limitToLast
+                    completed:(void (^)(void))completed;
+
+/// Reads the next page, unless one is being read already or the stream ended.
+- (void)requestNextPage;
+
+@end
+
+NS_ASSUME_NONNULL_END
@@ -172,6 +172,7 @@ typedef NS_ENUM(NSUInteger, AggregateType) {
 @class PigeonQueryParameters;
 @class AggregateQuery;
 @class AggregateQueryResponse;
+@class AggregateQueryRequest;
 
 @interface PigeonFirebaseSettings : NSObject
 /// `init` unavailable to enforce nonnull fields, see the `make` class method.
@@ -327,6 +328,19 @@ typedef NS_ENUM(NSUInteger, AggregateType) {
 @property(nonatomic, strong, nullable) NSNumber *value;
 @end
 
+@interface AggregateQueryRequest : NSObject
+/// `init` unavailable to enforce nonnull fields, see the `make` class method.
+- (instancetype)init NS_UNAVAILABLE;
++ (instancetype)makeWithPath:(NSString *)path
+                  parameters:(PigeonQueryParameters *)parameters
+                     queries:(NSArray<AggregateQuery *> *)queries
+           isCollectionGroup:(NSNumber *)isCollectionGroup;
+@property(nonatomic, copy) NSString *path;
+@property(nonatomic, strong) PigeonQueryParameters *parameters;
+@property(nonatomic, strong) NSArray<AggregateQuery *> *queries;
+@property(nonatomic, strong) NSNumber *isCollectionGroup;
+@end
+
 /// The codec used by FirebaseFirestoreHostApi.
 NSObject<FlutterMessageCodec> *FirebaseFirestoreHostApiGetCodec(void);
 
@@ -339,6 +353,9 @@ NSObject<FlutterMessageCodec> *FirebaseFirestoreHostApiGetCodec(void);
                  options:(PigeonGetOptions *)options
               completion:
                   (void (^)(PigeonQuerySnapshot *_Nullable, FlutterError *_Nullable))completion;
+- (void)loadBundleFromFileApp:(FirestorePigeonFirebaseApp *)app
+                         path:(NSString *)path
+                   completion:(void (^)(NSString *_Nullable, FlutterError *_Nullable))completion;
 - (void)clearPersistenceApp:(FirestorePigeonFirebaseApp *)app
                  completion:(void (^)(FlutterError *_Nullable))completion;
 - (void)disableNetworkApp:(FirestorePigeonFirebaseApp *)app
@@ -369,6 +386,11 @@ NSObject<FlutterMessageCodec> *FirebaseFirestoreHostApiGetCodec(void);
                      path:(NSString *)path
                completion:
                    (void (^)(PigeonDocumentSnapshot *_Nullable, FlutterError *_Nullable))completion;
+- (void)transactionGetAllApp:(FirestorePigeonFirebaseApp *)app
+               transactionId:(NSString *)transactionId
+                       paths:(NSArray<NSString *> *)paths
+                  completion:(void (^)(NSArray<PigeonDocumentSnapshot *> *_Nullable,
+                                       FlutterError *_Nullable))completion;
 - (void)documentReferenceSetApp:(FirestorePigeonFirebaseApp *)app
                         request:(DocumentReferenceRequest *)request
                      completion:(void (^)(FlutterError *_Nullable))completion;
@@ -379,6 +401,11 @@ NSObject<FlutterMessageCodec> *FirebaseFirestoreHostApiGetCodec(void);
                         request:(DocumentReferenceRequest *)request
                      completion:(void (^)(PigeonDocumentSnapshot *_Nullable,
                                           FlutterError *_Nullable))completion;
+- (void)documentReferenceGetAllApp:(FirestorePigeonFirebaseApp *)app
+                             paths:(NSArray<NSString *> *)paths
+                           options:(PigeonGetOptions *)options
+                        completion:(void (^)(NSArray *_Nullable,
+                                             FlutterError *_Nullable))completion;
 - (void)documentReferenceDeleteApp:(FirestorePigeonFirebaseApp *)app
                            request:(DocumentReferenceRequest *)request
                         completion:(void (^)(FlutterError *_Nullable))completion;
@@ -388,6 +415,16 @@ NSObject<FlutterMessageCodec> *FirebaseFirestoreHostApiGetCodec(void);
            parameters:(PigeonQueryParameters *)parameters
               options:(PigeonGetOptions *)options
            completion:(void (^)(PigeonQuerySnapshot *_Nullable, FlutterError *_Nullable))completion;
+- (void)queryGetPagesApp:(FirestorePigeonFirebaseApp *)app
+                    path:(NSString *)path
+       isCollectionGroup:(NSNumber *)isCollectionGroup
+              parameters:(PigeonQueryParameters *)parameters
+                 options:(PigeonGetOptions *)options
+                pageSize:(NSNumber *)pageSize
+              completion:(void (^)(NSString *_Nullable, FlutterError *_Nullable))completion;
+- (void)queryGetPagesNextApp:(FirestorePigeonFirebaseApp *)app
+                     pagesId:(NSString *)pagesId
+                  completion:(void (^)(FlutterError *_Nullable))completion;
 - (void)aggregateQueryApp:(FirestorePigeonFirebaseApp *)app
                      path:(NSString *)path
                parameters:(PigeonQueryParameters *)parameters
@@ -396,9 +433,19 @@ NSObject<FlutterMessageCodec> *FirebaseFirestoreHostApiGetCodec(void);
         isCollectionGroup:(NSNumber *)isCollectionGroup
                completion:(void (^)(NSArray<AggregateQueryResponse *> *_Nullable,
                                     FlutterError *_Nullable))completion;
+- (void)aggregateQueryBatchApp:(FirestorePigeonFirebaseApp *)app
+                      requests:(NSArray<AggregateQueryRequest *> *)requests
+                        source:(AggregateSource)source
+                    completion:(void (^)(NSArray *_Nullable,
+                                         FlutterError *_Nullable))completion;
 - (void)writeBatchCommitApp:(FirestorePigeonFirebaseApp *)app
                      writes:(NSArray<PigeonTransactionCommand *> *)writes
                  completion:(void (^)(FlutterError *_Nullable))completion;
+- (void)bulkWriterCommitApp:(FirestorePigeonFirebaseApp *)app
+                     writes:(NSArray<PigeonTransactionCommand *> *)writes
+             maxConcurrency:(NSNumber *)maxConcurrency
+                maxAttempts:(NSNumber *)maxAttempts
+                 completion:(void (^)(NSString *_Nullable, FlutterError *_Nullable))completion;
 - (void)querySnapshotApp:(FirestorePigeonFirebaseApp *)app
                       path:(NSString *)path
          isCollectionGroup:(NSNumber *)isCollectionGroup
@@ -406,11 +453,14 @@ NSObject<FlutterMessageCodec> *FirebaseFirestoreHostApiGetCodec(void);
                    options:(PigeonGetOptions *)options
     includeMetadataChanges:(NSNumber *)includeMetadataChanges
                     source:(ListenSource)source
+                 deltaOnly:(NSNumber *)deltaOnly
+        maxEventsPerSecond:(NSNumber *)maxEventsPerSecond
                 completion:(void (^)(NSString *_Nullable, FlutterError *_Nullable))completion;
 - (void)documentReferenceSnapshotApp:(FirestorePigeonFirebaseApp *)app
                           parameters:(DocumentReferenceRequest *)parameters
               includeMetadataChanges:(NSNumber *)includeMetadataChanges
                               source:(ListenSource)source
+                  maxEventsPerSecond:(NSNumber *)maxEventsPerSecond
                           completion:
                               (void (^)(NSString *_Nullable, FlutterError *_Nullable))completion;
 - (void)persistenceCacheIndexManagerRequestApp:(FirestorePigeonFirebaseApp *)app
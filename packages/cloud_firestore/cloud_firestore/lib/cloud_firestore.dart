@@ -23,10 +23,12 @@ export 'package:cloud_firestore_platform_interface/cloud_firestore_platform_inte
         ListEquality,
         FieldPath,
         Blob,
+        BulkWriterProgress,
         GeoPoint,
         Timestamp,
         Source,
         GetOptions,
+        GetAllException,
         ServerTimestampBehavior,
         SetOptions,
         ListenSource,
@@ -40,6 +42,7 @@ export 'package:cloud_firestore_platform_interface/cloud_firestore_platform_inte
         Order,
         ArrayConfig,
         QueryScope,
+        LoadBundleOptions,
         LoadBundleTaskState,
         average,
         count,
@@ -49,6 +52,7 @@ export 'package:firebase_core_platform_interface/firebase_core_platform_interfac
 
 part 'src/aggregate_query.dart';
 part 'src/aggregate_query_snapshot.dart';
+part 'src/bulk_writer.dart';
 part 'src/collection_reference.dart';
 part 'src/document_change.dart';
 part 'src/document_reference.dart';
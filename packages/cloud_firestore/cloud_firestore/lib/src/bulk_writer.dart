@@ -0,0 +1,93 @@
+// Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+// for details. All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+part of cloud_firestore;
+
+/// A [BulkWriter] performs a large number of writes, such as the ones of a
+/// data import or migration.
+///
+/// Unlike a [WriteBatch], a [BulkWriter] is not atomic and has no limit on
+/// the number of writes: each write succeeds or fails on its own, and the
+/// outcome of every write is reported as [commit()] proceeds.
+///
+/// Writes are committed in batches, several at a time, at a rate that starts
+/// at 500 writes per second and grows by 50% every 5 minutes, as recommended
+/// for new traffic to Firestore. Writes that fail with a transient error are
+/// retried with an exponential backoff.
+///
+/// Once committed, no further operations can be performed on the
+/// [BulkWriter], nor can it be committed again.
+class BulkWriter {
+  BulkWriter._(this._firestore, this._delegate) {
+    BulkWriterPlatform.verify(_delegate);
+  }
+
+  final FirebaseFirestore _firestore;
+  final BulkWriterPlatform _delegate;
+
+  /// Commits all of the writes of this bulk writer, and reports their
+  /// outcome as they complete.
+  ///
+  /// Each [BulkWriterProgress] covers a range of writes, numbered in the
+  /// order they were added. The stream closes once every write succeeded or
+  /// failed; cancelling the subscription stops committing the writes not
+  /// sent yet.
+  ///
+  /// Calling this method prevents any future operations from being added.
+  Stream<BulkWriterProgress> commit() => _delegate.commit();
+
+  /// Deletes the document referred to by [document].
+  void delete(DocumentReference document) {
+    assert(
+      document.firestore == _firestore,
+      'the document provided is from a different Firestore instance',
+    );
+    return _delegate.delete(document.path);
+  }
+
+  /// Writes to the document referred to by [document].
+  ///
+  /// If the document does not yet exist, it will be created.
+  ///
+  /// If [SetOptions] are provided, the data will be merged into an existing
+  /// document instead of overwriting.
+  void set<T>(
+    DocumentReference<T> document,
+    T data, [
+    SetOptions? options,
+  ]) {
+    assert(
+      document.firestore == _firestore,
+      'the document provided is from a different Firestore instance',
+    );
+
+    Map<String, dynamic> firestoreData;
+    if (document is _JsonDocumentReference) {
+      firestoreData = data as Map<String, dynamic>;
+    } else {
+      final withConverterDoc = document as _WithConverterDocumentReference<T>;
+      firestoreData = withConverterDoc._toFirestore(data, options);
+    }
+
+    return _delegate.set(
+      document.path,
+      _CodecUtility.replaceValueWithDelegatesInMap(firestoreData)!,
+      options,
+    );
+  }
+
+  /// Updates a given [document].
+  ///
+  /// If the document does not yet exist, the write fails.
+  void update(DocumentReference document, Map<String, dynamic> data) {
+    assert(
+      document.firestore == _firestore,
+      'the document provided is from a different Firestore instance',
+    );
+    return _delegate.update(
+      document.path,
+      _CodecUtility.replaceValueWithDelegatesInMap(data)!,
+    );
+  }
+}
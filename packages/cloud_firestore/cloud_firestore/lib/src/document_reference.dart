@@ -54,9 +54,14 @@ abstract class DocumentReference<T extends Object?> {
   ///
   /// An initial event is immediately sent, and further events will be
   /// sent whenever the document is modified.
+  ///
+  /// If [maxEventsPerSecond] is set, snapshots that arrive faster than that
+  /// are coalesced, and the stream receives the latest one once the interval
+  /// has passed. Only Android supports it; other platforms ignore it.
   Stream<DocumentSnapshot<T>> snapshots({
     bool includeMetadataChanges = false,
     ListenSource source = ListenSource.defaultSource,
+    int? maxEventsPerSecond,
   });
 
   /// Sets data on the document, overwriting any existing data. If the document
@@ -158,6 +163,7 @@ class _JsonDocumentReference
   Stream<DocumentSnapshot<Map<String, dynamic>>> snapshots({
     bool includeMetadataChanges = false,
     ListenSource source = ListenSource.defaultSource,
+    int? maxEventsPerSecond,
   }) {
     if (source == ListenSource.cache &&
         defaultTargetPlatform == TargetPlatform.windows) {
@@ -167,7 +173,10 @@ class _JsonDocumentReference
     }
 
     return _delegate
-        .snapshots(includeMetadataChanges: includeMetadataChanges)
+        .snapshots(
+          includeMetadataChanges: includeMetadataChanges,
+          maxEventsPerSecond: maxEventsPerSecond,
+        )
         .map(
           (delegateSnapshot) =>
               _JsonDocumentSnapshot(firestore, delegateSnapshot),
@@ -283,11 +292,13 @@ class _WithConverterDocumentReference<T extends Object?>
   Stream<_WithConverterDocumentSnapshot<T>> snapshots({
     bool includeMetadataChanges = false,
     ListenSource source = ListenSource.defaultSource,
+    int? maxEventsPerSecond,
   }) {
     return _originalDocumentReference
         .snapshots(
       includeMetadataChanges: includeMetadataChanges,
       source: source,
+      maxEventsPerSecond: maxEventsPerSecond,
     )
         .map((snapshot) {
       return _WithConverterDocumentSnapshot<T>(
@@ -113,6 +113,24 @@ class FirebaseFirestore extends FirebasePluginPlatform {
     return WriteBatch._(this, _delegate.batch());
   }
 
+  /// Returns a [BulkWriter], used for performing a large number of writes
+  /// that succeed or fail independently.
+  ///
+  /// At most [maxConcurrency] write batches are committed at a time, and a
+  /// batch that fails with a transient error, such as the backend being
+  /// unavailable or overloaded, is committed up to [maxAttempts] times.
+  BulkWriter bulkWriter({int maxConcurrency = 10, int maxAttempts = 10}) {
+    assert(maxConcurrency > 0, 'maxConcurrency must be greater than 0');
+    assert(maxAttempts > 0, 'maxAttempts must be greater than 0');
+    return BulkWriter._(
+      this,
+      _delegate.bulkWriter(
+        maxConcurrency: maxConcurrency,
+        maxAttempts: maxAttempts,
+      ),
+    );
+  }
+
   /// Clears the persistent storage, including pending writes and cached documents.
   ///
   /// Must be called while the FirebaseFirestore instance is not started (after the app is shutdown or when the app is first initialized).
@@ -138,8 +156,27 @@ class FirebaseFirestore extends FirebasePluginPlatform {
     return _delegate.enablePersistence(persistenceSettings);
   }
 
-  LoadBundleTask loadBundle(Uint8List bundle) {
-    return LoadBundleTask._(_delegate.loadBundle(bundle));
+  /// Loads [bundle] into the local cache.
+  ///
+  /// [options] controls how often the returned task reports progress; the
+  /// final success or error event is always reported. It is ignored on web.
+  LoadBundleTask loadBundle(
+    Uint8List bundle, [
+    LoadBundleOptions options = const LoadBundleOptions(),
+  ]) {
+    return LoadBundleTask._(_delegate.loadBundle(bundle, options));
+  }
+
+  /// Loads the bundle stored in the file at [path], like [loadBundle].
+  ///
+  /// The file is streamed natively into the local cache, so large bundles are
+  /// neither read into Dart memory nor copied over the platform channel. Not
+  /// supported on web.
+  LoadBundleTask loadBundleFromFile(
+    String path, [
+    LoadBundleOptions options = const LoadBundleOptions(),
+  ]) {
+    return LoadBundleTask._(_delegate.loadBundleFromFile(path, options));
   }
 
   /// Changes this instance to point to a FirebaseFirestore emulator running locally.
@@ -253,6 +290,88 @@ class FirebaseFirestore extends FirebasePluginPlatform {
     return _JsonDocumentReference(this, _delegate.doc(documentPath));
   }
 
+  /// Reads the documents referred to by [references] at once, and returns
+  /// their snapshots in the same order.
+  ///
+  /// This is faster than calling [DocumentReference.get] for each document.
+  /// The [options] apply to every read. If any document could not be read, a
+  /// [GetAllException] is thrown, which holds the snapshot of every document
+  /// that was read and the error of every one that was not.
+  Future<List<DocumentSnapshot<T>>> getAll<T extends Object?>(
+    List<DocumentReference<T>> references, [
+    GetOptions? options,
+  ]) async {
+    assert(
+      references.every((reference) => reference.firestore == this),
+      'all references passed to getAll() must belong to this instance',
+    );
+
+    DocumentSnapshot<T> toSnapshot(
+      int index,
+      DocumentSnapshotPlatform delegate,
+    ) {
+      final DocumentReference<T> reference = references[index];
+      final snapshot = _JsonDocumentSnapshot(this, delegate);
+      if (reference is _WithConverterDocumentReference<T>) {
+        return _WithConverterDocumentSnapshot<T>(
+          snapshot,
+          reference._fromFirestore,
+          reference._toFirestore,
+        );
+      }
+      return snapshot as DocumentSnapshot<T>;
+    }
+
+    final List<DocumentSnapshotPlatform> snapshots;
+    try {
+      snapshots = await _delegate.getAll(
+        references.map((reference) => reference.path).toList(),
+        options ?? const GetOptions(),
+      );
+    } on GetAllException<DocumentSnapshotPlatform> catch (e) {
+      throw GetAllException<DocumentSnapshot<T>>(
+        snapshots: List.generate(references.length, (index) {
+          final DocumentSnapshotPlatform? snapshot = e.snapshots[index];
+          return snapshot == null ? null : toSnapshot(index, snapshot);
+        }),
+        errors: e.errors,
+        stackTrace: e.stackTrace,
+      );
+    }
+
+    return List.generate(
+      references.length,
+      (index) => toSnapshot(index, snapshots[index]),
+    );
+  }
+
+  /// Runs all of [queries] at once, and returns their snapshots in the same
+  /// order.
+  ///
+  /// This is faster than calling [AggregateQuery.get] for each query. If any
+  /// query fails, its error is thrown.
+  Future<List<AggregateQuerySnapshot>> getAggregates(
+    List<AggregateQuery> queries, {
+    AggregateSource source = AggregateSource.server,
+  }) async {
+    assert(
+      queries.every((query) => query.query.firestore == this),
+      'all queries passed to getAggregates() must belong to this instance',
+    );
+
+    final List<AggregateQuerySnapshotPlatform> snapshots =
+        await _delegate.getAggregates(
+      queries.map((query) => query._delegate).toList(),
+      source: source,
+    );
+
+    return List.generate(
+      queries.length,
+      (index) =>
+          AggregateQuerySnapshot._(snapshots[index], queries[index].query),
+    );
+  }
+
   /// Enables the network for this instance. Any pending local-only writes
   /// will be written to the remote servers.
   Future<void> enableNetwork() {
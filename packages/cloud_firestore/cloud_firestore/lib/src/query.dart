@@ -73,6 +73,15 @@ abstract class Query<T extends Object?> {
   /// with a [GetOptions] instance.
   Future<QuerySnapshot<T>> get([GetOptions? options]);
 
+  /// Fetches the documents of this query in [QuerySnapshot]s of at most
+  /// [pageSize] documents each, in the order of the query.
+  ///
+  /// Each page is only read once the previous one has been handled, so memory
+  /// stays bounded by the page size however large the result is. Only Android
+  /// and iOS read the query in pages; other platforms return all documents in
+  /// a single snapshot.
+  Stream<QuerySnapshot<T>> getPages({int pageSize = 500, GetOptions? options});
+
   /// Creates and returns a new Query that's additionally limited to only return up
   /// to the specified number of documents.
   Query<T> limit(int limit);
@@ -84,9 +93,23 @@ abstract class Query<T extends Object?> {
   Query<T> limitToLast(int limit);
 
   /// Notifies of query results at this location.
+  ///
+  /// If [deltaOnly] is true, the native platform sends the full result of the
+  /// query once, and then only the documents that changed in each snapshot.
+  /// The snapshots delivered to the stream are complete either way, but large
+  /// results with few changes per snapshot are much cheaper to listen to.
+  /// Only Android supports it; other platforms ignore it.
+  ///
+  /// If [maxEventsPerSecond] is set, snapshots that arrive faster than that
+  /// are coalesced: the stream receives the latest snapshot once the interval
+  /// has passed, with the document changes of every snapshot it replaces.
+  /// The latest snapshot is always delivered. Only Android supports it; other
+  /// platforms ignore it.
   Stream<QuerySnapshot<T>> snapshots({
     bool includeMetadataChanges = false,
     ListenSource source = ListenSource.defaultSource,
+    bool deltaOnly = false,
+    int? maxEventsPerSecond,
   });
 
   /// Creates and returns a new [Query] that's additionally sorted by the specified
@@ -427,6 +450,17 @@ class _JsonQuery implements Query<Map<String, dynamic>> {
     return _JsonQuerySnapshot(firestore, snapshotDelegate);
   }
 
+  @override
+  Stream<QuerySnapshot<Map<String, dynamic>>> getPages({
+    int pageSize = 500,
+    GetOptions? options,
+  }) {
+    assert(pageSize > 0, 'pageSize must be a positive number greater than 0');
+    return _delegate
+        .getPages(pageSize: pageSize, options: options ?? const GetOptions())
+        .map((item) => _JsonQuerySnapshot(firestore, item));
+  }
+
   /// Creates and returns a new Query that's additionally limited to only return up
   /// to the specified number of documents.
   @override
@@ -455,6 +489,8 @@ class _JsonQuery implements Query<Map<String, dynamic>> {
   Stream<QuerySnapshot<Map<String, dynamic>>> snapshots({
     bool includeMetadataChanges = false,
     ListenSource source = ListenSource.defaultSource,
+    bool deltaOnly = false,
+    int? maxEventsPerSecond,
   }) {
     if (source == ListenSource.cache &&
         defaultTargetPlatform == TargetPlatform.windows) {
@@ -467,6 +503,8 @@ class _JsonQuery implements Query<Map<String, dynamic>> {
         .snapshots(
           includeMetadataChanges: includeMetadataChanges,
           source: source,
+          deltaOnly: deltaOnly,
+          maxEventsPerSecond: maxEventsPerSecond,
         )
         .map((item) => _JsonQuerySnapshot(firestore, item));
   }
@@ -938,15 +976,33 @@ class _WithConverterQuery<T extends Object?> implements Query<T> {
     );
   }
 
+  @override
+  Stream<QuerySnapshot<T>> getPages({
+    int pageSize = 500,
+    GetOptions? options,
+  }) {
+    return _originalQuery.getPages(pageSize: pageSize, options: options).map(
+          (snapshot) => _WithConverterQuerySnapshot<T>(
+            snapshot,
+            _fromFirestore,
+            _toFirestore,
+          ),
+        );
+  }
+
   @override
   Stream<QuerySnapshot<T>> snapshots({
     bool includeMetadataChanges = false,
     ListenSource source = ListenSource.defaultSource,
+    bool deltaOnly = false,
+    int? maxEventsPerSecond,
   }) {
     return _originalQuery
         .snapshots(
           includeMetadataChanges: includeMetadataChanges,
           source: source,
+          deltaOnly: deltaOnly,
+          maxEventsPerSecond: maxEventsPerSecond,
         )
         .map(
           (snapshot) => _WithConverterQuerySnapshot<T>(
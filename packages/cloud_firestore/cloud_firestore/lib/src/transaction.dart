@@ -27,6 +27,35 @@ class Transaction {
     DocumentSnapshotPlatform documentSnapshotPlatform =
         await _delegate.get(documentReference.path);
 
+    return _toSnapshot(documentReference, documentSnapshotPlatform);
+  }
+
+  /// Reads the documents referenced by the provided [documentReferences] at
+  /// once, and returns their snapshots in the same order.
+  ///
+  /// This takes a single round trip to the platform, so transactions that
+  /// read many documents complete sooner and are less likely to conflict.
+  Future<List<DocumentSnapshot<T>>> getAll<T extends Object?>(
+    List<DocumentReference<T>> documentReferences,
+  ) async {
+    List<DocumentSnapshotPlatform> documentSnapshotPlatforms =
+        await _delegate.getAll(
+      documentReferences.map((reference) => reference.path).toList(),
+    );
+
+    return List.generate(
+      documentReferences.length,
+      (index) => _toSnapshot(
+        documentReferences[index],
+        documentSnapshotPlatforms[index],
+      ),
+    );
+  }
+
+  DocumentSnapshot<T> _toSnapshot<T extends Object?>(
+    DocumentReference<T> documentReference,
+    DocumentSnapshotPlatform documentSnapshotPlatform,
+  ) {
     final snapshot =
         _JsonDocumentSnapshot(_firestore, documentSnapshotPlatform);
 
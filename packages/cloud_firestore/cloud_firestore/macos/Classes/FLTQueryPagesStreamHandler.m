@@ -0,0 +1 @@
+../../ios/Classes/FLTQueryPagesStreamHandler.m
\ No newline at end of file
@@ -0,0 +1 @@
+../../../ios/Classes/Private/FLTQueryPagesStreamHandler.h
\ No newline at end of file
@@ -14,7 +14,9 @@
 #include <flutter/standard_method_codec.h>
 #include <windows.h>
 
+#include <chrono>
 #include <condition_variable>
+#include <fstream>
 #include <future>
 #include <memory>
 #include <mutex>
@@ -534,7 +536,7 @@ class LoadBundleStreamHandler
  public:
   LoadBundleStreamHandler(Firestore* firestore, std::string bundle) {
     firestore_ = firestore;
-    bundle_ = bundle;
+    bundle_ = std::move(bundle);
   }
 
   std::unique_ptr<flutter::StreamHandlerError<flutter::EncodableValue>>
@@ -544,6 +546,7 @@ class LoadBundleStreamHandler
       override {
     events_ = std::move(events);
     events.reset();
+    ReadProgressOptions(arguments);
     firestore_->LoadBundle(
         bundle_, [this](const LoadBundleTaskProgress& progress) {
           flutter::EncodableMap map;
@@ -555,6 +558,19 @@ class LoadBundleStreamHandler
               flutter::EncodableValue(progress.total_bytes());
           map[flutter::EncodableValue("totalDocuments")] =
               flutter::EncodableValue(progress.total_documents());
+          // Progress events of a running load are throttled; the final
+          // success or error event is always sent.
+          if (progress.state() == LoadBundleTaskProgress::State::kInProgress) {
+            auto now = std::chrono::steady_clock::now();
+            int64_t bytes = progress.bytes_loaded();
+            if (now - last_progress_ < progress_interval_ ||
+                bytes - last_progress_bytes_ <
+                    progress_step_ * progress.total_bytes()) {
+              return;
+            }
+            last_progress_ = now;
+            last_progress_bytes_ = bytes;
+          }
           switch (progress.state()) {
             case LoadBundleTaskProgress::State::kError: {
               EncodableMap details;
@@ -598,9 +614,34 @@ class LoadBundleStreamHandler
   }
 
  private:
+  // Reads how progress events are throttled from the listen arguments, see
+  // LoadBundleOptions.
+  void ReadProgressOptions(const flutter::EncodableValue* arguments) {
+    const auto* options =
+        arguments ? std::get_if<EncodableMap>(arguments) : nullptr;
+    if (options == nullptr) {
+      return;
+    }
+    auto interval = options->find(EncodableValue("progressIntervalMillis"));
+    if (interval != options->end() && !interval->second.IsNull()) {
+      progress_interval_ =
+          std::chrono::milliseconds(interval->second.LongValue());
+    }
+    auto step = options->find(EncodableValue("progressStep"));
+    if (step != options->end()) {
+      if (const double* value = std::get_if<double>(&step->second)) {
+        progress_step_ = *value;
+      }
+    }
+  }
+
   Firestore* firestore_;
   std::unique_ptr<flutter::EventSink<flutter::EncodableValue>> events_;
   std::string bundle_;
+  std::chrono::milliseconds progress_interval_{100};
+  double progress_step_ = 0;
+  std::chrono::steady_clock::time_point last_progress_;
+  int64_t last_progress_bytes_ = 0;
 };
 
 void CloudFirestorePlugin::LoadBundle(
@@ -619,6 +660,31 @@ void CloudFirestorePlugin::LoadBundle(
   result(channelName);
 }
 
+void CloudFirestorePlugin::LoadBundleFromFile(
+    const FirestorePigeonFirebaseApp& app, const std::string& path,
+    std::function<void(ErrorOr<std::string> reply)> result) {
+  Firestore* firestore = GetFirestoreFromPigeon(app);
+
+  // The C++ SDK only loads bundles held in memory, but reading the file here
+  // still saves sending the bundle over the channel.
+  std::ifstream file(path, std::ios::binary);
+  if (!file) {
+    result(FlutterError("load-bundle-error",
+                        "Could not read the bundle file at " + path));
+    return;
+  }
+  std::string bundle((std::istreambuf_iterator<char>(file)),
+                     std::istreambuf_iterator<char>());
+
+  auto handler =
+      std::make_unique<LoadBundleStreamHandler>(firestore, std::move(bundle));
+
+  std::string channelName = RegisterEventChannel(
+      "plugins.flutter.io/firebase_firestore/loadBundle/", std::move(handler));
+
+  result(channelName);
+}
+
 using firebase::Future;
 using firebase::firestore::Query;
 using firebase::firestore::QuerySnapshot;
@@ -1033,6 +1099,33 @@ void CloudFirestorePlugin::TransactionGet(
   }
 }
 
+void CloudFirestorePlugin::TransactionGetAll(
+    const FirestorePigeonFirebaseApp& app, const std::string& transaction_id,
+    const flutter::EncodableList& paths,
+    std::function<void(ErrorOr<flutter::EncodableList> reply)> result) {
+  Firestore* firestore = GetFirestoreFromPigeon(app);
+  std::shared_ptr<Transaction> transaction = transactions_[transaction_id];
+
+  flutter::EncodableList snapshots;
+  for (const auto& path : paths) {
+    DocumentReference reference =
+        firestore->Document(std::get<std::string>(path));
+    Error error_code;
+    std::string error_message;
+
+    DocumentSnapshot snapshot =
+        transaction->Get(reference, &error_code, &error_message);
+
+    if (error_code != Error::kErrorOk) {
+      result(FlutterError(error_message));
+      return;
+    }
+    snapshots.push_back(CustomEncodableValue(ParseDocumentSnapshot(
+        snapshot, DocumentSnapshot::ServerTimestampBehavior::kDefault)));
+  }
+  result(std::move(snapshots));
+}
+
 using firebase::firestore::DocumentReference;
 using firebase::firestore::SetOptions;
 
@@ -1134,6 +1227,55 @@ void CloudFirestorePlugin::DocumentReferenceGet(
       });
 }
 
+void CloudFirestorePlugin::DocumentReferenceGetAll(
+    const FirestorePigeonFirebaseApp& app, const flutter::EncodableList& paths,
+    const PigeonGetOptions& options,
+    std::function<void(ErrorOr<flutter::EncodableList> reply)> result) {
+  Firestore* firestore = GetFirestoreFromPigeon(app);
+  firebase::firestore::Source source = GetSourceFromPigeon(options.source());
+  firebase::firestore::DocumentSnapshot::ServerTimestampBehavior
+      server_timestamp_behavior = GetServerTimestampBehaviorFromPigeon(
+          options.server_timestamp_behavior());
+
+  if (paths.empty()) {
+    result(flutter::EncodableList());
+    return;
+  }
+
+  // The reads complete on any thread, so their results are guarded by a mutex.
+  struct GetAllState {
+    std::mutex mutex;
+    flutter::EncodableList results;
+    size_t remaining;
+  };
+  auto state = std::make_shared<GetAllState>();
+  state->results.resize(paths.size());
+  state->remaining = paths.size();
+
+  for (size_t i = 0; i < paths.size(); i++) {
+    DocumentReference document_reference =
+        firestore->Document(std::get<std::string>(paths[i]));
+    Future<DocumentSnapshot> future = document_reference.Get(source);
+
+    future.OnCompletion([state, i, result, server_timestamp_behavior](
+                            const Future<DocumentSnapshot>& completed_future) {
+      std::unique_lock<std::mutex> lock(state->mutex);
+      if (completed_future.error() == firebase::firestore::kErrorOk) {
+        state->results[i] = EncodableValue(CustomEncodableValue(
+            ParseDocumentSnapshot(*completed_future.result(),
+                                  server_timestamp_behavior)));
+      } else {
+        state->results[i] =
+            CloudFirestorePlugin::ParseError(completed_future).details();
+      }
+      if (--state->remaining == 0) {
+        lock.unlock();
+        result(std::move(state->results));
+      }
+    });
+  }
+}
+
 void CloudFirestorePlugin::DocumentReferenceDelete(
     const FirestorePigeonFirebaseApp& app,
     const DocumentReferenceRequest& request,
@@ -1392,6 +1534,22 @@ void CloudFirestorePlugin::QueryGet(
       });
 }
 
+void CloudFirestorePlugin::QueryGetPages(
+    const FirestorePigeonFirebaseApp& app, const std::string& path,
+    bool is_collection_group, const PigeonQueryParameters& parameters,
+    const PigeonGetOptions& options, int64_t page_size,
+    std::function<void(ErrorOr<std::string> reply)> result) {
+  // The Dart side reads the query with QueryGet instead, as a single page.
+  result(FlutterError("unimplemented",
+                      "Reading a query in pages is not available on Windows."));
+}
+
+void CloudFirestorePlugin::QueryGetPagesNext(
+    const FirestorePigeonFirebaseApp& app, const std::string& pages_id,
+    std::function<void(std::optional<FlutterError> reply)> result) {
+  result(std::nullopt);
+}
+
 firebase::firestore::AggregateSource GetAggregateSourceFromPigeon(
     const AggregateSource& source) {
   switch (source) {
@@ -1474,6 +1632,65 @@ void CloudFirestorePlugin::AggregateQuery(
       });
 }
 
+void CloudFirestorePlugin::AggregateQueryBatch(
+    const FirestorePigeonFirebaseApp& app,
+    const flutter::EncodableList& requests, const AggregateSource& source,
+    std::function<void(ErrorOr<flutter::EncodableList> reply)> result) {
+  if (requests.empty()) {
+    result(flutter::EncodableList());
+    return;
+  }
+
+  // The queries complete on any thread, so their results are guarded by a
+  // mutex.
+  struct BatchState {
+    std::mutex mutex;
+    flutter::EncodableList results;
+    size_t remaining;
+  };
+  auto state = std::make_shared<BatchState>();
+  state->results.resize(requests.size());
+  state->remaining = requests.size();
+
+  for (size_t i = 0; i < requests.size(); i++) {
+    const AggregateQueryRequest& request =
+        std::any_cast<const AggregateQueryRequest&>(
+            std::get<CustomEncodableValue>(requests[i]));
+
+    AggregateQuery(
+        app, request.path(), request.parameters(), source, request.queries(),
+        request.is_collection_group(),
+        [state, i, result](ErrorOr<flutter::EncodableList> output) {
+          std::unique_lock<std::mutex> lock(state->mutex);
+          if (output.has_error()) {
+            const FlutterError& error = output.error();
+            EncodableMap details;
+            details[EncodableValue("code")] = EncodableValue(error.code());
+            details[EncodableValue("message")] =
+                EncodableValue(error.message());
+            state->results[i] =
+                error.details().IsNull() ? EncodableValue(details)
+                                         : error.details();
+          } else {
+            state->results[i] = EncodableValue(output.value());
+          }
+          if (--state->remaining == 0) {
+            lock.unlock();
+            result(std::move(state->results));
+          }
+        });
+  }
+}
+
+void CloudFirestorePlugin::BulkWriterCommit(
+    const FirestorePigeonFirebaseApp& app, const flutter::EncodableList& writes,
+    int64_t max_concurrency, int64_t max_attempts,
+    std::function<void(ErrorOr<std::string> reply)> result) {
+  // The Dart side commits the writes with WriteBatchCommit instead.
+  result(FlutterError("unimplemented",
+                      "The bulk writer is not available on Windows."));
+}
+
 void CloudFirestorePlugin::WriteBatchCommit(
     const FirestorePigeonFirebaseApp& app, const flutter::EncodableList& writes,
     std::function<void(std::optional<FlutterError> reply)> result) {
@@ -1624,7 +1841,8 @@ void CloudFirestorePlugin::QuerySnapshot(
     const FirestorePigeonFirebaseApp& app, const std::string& path,
     bool is_collection_group, const PigeonQueryParameters& parameters,
     const PigeonGetOptions& options, bool include_metadata_changes,
-    const ListenSource& source,
+    const ListenSource& source, bool delta_only,
+    int64_t max_events_per_second,
     std::function<void(ErrorOr<std::string> reply)> result) {
   if (source == ListenSource::cache) {
     result(FlutterError("Listening from cache isn't supported on Windows"));
@@ -1713,7 +1931,7 @@ class DocumentSnapshotStreamHandler
 void CloudFirestorePlugin::DocumentReferenceSnapshot(
     const FirestorePigeonFirebaseApp& app,
     const DocumentReferenceRequest& parameters, bool include_metadata_changes,
-    const ListenSource& source,
+    const ListenSource& source, int64_t max_events_per_second,
     std::function<void(ErrorOr<std::string> reply)> result) {
   if (source == ListenSource::cache) {
     result(FlutterError("Listening from cache isn't supported on Windows"));
@@ -50,6 +50,9 @@ class CloudFirestorePlugin : public flutter::Plugin,
       const FirestorePigeonFirebaseApp& app, const std::string& name,
       const PigeonGetOptions& options,
       std::function<void(ErrorOr<PigeonQuerySnapshot> reply)> result) override;
+  virtual void LoadBundleFromFile(
+      const FirestorePigeonFirebaseApp& app, const std::string& path,
+      std::function<void(ErrorOr<std::string> reply)> result) override;
   virtual void ClearPersistence(
       const FirestorePigeonFirebaseApp& app,
       std::function<void(std::optional<FlutterError> reply)> result) override;
@@ -89,6 +92,11 @@ class CloudFirestorePlugin : public flutter::Plugin,
       const std::string& path,
       std::function<void(ErrorOr<PigeonDocumentSnapshot> reply)> result)
       override;
+  virtual void TransactionGetAll(
+      const FirestorePigeonFirebaseApp& app, const std::string& transaction_id,
+      const flutter::EncodableList& paths,
+      std::function<void(ErrorOr<flutter::EncodableList> reply)> result)
+      override;
   virtual void DocumentReferenceSet(
       const FirestorePigeonFirebaseApp& app,
       const DocumentReferenceRequest& request,
@@ -106,31 +114,56 @@ class CloudFirestorePlugin : public flutter::Plugin,
       const FirestorePigeonFirebaseApp& app,
       const DocumentReferenceRequest& request,
       std::function<void(std::optional<FlutterError> reply)> result) override;
+  virtual void DocumentReferenceGetAll(
+      const FirestorePigeonFirebaseApp& app,
+      const flutter::EncodableList& paths,
+      const PigeonGetOptions& options,
+      std::function<void(ErrorOr<flutter::EncodableList> reply)> result)
+      override;
   virtual void QueryGet(
       const FirestorePigeonFirebaseApp& app, const std::string& path,
       bool is_collection_group, const PigeonQueryParameters& parameters,
       const PigeonGetOptions& options,
       std::function<void(ErrorOr<PigeonQuerySnapshot> reply)> result) override;
+  virtual void QueryGetPages(
+      const FirestorePigeonFirebaseApp& app, const std::string& path,
+      bool is_collection_group, const PigeonQueryParameters& parameters,
+      const PigeonGetOptions& options, int64_t page_size,
+      std::function<void(ErrorOr<std::string> reply)> result) override;
+  virtual void QueryGetPagesNext(
+      const FirestorePigeonFirebaseApp& app, const std::string& pages_id,
+      std::function<void(std::optional<FlutterError> reply)> result) override;
   virtual void AggregateQuery(
       const FirestorePigeonFirebaseApp& app, const std::string& path,
       const PigeonQueryParameters& parameters, const AggregateSource& source,
       const flutter::EncodableList& queries, bool is_collection_group,
       std::function<void(ErrorOr<flutter::EncodableList> reply)> result)
       override;
+  virtual void AggregateQueryBatch(
+      const FirestorePigeonFirebaseApp& app,
+      const flutter::EncodableList& requests, const AggregateSource& source,
+      std::function<void(ErrorOr<flutter::EncodableList> reply)> result)
+      override;
   virtual void WriteBatchCommit(
       const FirestorePigeonFirebaseApp& app,
       const flutter::EncodableList& writes,
       std::function<void(std::optional<FlutterError> reply)> result) override;
+  virtual void BulkWriterCommit(
+      const FirestorePigeonFirebaseApp& app,
+      const flutter::EncodableList& writes, int64_t max_concurrency,
+      int64_t max_attempts,
+      std::function<void(ErrorOr<std::string> reply)> result) override;
   virtual void QuerySnapshot(
       const FirestorePigeonFirebaseApp& app, const std::string& path,
       bool is_collection_group, const PigeonQueryParameters& parameters,
       const PigeonGetOptions& options, bool include_metadata_changes,
-      const ListenSource& source,
+      const ListenSource& source, bool delta_only,
+      int64_t max_events_per_second,
       std::function<void(ErrorOr<std::string> reply)> result) override;
   virtual void DocumentReferenceSnapshot(
       const FirestorePigeonFirebaseApp& app,
       const DocumentReferenceRequest& parameters, bool include_metadata_changes,
-      const ListenSource& source,
+      const ListenSource& source, int64_t max_events_per_second,
       std::function<void(ErrorOr<std::string> reply)> result) override;
 
   static flutter::BinaryMessenger* messenger_;
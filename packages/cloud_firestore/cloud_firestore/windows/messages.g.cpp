@@ -1000,6 +1000,67 @@ AggregateQueryResponse AggregateQueryResponse::FromEncodableList(
   return decoded;
 }
 
+// AggregateQueryRequest
+
+AggregateQueryRequest::AggregateQueryRequest(
+    const std::string& path, const PigeonQueryParameters& parameters,
+    const EncodableList& queries, bool is_collection_group)
+    : path_(path),
+      parameters_(parameters),
+      queries_(queries),
+      is_collection_group_(is_collection_group) {}
+
+const std::string& AggregateQueryRequest::path() const { return path_; }
+
+void AggregateQueryRequest::set_path(std::string_view value_arg) {
+  path_ = value_arg;
+}
+
+const PigeonQueryParameters& AggregateQueryRequest::parameters() const {
+  return parameters_;
+}
+
+void AggregateQueryRequest::set_parameters(
+    const PigeonQueryParameters& value_arg) {
+  parameters_ = value_arg;
+}
+
+const EncodableList& AggregateQueryRequest::queries() const {
+  return queries_;
+}
+
+void AggregateQueryRequest::set_queries(const EncodableList& value_arg) {
+  queries_ = value_arg;
+}
+
+bool AggregateQueryRequest::is_collection_group() const {
+  return is_collection_group_;
+}
+
+void AggregateQueryRequest::set_is_collection_group(bool value_arg) {
+  is_collection_group_ = value_arg;
+}
+
+EncodableList AggregateQueryRequest::ToEncodableList() const {
+  EncodableList list;
+  list.reserve(4);
+  list.push_back(EncodableValue(path_));
+  list.push_back(EncodableValue(parameters_.ToEncodableList()));
+  list.push_back(EncodableValue(queries_));
+  list.push_back(EncodableValue(is_collection_group_));
+  return list;
+}
+
+AggregateQueryRequest AggregateQueryRequest::FromEncodableList(
+    const EncodableList& list) {
+  AggregateQueryRequest decoded(std::get<std::string>(list[0]),
+                                PigeonQueryParameters::FromEncodableList(
+                                    std::get<EncodableList>(list[1])),
+                                std::get<EncodableList>(list[2]),
+                                std::get<bool>(list[3]));
+  return decoded;
+}
+
 FirebaseFirestoreHostApiCodecSerializer::
     FirebaseFirestoreHostApiCodecSerializer() {}
 
@@ -1010,39 +1071,42 @@ EncodableValue FirebaseFirestoreHostApiCodecSerializer::ReadValueOfType(
       return CustomEncodableValue(AggregateQuery::FromEncodableList(
           std::get<EncodableList>(ReadValue(stream))));
     case 129:
-      return CustomEncodableValue(AggregateQueryResponse::FromEncodableList(
+      return CustomEncodableValue(AggregateQueryRequest::FromEncodableList(
           std::get<EncodableList>(ReadValue(stream))));
     case 130:
-      return CustomEncodableValue(DocumentReferenceRequest::FromEncodableList(
+      return CustomEncodableValue(AggregateQueryResponse::FromEncodableList(
           std::get<EncodableList>(ReadValue(stream))));
     case 131:
-      return CustomEncodableValue(FirestorePigeonFirebaseApp::FromEncodableList(
+      return CustomEncodableValue(DocumentReferenceRequest::FromEncodableList(
           std::get<EncodableList>(ReadValue(stream))));
     case 132:
-      return CustomEncodableValue(PigeonDocumentChange::FromEncodableList(
+      return CustomEncodableValue(FirestorePigeonFirebaseApp::FromEncodableList(
           std::get<EncodableList>(ReadValue(stream))));
     case 133:
-      return CustomEncodableValue(PigeonDocumentOption::FromEncodableList(
+      return CustomEncodableValue(PigeonDocumentChange::FromEncodableList(
           std::get<EncodableList>(ReadValue(stream))));
     case 134:
-      return CustomEncodableValue(PigeonDocumentSnapshot::FromEncodableList(
+      return CustomEncodableValue(PigeonDocumentOption::FromEncodableList(
           std::get<EncodableList>(ReadValue(stream))));
     case 135:
-      return CustomEncodableValue(PigeonFirebaseSettings::FromEncodableList(
+      return CustomEncodableValue(PigeonDocumentSnapshot::FromEncodableList(
           std::get<EncodableList>(ReadValue(stream))));
     case 136:
-      return CustomEncodableValue(PigeonGetOptions::FromEncodableList(
+      return CustomEncodableValue(PigeonFirebaseSettings::FromEncodableList(
           std::get<EncodableList>(ReadValue(stream))));
     case 137:
-      return CustomEncodableValue(PigeonQueryParameters::FromEncodableList(
+      return CustomEncodableValue(PigeonGetOptions::FromEncodableList(
           std::get<EncodableList>(ReadValue(stream))));
     case 138:
-      return CustomEncodableValue(PigeonQuerySnapshot::FromEncodableList(
+      return CustomEncodableValue(PigeonQueryParameters::FromEncodableList(
           std::get<EncodableList>(ReadValue(stream))));
     case 139:
-      return CustomEncodableValue(PigeonSnapshotMetadata::FromEncodableList(
+      return CustomEncodableValue(PigeonQuerySnapshot::FromEncodableList(
           std::get<EncodableList>(ReadValue(stream))));
     case 140:
+      return CustomEncodableValue(PigeonSnapshotMetadata::FromEncodableList(
+          std::get<EncodableList>(ReadValue(stream))));
+    case 141:
       return CustomEncodableValue(PigeonTransactionCommand::FromEncodableList(
           std::get<EncodableList>(ReadValue(stream))));
     default:
@@ -1063,8 +1127,16 @@ void FirebaseFirestoreHostApiCodecSerializer::WriteValue(
           stream);
       return;
     }
-    if (custom_value->type() == typeid(AggregateQueryResponse)) {
+    if (custom_value->type() == typeid(AggregateQueryRequest)) {
       stream->WriteByte(129);
+      WriteValue(
+          EncodableValue(std::any_cast<AggregateQueryRequest>(*custom_value)
+                             .ToEncodableList()),
+          stream);
+      return;
+    }
+    if (custom_value->type() == typeid(AggregateQueryResponse)) {
+      stream->WriteByte(130);
       WriteValue(
           EncodableValue(std::any_cast<AggregateQueryResponse>(*custom_value)
                              .ToEncodableList()),
@@ -1072,7 +1144,7 @@ void FirebaseFirestoreHostApiCodecSerializer::WriteValue(
       return;
     }
     if (custom_value->type() == typeid(DocumentReferenceRequest)) {
-      stream->WriteByte(130);
+      stream->WriteByte(131);
       WriteValue(
           EncodableValue(std::any_cast<DocumentReferenceRequest>(*custom_value)
                              .ToEncodableList()),
@@ -1080,7 +1152,7 @@ void FirebaseFirestoreHostApiCodecSerializer::WriteValue(
       return;
     }
     if (custom_value->type() == typeid(FirestorePigeonFirebaseApp)) {
-      stream->WriteByte(131);
+      stream->WriteByte(132);
       WriteValue(EncodableValue(
                      std::any_cast<FirestorePigeonFirebaseApp>(*custom_value)
                          .ToEncodableList()),
@@ -1088,7 +1160,7 @@ void FirebaseFirestoreHostApiCodecSerializer::WriteValue(
       return;
     }
     if (custom_value->type() == typeid(PigeonDocumentChange)) {
-      stream->WriteByte(132);
+      stream->WriteByte(133);
       WriteValue(
           EncodableValue(std::any_cast<PigeonDocumentChange>(*custom_value)
                              .ToEncodableList()),
@@ -1096,7 +1168,7 @@ void FirebaseFirestoreHostApiCodecSerializer::WriteValue(
       return;
     }
     if (custom_value->type() == typeid(PigeonDocumentOption)) {
-      stream->WriteByte(133);
+      stream->WriteByte(134);
       WriteValue(
           EncodableValue(std::any_cast<PigeonDocumentOption>(*custom_value)
                              .ToEncodableList()),
@@ -1104,7 +1176,7 @@ void FirebaseFirestoreHostApiCodecSerializer::WriteValue(
       return;
     }
     if (custom_value->type() == typeid(PigeonDocumentSnapshot)) {
-      stream->WriteByte(134);
+      stream->WriteByte(135);
       WriteValue(
           EncodableValue(std::any_cast<PigeonDocumentSnapshot>(*custom_value)
                              .ToEncodableList()),
@@ -1112,7 +1184,7 @@ void FirebaseFirestoreHostApiCodecSerializer::WriteValue(
       return;
     }
     if (custom_value->type() == typeid(PigeonFirebaseSettings)) {
-      stream->WriteByte(135);
+      stream->WriteByte(136);
       WriteValue(
           EncodableValue(std::any_cast<PigeonFirebaseSettings>(*custom_value)
                              .ToEncodableList()),
@@ -1120,7 +1192,7 @@ void FirebaseFirestoreHostApiCodecSerializer::WriteValue(
       return;
     }
     if (custom_value->type() == typeid(PigeonGetOptions)) {
-      stream->WriteByte(136);
+      stream->WriteByte(137);
       WriteValue(
           EncodableValue(
               std::any_cast<PigeonGetOptions>(*custom_value).ToEncodableList()),
@@ -1128,7 +1200,7 @@ void FirebaseFirestoreHostApiCodecSerializer::WriteValue(
       return;
     }
     if (custom_value->type() == typeid(PigeonQueryParameters)) {
-      stream->WriteByte(137);
+      stream->WriteByte(138);
       WriteValue(
           EncodableValue(std::any_cast<PigeonQueryParameters>(*custom_value)
                              .ToEncodableList()),
@@ -1136,7 +1208,7 @@ void FirebaseFirestoreHostApiCodecSerializer::WriteValue(
       return;
     }
     if (custom_value->type() == typeid(PigeonQuerySnapshot)) {
-      stream->WriteByte(138);
+      stream->WriteByte(139);
       WriteValue(
           EncodableValue(std::any_cast<PigeonQuerySnapshot>(*custom_value)
                              .ToEncodableList()),
@@ -1144,7 +1216,7 @@ void FirebaseFirestoreHostApiCodecSerializer::WriteValue(
       return;
     }
     if (custom_value->type() == typeid(PigeonSnapshotMetadata)) {
-      stream->WriteByte(139);
+      stream->WriteByte(140);
       WriteValue(
           EncodableValue(std::any_cast<PigeonSnapshotMetadata>(*custom_value)
                              .ToEncodableList()),
@@ -1152,7 +1224,7 @@ void FirebaseFirestoreHostApiCodecSerializer::WriteValue(
       return;
     }
     if (custom_value->type() == typeid(PigeonTransactionCommand)) {
-      stream->WriteByte(140);
+      stream->WriteByte(141);
       WriteValue(
           EncodableValue(std::any_cast<PigeonTransactionCommand>(*custom_value)
                              .ToEncodableList()),
@@ -1272,6 +1344,52 @@ void FirebaseFirestoreHostApi::SetUp(flutter::BinaryMessenger* binary_messenger,
       channel->SetMessageHandler(nullptr);
     }
   }
+  {
+    auto channel = std::make_unique<BasicMessageChannel<>>(
+        binary_messenger,
+        "dev.flutter.pigeon.cloud_firestore_platform_interface."
+        "FirebaseFirestoreHostApi.loadBundleFromFile",
+        &GetCodec());
+    if (api != nullptr) {
+      channel->SetMessageHandler(
+          [api](const EncodableValue& message,
+                const flutter::MessageReply<EncodableValue>& reply) {
+            try {
+              const auto& args = std::get<EncodableList>(message);
+              const auto& encodable_app_arg = args.at(0);
+              if (encodable_app_arg.IsNull()) {
+                reply(WrapError("app_arg unexpectedly null."));
+                return;
+              }
+              const auto& app_arg =
+                  std::any_cast<const FirestorePigeonFirebaseApp&>(
+                      std::get<CustomEncodableValue>(encodable_app_arg));
+              const auto& encodable_path_arg = args.at(1);
+              if (encodable_path_arg.IsNull()) {
+                reply(WrapError("path_arg unexpectedly null."));
+                return;
+              }
+              const auto& path_arg = std::get<std::string>(encodable_path_arg);
+              api->LoadBundleFromFile(
+                  app_arg, path_arg,
+                  [reply](ErrorOr<std::string>&& output) {
+                    if (output.has_error()) {
+                      reply(WrapError(output.error()));
+                      return;
+                    }
+                    EncodableList wrapped;
+                    wrapped.push_back(
+                        EncodableValue(std::move(output).TakeValue()));
+                    reply(EncodableValue(std::move(wrapped)));
+                  });
+            } catch (const std::exception& exception) {
+              reply(WrapError(exception.what()));
+            }
+          });
+    } else {
+      channel->SetMessageHandler(nullptr);
+    }
+  }
   {
     auto channel = std::make_unique<BasicMessageChannel<>>(
         binary_messenger,
@@ -1740,6 +1858,60 @@ void FirebaseFirestoreHostApi::SetUp(flutter::BinaryMessenger* binary_messenger,
       channel->SetMessageHandler(nullptr);
     }
   }
+  {
+    auto channel = std::make_unique<BasicMessageChannel<>>(
+        binary_messenger,
+        "dev.flutter.pigeon.cloud_firestore_platform_interface."
+        "FirebaseFirestoreHostApi.transactionGetAll",
+        &GetCodec());
+    if (api != nullptr) {
+      channel->SetMessageHandler(
+          [api](const EncodableValue& message,
+                const flutter::MessageReply<EncodableValue>& reply) {
+            try {
+              const auto& args = std::get<EncodableList>(message);
+              const auto& encodable_app_arg = args.at(0);
+              if (encodable_app_arg.IsNull()) {
+                reply(WrapError("app_arg unexpectedly null."));
+                return;
+              }
+              const auto& app_arg =
+                  std::any_cast<const FirestorePigeonFirebaseApp&>(
+                      std::get<CustomEncodableValue>(encodable_app_arg));
+              const auto& encodable_transaction_id_arg = args.at(1);
+              if (encodable_transaction_id_arg.IsNull()) {
+                reply(WrapError("transaction_id_arg unexpectedly null."));
+                return;
+              }
+              const auto& transaction_id_arg =
+                  std::get<std::string>(encodable_transaction_id_arg);
+              const auto& encodable_paths_arg = args.at(2);
+              if (encodable_paths_arg.IsNull()) {
+                reply(WrapError("paths_arg unexpectedly null."));
+                return;
+              }
+              const auto& paths_arg =
+                  std::get<EncodableList>(encodable_paths_arg);
+              api->TransactionGetAll(
+                  app_arg, transaction_id_arg, paths_arg,
+                  [reply](ErrorOr<EncodableList>&& output) {
+                    if (output.has_error()) {
+                      reply(WrapError(output.error()));
+                      return;
+                    }
+                    EncodableList wrapped;
+                    wrapped.push_back(
+                        EncodableValue(std::move(output).TakeValue()));
+                    reply(EncodableValue(std::move(wrapped)));
+                  });
+            } catch (const std::exception& exception) {
+              reply(WrapError(exception.what()));
+            }
+          });
+    } else {
+      channel->SetMessageHandler(nullptr);
+    }
+  }
   {
     auto channel = std::make_unique<BasicMessageChannel<>>(
         binary_messenger,
@@ -1882,6 +2054,61 @@ void FirebaseFirestoreHostApi::SetUp(flutter::BinaryMessenger* binary_messenger,
       channel->SetMessageHandler(nullptr);
     }
   }
+  {
+    auto channel = std::make_unique<BasicMessageChannel<>>(
+        binary_messenger,
+        "dev.flutter.pigeon.cloud_firestore_platform_interface."
+        "FirebaseFirestoreHostApi.documentReferenceGetAll",
+        &GetCodec());
+    if (api != nullptr) {
+      channel->SetMessageHandler(
+          [api](const EncodableValue& message,
+                const flutter::MessageReply<EncodableValue>& reply) {
+            try {
+              const auto& args = std::get<EncodableList>(message);
+              const auto& encodable_app_arg = args.at(0);
+              if (encodable_app_arg.IsNull()) {
+                reply(WrapError("app_arg unexpectedly null."));
+                return;
+              }
+              const auto& app_arg =
+                  std::any_cast<const FirestorePigeonFirebaseApp&>(
+                      std::get<CustomEncodableValue>(encodable_app_arg));
+              const auto& encodable_paths_arg = args.at(1);
+              if (encodable_paths_arg.IsNull()) {
+                reply(WrapError("paths_arg unexpectedly null."));
+                return;
+              }
+              const auto& paths_arg =
+                  std::get<EncodableList>(encodable_paths_arg);
+              const auto& encodable_options_arg = args.at(2);
+              if (encodable_options_arg.IsNull()) {
+                reply(WrapError("options_arg unexpectedly null."));
+                return;
+              }
+              const auto& options_arg =
+                  std::any_cast<const PigeonGetOptions&>(
+                      std::get<CustomEncodableValue>(encodable_options_arg));
+              api->DocumentReferenceGetAll(
+                  app_arg, paths_arg, options_arg,
+                  [reply](ErrorOr<EncodableList>&& output) {
+                    if (output.has_error()) {
+                      reply(WrapError(output.error()));
+                      return;
+                    }
+                    EncodableList wrapped;
+                    wrapped.push_back(
+                        EncodableValue(std::move(output).TakeValue()));
+                    reply(EncodableValue(std::move(wrapped)));
+                  });
+            } catch (const std::exception& exception) {
+              reply(WrapError(exception.what()));
+            }
+          });
+    } else {
+      channel->SetMessageHandler(nullptr);
+    }
+  }
   {
     auto channel = std::make_unique<BasicMessageChannel<>>(
         binary_messenger,
@@ -1997,6 +2224,128 @@ void FirebaseFirestoreHostApi::SetUp(flutter::BinaryMessenger* binary_messenger,
       channel->SetMessageHandler(nullptr);
     }
   }
+  {
+    auto channel = std::make_unique<BasicMessageChannel<>>(
+        binary_messenger,
+        "dev.flutter.pigeon.cloud_firestore_platform_interface."
+        "FirebaseFirestoreHostApi.queryGetPages",
+        &GetCodec());
+    if (api != nullptr) {
+      channel->SetMessageHandler(
+          [api](const EncodableValue& message,
+                const flutter::MessageReply<EncodableValue>& reply) {
+            try {
+              const auto& args = std::get<EncodableList>(message);
+              const auto& encodable_app_arg = args.at(0);
+              if (encodable_app_arg.IsNull()) {
+                reply(WrapError("app_arg unexpectedly null."));
+                return;
+              }
+              const auto& app_arg =
+                  std::any_cast<const FirestorePigeonFirebaseApp&>(
+                      std::get<CustomEncodableValue>(encodable_app_arg));
+              const auto& encodable_path_arg = args.at(1);
+              if (encodable_path_arg.IsNull()) {
+                reply(WrapError("path_arg unexpectedly null."));
+                return;
+              }
+              const auto& path_arg = std::get<std::string>(encodable_path_arg);
+              const auto& encodable_is_collection_group_arg = args.at(2);
+              if (encodable_is_collection_group_arg.IsNull()) {
+                reply(WrapError("is_collection_group_arg unexpectedly null."));
+                return;
+              }
+              const auto& is_collection_group_arg =
+                  std::get<bool>(encodable_is_collection_group_arg);
+              const auto& encodable_parameters_arg = args.at(3);
+              if (encodable_parameters_arg.IsNull()) {
+                reply(WrapError("parameters_arg unexpectedly null."));
+                return;
+              }
+              const auto& parameters_arg =
+                  std::any_cast<const PigeonQueryParameters&>(
+                      std::get<CustomEncodableValue>(encodable_parameters_arg));
+              const auto& encodable_options_arg = args.at(4);
+              if (encodable_options_arg.IsNull()) {
+                reply(WrapError("options_arg unexpectedly null."));
+                return;
+              }
+              const auto& options_arg =
+                  std::any_cast<const PigeonGetOptions&>(
+                      std::get<CustomEncodableValue>(encodable_options_arg));
+              const auto& encodable_page_size_arg = args.at(5);
+              if (encodable_page_size_arg.IsNull()) {
+                reply(WrapError("page_size_arg unexpectedly null."));
+                return;
+              }
+              const int64_t page_size_arg = encodable_page_size_arg.LongValue();
+              api->QueryGetPages(
+                  app_arg, path_arg, is_collection_group_arg, parameters_arg,
+                  options_arg, page_size_arg,
+                  [reply](ErrorOr<std::string>&& output) {
+                    if (output.has_error()) {
+                      reply(WrapError(output.error()));
+                      return;
+                    }
+                    EncodableList wrapped;
+                    wrapped.push_back(
+                        EncodableValue(std::move(output).TakeValue()));
+                    reply(EncodableValue(std::move(wrapped)));
+                  });
+            } catch (const std::exception& exception) {
+              reply(WrapError(exception.what()));
+            }
+          });
+    } else {
+      channel->SetMessageHandler(nullptr);
+    }
+  }
+  {
+    auto channel = std::make_unique<BasicMessageChannel<>>(
+        binary_messenger,
+        "dev.flutter.pigeon.cloud_firestore_platform_interface."
+        "FirebaseFirestoreHostApi.queryGetPagesNext",
+        &GetCodec());
+    if (api != nullptr) {
+      channel->SetMessageHandler(
+          [api](const EncodableValue& message,
+                const flutter::MessageReply<EncodableValue>& reply) {
+            try {
+              const auto& args = std::get<EncodableList>(message);
+              const auto& encodable_app_arg = args.at(0);
+              if (encodable_app_arg.IsNull()) {
+                reply(WrapError("app_arg unexpectedly null."));
+                return;
+              }
+              const auto& app_arg =
+                  std::any_cast<const FirestorePigeonFirebaseApp&>(
+                      std::get<CustomEncodableValue>(encodable_app_arg));
+              const auto& encodable_pages_id_arg = args.at(1);
+              if (encodable_pages_id_arg.IsNull()) {
+                reply(WrapError("pages_id_arg unexpectedly null."));
+                return;
+              }
+              const auto& pages_id_arg =
+                  std::get<std::string>(encodable_pages_id_arg);
+              api->QueryGetPagesNext(
+                  app_arg, pages_id_arg,
+                  [reply](std::optional<FlutterError>&& output) {
+                    if (output.has_value()) {
+                      reply(WrapError(output.value()));
+                      return;
+                    }
+                    EncodableList wrapped;
+                    wrapped.push_back(EncodableValue());
+                    reply(EncodableValue(std::move(wrapped)));
+                  });
+            } catch (const std::exception& exception) {
+              reply(WrapError(exception.what()));
+            }
+          });
+    } else {
+      channel->SetMessageHandler(nullptr);
+    }
+  }
   {
     auto channel = std::make_unique<BasicMessageChannel<>>(
         binary_messenger,
@@ -2072,6 +2421,60 @@ void FirebaseFirestoreHostApi::SetUp(flutter::BinaryMessenger* binary_messenger,
       channel->SetMessageHandler(nullptr);
     }
   }
+  {
+    auto channel = std::make_unique<BasicMessageChannel<>>(
+        binary_messenger,
+        "dev.flutter.pigeon.cloud_firestore_platform_interface."
+        "FirebaseFirestoreHostApi.aggregateQueryBatch",
+        &GetCodec());
+    if (api != nullptr) {
+      channel->SetMessageHandler(
+          [api](const EncodableValue& message,
+                const flutter::MessageReply<EncodableValue>& reply) {
+            try {
+              const auto& args = std::get<EncodableList>(message);
+              const auto& encodable_app_arg = args.at(0);
+              if (encodable_app_arg.IsNull()) {
+                reply(WrapError("app_arg unexpectedly null."));
+                return;
+              }
+              const auto& app_arg =
+                  std::any_cast<const FirestorePigeonFirebaseApp&>(
+                      std::get<CustomEncodableValue>(encodable_app_arg));
+              const auto& encodable_requests_arg = args.at(1);
+              if (encodable_requests_arg.IsNull()) {
+                reply(WrapError("requests_arg unexpectedly null."));
+                return;
+              }
+              const auto& requests_arg =
+                  std::get<EncodableList>(encodable_requests_arg);
+              const auto& encodable_source_arg = args.at(2);
+              if (encodable_source_arg.IsNull()) {
+                reply(WrapError("source_arg unexpectedly null."));
+                return;
+              }
+              const AggregateSource& source_arg =
+                  (AggregateSource)encodable_source_arg.LongValue();
+              api->AggregateQueryBatch(
+                  app_arg, requests_arg, source_arg,
+                  [reply](ErrorOr<EncodableList>&& output) {
+                    if (output.has_error()) {
+                      reply(WrapError(output.error()));
+                      return;
+                    }
+                    EncodableList wrapped;
+                    wrapped.push_back(
+                        EncodableValue(std::move(output).TakeValue()));
+                    reply(EncodableValue(std::move(wrapped)));
+                  });
+            } catch (const std::exception& exception) {
+              reply(WrapError(exception.what()));
+            }
+          });
+    } else {
+      channel->SetMessageHandler(nullptr);
+    }
+  }
   {
     auto channel = std::make_unique<BasicMessageChannel<>>(
         binary_messenger,
@@ -2118,6 +2521,67 @@ void FirebaseFirestoreHostApi::SetUp(flutter::BinaryMessenger* binary_messenger,
       channel->SetMessageHandler(nullptr);
     }
   }
+  {
+    auto channel = std::make_unique<BasicMessageChannel<>>(
+        binary_messenger,
+        "dev.flutter.pigeon.cloud_firestore_platform_interface."
+        "FirebaseFirestoreHostApi.bulkWriterCommit",
+        &GetCodec());
+    if (api != nullptr) {
+      channel->SetMessageHandler(
+          [api](const EncodableValue& message,
+                const flutter::MessageReply<EncodableValue>& reply) {
+            try {
+              const auto& args = std::get<EncodableList>(message);
+              const auto& encodable_app_arg = args.at(0);
+              if (encodable_app_arg.IsNull()) {
+                reply(WrapError("app_arg unexpectedly null."));
+                return;
+              }
+              const auto& app_arg =
+                  std::any_cast<const FirestorePigeonFirebaseApp&>(
+                      std::get<CustomEncodableValue>(encodable_app_arg));
+              const auto& encodable_writes_arg = args.at(1);
+              if (encodable_writes_arg.IsNull()) {
+                reply(WrapError("writes_arg unexpectedly null."));
+                return;
+              }
+              const auto& writes_arg =
+                  std::get<EncodableList>(encodable_writes_arg);
+              const auto& encodable_max_concurrency_arg = args.at(2);
+              if (encodable_max_concurrency_arg.IsNull()) {
+                reply(WrapError("max_concurrency_arg unexpectedly null."));
+                return;
+              }
+              const int64_t max_concurrency_arg =
+                  encodable_max_concurrency_arg.LongValue();
+              const auto& encodable_max_attempts_arg = args.at(3);
+              if (encodable_max_attempts_arg.IsNull()) {
+                reply(WrapError("max_attempts_arg unexpectedly null."));
+                return;
+              }
+              const int64_t max_attempts_arg =
+                  encodable_max_attempts_arg.LongValue();
+              api->BulkWriterCommit(
+                  app_arg, writes_arg, max_concurrency_arg, max_attempts_arg,
+                  [reply](ErrorOr<std::string>&& output) {
+                    if (output.has_error()) {
+                      reply(WrapError(output.error()));
+                      return;
+                    }
+                    EncodableList wrapped;
+                    wrapped.push_back(
+                        EncodableValue(std::move(output).TakeValue()));
+                    reply(EncodableValue(std::move(wrapped)));
+                  });
+            } catch (const std::exception& exception) {
+              reply(WrapError(exception.what()));
+            }
+          });
+    } else {
+      channel->SetMessageHandler(nullptr);
+    }
+  }
   {
     auto channel = std::make_unique<BasicMessageChannel<>>(
         binary_messenger,
@@ -2181,9 +2645,25 @@ void FirebaseFirestoreHostApi::SetUp(flutter::BinaryMessenger* binary_messenger,
               }
               const ListenSource& source_arg =
                   (ListenSource)encodable_source_arg.LongValue();
+              const auto& encodable_delta_only_arg = args.at(7);
+              if (encodable_delta_only_arg.IsNull()) {
+                reply(WrapError("delta_only_arg unexpectedly null."));
+                return;
+              }
+              const auto& delta_only_arg =
+                  std::get<bool>(encodable_delta_only_arg);
+              const auto& encodable_max_events_per_second_arg = args.at(8);
+              if (encodable_max_events_per_second_arg.IsNull()) {
+                reply(
+                    WrapError("max_events_per_second_arg unexpectedly null."));
+                return;
+              }
+              const int64_t max_events_per_second_arg =
+                  encodable_max_events_per_second_arg.LongValue();
               api->QuerySnapshot(
                   app_arg, path_arg, is_collection_group_arg, parameters_arg,
                   options_arg, include_metadata_changes_arg, source_arg,
+                  delta_only_arg, max_events_per_second_arg,
                   [reply](ErrorOr<std::string>&& output) {
                     if (output.has_error()) {
                       reply(WrapError(output.error()));
@@ -2245,9 +2725,18 @@ void FirebaseFirestoreHostApi::SetUp(flutter::BinaryMessenger* binary_messenger,
               }
               const ListenSource& source_arg =
                   (ListenSource)encodable_source_arg.LongValue();
+              const auto& encodable_max_events_per_second_arg = args.at(4);
+              if (encodable_max_events_per_second_arg.IsNull()) {
+                reply(
+                    WrapError("max_events_per_second_arg unexpectedly null."));
+                return;
+              }
+              const int64_t max_events_per_second_arg =
+                  encodable_max_events_per_second_arg.LongValue();
               api->DocumentReferenceSnapshot(
                   app_arg, parameters_arg, include_metadata_changes_arg,
-                  source_arg, [reply](ErrorOr<std::string>&& output) {
+                  source_arg, max_events_per_second_arg,
+                  [reply](ErrorOr<std::string>&& output) {
                     if (output.has_error()) {
                       reply(WrapError(output.error()));
                       return;
@@ -538,6 +538,7 @@ class PigeonQueryParameters {
   static PigeonQueryParameters FromEncodableList(
       const flutter::EncodableList& list);
   flutter::EncodableList ToEncodableList() const;
+  friend class AggregateQueryRequest;
   friend class FirebaseFirestoreHostApi;
   friend class FirebaseFirestoreHostApiCodecSerializer;
   std::optional<flutter::EncodableList> where_;
@@ -609,6 +610,39 @@ class AggregateQueryResponse {
   std::optional<double> value_;
 };
 
+// Generated class from Pigeon that represents data sent in messages.
+class AggregateQueryRequest {
+ public:
+  // Constructs an object setting all fields.
+  explicit AggregateQueryRequest(const std::string& path,
+                                 const PigeonQueryParameters& parameters,
+                                 const flutter::EncodableList& queries,
+                                 bool is_collection_group);
+
+  const std::string& path() const;
+  void set_path(std::string_view value_arg);
+
+  const PigeonQueryParameters& parameters() const;
+  void set_parameters(const PigeonQueryParameters& value_arg);
+
+  const flutter::EncodableList& queries() const;
+  void set_queries(const flutter::EncodableList& value_arg);
+
+  bool is_collection_group() const;
+  void set_is_collection_group(bool value_arg);
+
+ private:
+  static AggregateQueryRequest FromEncodableList(
+      const flutter::EncodableList& list);
+  flutter::EncodableList ToEncodableList() const;
+  friend class FirebaseFirestoreHostApi;
+  friend class FirebaseFirestoreHostApiCodecSerializer;
+  std::string path_;
+  PigeonQueryParameters parameters_;
+  flutter::EncodableList queries_;
+  bool is_collection_group_;
+};
+
 class FirebaseFirestoreHostApiCodecSerializer
     : public cloud_firestore_windows::FirestoreCodec {
  public:
@@ -640,6 +674,9 @@ class FirebaseFirestoreHostApi {
       const FirestorePigeonFirebaseApp& app, const std::string& name,
       const PigeonGetOptions& options,
       std::function<void(ErrorOr<PigeonQuerySnapshot> reply)> result) = 0;
+  virtual void LoadBundleFromFile(
+      const FirestorePigeonFirebaseApp& app, const std::string& path,
+      std::function<void(ErrorOr<std::string> reply)> result) = 0;
   virtual void ClearPersistence(
       const FirestorePigeonFirebaseApp& app,
       std::function<void(std::optional<FlutterError> reply)> result) = 0;
@@ -678,6 +715,10 @@ class FirebaseFirestoreHostApi {
       const FirestorePigeonFirebaseApp& app, const std::string& transaction_id,
       const std::string& path,
       std::function<void(ErrorOr<PigeonDocumentSnapshot> reply)> result) = 0;
+  virtual void TransactionGetAll(
+      const FirestorePigeonFirebaseApp& app, const std::string& transaction_id,
+      const flutter::EncodableList& paths,
+      std::function<void(ErrorOr<flutter::EncodableList> reply)> result) = 0;
   virtual void DocumentReferenceSet(
       const FirestorePigeonFirebaseApp& app,
       const DocumentReferenceRequest& request,
@@ -690,6 +731,11 @@ class FirebaseFirestoreHostApi {
       const FirestorePigeonFirebaseApp& app,
       const DocumentReferenceRequest& request,
       std::function<void(ErrorOr<PigeonDocumentSnapshot> reply)> result) = 0;
+  virtual void DocumentReferenceGetAll(
+      const FirestorePigeonFirebaseApp& app,
+      const flutter::EncodableList& paths,
+      const PigeonGetOptions& options,
+      std::function<void(ErrorOr<flutter::EncodableList> reply)> result) = 0;
   virtual void DocumentReferenceDelete(
       const FirestorePigeonFirebaseApp& app,
       const DocumentReferenceRequest& request,
@@ -699,25 +745,43 @@ class FirebaseFirestoreHostApi {
       bool is_collection_group, const PigeonQueryParameters& parameters,
       const PigeonGetOptions& options,
       std::function<void(ErrorOr<PigeonQuerySnapshot> reply)> result) = 0;
+  virtual void QueryGetPages(
+      const FirestorePigeonFirebaseApp& app, const std::string& path,
+      bool is_collection_group, const PigeonQueryParameters& parameters,
+      const PigeonGetOptions& options, int64_t page_size,
+      std::function<void(ErrorOr<std::string> reply)> result) = 0;
+  virtual void QueryGetPagesNext(
+      const FirestorePigeonFirebaseApp& app, const std::string& pages_id,
+      std::function<void(std::optional<FlutterError> reply)> result) = 0;
   virtual void AggregateQuery(
       const FirestorePigeonFirebaseApp& app, const std::string& path,
       const PigeonQueryParameters& parameters, const AggregateSource& source,
       const flutter::EncodableList& queries, bool is_collection_group,
       std::function<void(ErrorOr<flutter::EncodableList> reply)> result) = 0;
+  virtual void AggregateQueryBatch(
+      const FirestorePigeonFirebaseApp& app,
+      const flutter::EncodableList& requests, const AggregateSource& source,
+      std::function<void(ErrorOr<flutter::EncodableList> reply)> result) = 0;
   virtual void WriteBatchCommit(
       const FirestorePigeonFirebaseApp& app,
       const flutter::EncodableList& writes,
       std::function<void(std::optional<FlutterError> reply)> result) = 0;
+  virtual void BulkWriterCommit(
+      const FirestorePigeonFirebaseApp& app,
+      const flutter::EncodableList& writes, int64_t max_concurrency,
+      int64_t max_attempts,
+      std::function<void(ErrorOr<std::string> reply)> result) = 0;
   virtual void QuerySnapshot(
       const FirestorePigeonFirebaseApp& app, const std::string& path,
       bool is_collection_group, const PigeonQueryParameters& parameters,
       const PigeonGetOptions& options, bool include_metadata_changes,
-      const ListenSource& source,
+      const ListenSource& source, bool delta_only,
+      int64_t max_events_per_second,
       std::function<void(ErrorOr<std::string> reply)> result) = 0;
   virtual void DocumentReferenceSnapshot(
       const FirestorePigeonFirebaseApp& app,
       const DocumentReferenceRequest& parameters, bool include_metadata_changes,
-      const ListenSource& source,
+      const ListenSource& source, int64_t max_events_per_second,
       std::function<void(ErrorOr<std::string> reply)> result) = 0;
   virtual void PersistenceCacheIndexManagerRequest(
       const FirestorePigeonFirebaseApp& app,
@@ -11,15 +11,19 @@ export 'package:collection/collection.dart' show ListEquality;
 
 export '/src/pigeon/messages.pigeon.dart';
 export 'src/blob.dart';
+export 'src/bulk_writer_progress.dart';
 export 'src/field_path.dart';
 export 'src/field_path_type.dart';
 export 'src/filters.dart';
 export 'src/geo_point.dart';
+export 'src/get_all_exception.dart';
 export 'src/get_options.dart';
+export 'src/load_bundle_options.dart';
 export 'src/load_bundle_task_state.dart';
 export 'src/persistence_settings.dart';
 export 'src/platform_interface/platform_interface_aggregate_query.dart';
 export 'src/platform_interface/platform_interface_aggregate_query_snapshot.dart';
+export 'src/platform_interface/platform_interface_bulk_writer.dart';
 export 'src/platform_interface/platform_interface_collection_reference.dart';
 export 'src/platform_interface/platform_interface_document_change.dart';
 export 'src/platform_interface/platform_interface_document_reference.dart';
@@ -0,0 +1,42 @@
+// Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+// for details. All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+import 'package:firebase_core/firebase_core.dart';
+
+/// The outcome of a range of writes committed by a bulk writer, along with
+/// the progress of the whole commit.
+///
+/// Writes are numbered in the order they were added to the bulk writer.
+class BulkWriterProgress {
+  /// Creates a [BulkWriterProgress].
+  const BulkWriterProgress({
+    required this.index,
+    required this.count,
+    required this.error,
+    required this.succeeded,
+    required this.failed,
+    required this.total,
+  });
+
+  /// The number of the first write this progress reports on.
+  final int index;
+
+  /// The number of writes this progress reports on, from [index] on.
+  final int count;
+
+  /// Why the writes failed, or `null` if they succeeded.
+  final FirebaseException? error;
+
+  /// The number of writes that succeeded so far.
+  final int succeeded;
+
+  /// The number of writes that failed so far.
+  final int failed;
+
+  /// The number of writes of the bulk writer.
+  final int total;
+
+  /// Whether every write of the bulk writer succeeded or failed.
+  bool get isDone => succeeded + failed == total;
+}
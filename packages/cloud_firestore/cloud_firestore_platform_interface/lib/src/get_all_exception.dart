@@ -0,0 +1,32 @@
+// Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+// for details. All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+import 'package:firebase_core/firebase_core.dart';
+
+/// Thrown by `getAll` when some of the documents could not be read.
+///
+/// Its [code] and [message] are the ones of the first document that failed,
+/// while [snapshots] and [errors] hold the outcome of every document, in the
+/// order they were requested, so the documents that were read are not lost.
+class GetAllException<T> extends FirebaseException {
+  /// Creates a [GetAllException] from the outcome of every read, at least one
+  /// of which failed.
+  GetAllException({
+    required this.snapshots,
+    required this.errors,
+    StackTrace? stackTrace,
+  })  : assert(snapshots.length == errors.length),
+        super(
+          plugin: 'cloud_firestore',
+          code: errors.whereType<FirebaseException>().first.code,
+          message: errors.whereType<FirebaseException>().first.message,
+          stackTrace: stackTrace,
+        );
+
+  /// The snapshot of each document, or `null` if it could not be read.
+  final List<T?> snapshots;
+
+  /// The error each document could not be read with, or `null` if it was.
+  final List<FirebaseException?> errors;
+}
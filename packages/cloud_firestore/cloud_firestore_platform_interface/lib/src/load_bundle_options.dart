@@ -0,0 +1,34 @@
+// Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+// for details. All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+/// An options class that configures how often a bundle load reports its
+/// progress.
+///
+/// A progress event of a running load is only sent once both
+/// [progressInterval] has passed and [progressStep] of the bundle has been
+/// loaded since the previous event. The final success or error event is
+/// always sent.
+class LoadBundleOptions {
+  /// The minimum time between two progress events.
+  ///
+  /// Set it to [Duration.zero] to not throttle progress events by time.
+  final Duration progressInterval;
+
+  /// The minimum fraction of the total bytes of the bundle, between 0 and 1,
+  /// loaded between two progress events.
+  ///
+  /// For instance, 0.05 sends at most one progress event for every 5% of the
+  /// bundle. Set it to 0 (the default) to not throttle progress events by
+  /// amount.
+  final double progressStep;
+
+  /// Creates a [LoadBundleOptions] instance.
+  const LoadBundleOptions({
+    this.progressInterval = const Duration(milliseconds: 100),
+    this.progressStep = 0,
+  }) : assert(
+          progressStep >= 0 && progressStep <= 1,
+          'progressStep must be between 0 and 1',
+        );
+}
@@ -23,6 +23,17 @@ class MethodChannelAggregateQuery extends AggregateQueryPlatform {
 
   final List<AggregateQuery> _aggregateQueries;
 
+  /// The app this query runs against.
+  FirestorePigeonFirebaseApp get pigeonApp => _pigeonApp;
+
+  /// This query, as sent to `aggregateQueryBatch`.
+  AggregateQueryRequest get pigeonRequest => AggregateQueryRequest(
+        path: _path,
+        parameters: _pigeonParameters,
+        queries: _aggregateQueries,
+        isCollectionGroup: _isCollectionGroupQuery,
+      );
+
   @override
   Future<AggregateQuerySnapshotPlatform> get({
     required AggregateSource source,
@@ -37,6 +48,13 @@ class MethodChannelAggregateQuery extends AggregateQueryPlatform {
       _isCollectionGroupQuery,
     );
 
+    return toSnapshot(data);
+  }
+
+  /// Creates the snapshot of the responses of the platform to a query.
+  static AggregateQuerySnapshotPlatform toSnapshot(
+    List<AggregateQueryResponse?> data,
+  ) {
     int? count;
     List<AggregateQueryResponse> sum = [];
     List<AggregateQueryResponse> average = [];
@@ -0,0 +1,189 @@
+// Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+// for details. All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+import 'dart:async';
+import 'dart:math' as math;
+
+import 'package:_flutterfire_internals/_flutterfire_internals.dart';
+import 'package:cloud_firestore_platform_interface/cloud_firestore_platform_interface.dart';
+import 'package:firebase_core/firebase_core.dart';
+import 'package:flutter/services.dart';
+
+import 'method_channel_firestore.dart';
+import 'utils/exception.dart';
+
+/// An implementation of [BulkWriterPlatform] that uses [MethodChannel] to
+/// communicate with Firebase plugins.
+///
+/// The writes are committed natively, see `bulkWriterCommit`. Platforms
+/// without a native bulk writer commit them from Dart, one write batch of
+/// at most [maxBatchSize] writes at a time.
+class MethodChannelBulkWriter extends BulkWriterPlatform {
+  /// Create an instance of [MethodChannelBulkWriter]
+  MethodChannelBulkWriter(
+    this.pigeonApp, {
+    required this.maxConcurrency,
+    required this.maxAttempts,
+  }) : super();
+
+  /// The maximum number of writes of a write batch.
+  static const int maxBatchSize = 500;
+
+  final FirestorePigeonFirebaseApp pigeonApp;
+
+  /// The maximum number of write batches committed at a time.
+  final int maxConcurrency;
+
+  /// The maximum number of times a write batch is committed when it fails
+  /// with a transient error.
+  final int maxAttempts;
+
+  /// Keeps track of all writes in order.
+  final List<PigeonTransactionCommand> _writes = [];
+
+  /// The committed state of this bulk writer.
+  ///
+  /// Once committed, a [StateError] will be thrown if the bulk writer is
+  /// modified after.
+  bool _committed = false;
+
+  @override
+  Stream<BulkWriterProgress> commit() {
+    _assertNotCommitted();
+    _committed = true;
+
+    if (_writes.isEmpty) {
+      return const Stream.empty();
+    }
+    return _commit();
+  }
+
+  Stream<BulkWriterProgress> _commit() async* {
+    String? channelId;
+    try {
+      channelId = await MethodChannelFirebaseFirestore.pigeonChannel
+          .bulkWriterCommit(pigeonApp, _writes, maxConcurrency, maxAttempts);
+    } on PlatformException catch (e, stack) {
+      if (e.code != 'unimplemented') {
+        convertPlatformException(e, stack);
+      }
+    } catch (e, stack) {
+      convertPlatformException(e, stack);
+    }
+
+    if (channelId == null) {
+      yield* _commitInBatches();
+      return;
+    }
+
+    final Stream<dynamic> events =
+        MethodChannelFirebaseFirestore.bulkWriterChannel(channelId)
+            .receiveGuardedBroadcastStream(onError: convertPlatformException);
+    await for (final dynamic event in events) {
+      final Map<dynamic, dynamic>? error = event['error'];
+      yield BulkWriterProgress(
+        index: event['index'],
+        count: event['count'],
+        error: error == null
+            ? null
+            : FirebaseException(
+                plugin: 'cloud_firestore',
+                code: error['code'] ?? 'unknown',
+                message: error['message'],
+              ),
+        succeeded: event['succeeded'],
+        failed: event['failed'],
+        total: event['total'],
+      );
+    }
+  }
+
+  Stream<BulkWriterProgress> _commitInBatches() async* {
+    int succeeded = 0;
+    int failed = 0;
+    for (int index = 0; index < _writes.length; index += maxBatchSize) {
+      final int count = math.min(maxBatchSize, _writes.length - index);
+      FirebaseException? error;
+      try {
+        await MethodChannelFirebaseFirestore.pigeonChannel.writeBatchCommit(
+          pigeonApp,
+          _writes.sublist(index, index + count),
+        );
+        succeeded += count;
+      } catch (e, stack) {
+        try {
+          convertPlatformException(e, stack);
+        } on FirebaseException catch (exception) {
+          error = exception;
+          failed += count;
+        }
+      }
+
+      yield BulkWriterProgress(
+        index: index,
+        count: count,
+        error: error,
+        succeeded: succeeded,
+        failed: failed,
+        total: _writes.length,
+      );
+    }
+  }
+
+  @override
+  void delete(String documentPath) {
+    _assertNotCommitted();
+    _writes.add(
+      PigeonTransactionCommand(
+        path: documentPath,
+        type: PigeonTransactionType.deleteType,
+      ),
+    );
+  }
+
+  @override
+  void set(
+    String documentPath,
+    Map<String, dynamic> data, [
+    SetOptions? options,
+  ]) {
+    _assertNotCommitted();
+    _writes.add(
+      PigeonTransactionCommand(
+        path: documentPath,
+        type: PigeonTransactionType.set,
+        data: data,
+        option: PigeonDocumentOption(
+          merge: options?.merge,
+          mergeFields: options?.mergeFields?.map((e) => e.components).toList(),
+        ),
+      ),
+    );
+  }
+
+  @override
+  void update(
+    String documentPath,
+    Map<String, dynamic> data,
+  ) {
+    _assertNotCommitted();
+    _writes.add(
+      PigeonTransactionCommand(
+        path: documentPath,
+        type: PigeonTransactionType.update,
+        data: data,
+      ),
+    );
+  }
+
+  /// Ensures that once committed, the bulk writer can not be modified again.
+  void _assertNotCommitted() {
+    if (_committed) {
+      throw StateError(
+        'This bulk writer has already been committed and can no longer be '
+        'changed.',
+      );
+    }
+  }
+}
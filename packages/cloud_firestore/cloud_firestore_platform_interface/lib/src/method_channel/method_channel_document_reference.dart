@@ -111,6 +111,7 @@ class MethodChannelDocumentReference extends DocumentReferencePlatform {
     ServerTimestampBehavior serverTimestampBehavior =
         ServerTimestampBehavior.none,
     ListenSource source = ListenSource.defaultSource,
+    int? maxEventsPerSecond,
   }) {
     // It's fine to let the StreamController be garbage collected once all the
     // subscribers have cancelled; this analyzer warning is safe to ignore.
@@ -129,6 +130,7 @@ class MethodChannelDocumentReference extends DocumentReferencePlatform {
           ),
           includeMetadataChanges,
           source,
+          maxEventsPerSecond ?? 0,
         );
         snapshotStreamSubscription =
             MethodChannelFirebaseFirestore.documentSnapshotChannel(observerId)
@@ -137,8 +139,12 @@ class MethodChannelDocumentReference extends DocumentReferencePlatform {
         )
                 .listen(
           (snapshot) {
+            // The Android plugin writes snapshots directly, see
+            // FirestoreMessageCodec.
             final PigeonDocumentSnapshot result =
-                PigeonDocumentSnapshot.decode(snapshot);
+                snapshot is PigeonDocumentSnapshot
+                    ? snapshot
+                    : PigeonDocumentSnapshot.decode(snapshot);
             controller.add(
               DocumentSnapshotPlatform(
                 firestore,
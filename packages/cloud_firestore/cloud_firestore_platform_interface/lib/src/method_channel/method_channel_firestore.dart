@@ -13,6 +13,8 @@ import 'package:cloud_firestore_platform_interface/src/method_channel/method_cha
 import 'package:firebase_core/firebase_core.dart';
 import 'package:flutter/services.dart';
 
+import 'method_channel_aggregate_query.dart';
+import 'method_channel_bulk_writer.dart';
 import 'method_channel_collection_reference.dart';
 import 'method_channel_document_reference.dart';
 import 'method_channel_query.dart';
@@ -65,6 +67,22 @@ class MethodChannelFirebaseFirestore extends FirebaseFirestorePlatform {
     );
   }
 
+  /// The [EventChannel] used for bulkWriter
+  static EventChannel bulkWriterChannel(String id) {
+    return EventChannel(
+      'plugins.flutter.io/firebase_firestore/bulkWriter/$id',
+      const StandardMethodCodec(FirestoreMessageCodec()),
+    );
+  }
+
+  /// The [EventChannel] used for the pages of a query
+  static EventChannel queryPagesChannel(String id) {
+    return EventChannel(
+      'plugins.flutter.io/firebase_firestore/queryPages/$id',
+      const StandardMethodCodec(FirestoreMessageCodec()),
+    );
+  }
+
   static final pigeonChannel = FirebaseFirestoreHostApi();
 
   late final FirestorePigeonFirebaseApp pigeonApp = FirestorePigeonFirebaseApp(
@@ -90,9 +108,24 @@ class MethodChannelFirebaseFirestore extends FirebaseFirestorePlatform {
   }
 
   @override
-  LoadBundleTaskPlatform loadBundle(Uint8List bundle) {
+  LoadBundleTaskPlatform loadBundle(
+    Uint8List bundle, [
+    LoadBundleOptions options = const LoadBundleOptions(),
+  ]) {
     return MethodChannelLoadBundleTask(
       task: pigeonChannel.loadBundle(pigeonApp, bundle),
+      options: options,
+    );
+  }
+
+  @override
+  LoadBundleTaskPlatform loadBundleFromFile(
+    String path, [
+    LoadBundleOptions options = const LoadBundleOptions(),
+  ]) {
+    return MethodChannelLoadBundleTask(
+      task: pigeonChannel.loadBundleFromFile(pigeonApp, path),
+      options: options,
     );
   }
 
@@ -135,6 +168,18 @@ class MethodChannelFirebaseFirestore extends FirebaseFirestorePlatform {
   @override
   WriteBatchPlatform batch() => MethodChannelWriteBatch(pigeonApp);
 
+  @override
+  BulkWriterPlatform bulkWriter({
+    int maxConcurrency = 10,
+    int maxAttempts = 10,
+  }) {
+    return MethodChannelBulkWriter(
+      pigeonApp,
+      maxConcurrency: maxConcurrency,
+      maxAttempts: maxAttempts,
+    );
+  }
+
   @override
   Future<void> clearPersistence() async {
     try {
@@ -189,6 +234,113 @@ class MethodChannelFirebaseFirestore extends FirebaseFirestorePlatform {
     return MethodChannelDocumentReference(this, documentPath, pigeonApp);
   }
 
+  /// Reads all documents in a single call; each document is read natively at
+  /// the same time as the others.
+  @override
+  Future<List<DocumentSnapshotPlatform>> getAll(
+    List<String> documentPaths, [
+    GetOptions options = const GetOptions(),
+  ]) async {
+    if (documentPaths.isEmpty) {
+      return [];
+    }
+
+    final List<Object?> results;
+    try {
+      results = await pigeonChannel.documentReferenceGetAll(
+        pigeonApp,
+        documentPaths,
+        PigeonGetOptions(
+          source: options.source,
+          serverTimestampBehavior: options.serverTimestampBehavior,
+        ),
+      );
+    } catch (e, stack) {
+      convertPlatformException(e, stack);
+    }
+
+    // Each result is either the snapshot of the document, or the details of
+    // the error it failed with.
+    final List<DocumentSnapshotPlatform?> snapshots =
+        List.filled(documentPaths.length, null);
+    final List<FirebaseException?> errors =
+        List.filled(documentPaths.length, null);
+    for (int index = 0; index < documentPaths.length; index++) {
+      final Object? result = results[index];
+      if (result is PigeonDocumentSnapshot) {
+        snapshots[index] = DocumentSnapshotPlatform(
+          this,
+          documentPaths[index],
+          result.data,
+          result.metadata,
+        );
+      } else {
+        final Map<Object?, Object?>? error = result as Map<Object?, Object?>?;
+        errors[index] = FirebaseException(
+          plugin: 'cloud_firestore',
+          code: (error?['code'] as String?) ?? 'unknown',
+          message: error?['message'] as String?,
+        );
+      }
+    }
+
+    if (errors.any((error) => error != null)) {
+      throw GetAllException<DocumentSnapshotPlatform>(
+        snapshots: snapshots,
+        errors: errors,
+      );
+    }
+    return snapshots.cast<DocumentSnapshotPlatform>();
+  }
+
+  /// Runs all queries natively in a single call, unless some of them are not
+  /// [MethodChannelAggregateQuery] instances of this app.
+  @override
+  Future<List<AggregateQuerySnapshotPlatform>> getAggregates(
+    List<AggregateQueryPlatform> queries, {
+    required AggregateSource source,
+  }) async {
+    if (queries.isEmpty) {
+      return [];
+    }
+    if (!queries.every((query) =>
+        query is MethodChannelAggregateQuery &&
+        query.pigeonApp == pigeonApp)) {
+      return super.getAggregates(queries, source: source);
+    }
+
+    final List<Object?> results;
+    try {
+      results = await pigeonChannel.aggregateQueryBatch(
+        pigeonApp,
+        queries
+            .cast<MethodChannelAggregateQuery>()
+            .map((query) => query.pigeonRequest)
+            .toList(),
+        source,
+      );
+    } catch (e, stack) {
+      convertPlatformException(e, stack);
+    }
+
+    // Each result is either the responses for the query, or the details of the
+    // error it failed with.
+    return results.map((result) {
+      if (result is List<Object?>) {
+        return MethodChannelAggregateQuery.toSnapshot(
+          result.cast<AggregateQueryResponse?>(),
+        );
+      }
+
+      final Map<Object?, Object?>? error = result as Map<Object?, Object?>?;
+      throw FirebaseException(
+        plugin: 'cloud_firestore',
+        code: (error?['code'] as String?) ?? 'unknown',
+        message: error?['message'] as String?,
+      );
+    }).toList();
+  }
+
   @override
   Stream<void> snapshotsInSync() {
     StreamSubscription<dynamic>? snapshotStreamSubscription;
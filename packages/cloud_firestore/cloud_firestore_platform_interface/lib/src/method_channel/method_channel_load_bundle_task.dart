@@ -14,14 +14,19 @@ import 'method_channel_firestore.dart';
 class MethodChannelLoadBundleTask extends LoadBundleTaskPlatform {
   MethodChannelLoadBundleTask({
     required Future<String?> task,
+    LoadBundleOptions options = const LoadBundleOptions(),
   }) : super() {
     Stream<LoadBundleTaskSnapshotPlatform> mapNativeStream() async* {
-      final observerId = await task;
-
-      final nativePlatformStream =
-          MethodChannelFirebaseFirestore.loadBundleChannel(observerId!)
-              .receiveBroadcastStream();
       try {
+        // Loading a bundle file fails here if the file can not be read.
+        final observerId = await task;
+
+        final nativePlatformStream =
+            MethodChannelFirebaseFirestore.loadBundleChannel(observerId!)
+                .receiveBroadcastStream(<String, Object>{
+          'progressIntervalMillis': options.progressInterval.inMilliseconds,
+          'progressStep': options.progressStep,
+        });
         await for (final snapshot in nativePlatformStream) {
           final taskState = convertToTaskState(snapshot['taskState']);
 
@@ -47,7 +52,7 @@ class MethodChannelLoadBundleTask extends LoadBundleTaskPlatform {
         throw FirebaseException(
             plugin: 'cloud_firestore',
             code: 'load-bundle-error',
-            message: details?['message'] ?? '');
+            message: details?['message'] ?? exception.message ?? '');
       }
     }
 
@@ -17,6 +17,7 @@ import 'method_channel_aggregate_query.dart';
 import 'method_channel_firestore.dart';
 import 'method_channel_query_snapshot.dart';
 import 'utils/exception.dart';
+import 'utils/query_snapshot_changes.dart';
 
 /// An implementation of [QueryPlatform] that uses [MethodChannel] to
 /// communicate with Firebase plugins.
@@ -132,6 +133,53 @@ class MethodChannelQuery extends QueryPlatform {
     }
   }
 
+  /// Reads the query natively one page at a time, each page starting after
+  /// the last document of the previous one. A page is only read once the
+  /// previous one has been handled, so neither side holds more than a page.
+  ///
+  /// Platforms without native paging return a single page.
+  @override
+  Stream<QuerySnapshotPlatform> getPages({
+    int pageSize = 500,
+    GetOptions options = const GetOptions(),
+  }) async* {
+    String? pagesId;
+    try {
+      pagesId =
+          await MethodChannelFirebaseFirestore.pigeonChannel.queryGetPages(
+        pigeonApp,
+        _pointer.path,
+        isCollectionGroupQuery,
+        _pigeonParameters,
+        PigeonGetOptions(
+          source: options.source,
+          serverTimestampBehavior: options.serverTimestampBehavior,
+        ),
+        pageSize,
+      );
+    } on PlatformException catch (e, stack) {
+      if (e.code != 'unimplemented') {
+        convertPlatformException(e, stack);
+      }
+    } catch (e, stack) {
+      convertPlatformException(e, stack);
+    }
+
+    if (pagesId == null) {
+      yield* super.getPages(pageSize: pageSize, options: options);
+      return;
+    }
+
+    final Stream<dynamic> pages =
+        MethodChannelFirebaseFirestore.queryPagesChannel(pagesId)
+            .receiveGuardedBroadcastStream(onError: convertPlatformException);
+    await for (final dynamic page in pages) {
+      yield MethodChannelQuerySnapshot(firestore, _decodeQuerySnapshot(page));
+      await MethodChannelFirebaseFirestore.pigeonChannel
+          .queryGetPagesNext(pigeonApp, pagesId);
+    }
+  }
+
   @override
   QueryPlatform limit(int limit) {
     return _copyWithParameters(<String, dynamic>{
@@ -154,6 +202,8 @@ class MethodChannelQuery extends QueryPlatform {
     ServerTimestampBehavior serverTimestampBehavior =
         ServerTimestampBehavior.none,
     ListenSource source = ListenSource.defaultSource,
+    bool deltaOnly = false,
+    int? maxEventsPerSecond,
   }) {
     // It's fine to let the StreamController be garbage collected once all the
     // subscribers have cancelled; this analyzer warning is safe to ignore.
@@ -161,6 +211,8 @@ class MethodChannelQuery extends QueryPlatform {
         controller; // ignore: close_sinks
 
     StreamSubscription<dynamic>? snapshotStreamSubscription;
+    // The documents of the last snapshot, which delta-only events apply to.
+    List<PigeonDocumentSnapshot?>? documents;
 
     controller = StreamController<QuerySnapshotPlatform>.broadcast(
       onListen: () async {
@@ -176,8 +228,11 @@ class MethodChannelQuery extends QueryPlatform {
           ),
           includeMetadataChanges,
           source,
+          deltaOnly,
+          maxEventsPerSecond ?? 0,
         );
 
+        documents = null;
         snapshotStreamSubscription =
             MethodChannelFirebaseFirestore.querySnapshotChannel(observerId)
                 .receiveGuardedBroadcastStream(
@@ -185,22 +240,32 @@ class MethodChannelQuery extends QueryPlatform {
         )
                 .listen(
           (snapshot) {
-            final snapshotList = snapshot as List<Object?>;
-            // We force the types here of list because they are not automatically
-            // decoded by the pigeon generated code.
-            final List<PigeonDocumentSnapshot> documents =
-                (snapshotList[0]! as List)
-                    .map((e) => PigeonDocumentSnapshot.decode(e))
-                    .toList()
-                    .cast<PigeonDocumentSnapshot>();
-            final List<PigeonDocumentChange> changes =
-                (snapshotList[1]! as List)
-                    .map((e) => PigeonDocumentChange.decode(e))
-                    .toList()
-                    .cast<PigeonDocumentChange>();
-            final PigeonQuerySnapshot result = PigeonQuerySnapshot.decode(
-                [documents, changes, snapshotList[2]]);
-            controller.add(MethodChannelQuerySnapshot(firestore, result));
+            // The Android plugin writes snapshots directly, see
+            // FirestoreMessageCodec.
+            if (snapshot is PigeonQuerySnapshot) {
+              if (deltaOnly) {
+                documents =
+                    List<PigeonDocumentSnapshot?>.of(snapshot.documents);
+              }
+              controller.add(MethodChannelQuerySnapshot(firestore, snapshot));
+              return;
+            }
+            if (snapshot is QuerySnapshotChanges) {
+              controller.add(
+                MethodChannelQuerySnapshot(
+                  firestore,
+                  snapshot.applyTo(documents!),
+                ),
+              );
+              return;
+            }
+
+            controller.add(
+              MethodChannelQuerySnapshot(
+                firestore,
+                _decodeQuerySnapshot(snapshot),
+              ),
+            );
           },
           onError: controller.addError,
         );
@@ -213,6 +278,27 @@ class MethodChannelQuery extends QueryPlatform {
     return controller.stream;
   }
 
+  /// Decodes a query snapshot sent over an event channel.
+  static PigeonQuerySnapshot _decodeQuerySnapshot(Object? snapshot) {
+    // The Android plugin writes snapshots directly, see FirestoreMessageCodec.
+    if (snapshot is PigeonQuerySnapshot) {
+      return snapshot;
+    }
+
+    final snapshotList = snapshot! as List<Object?>;
+    // We force the types here of list because they are not automatically
+    // decoded by the pigeon generated code.
+    final List<PigeonDocumentSnapshot> documents = (snapshotList[0]! as List)
+        .map((e) => PigeonDocumentSnapshot.decode(e))
+        .toList()
+        .cast<PigeonDocumentSnapshot>();
+    final List<PigeonDocumentChange> changes = (snapshotList[1]! as List)
+        .map((e) => PigeonDocumentChange.decode(e))
+        .toList()
+        .cast<PigeonDocumentChange>();
+    return PigeonQuerySnapshot.decode([documents, changes, snapshotList[2]]);
+  }
+
   @override
   QueryPlatform orderBy(Iterable<List<dynamic>> orders) {
     return _copyWithParameters(<String, dynamic>{
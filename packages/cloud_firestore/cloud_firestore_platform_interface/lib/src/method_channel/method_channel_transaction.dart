@@ -61,6 +61,37 @@ class MethodChannelTransaction extends TransactionPlatform {
     }
   }
 
+  /// Reads all documents in a single call, one after the other in the native
+  /// transaction.
+  ///
+  /// Requires all reads to be executed before all writes, otherwise an [AssertionError] will be thrown
+  @override
+  Future<List<DocumentSnapshotPlatform>> getAll(
+      List<String> documentPaths) async {
+    assert(_commands.isEmpty,
+        'Transactions require all reads to be executed before all writes.');
+    if (documentPaths.isEmpty) {
+      return [];
+    }
+
+    try {
+      final results = await MethodChannelFirebaseFirestore.pigeonChannel
+          .transactionGetAll(pigeonApp, _transactionId, documentPaths);
+
+      return List.generate(results.length, (index) {
+        final result = results[index]!;
+        return DocumentSnapshotPlatform(
+          _firestore,
+          documentPaths[index],
+          result.data,
+          result.metadata,
+        );
+      });
+    } catch (e, stack) {
+      convertPlatformException(e, stack);
+    }
+  }
+
   @override
   MethodChannelTransaction delete(String documentPath) {
     _commands.add(PigeonTransactionCommand(
@@ -3,6 +3,7 @@
 // for details. All rights reserved. Use of this source code is governed by a
 // BSD-style license that can be found in the LICENSE file.
 
+import 'dart:convert';
 // TODO(Lyokone): remove once we bump Flutter SDK min version to 3.3
 // ignore: unnecessary_import
 import 'dart:typed_data';
@@ -17,6 +18,7 @@ import 'package:flutter/services.dart';
 
 import '../method_channel_firestore.dart';
 import '../method_channel_query.dart';
+import 'query_snapshot_changes.dart';
 
 /// The codec utilized to encode data back and forth between
 /// the Dart application and the native platform.
@@ -43,6 +45,16 @@ class FirestoreMessageCodec extends StandardMessageCodec {
   static const int _kFirestoreInstance = 196;
   static const int _kFirestoreQuery = 197;
   static const int _kFirestoreSettings = 198;
+  static const int _kQuerySnapshot = 199;
+  static const int _kDocumentSnapshot = 200;
+  static const int _kQuerySnapshotChanges = 201;
+  static const int _kStringTableEntry = 202;
+  static const int _kStringTableReference = 203;
+
+  /// The string table of each snapshot being decoded, by the buffer it is
+  /// read from, as the codec itself is constant.
+  static final Expando<List<String>> _stringTables =
+      Expando<List<String>>('stringTables');
 
   static const Map<FieldValueType, int> _kFieldValueCodes =
       <FieldValueType, int>{
@@ -160,6 +172,19 @@ class FirestoreMessageCodec extends StandardMessageCodec {
         return double.infinity;
       case _kNegativeInfinity:
         return double.negativeInfinity;
+      case _kQuerySnapshot:
+        return _withStringTable(buffer, _readQuerySnapshot);
+      case _kDocumentSnapshot:
+        return _withStringTable(buffer, _readDocumentSnapshot);
+      case _kQuerySnapshotChanges:
+        return _withStringTable(buffer, _readQuerySnapshotChanges);
+      case _kStringTableEntry:
+        final int length = readSize(buffer);
+        final String value = utf8.decoder.convert(buffer.getUint8List(length));
+        _stringTables[buffer]!.add(value);
+        return value;
+      case _kStringTableReference:
+        return _stringTables[buffer]![readSize(buffer)];
       // These cases are only needed on tests, and therefore handled
       // by [TestFirestoreMessageCodec], a subclass of this codec.
       case _kFirestoreInstance:
@@ -175,4 +200,106 @@ class FirestoreMessageCodec extends StandardMessageCodec {
         return super.readValueOfType(type, buffer);
     }
   }
+
+  /// Reads a snapshot with a string table of its own, which the field names
+  /// and string values of its documents are only sent once in.
+  T _withStringTable<T>(ReadBuffer buffer, T Function(ReadBuffer) read) {
+    final List<String>? previousTable = _stringTables[buffer];
+    _stringTables[buffer] = <String>[];
+    try {
+      return read(buffer);
+    } finally {
+      _stringTables[buffer] = previousTable;
+    }
+  }
+
+  /// Reads a query snapshot written field by field by the Android plugin,
+  /// without going through the lists Pigeon would decode.
+  ///
+  /// The path of the collection of the documents is sent once, ahead of them,
+  /// and then only their IDs.
+  PigeonQuerySnapshot _readQuerySnapshot(ReadBuffer buffer) {
+    final String? prefix = readValue(buffer) as String?;
+    final List<PigeonDocumentSnapshot?> documents =
+        List<PigeonDocumentSnapshot?>.generate(
+      readSize(buffer),
+      (_) => _readDocumentSnapshot(buffer, prefix),
+    );
+    final List<PigeonDocumentChange?> documentChanges =
+        List<PigeonDocumentChange?>.generate(
+      readSize(buffer),
+      (_) {
+        final DocumentChangeType type =
+            DocumentChangeType.values[buffer.getUint8()];
+        final int oldIndex = buffer.getInt32();
+        final int newIndex = buffer.getInt32();
+        return PigeonDocumentChange(
+          type: type,
+          document: _readDocumentSnapshot(buffer, prefix),
+          oldIndex: oldIndex,
+          newIndex: newIndex,
+        );
+      },
+    );
+    return PigeonQuerySnapshot(
+      documents: documents,
+      documentChanges: documentChanges,
+      metadata: _readSnapshotMetadata(buffer),
+    );
+  }
+
+  /// Reads the document changes sent by the Android plugin to a listener in
+  /// delta-only mode.
+  QuerySnapshotChanges _readQuerySnapshotChanges(ReadBuffer buffer) {
+    final String? prefix = readValue(buffer) as String?;
+    final int length = readSize(buffer);
+    final List<PigeonDocumentChange> changes = <PigeonDocumentChange>[];
+    final List<bool> reported = <bool>[];
+    for (int i = 0; i < length; i++) {
+      final DocumentChangeType type =
+          DocumentChangeType.values[buffer.getUint8()];
+      reported.add(buffer.getUint8() != 0);
+      final int oldIndex = buffer.getInt32();
+      final int newIndex = buffer.getInt32();
+      changes.add(
+        PigeonDocumentChange(
+          type: type,
+          document: _readDocumentSnapshot(buffer, prefix),
+          oldIndex: oldIndex,
+          newIndex: newIndex,
+        ),
+      );
+    }
+    return QuerySnapshotChanges(
+      changes: changes,
+      reported: reported,
+      metadata: _readSnapshotMetadata(buffer),
+    );
+  }
+
+  /// Reads a document snapshot, whose path is relative to [prefix] if it is
+  /// only an ID.
+  PigeonDocumentSnapshot _readDocumentSnapshot(
+    ReadBuffer buffer, [
+    String? prefix,
+  ]) {
+    String path = readValue(buffer)! as String;
+    if (prefix != null && !path.contains('/')) {
+      path = '$prefix/$path';
+    }
+    final Map<Object?, Object?>? data =
+        readValue(buffer) as Map<Object?, Object?>?;
+    return PigeonDocumentSnapshot(
+      path: path,
+      data: data?.cast<String?, Object?>(),
+      metadata: _readSnapshotMetadata(buffer),
+    );
+  }
+
+  PigeonSnapshotMetadata _readSnapshotMetadata(ReadBuffer buffer) {
+    return PigeonSnapshotMetadata(
+      hasPendingWrites: buffer.getUint8() != 0,
+      isFromCache: buffer.getUint8() != 0,
+    );
+  }
 }
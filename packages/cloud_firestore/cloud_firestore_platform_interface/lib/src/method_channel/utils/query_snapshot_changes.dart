@@ -0,0 +1,64 @@
+// Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+// for details. All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+import 'package:cloud_firestore_platform_interface/cloud_firestore_platform_interface.dart';
+
+/// The document changes of a query snapshot, sent instead of the full snapshot
+/// by listeners in delta-only mode.
+class QuerySnapshotChanges {
+  /// Constructor.
+  QuerySnapshotChanges({
+    required this.changes,
+    required this.reported,
+    required this.metadata,
+  });
+
+  /// Every document change since the previous snapshot, in order, including
+  /// changes to the metadata of a document only.
+  final List<PigeonDocumentChange> changes;
+
+  /// Whether each entry of [changes] is reported to the app, which does not
+  /// see metadata-only changes.
+  final List<bool> reported;
+
+  /// The metadata of the snapshot.
+  final PigeonSnapshotMetadata metadata;
+
+  /// Applies [changes] to [documents], the documents of the previous snapshot,
+  /// and returns the resulting snapshot.
+  ///
+  /// [documents] is updated in place; the returned snapshot gets its own copy.
+  PigeonQuerySnapshot applyTo(List<PigeonDocumentSnapshot?> documents) {
+    final List<PigeonDocumentChange?> documentChanges =
+        <PigeonDocumentChange?>[];
+    for (int i = 0; i < changes.length; i++) {
+      final PigeonDocumentChange change = changes[i];
+      switch (change.type) {
+        case DocumentChangeType.added:
+          documents.insert(change.newIndex, change.document);
+          break;
+        case DocumentChangeType.modified:
+          if (change.oldIndex == change.newIndex) {
+            documents[change.newIndex] = change.document;
+          } else {
+            documents.removeAt(change.oldIndex);
+            documents.insert(change.newIndex, change.document);
+          }
+          break;
+        case DocumentChangeType.removed:
+          documents.removeAt(change.oldIndex);
+          break;
+      }
+      if (reported[i]) {
+        documentChanges.add(change);
+      }
+    }
+
+    return PigeonQuerySnapshot(
+      documents: List<PigeonDocumentSnapshot?>.of(documents),
+      documentChanges: documentChanges,
+      metadata: metadata,
+    );
+  }
+}
@@ -555,6 +555,42 @@ class AggregateQueryResponse {
   }
 }
 
+class AggregateQueryRequest {
+  AggregateQueryRequest({
+    required this.path,
+    required this.parameters,
+    required this.queries,
+    required this.isCollectionGroup,
+  });
+
+  String path;
+
+  PigeonQueryParameters parameters;
+
+  List<AggregateQuery?> queries;
+
+  bool isCollectionGroup;
+
+  Object encode() {
+    return <Object?>[
+      path,
+      parameters.encode(),
+      queries,
+      isCollectionGroup,
+    ];
+  }
+
+  static AggregateQueryRequest decode(Object result) {
+    result as List<Object?>;
+    return AggregateQueryRequest(
+      path: result[0]! as String,
+      parameters: PigeonQueryParameters.decode(result[1]! as List<Object?>),
+      queries: (result[2] as List<Object?>?)!.cast<AggregateQuery?>(),
+      isCollectionGroup: result[3]! as bool,
+    );
+  }
+}
+
 class _FirebaseFirestoreHostApiCodec extends FirestoreMessageCodec {
   const _FirebaseFirestoreHostApiCodec();
   @override
@@ -562,42 +598,45 @@ class _FirebaseFirestoreHostApiCodec extends FirestoreMessageCodec {
     if (value is AggregateQuery) {
       buffer.putUint8(128);
       writeValue(buffer, value.encode());
-    } else if (value is AggregateQueryResponse) {
+    } else if (value is AggregateQueryRequest) {
       buffer.putUint8(129);
       writeValue(buffer, value.encode());
-    } else if (value is DocumentReferenceRequest) {
+    } else if (value is AggregateQueryResponse) {
       buffer.putUint8(130);
       writeValue(buffer, value.encode());
-    } else if (value is FirestorePigeonFirebaseApp) {
+    } else if (value is DocumentReferenceRequest) {
       buffer.putUint8(131);
       writeValue(buffer, value.encode());
-    } else if (value is PigeonDocumentChange) {
+    } else if (value is FirestorePigeonFirebaseApp) {
       buffer.putUint8(132);
       writeValue(buffer, value.encode());
-    } else if (value is PigeonDocumentOption) {
+    } else if (value is PigeonDocumentChange) {
       buffer.putUint8(133);
       writeValue(buffer, value.encode());
-    } else if (value is PigeonDocumentSnapshot) {
+    } else if (value is PigeonDocumentOption) {
       buffer.putUint8(134);
       writeValue(buffer, value.encode());
-    } else if (value is PigeonFirebaseSettings) {
+    } else if (value is PigeonDocumentSnapshot) {
       buffer.putUint8(135);
       writeValue(buffer, value.encode());
-    } else if (value is PigeonGetOptions) {
+    } else if (value is PigeonFirebaseSettings) {
       buffer.putUint8(136);
       writeValue(buffer, value.encode());
-    } else if (value is PigeonQueryParameters) {
+    } else if (value is PigeonGetOptions) {
       buffer.putUint8(137);
       writeValue(buffer, value.encode());
-    } else if (value is PigeonQuerySnapshot) {
+    } else if (value is PigeonQueryParameters) {
       buffer.putUint8(138);
       writeValue(buffer, value.encode());
-    } else if (value is PigeonSnapshotMetadata) {
+    } else if (value is PigeonQuerySnapshot) {
       buffer.putUint8(139);
       writeValue(buffer, value.encode());
-    } else if (value is PigeonTransactionCommand) {
+    } else if (value is PigeonSnapshotMetadata) {
       buffer.putUint8(140);
       writeValue(buffer, value.encode());
+    } else if (value is PigeonTransactionCommand) {
+      buffer.putUint8(141);
+      writeValue(buffer, value.encode());
     } else {
       super.writeValue(buffer, value);
     }
@@ -609,28 +648,30 @@ class _FirebaseFirestoreHostApiCodec extends FirestoreMessageCodec {
       case 128:
         return AggregateQuery.decode(readValue(buffer)!);
       case 129:
-        return AggregateQueryResponse.decode(readValue(buffer)!);
+        return AggregateQueryRequest.decode(readValue(buffer)!);
       case 130:
-        return DocumentReferenceRequest.decode(readValue(buffer)!);
+        return AggregateQueryResponse.decode(readValue(buffer)!);
       case 131:
-        return FirestorePigeonFirebaseApp.decode(readValue(buffer)!);
+        return DocumentReferenceRequest.decode(readValue(buffer)!);
       case 132:
-        return PigeonDocumentChange.decode(readValue(buffer)!);
+        return FirestorePigeonFirebaseApp.decode(readValue(buffer)!);
       case 133:
-        return PigeonDocumentOption.decode(readValue(buffer)!);
+        return PigeonDocumentChange.decode(readValue(buffer)!);
       case 134:
-        return PigeonDocumentSnapshot.decode(readValue(buffer)!);
+        return PigeonDocumentOption.decode(readValue(buffer)!);
       case 135:
-        return PigeonFirebaseSettings.decode(readValue(buffer)!);
+        return PigeonDocumentSnapshot.decode(readValue(buffer)!);
       case 136:
-        return PigeonGetOptions.decode(readValue(buffer)!);
+        return PigeonFirebaseSettings.decode(readValue(buffer)!);
       case 137:
-        return PigeonQueryParameters.decode(readValue(buffer)!);
+        return PigeonGetOptions.decode(readValue(buffer)!);
       case 138:
-        return PigeonQuerySnapshot.decode(readValue(buffer)!);
+        return PigeonQueryParameters.decode(readValue(buffer)!);
       case 139:
-        return PigeonSnapshotMetadata.decode(readValue(buffer)!);
+        return PigeonQuerySnapshot.decode(readValue(buffer)!);
       case 140:
+        return PigeonSnapshotMetadata.decode(readValue(buffer)!);
+      case 141:
         return PigeonTransactionCommand.decode(readValue(buffer)!);
       default:
         return super.readValueOfType(type, buffer);
@@ -713,6 +754,38 @@ class FirebaseFirestoreHostApi {
     }
   }
 
+  Future<String> loadBundleFromFile(
+    FirestorePigeonFirebaseApp arg_app,
+    String arg_path,
+  ) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+      'dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.loadBundleFromFile',
+      codec,
+      binaryMessenger: _binaryMessenger,
+    );
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_app, arg_path]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as String?)!;
+    }
+  }
+
   Future<void> clearPersistence(FirestorePigeonFirebaseApp arg_app) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
       'dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.clearPersistence',
@@ -1012,6 +1085,42 @@ class FirebaseFirestoreHostApi {
     }
   }
 
+  Future<List<PigeonDocumentSnapshot?>> transactionGetAll(
+    FirestorePigeonFirebaseApp arg_app,
+    String arg_transactionId,
+    List<String?> arg_paths,
+  ) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+      'dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.transactionGetAll',
+      codec,
+      binaryMessenger: _binaryMessenger,
+    );
+    final List<Object?>? replyList = await channel.send(<Object?>[
+      arg_app,
+      arg_transactionId,
+      arg_paths,
+    ]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as List<Object?>?)!.cast<PigeonDocumentSnapshot?>();
+    }
+  }
+
   Future<void> documentReferenceSet(
     FirestorePigeonFirebaseApp arg_app,
     DocumentReferenceRequest arg_request,
@@ -1098,6 +1207,42 @@ class FirebaseFirestoreHostApi {
     }
   }
 
+  Future<List<Object?>> documentReferenceGetAll(
+    FirestorePigeonFirebaseApp arg_app,
+    List<String?> arg_paths,
+    PigeonGetOptions arg_options,
+  ) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+      'dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.documentReferenceGetAll',
+      codec,
+      binaryMessenger: _binaryMessenger,
+    );
+    final List<Object?>? replyList = await channel.send(<Object?>[
+      arg_app,
+      arg_paths,
+      arg_options,
+    ]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as List<Object?>?)!.cast<Object?>();
+    }
+  }
+
   Future<void> documentReferenceDelete(
     FirestorePigeonFirebaseApp arg_app,
     DocumentReferenceRequest arg_request,
@@ -1165,6 +1310,75 @@ class FirebaseFirestoreHostApi {
     }
   }
 
+  Future<String> queryGetPages(
+    FirestorePigeonFirebaseApp arg_app,
+    String arg_path,
+    bool arg_isCollectionGroup,
+    PigeonQueryParameters arg_parameters,
+    PigeonGetOptions arg_options,
+    int arg_pageSize,
+  ) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+      'dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.queryGetPages',
+      codec,
+      binaryMessenger: _binaryMessenger,
+    );
+    final List<Object?>? replyList = await channel.send(<Object?>[
+      arg_app,
+      arg_path,
+      arg_isCollectionGroup,
+      arg_parameters,
+      arg_options,
+      arg_pageSize,
+    ]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as String?)!;
+    }
+  }
+
+  Future<void> queryGetPagesNext(
+    FirestorePigeonFirebaseApp arg_app,
+    String arg_pagesId,
+  ) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+      'dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.queryGetPagesNext',
+      codec,
+      binaryMessenger: _binaryMessenger,
+    );
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_app, arg_pagesId]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
   Future<List<AggregateQueryResponse?>> aggregateQuery(
     FirestorePigeonFirebaseApp arg_app,
     String arg_path,
@@ -1207,6 +1421,42 @@ class FirebaseFirestoreHostApi {
     }
   }
 
+  Future<List<Object?>> aggregateQueryBatch(
+    FirestorePigeonFirebaseApp arg_app,
+    List<AggregateQueryRequest?> arg_requests,
+    AggregateSource arg_source,
+  ) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+      'dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.aggregateQueryBatch',
+      codec,
+      binaryMessenger: _binaryMessenger,
+    );
+    final List<Object?>? replyList = await channel.send(<Object?>[
+      arg_app,
+      arg_requests,
+      arg_source.index,
+    ]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as List<Object?>?)!.cast<Object?>();
+    }
+  }
+
   Future<void> writeBatchCommit(
     FirestorePigeonFirebaseApp arg_app,
     List<PigeonTransactionCommand?> arg_writes,
@@ -1234,6 +1484,44 @@ class FirebaseFirestoreHostApi {
     }
   }
 
+  Future<String> bulkWriterCommit(
+    FirestorePigeonFirebaseApp arg_app,
+    List<PigeonTransactionCommand?> arg_writes,
+    int arg_maxConcurrency,
+    int arg_maxAttempts,
+  ) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+      'dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.bulkWriterCommit',
+      codec,
+      binaryMessenger: _binaryMessenger,
+    );
+    final List<Object?>? replyList = await channel.send(<Object?>[
+      arg_app,
+      arg_writes,
+      arg_maxConcurrency,
+      arg_maxAttempts,
+    ]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as String?)!;
+    }
+  }
+
   Future<String> querySnapshot(
     FirestorePigeonFirebaseApp arg_app,
     String arg_path,
@@ -1242,6 +1530,8 @@ class FirebaseFirestoreHostApi {
     PigeonGetOptions arg_options,
     bool arg_includeMetadataChanges,
     ListenSource arg_source,
+    bool arg_deltaOnly,
+    int arg_maxEventsPerSecond,
   ) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
       'dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.querySnapshot',
@@ -1256,6 +1546,8 @@ class FirebaseFirestoreHostApi {
       arg_options,
       arg_includeMetadataChanges,
       arg_source.index,
+      arg_deltaOnly,
+      arg_maxEventsPerSecond,
     ]) as List<Object?>?;
     if (replyList == null) {
       throw PlatformException(
@@ -1283,6 +1575,7 @@ class FirebaseFirestoreHostApi {
     DocumentReferenceRequest arg_parameters,
     bool arg_includeMetadataChanges,
     ListenSource arg_source,
+    int arg_maxEventsPerSecond,
   ) async {
     final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
       'dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.documentReferenceSnapshot',
@@ -1294,6 +1587,7 @@ class FirebaseFirestoreHostApi {
       arg_parameters,
       arg_includeMetadataChanges,
       arg_source.index,
+      arg_maxEventsPerSecond,
     ]) as List<Object?>?;
     if (replyList == null) {
       throw PlatformException(
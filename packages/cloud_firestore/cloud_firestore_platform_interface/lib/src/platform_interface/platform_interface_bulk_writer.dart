@@ -0,0 +1,71 @@
+// Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+// for details. All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+import 'dart:async';
+
+import 'package:cloud_firestore_platform_interface/cloud_firestore_platform_interface.dart';
+import 'package:plugin_platform_interface/plugin_platform_interface.dart';
+
+/// A bulk writer, used to perform a large number of writes.
+///
+/// Unlike a [WriteBatchPlatform], a bulk writer is not atomic and has no limit
+/// on the number of writes: each write succeeds or fails on its own.
+///
+/// Once committed, no further operations can be performed on the bulk writer,
+/// nor can it be committed again.
+abstract class BulkWriterPlatform extends PlatformInterface {
+  /// Overridable constructor
+  BulkWriterPlatform() : super(token: _token);
+
+  static final Object _token = Object();
+
+  /// Throws an [AssertionError] if [instance] does not extend
+  /// [BulkWriterPlatform].
+  /// This is used by the app-facing [BulkWriter] to ensure that
+  /// the object in which it's going to delegate calls has been
+  /// constructed properly.
+  static void verify(BulkWriterPlatform instance) {
+    PlatformInterface.verify(instance, _token);
+  }
+
+  /// Commits all of the writes of this bulk writer, and reports their
+  /// outcome as they complete.
+  ///
+  /// The stream closes once every write succeeded or failed. Cancelling the
+  /// subscription stops committing the writes not sent yet.
+  ///
+  /// Calling this method prevents any future operations from being added.
+  Stream<BulkWriterProgress> commit() {
+    throw UnimplementedError('commit() is not implemented');
+  }
+
+  /// Deletes the document referred to by a [documentPath].
+  void delete(String documentPath) {
+    throw UnimplementedError('delete() is not implemented');
+  }
+
+  /// Writes to the document referred to by [documentPath].
+  ///
+  /// If the document does not yet exist, it will be created.
+  ///
+  /// If [SetOptions] are provided, the [data] will be merged into an existing
+  /// document instead of overwriting.
+  void set(
+    String documentPath,
+    Map<String, dynamic> data, [
+    SetOptions? options,
+  ]) {
+    throw UnimplementedError('set() is not implemented');
+  }
+
+  /// Updates fields in the document referred to by [documentPath].
+  ///
+  /// If the document does not exist, the write will fail.
+  void update(
+    String documentPath,
+    Map<String, dynamic> data,
+  ) {
+    throw UnimplementedError('update() is not implemented');
+  }
+}
@@ -71,9 +71,13 @@ abstract class DocumentReferencePlatform extends PlatformInterface {
   }
 
   /// Notifies of documents at this location
+  ///
+  /// If [maxEventsPerSecond] is set, platforms that support it coalesce
+  /// snapshots that arrive faster than that into a single event.
   Stream<DocumentSnapshotPlatform> snapshots({
     bool includeMetadataChanges = false,
     ListenSource source = ListenSource.defaultSource,
+    int? maxEventsPerSecond,
   }) {
     throw UnimplementedError('snapshots() is not implemented');
   }
@@ -85,6 +85,19 @@ abstract class FirebaseFirestorePlatform extends PlatformInterface {
     throw UnimplementedError('batch() is not implemented');
   }
 
+  /// Creates a bulk writer, used for performing a large number of writes
+  /// that succeed or fail independently.
+  ///
+  /// At most [maxConcurrency] write batches are committed at a time, and a
+  /// batch that fails with a transient error is committed up to
+  /// [maxAttempts] times.
+  BulkWriterPlatform bulkWriter({
+    int maxConcurrency = 10,
+    int maxAttempts = 10,
+  }) {
+    throw UnimplementedError('bulkWriter() is not implemented');
+  }
+
   /// Clears the persistent storage, including pending writes and cached documents.
   ///
   /// Must be called while the FirebaseFirestore instance is not started (after the app is shutdown or when the app is first initialized).
@@ -131,6 +144,49 @@ abstract class FirebaseFirestorePlatform extends PlatformInterface {
     throw UnimplementedError('doc() is not implemented');
   }
 
+  /// Reads the documents at [documentPaths], and returns their snapshots in
+  /// the same order.
+  ///
+  /// If any document could not be read, throws a [GetAllException] with the
+  /// outcome of every document.
+  Future<List<DocumentSnapshotPlatform>> getAll(
+    List<String> documentPaths, [
+    GetOptions options = const GetOptions(),
+  ]) async {
+    final List<DocumentSnapshotPlatform?> snapshots =
+        List.filled(documentPaths.length, null);
+    final List<FirebaseException?> errors =
+        List.filled(documentPaths.length, null);
+    await Future.wait(
+      List.generate(documentPaths.length, (index) async {
+        try {
+          snapshots[index] = await doc(documentPaths[index]).get(options);
+        } on FirebaseException catch (e) {
+          errors[index] = e;
+        }
+      }),
+    );
+
+    if (errors.any((error) => error != null)) {
+      throw GetAllException<DocumentSnapshotPlatform>(
+        snapshots: snapshots,
+        errors: errors,
+      );
+    }
+    return snapshots.cast<DocumentSnapshotPlatform>();
+  }
+
+  /// Runs all of [queries] at once, and returns their snapshots in the same
+  /// order.
+  ///
+  /// Throws the error of the first query that failed, if any.
+  Future<List<AggregateQuerySnapshotPlatform>> getAggregates(
+    List<AggregateQueryPlatform> queries, {
+    required AggregateSource source,
+  }) {
+    return Future.wait(queries.map((query) => query.get(source: source)));
+  }
+
   /// Re-enables use of the network for this Firestore instance after a prior
   /// call to [disableNetwork()].
   Future<void> enableNetwork() {
@@ -145,10 +201,24 @@ abstract class FirebaseFirestorePlatform extends PlatformInterface {
 
   /// Loads a Firestore bundle into the local cache. Returns a [LoadBundleTask]
   /// which notifies callers with progress updates, and completion or error events.
-  LoadBundleTaskPlatform loadBundle(Uint8List bundle) {
+  ///
+  /// [options] controls how often progress updates are sent.
+  LoadBundleTaskPlatform loadBundle(
+    Uint8List bundle, [
+    LoadBundleOptions options = const LoadBundleOptions(),
+  ]) {
     throw UnimplementedError('loadBundle() is not implemented');
   }
 
+  /// Loads the Firestore bundle stored in the file at [path] into the local
+  /// cache. The file is read natively, without going through Dart.
+  LoadBundleTaskPlatform loadBundleFromFile(
+    String path, [
+    LoadBundleOptions options = const LoadBundleOptions(),
+  ]) {
+    throw UnimplementedError('loadBundleFromFile() is not implemented');
+  }
+
   /// Reads a Firestore Query which has been loaded using [loadBundle()]
   Future<QuerySnapshotPlatform> namedQueryGet(
     String name, {
@@ -118,6 +118,17 @@ abstract class QueryPlatform extends PlatformInterface {
     throw UnimplementedError('get() is not implemented');
   }
 
+  /// Performs a query and returns its documents in [QuerySnapshotPlatform]s of
+  /// at most [pageSize] documents each.
+  ///
+  /// By default, all documents are returned in a single snapshot.
+  Stream<QuerySnapshotPlatform> getPages({
+    int pageSize = 500,
+    GetOptions options = const GetOptions(),
+  }) async* {
+    yield await get(options);
+  }
+
   /// Creates and returns a new Query that's additionally limited to only return up
   /// to the specified number of documents.
   QueryPlatform limit(int limit) {
@@ -133,9 +144,17 @@ abstract class QueryPlatform extends PlatformInterface {
   }
 
   /// Notifies of query results at this location
+  ///
+  /// If [deltaOnly] is true, platforms that support it only send the full
+  /// result once, and then only the changed documents of each snapshot.
+  ///
+  /// If [maxEventsPerSecond] is set, platforms that support it coalesce
+  /// snapshots that arrive faster than that into a single event.
   Stream<QuerySnapshotPlatform> snapshots({
     bool includeMetadataChanges = false,
     ListenSource source = ListenSource.defaultSource,
+    bool deltaOnly = false,
+    int? maxEventsPerSecond,
   }) {
     throw UnimplementedError('snapshots() is not implemented');
   }
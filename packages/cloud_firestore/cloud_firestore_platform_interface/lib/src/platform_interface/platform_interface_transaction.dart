@@ -43,6 +43,12 @@ abstract class TransactionPlatform extends PlatformInterface {
     throw UnimplementedError('get() is not implemented');
   }
 
+  /// Reads the documents referenced by the provided [documentPaths], and
+  /// returns their snapshots in the same order.
+  Future<List<DocumentSnapshotPlatform>> getAll(List<String> documentPaths) {
+    return Future.wait(documentPaths.map(get));
+  }
+
   /// Deletes the document referred to by the provided [documentPath].
   TransactionPlatform delete(String documentPath) {
     throw UnimplementedError('delete() is not implemented');
@@ -291,6 +291,20 @@ class AggregateQueryResponse {
   final double? value;
 }
 
+class AggregateQueryRequest {
+  const AggregateQueryRequest({
+    required this.path,
+    required this.parameters,
+    required this.queries,
+    required this.isCollectionGroup,
+  });
+
+  final String path;
+  final PigeonQueryParameters parameters;
+  final List<AggregateQuery?> queries;
+  final bool isCollectionGroup;
+}
+
 @HostApi(dartHostTestHandler: 'TestFirebaseFirestoreHostApi')
 abstract class FirebaseFirestoreHostApi {
   @async
@@ -306,6 +320,12 @@ abstract class FirebaseFirestoreHostApi {
     PigeonGetOptions options,
   );
 
+  @async
+  String loadBundleFromFile(
+    FirestorePigeonFirebaseApp app,
+    String path,
+  );
+
   @async
   void clearPersistence(
     FirestorePigeonFirebaseApp app,
@@ -368,6 +388,13 @@ abstract class FirebaseFirestoreHostApi {
     String path,
   );
 
+  @async
+  List<PigeonDocumentSnapshot?> transactionGetAll(
+    FirestorePigeonFirebaseApp app,
+    String transactionId,
+    List<String?> paths,
+  );
+
   @async
   void documentReferenceSet(
     FirestorePigeonFirebaseApp app,
@@ -386,6 +413,13 @@ abstract class FirebaseFirestoreHostApi {
     DocumentReferenceRequest request,
   );
 
+  @async
+  List<Object?> documentReferenceGetAll(
+    FirestorePigeonFirebaseApp app,
+    List<String?> paths,
+    PigeonGetOptions options,
+  );
+
   @async
   void documentReferenceDelete(
     FirestorePigeonFirebaseApp app,
@@ -401,6 +435,22 @@ abstract class FirebaseFirestoreHostApi {
     PigeonGetOptions options,
   );
 
+  @async
+  String queryGetPages(
+    FirestorePigeonFirebaseApp app,
+    String path,
+    bool isCollectionGroup,
+    PigeonQueryParameters parameters,
+    PigeonGetOptions options,
+    int pageSize,
+  );
+
+  @async
+  void queryGetPagesNext(
+    FirestorePigeonFirebaseApp app,
+    String pagesId,
+  );
+
   @async
   List<AggregateQueryResponse?> aggregateQuery(
     FirestorePigeonFirebaseApp app,
@@ -411,12 +461,27 @@ abstract class FirebaseFirestoreHostApi {
     bool isCollectionGroup,
   );
 
+  @async
+  List<Object?> aggregateQueryBatch(
+    FirestorePigeonFirebaseApp app,
+    List<AggregateQueryRequest?> requests,
+    AggregateSource source,
+  );
+
   @async
   void writeBatchCommit(
     FirestorePigeonFirebaseApp app,
     List<PigeonTransactionCommand?> writes,
   );
 
+  @async
+  String bulkWriterCommit(
+    FirestorePigeonFirebaseApp app,
+    List<PigeonTransactionCommand?> writes,
+    int maxConcurrency,
+    int maxAttempts,
+  );
+
   @async
   String querySnapshot(
     FirestorePigeonFirebaseApp app,
@@ -426,6 +491,8 @@ abstract class FirebaseFirestoreHostApi {
     PigeonGetOptions options,
     bool includeMetadataChanges,
     ListenSource source,
+    bool deltaOnly,
+    int maxEventsPerSecond,
   );
 
   @async
@@ -434,6 +501,7 @@ abstract class FirebaseFirestoreHostApi {
     DocumentReferenceRequest parameters,
     bool includeMetadataChanges,
     ListenSource source,
+    int maxEventsPerSecond,
   );
 
   @async
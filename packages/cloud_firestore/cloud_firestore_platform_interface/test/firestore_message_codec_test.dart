@@ -0,0 +1,199 @@
+// Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+// for details. All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+import 'dart:convert';
+
+import 'package:cloud_firestore_platform_interface/cloud_firestore_platform_interface.dart';
+import 'package:cloud_firestore_platform_interface/src/method_channel/utils/firestore_message_codec.dart';
+import 'package:cloud_firestore_platform_interface/src/method_channel/utils/query_snapshot_changes.dart';
+import 'package:flutter/foundation.dart';
+import 'package:flutter_test/flutter_test.dart';
+
+const FirestoreMessageCodec codec = FirestoreMessageCodec();
+
+void writeDocumentSnapshot(
+  WriteBuffer buffer,
+  String path,
+  Map<String, Object?>? data, {
+  bool hasPendingWrites = false,
+  bool isFromCache = false,
+}) {
+  codec.writeValue(buffer, path);
+  codec.writeValue(buffer, data);
+  buffer.putUint8(hasPendingWrites ? 1 : 0);
+  buffer.putUint8(isFromCache ? 1 : 0);
+}
+
+void writeStringTableEntry(WriteBuffer buffer, String value) {
+  final Uint8List bytes = utf8.encoder.convert(value);
+  buffer.putUint8(202);
+  codec.writeSize(buffer, bytes.length);
+  buffer.putUint8List(bytes);
+}
+
+void writeStringTableReference(WriteBuffer buffer, int index) {
+  buffer.putUint8(203);
+  codec.writeSize(buffer, index);
+}
+
+void main() {
+  group('$FirestoreMessageCodec', () {
+    test('decodes query snapshots written by the Android plugin', () {
+      final WriteBuffer buffer = WriteBuffer();
+      buffer.putUint8(199);
+      codec.writeValue(buffer, 'foo');
+      codec.writeSize(buffer, 2);
+      writeDocumentSnapshot(buffer, '1', <String, Object?>{'bar': 1});
+      writeDocumentSnapshot(
+        buffer,
+        '2',
+        <String, Object?>{'bar': 'baz'},
+        hasPendingWrites: true,
+      );
+      codec.writeSize(buffer, 1);
+      buffer.putUint8(DocumentChangeType.modified.index);
+      buffer.putInt32(-1);
+      buffer.putInt32(1);
+      writeDocumentSnapshot(
+        buffer,
+        '2',
+        <String, Object?>{'bar': 'baz'},
+        hasPendingWrites: true,
+      );
+      buffer.putUint8(1);
+      buffer.putUint8(1);
+
+      final PigeonQuerySnapshot snapshot =
+          codec.decodeMessage(buffer.done())! as PigeonQuerySnapshot;
+
+      expect(snapshot.documents.length, 2);
+      expect(snapshot.documents[0]!.path, 'foo/1');
+      expect(snapshot.documents[0]!.data, <String, Object?>{'bar': 1});
+      expect(snapshot.documents[0]!.metadata.hasPendingWrites, isFalse);
+      expect(snapshot.documents[1]!.path, 'foo/2');
+      expect(snapshot.documents[1]!.metadata.hasPendingWrites, isTrue);
+
+      expect(snapshot.documentChanges.length, 1);
+      final PigeonDocumentChange change = snapshot.documentChanges[0]!;
+      expect(change.type, DocumentChangeType.modified);
+      expect(change.oldIndex, -1);
+      expect(change.newIndex, 1);
+      expect(change.document.path, 'foo/2');
+      expect(change.document.data, <String, Object?>{'bar': 'baz'});
+
+      expect(snapshot.metadata.hasPendingWrites, isTrue);
+      expect(snapshot.metadata.isFromCache, isTrue);
+    });
+
+    test('decodes and applies query snapshot changes', () {
+      PigeonDocumentSnapshot document(String path) => PigeonDocumentSnapshot(
+            path: path,
+            data: <String?, Object?>{},
+            metadata: PigeonSnapshotMetadata(
+              hasPendingWrites: false,
+              isFromCache: false,
+            ),
+          );
+
+      final WriteBuffer buffer = WriteBuffer();
+      buffer.putUint8(201);
+      codec.writeValue(buffer, 'foo');
+      codec.writeSize(buffer, 3);
+      // foo/1 is removed.
+      buffer.putUint8(DocumentChangeType.removed.index);
+      buffer.putUint8(1);
+      buffer.putInt32(0);
+      buffer.putInt32(-1);
+      writeDocumentSnapshot(buffer, '1', <String, Object?>{});
+      // foo/3 moves to the front.
+      buffer.putUint8(DocumentChangeType.modified.index);
+      buffer.putUint8(1);
+      buffer.putInt32(1);
+      buffer.putInt32(0);
+      writeDocumentSnapshot(buffer, '3', <String, Object?>{'bar': 3});
+      // foo/2 is no longer pending, which is not reported to the app. Its
+      // full path is sent, as for a document outside of the prefix.
+      buffer.putUint8(DocumentChangeType.modified.index);
+      buffer.putUint8(0);
+      buffer.putInt32(1);
+      buffer.putInt32(1);
+      writeDocumentSnapshot(buffer, 'foo/2', <String, Object?>{});
+      buffer.putUint8(0);
+      buffer.putUint8(0);
+
+      final QuerySnapshotChanges changes =
+          codec.decodeMessage(buffer.done())! as QuerySnapshotChanges;
+      final List<PigeonDocumentSnapshot?> documents =
+          <PigeonDocumentSnapshot?>[
+        document('foo/1'),
+        document('foo/2'),
+        document('foo/3'),
+      ];
+      final PigeonQuerySnapshot snapshot = changes.applyTo(documents);
+
+      expect(
+        snapshot.documents.map((e) => e!.path),
+        <String>['foo/3', 'foo/2'],
+      );
+      expect(snapshot.documents[0]!.data, <String, Object?>{'bar': 3});
+      expect(
+        snapshot.documentChanges.map((e) => e!.document.path),
+        <String>['foo/1', 'foo/3'],
+      );
+      expect(documents.length, 2);
+
+      documents.clear();
+      expect(snapshot.documents.length, 2);
+    });
+
+    test('decodes strings sent once through the string table', () {
+      const int mapType = 13;
+      final WriteBuffer buffer = WriteBuffer();
+      buffer.putUint8(199);
+      writeStringTableEntry(buffer, 'foo');
+      codec.writeSize(buffer, 2);
+      writeStringTableEntry(buffer, '1');
+      buffer.putUint8(mapType);
+      codec.writeSize(buffer, 1);
+      writeStringTableEntry(buffer, 'name');
+      writeStringTableEntry(buffer, 'baz');
+      buffer.putUint8(0);
+      buffer.putUint8(0);
+      writeStringTableEntry(buffer, '2');
+      buffer.putUint8(mapType);
+      codec.writeSize(buffer, 1);
+      writeStringTableReference(buffer, 2);
+      writeStringTableReference(buffer, 3);
+      buffer.putUint8(0);
+      buffer.putUint8(0);
+      codec.writeSize(buffer, 0);
+      buffer.putUint8(0);
+      buffer.putUint8(0);
+
+      final PigeonQuerySnapshot snapshot =
+          codec.decodeMessage(buffer.done())! as PigeonQuerySnapshot;
+
+      expect(
+        snapshot.documents.map((e) => e!.path),
+        <String>['foo/1', 'foo/2'],
+      );
+      expect(snapshot.documents[0]!.data, <String, Object?>{'name': 'baz'});
+      expect(snapshot.documents[1]!.data, <String, Object?>{'name': 'baz'});
+    });
+
+    test('decodes document snapshots written by the Android plugin', () {
+      final WriteBuffer buffer = WriteBuffer();
+      buffer.putUint8(200);
+      writeDocumentSnapshot(buffer, 'foo/missing', null, isFromCache: true);
+
+      final PigeonDocumentSnapshot snapshot =
+          codec.decodeMessage(buffer.done())! as PigeonDocumentSnapshot;
+
+      expect(snapshot.path, 'foo/missing');
+      expect(snapshot.data, isNull);
+      expect(snapshot.metadata.hasPendingWrites, isFalse);
+      expect(snapshot.metadata.isFromCache, isTrue);
+    });
+  });
+}
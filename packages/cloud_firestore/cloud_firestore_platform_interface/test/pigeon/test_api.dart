@@ -20,42 +20,45 @@ class _TestFirebaseFirestoreHostApiCodec extends StandardMessageCodec {
     if (value is AggregateQuery) {
       buffer.putUint8(128);
       writeValue(buffer, value.encode());
-    } else if (value is AggregateQueryResponse) {
+    } else if (value is AggregateQueryRequest) {
       buffer.putUint8(129);
       writeValue(buffer, value.encode());
-    } else if (value is DocumentReferenceRequest) {
+    } else if (value is AggregateQueryResponse) {
       buffer.putUint8(130);
       writeValue(buffer, value.encode());
-    } else if (value is FirestorePigeonFirebaseApp) {
+    } else if (value is DocumentReferenceRequest) {
       buffer.putUint8(131);
       writeValue(buffer, value.encode());
-    } else if (value is PigeonDocumentChange) {
+    } else if (value is FirestorePigeonFirebaseApp) {
       buffer.putUint8(132);
       writeValue(buffer, value.encode());
-    } else if (value is PigeonDocumentOption) {
+    } else if (value is PigeonDocumentChange) {
       buffer.putUint8(133);
       writeValue(buffer, value.encode());
-    } else if (value is PigeonDocumentSnapshot) {
+    } else if (value is PigeonDocumentOption) {
       buffer.putUint8(134);
       writeValue(buffer, value.encode());
-    } else if (value is PigeonFirebaseSettings) {
+    } else if (value is PigeonDocumentSnapshot) {
       buffer.putUint8(135);
       writeValue(buffer, value.encode());
-    } else if (value is PigeonGetOptions) {
+    } else if (value is PigeonFirebaseSettings) {
       buffer.putUint8(136);
       writeValue(buffer, value.encode());
-    } else if (value is PigeonQueryParameters) {
+    } else if (value is PigeonGetOptions) {
       buffer.putUint8(137);
       writeValue(buffer, value.encode());
-    } else if (value is PigeonQuerySnapshot) {
+    } else if (value is PigeonQueryParameters) {
       buffer.putUint8(138);
       writeValue(buffer, value.encode());
-    } else if (value is PigeonSnapshotMetadata) {
+    } else if (value is PigeonQuerySnapshot) {
       buffer.putUint8(139);
       writeValue(buffer, value.encode());
-    } else if (value is PigeonTransactionCommand) {
+    } else if (value is PigeonSnapshotMetadata) {
       buffer.putUint8(140);
       writeValue(buffer, value.encode());
+    } else if (value is PigeonTransactionCommand) {
+      buffer.putUint8(141);
+      writeValue(buffer, value.encode());
     } else {
       super.writeValue(buffer, value);
     }
@@ -67,28 +70,30 @@ class _TestFirebaseFirestoreHostApiCodec extends StandardMessageCodec {
       case 128:
         return AggregateQuery.decode(readValue(buffer)!);
       case 129:
-        return AggregateQueryResponse.decode(readValue(buffer)!);
+        return AggregateQueryRequest.decode(readValue(buffer)!);
       case 130:
-        return DocumentReferenceRequest.decode(readValue(buffer)!);
+        return AggregateQueryResponse.decode(readValue(buffer)!);
       case 131:
-        return FirestorePigeonFirebaseApp.decode(readValue(buffer)!);
+        return DocumentReferenceRequest.decode(readValue(buffer)!);
       case 132:
-        return PigeonDocumentChange.decode(readValue(buffer)!);
+        return FirestorePigeonFirebaseApp.decode(readValue(buffer)!);
       case 133:
-        return PigeonDocumentOption.decode(readValue(buffer)!);
+        return PigeonDocumentChange.decode(readValue(buffer)!);
       case 134:
-        return PigeonDocumentSnapshot.decode(readValue(buffer)!);
+        return PigeonDocumentOption.decode(readValue(buffer)!);
       case 135:
-        return PigeonFirebaseSettings.decode(readValue(buffer)!);
+        return PigeonDocumentSnapshot.decode(readValue(buffer)!);
       case 136:
-        return PigeonGetOptions.decode(readValue(buffer)!);
+        return PigeonFirebaseSettings.decode(readValue(buffer)!);
       case 137:
-        return PigeonQueryParameters.decode(readValue(buffer)!);
+        return PigeonGetOptions.decode(readValue(buffer)!);
       case 138:
-        return PigeonQuerySnapshot.decode(readValue(buffer)!);
+        return PigeonQueryParameters.decode(readValue(buffer)!);
       case 139:
-        return PigeonSnapshotMetadata.decode(readValue(buffer)!);
+        return PigeonQuerySnapshot.decode(readValue(buffer)!);
       case 140:
+        return PigeonSnapshotMetadata.decode(readValue(buffer)!);
+      case 141:
         return PigeonTransactionCommand.decode(readValue(buffer)!);
       default:
         return super.readValueOfType(type, buffer);
@@ -110,6 +115,11 @@ abstract class TestFirebaseFirestoreHostApi {
     PigeonGetOptions options,
   );
 
+  Future<String> loadBundleFromFile(
+    FirestorePigeonFirebaseApp app,
+    String path,
+  );
+
   Future<void> clearPersistence(FirestorePigeonFirebaseApp app);
 
   Future<void> disableNetwork(FirestorePigeonFirebaseApp app);
@@ -147,6 +157,12 @@ abstract class TestFirebaseFirestoreHostApi {
     String path,
   );
 
+  Future<List<PigeonDocumentSnapshot?>> transactionGetAll(
+    FirestorePigeonFirebaseApp app,
+    String transactionId,
+    List<String?> paths,
+  );
+
   Future<void> documentReferenceSet(
     FirestorePigeonFirebaseApp app,
     DocumentReferenceRequest request,
@@ -162,6 +178,12 @@ abstract class TestFirebaseFirestoreHostApi {
     DocumentReferenceRequest request,
   );
 
+  Future<List<Object?>> documentReferenceGetAll(
+    FirestorePigeonFirebaseApp app,
+    List<String?> paths,
+    PigeonGetOptions options,
+  );
+
   Future<void> documentReferenceDelete(
     FirestorePigeonFirebaseApp app,
     DocumentReferenceRequest request,
@@ -175,6 +197,20 @@ abstract class TestFirebaseFirestoreHostApi {
     PigeonGetOptions options,
   );
 
+  Future<String> queryGetPages(
+    FirestorePigeonFirebaseApp app,
+    String path,
+    bool isCollectionGroup,
+    PigeonQueryParameters parameters,
+    PigeonGetOptions options,
+    int pageSize,
+  );
+
+  Future<void> queryGetPagesNext(
+    FirestorePigeonFirebaseApp app,
+    String pagesId,
+  );
+
   Future<List<AggregateQueryResponse?>> aggregateQuery(
     FirestorePigeonFirebaseApp app,
     String path,
@@ -184,11 +220,24 @@ abstract class TestFirebaseFirestoreHostApi {
     bool isCollectionGroup,
   );
 
+  Future<List<Object?>> aggregateQueryBatch(
+    FirestorePigeonFirebaseApp app,
+    List<AggregateQueryRequest?> requests,
+    AggregateSource source,
+  );
+
   Future<void> writeBatchCommit(
     FirestorePigeonFirebaseApp app,
     List<PigeonTransactionCommand?> writes,
   );
 
+  Future<String> bulkWriterCommit(
+    FirestorePigeonFirebaseApp app,
+    List<PigeonTransactionCommand?> writes,
+    int maxConcurrency,
+    int maxAttempts,
+  );
+
   Future<String> querySnapshot(
     FirestorePigeonFirebaseApp app,
     String path,
@@ -197,6 +246,8 @@ abstract class TestFirebaseFirestoreHostApi {
     PigeonGetOptions options,
     bool includeMetadataChanges,
     ListenSource source,
+    bool deltaOnly,
+    int maxEventsPerSecond,
   );
 
   Future<String> documentReferenceSnapshot(
@@ -204,6 +255,7 @@ abstract class TestFirebaseFirestoreHostApi {
     DocumentReferenceRequest parameters,
     bool includeMetadataChanges,
     ListenSource source,
+    int maxEventsPerSecond,
   );
 
   Future<void> persistenceCacheIndexManagerRequest(
@@ -289,6 +341,43 @@ abstract class TestFirebaseFirestoreHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.loadBundleFromFile',
+        codec,
+        binaryMessenger: binaryMessenger,
+      );
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(
+            message != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.loadBundleFromFile was null.',
+          );
+          final List<Object?> args = (message as List<Object?>?)!;
+          final FirestorePigeonFirebaseApp? arg_app =
+              (args[0] as FirestorePigeonFirebaseApp?);
+          assert(
+            arg_app != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.loadBundleFromFile was null, expected non-null FirestorePigeonFirebaseApp.',
+          );
+          final String? arg_path = (args[1] as String?);
+          assert(
+            arg_path != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.loadBundleFromFile was null, expected non-null String.',
+          );
+          final String output = await api.loadBundleFromFile(
+            arg_app!,
+            arg_path!,
+          );
+          return <Object?>[output];
+        });
+      }
+    }
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
         'dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.clearPersistence',
@@ -649,6 +738,50 @@ abstract class TestFirebaseFirestoreHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.transactionGetAll',
+        codec,
+        binaryMessenger: binaryMessenger,
+      );
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(
+            message != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.transactionGetAll was null.',
+          );
+          final List<Object?> args = (message as List<Object?>?)!;
+          final FirestorePigeonFirebaseApp? arg_app =
+              (args[0] as FirestorePigeonFirebaseApp?);
+          assert(
+            arg_app != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.transactionGetAll was null, expected non-null FirestorePigeonFirebaseApp.',
+          );
+          final String? arg_transactionId = (args[1] as String?);
+          assert(
+            arg_transactionId != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.transactionGetAll was null, expected non-null String.',
+          );
+          final List<String?>? arg_paths =
+              (args[2] as List<Object?>?)?.cast<String?>();
+          assert(
+            arg_paths != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.transactionGetAll was null, expected non-null List<String?>.',
+          );
+          final List<PigeonDocumentSnapshot?> output = await api.transactionGetAll(
+            arg_app!,
+            arg_transactionId!,
+            arg_paths!,
+          );
+          return <Object?>[output];
+        });
+      }
+    }
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
         'dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.documentReferenceSet',
@@ -755,6 +888,50 @@ abstract class TestFirebaseFirestoreHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.documentReferenceGetAll',
+        codec,
+        binaryMessenger: binaryMessenger,
+      );
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(
+            message != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.documentReferenceGetAll was null.',
+          );
+          final List<Object?> args = (message as List<Object?>?)!;
+          final FirestorePigeonFirebaseApp? arg_app =
+              (args[0] as FirestorePigeonFirebaseApp?);
+          assert(
+            arg_app != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.documentReferenceGetAll was null, expected non-null FirestorePigeonFirebaseApp.',
+          );
+          final List<String?>? arg_paths =
+              (args[1] as List<Object?>?)?.cast<String?>();
+          assert(
+            arg_paths != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.documentReferenceGetAll was null, expected non-null List<String?>.',
+          );
+          final PigeonGetOptions? arg_options = (args[2] as PigeonGetOptions?);
+          assert(
+            arg_options != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.documentReferenceGetAll was null, expected non-null PigeonGetOptions.',
+          );
+          final List<Object?> output = await api.documentReferenceGetAll(
+            arg_app!,
+            arg_paths!,
+            arg_options!,
+          );
+          return <Object?>[output];
+        });
+      }
+    }
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
         'dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.documentReferenceDelete',
@@ -846,6 +1023,105 @@ abstract class TestFirebaseFirestoreHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.queryGetPages',
+        codec,
+        binaryMessenger: binaryMessenger,
+      );
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(
+            message != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.queryGetPages was null.',
+          );
+          final List<Object?> args = (message as List<Object?>?)!;
+          final FirestorePigeonFirebaseApp? arg_app =
+              (args[0] as FirestorePigeonFirebaseApp?);
+          assert(
+            arg_app != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.queryGetPages was null, expected non-null FirestorePigeonFirebaseApp.',
+          );
+          final String? arg_path = (args[1] as String?);
+          assert(
+            arg_path != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.queryGetPages was null, expected non-null String.',
+          );
+          final bool? arg_isCollectionGroup = (args[2] as bool?);
+          assert(
+            arg_isCollectionGroup != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.queryGetPages was null, expected non-null bool.',
+          );
+          final PigeonQueryParameters? arg_parameters =
+              (args[3] as PigeonQueryParameters?);
+          assert(
+            arg_parameters != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.queryGetPages was null, expected non-null PigeonQueryParameters.',
+          );
+          final PigeonGetOptions? arg_options = (args[4] as PigeonGetOptions?);
+          assert(
+            arg_options != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.queryGetPages was null, expected non-null PigeonGetOptions.',
+          );
+          final int? arg_pageSize = (args[5] as int?);
+          assert(
+            arg_pageSize != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.queryGetPages was null, expected non-null int.',
+          );
+          final String output = await api.queryGetPages(
+            arg_app!,
+            arg_path!,
+            arg_isCollectionGroup!,
+            arg_parameters!,
+            arg_options!,
+            arg_pageSize!,
+          );
+          return <Object?>[output];
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.queryGetPagesNext',
+        codec,
+        binaryMessenger: binaryMessenger,
+      );
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(
+            message != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.queryGetPagesNext was null.',
+          );
+          final List<Object?> args = (message as List<Object?>?)!;
+          final FirestorePigeonFirebaseApp? arg_app =
+              (args[0] as FirestorePigeonFirebaseApp?);
+          assert(
+            arg_app != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.queryGetPagesNext was null, expected non-null FirestorePigeonFirebaseApp.',
+          );
+          final String? arg_pagesId = (args[1] as String?);
+          assert(
+            arg_pagesId != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.queryGetPagesNext was null, expected non-null String.',
+          );
+          await api.queryGetPagesNext(
+            arg_app!,
+            arg_pagesId!,
+          );
+          return <Object?>[];
+        });
+      }
+    }
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
         'dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.aggregateQuery',
@@ -910,6 +1186,51 @@ abstract class TestFirebaseFirestoreHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.aggregateQueryBatch',
+        codec,
+        binaryMessenger: binaryMessenger,
+      );
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(
+            message != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.aggregateQueryBatch was null.',
+          );
+          final List<Object?> args = (message as List<Object?>?)!;
+          final FirestorePigeonFirebaseApp? arg_app =
+              (args[0] as FirestorePigeonFirebaseApp?);
+          assert(
+            arg_app != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.aggregateQueryBatch was null, expected non-null FirestorePigeonFirebaseApp.',
+          );
+          final List<AggregateQueryRequest?>? arg_requests =
+              (args[1] as List<Object?>?)?.cast<AggregateQueryRequest?>();
+          assert(
+            arg_requests != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.aggregateQueryBatch was null, expected non-null List<AggregateQueryRequest?>.',
+          );
+          final AggregateSource? arg_source =
+              args[2] == null ? null : AggregateSource.values[args[2]! as int];
+          assert(
+            arg_source != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.aggregateQueryBatch was null, expected non-null AggregateSource.',
+          );
+          final List<Object?> output = await api.aggregateQueryBatch(
+            arg_app!,
+            arg_requests!,
+            arg_source!,
+          );
+          return <Object?>[output];
+        });
+      }
+    }
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
         'dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.writeBatchCommit',
@@ -945,6 +1266,56 @@ abstract class TestFirebaseFirestoreHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.bulkWriterCommit',
+        codec,
+        binaryMessenger: binaryMessenger,
+      );
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(
+            message != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.bulkWriterCommit was null.',
+          );
+          final List<Object?> args = (message as List<Object?>?)!;
+          final FirestorePigeonFirebaseApp? arg_app =
+              (args[0] as FirestorePigeonFirebaseApp?);
+          assert(
+            arg_app != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.bulkWriterCommit was null, expected non-null FirestorePigeonFirebaseApp.',
+          );
+          final List<PigeonTransactionCommand?>? arg_writes =
+              (args[1] as List<Object?>?)?.cast<PigeonTransactionCommand?>();
+          assert(
+            arg_writes != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.bulkWriterCommit was null, expected non-null List<PigeonTransactionCommand?>.',
+          );
+          final int? arg_maxConcurrency = (args[2] as int?);
+          assert(
+            arg_maxConcurrency != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.bulkWriterCommit was null, expected non-null int.',
+          );
+          final int? arg_maxAttempts = (args[3] as int?);
+          assert(
+            arg_maxAttempts != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.bulkWriterCommit was null, expected non-null int.',
+          );
+          final String output = await api.bulkWriterCommit(
+            arg_app!,
+            arg_writes!,
+            arg_maxConcurrency!,
+            arg_maxAttempts!,
+          );
+          return <Object?>[output];
+        });
+      }
+    }
     {
       final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
         'dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.querySnapshot',
@@ -1001,6 +1372,16 @@ abstract class TestFirebaseFirestoreHostApi {
             arg_source != null,
             'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.querySnapshot was null, expected non-null ListenSource.',
           );
+          final bool? arg_deltaOnly = (args[7] as bool?);
+          assert(
+            arg_deltaOnly != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.querySnapshot was null, expected non-null bool.',
+          );
+          final int? arg_maxEventsPerSecond = (args[8] as int?);
+          assert(
+            arg_maxEventsPerSecond != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.querySnapshot was null, expected non-null int.',
+          );
           final String output = await api.querySnapshot(
             arg_app!,
             arg_path!,
@@ -1009,6 +1390,8 @@ abstract class TestFirebaseFirestoreHostApi {
             arg_options!,
             arg_includeMetadataChanges!,
             arg_source!,
+            arg_deltaOnly!,
+            arg_maxEventsPerSecond!,
           );
           return <Object?>[output];
         });
@@ -1055,11 +1438,17 @@ abstract class TestFirebaseFirestoreHostApi {
             arg_source != null,
             'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.documentReferenceSnapshot was null, expected non-null ListenSource.',
           );
+          final int? arg_maxEventsPerSecond = (args[4] as int?);
+          assert(
+            arg_maxEventsPerSecond != null,
+            'Argument for dev.flutter.pigeon.cloud_firestore_platform_interface.FirebaseFirestoreHostApi.documentReferenceSnapshot was null, expected non-null int.',
+          );
           final String output = await api.documentReferenceSnapshot(
             arg_app!,
             arg_parameters!,
             arg_includeMetadataChanges!,
             arg_source!,
+            arg_maxEventsPerSecond!,
           );
           return <Object?>[output];
         });
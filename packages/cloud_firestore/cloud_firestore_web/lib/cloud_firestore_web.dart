@@ -197,7 +197,10 @@ class FirebaseFirestoreWeb extends FirebaseFirestorePlatform {
   }
 
   @override
-  LoadBundleTaskPlatform loadBundle(Uint8List bundle) {
+  LoadBundleTaskPlatform loadBundle(
+    Uint8List bundle, [
+    LoadBundleOptions options = const LoadBundleOptions(),
+  ]) {
     return LoadBundleTaskWeb(_delegate.loadBundle(bundle));
   }
 
@@ -68,6 +68,8 @@ class DocumentReferenceWeb extends DocumentReferencePlatform {
   Stream<DocumentSnapshotPlatform> snapshots({
     bool includeMetadataChanges = false,
     ListenSource source = ListenSource.defaultSource,
+    // The JS SDK runs in the same isolate, so there is no channel to save.
+    int? maxEventsPerSecond,
   }) {
     Stream<firestore_interop.DocumentSnapshot> querySnapshots =
         _delegate.onSnapshot(
@@ -183,6 +183,9 @@ class QueryWeb extends QueryPlatform {
   Stream<QuerySnapshotPlatform> snapshots({
     bool includeMetadataChanges = false,
     ListenSource source = ListenSource.defaultSource,
+    // The JS SDK runs in the same isolate, so there is no channel to save.
+    bool deltaOnly = false,
+    int? maxEventsPerSecond,
   }) {
     Stream<firestore_interop.QuerySnapshot> querySnapshots =
         _buildWebQueryWithParameters().onSnapshot(
@@ -9,7 +9,6 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.google.android.gms.tasks.Task;
 import com.google.android.gms.tasks.TaskCompletionSource;
-import com.google.android.gms.tasks.Tasks;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.functions.FirebaseFunctions;
 import com.google.firebase.functions.FirebaseFunctionsException;
@@ -21,7 +20,11 @@ import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.common.MethodChannel.MethodCallHandler;
 import io.flutter.plugin.common.MethodChannel.Result;
+import io.flutter.plugins.firebase.core.FlutterFirebaseChannelMetrics;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutor;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutors;
 import io.flutter.plugins.firebase.core.FlutterFirebasePlugin;
+import io.flutter.plugins.firebase.core.FlutterFirebaseTasks;
 import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.net.URL;
@@ -34,6 +37,8 @@ public class FlutterFirebaseFunctionsPlugin
     implements FlutterPlugin, FlutterFirebasePlugin, MethodCallHandler {
 
   private static final String METHOD_CHANNEL_NAME = "plugins.flutter.io/firebase_functions";
+  private static final FlutterFirebaseExecutor executor =
+      FlutterFirebaseExecutors.getExecutor(METHOD_CHANNEL_NAME);
   private MethodChannel channel;
 
   /**
@@ -45,7 +50,10 @@ public class FlutterFirebaseFunctionsPlugin
 
   @Override
   public void onAttachedToEngine(@NonNull FlutterPluginBinding binding) {
-    channel = new MethodChannel(binding.getBinaryMessenger(), METHOD_CHANNEL_NAME);
+    channel =
+        new MethodChannel(
+            FlutterFirebaseChannelMetrics.instrument(binding.getBinaryMessenger()),
+            METHOD_CHANNEL_NAME);
     channel.setMethodCallHandler(this);
   }
 
@@ -63,55 +71,49 @@ public class FlutterFirebaseFunctionsPlugin
   }
 
   private Task<Object> httpsFunctionCall(Map<String, Object> arguments) {
-    TaskCompletionSource<Object> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
-        () -> {
-          try {
-
-            FirebaseFunctions firebaseFunctions = getFunctions(arguments);
-
-            String functionName = (String) arguments.get("functionName");
-            String functionUri = (String) arguments.get("functionUri");
-            String origin = (String) arguments.get("origin");
-            Integer timeout = (Integer) arguments.get("timeout");
-            boolean limitedUseAppCheckToken =
-                (boolean) Objects.requireNonNull(arguments.get("limitedUseAppCheckToken"));
-            Object parameters = arguments.get("parameters");
-
-            if (origin != null) {
-              Uri originUri = Uri.parse(origin);
-              firebaseFunctions.useEmulator(originUri.getHost(), originUri.getPort());
-            }
-
-            HttpsCallableReference httpsCallableReference;
-            HttpsCallableOptions options =
-                new HttpsCallableOptions.Builder()
-                    .setLimitedUseAppCheckTokens(limitedUseAppCheckToken)
-                    .build();
-
-            if (functionName != null) {
-              httpsCallableReference = firebaseFunctions.getHttpsCallable(functionName, options);
-            } else if (functionUri != null) {
-              httpsCallableReference =
-                  firebaseFunctions.getHttpsCallableFromUrl(new URL(functionUri), options);
-            } else {
-              throw new IllegalArgumentException("Either functionName or functionUri must be set");
-            }
-
-            if (timeout != null) {
-              httpsCallableReference.setTimeout(timeout.longValue(), TimeUnit.MILLISECONDS);
-            }
-
-            HttpsCallableResult result = Tasks.await(httpsCallableReference.call(parameters));
-            taskCompletionSource.setResult(result.getData());
-
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
-          }
-        });
+    return FlutterFirebaseTasks.map(
+        FlutterFirebaseTasks.call(
+            executor,
+            () -> {
+              FirebaseFunctions firebaseFunctions = getFunctions(arguments);
+
+              String functionName = (String) arguments.get("functionName");
+              String functionUri = (String) arguments.get("functionUri");
+              String origin = (String) arguments.get("origin");
+              Integer timeout = (Integer) arguments.get("timeout");
+              boolean limitedUseAppCheckToken =
+                  (boolean) Objects.requireNonNull(arguments.get("limitedUseAppCheckToken"));
+              Object parameters = arguments.get("parameters");
+
+              if (origin != null) {
+                Uri originUri = Uri.parse(origin);
+                firebaseFunctions.useEmulator(originUri.getHost(), originUri.getPort());
+              }
 
-    return taskCompletionSource.getTask();
+              HttpsCallableReference httpsCallableReference;
+              HttpsCallableOptions options =
+                  new HttpsCallableOptions.Builder()
+                      .setLimitedUseAppCheckTokens(limitedUseAppCheckToken)
+                      .build();
+
+              if (functionName != null) {
+                httpsCallableReference = firebaseFunctions.getHttpsCallable(functionName, options);
+              } else if (functionUri != null) {
+                httpsCallableReference =
+                    firebaseFunctions.getHttpsCallableFromUrl(new URL(functionUri), options);
+              } else {
+                throw new IllegalArgumentException(
+                    "Either functionName or functionUri must be set");
+              }
+
+              if (timeout != null) {
+                httpsCallableReference.setTimeout(timeout.longValue(), TimeUnit.MILLISECONDS);
+              }
+
+              return httpsCallableReference.call(parameters);
+            }),
+        executor,
+        HttpsCallableResult::getData);
   }
 
   @Override
@@ -147,9 +149,12 @@ public class FlutterFirebaseFunctionsPlugin
     String message = exception.getMessage();
     Object additionalData = null;
 
-    if (exception.getCause() instanceof FirebaseFunctionsException) {
-      FirebaseFunctionsException functionsException =
-          (FirebaseFunctionsException) exception.getCause();
+    // The call result is no longer awaited, so the exception may not be wrapped.
+    Throwable cause =
+        exception instanceof FirebaseFunctionsException ? exception : exception.getCause();
+
+    if (cause instanceof FirebaseFunctionsException) {
+      FirebaseFunctionsException functionsException = (FirebaseFunctionsException) cause;
       code = functionsException.getCode().name();
       message = functionsException.getMessage();
       additionalData = functionsException.getDetails();
@@ -185,7 +190,7 @@ public class FlutterFirebaseFunctionsPlugin
   public Task<Map<String, Object>> getPluginConstantsForFirebaseApp(FirebaseApp firebaseApp) {
     TaskCompletionSource<Map<String, Object>> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(() -> taskCompletionSource.setResult(null));
+    executor.execute(() -> taskCompletionSource.setResult(null));
 
     return taskCompletionSource.getTask();
   }
@@ -194,7 +199,7 @@ public class FlutterFirebaseFunctionsPlugin
   public Task<Void> didReinitializeFirebaseCore() {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(() -> taskCompletionSource.setResult(null));
+    executor.execute(() -> taskCompletionSource.setResult(null));
 
     return taskCompletionSource.getTask();
   }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+ * for details. All rights reserved. Use of this source code is governed by a
+ * BSD-style license that can be found in the LICENSE file.
+ */
+
+package io.flutter.plugins.firebase.analytics;
+
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import io.flutter.plugin.common.StandardMessageCodec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/** Measures converting event parameters sent by Dart to the bundles passed to the SDK. */
+@RunWith(Parameterized.class)
+public class FlutterFirebaseAnalyticsPluginBenchmark {
+  @Rule public BenchmarkRule benchmarkRule = new BenchmarkRule();
+
+  /** Encoded parameter sizes the benchmark runs with: 1 KB to 10 MB. */
+  @Parameterized.Parameters(name = "{0}B")
+  public static Collection<Object[]> sizes() {
+    return Arrays.asList(new Object[][] {{1 << 10}, {100 << 10}, {1 << 20}, {10 << 20}});
+  }
+
+  private final int targetBytes;
+  private Map<String, Object> parameters;
+
+  public FlutterFirebaseAnalyticsPluginBenchmark(int targetBytes) {
+    this.targetBytes = targetBytes;
+  }
+
+  @Before
+  public void setUp() {
+    List<Object> items = new ArrayList<>();
+    parameters = new HashMap<>();
+    parameters.put("currency", "USD");
+    parameters.put("value", 9.99);
+    parameters.put("items", items);
+
+    int size = 0;
+    for (int i = 0; size < targetBytes; i++) {
+      Map<String, Object> item = new HashMap<>();
+      item.put("item_id", "sku-" + i);
+      item.put("item_name", "item-" + i + "-lorem-ipsum-dolor-sit-amet-consectetur");
+      item.put("item_category", "category-" + (i % 16));
+      item.put("price", i * 1.5);
+      item.put("quantity", (long) (i % 10));
+      item.put("in_stock", i % 2 == 0);
+      items.add(item);
+      size += StandardMessageCodec.INSTANCE.encodeMessage(item).capacity();
+    }
+  }
+
+  @Test
+  public void createBundleFromMap() {
+    BenchmarkState state = benchmarkRule.getState();
+    while (state.keepRunning()) {
+      FlutterFirebaseAnalyticsPlugin.createBundleFromMap(parameters);
+    }
+  }
+}
@@ -10,7 +10,6 @@ import android.os.Parcelable;
 import androidx.annotation.NonNull;
 import com.google.android.gms.tasks.Task;
 import com.google.android.gms.tasks.TaskCompletionSource;
-import com.google.android.gms.tasks.Tasks;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.analytics.FirebaseAnalytics;
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
@@ -19,8 +18,12 @@ import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.common.MethodChannel.MethodCallHandler;
 import io.flutter.plugin.common.MethodChannel.Result;
+import io.flutter.plugins.firebase.core.FlutterFirebaseChannelMetrics;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutor;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutors;
 import io.flutter.plugins.firebase.core.FlutterFirebasePlugin;
 import io.flutter.plugins.firebase.core.FlutterFirebasePluginRegistry;
+import io.flutter.plugins.firebase.core.FlutterFirebaseTasks;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
@@ -29,19 +32,22 @@ import java.util.Objects;
 /** Flutter plugin for Firebase Analytics. */
 public class FlutterFirebaseAnalyticsPlugin
     implements FlutterFirebasePlugin, MethodCallHandler, FlutterPlugin {
+  private static final FlutterFirebaseExecutor executor =
+      FlutterFirebaseExecutors.getExecutor("plugins.flutter.io/firebase_analytics");
+
   private FirebaseAnalytics analytics;
   private MethodChannel channel;
 
   private void initInstance(BinaryMessenger messenger, Context context) {
     analytics = FirebaseAnalytics.getInstance(context);
     String channelName = "plugins.flutter.io/firebase_analytics";
-    channel = new MethodChannel(messenger, channelName);
+    channel = new MethodChannel(FlutterFirebaseChannelMetrics.instrument(messenger), channelName);
     channel.setMethodCallHandler(this);
     FlutterFirebasePluginRegistry.registerPlugin(channelName, this);
   }
 
   @SuppressWarnings("unchecked")
-  private static Bundle createBundleFromMap(Map<String, Object> map) {
+  static Bundle createBundleFromMap(Map<String, Object> map) {
     if (map == null) {
       return null;
     }
@@ -158,24 +164,14 @@ public class FlutterFirebaseAnalyticsPlugin
   }
 
   private Task<Long> handleGetSessionId() {
-    TaskCompletionSource<Long> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
-        () -> {
-          try {
-            taskCompletionSource.setResult(Tasks.await(analytics.getSessionId()));
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
-          }
-        });
-
-    return taskCompletionSource.getTask();
+    return FlutterFirebaseTasks.call(executor, () -> analytics.getSessionId());
   }
 
   private Task<Void> handleLogEvent(final Map<String, Object> arguments) {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
+        FlutterFirebaseExecutor.Priority.BACKGROUND,
         () -> {
           try {
             final String eventName =
@@ -197,7 +193,8 @@ public class FlutterFirebaseAnalyticsPlugin
   private Task<Void> handleSetUserId(final Map<String, Object> arguments) {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
+        FlutterFirebaseExecutor.Priority.BACKGROUND,
         () -> {
           try {
             final String id = (String) arguments.get(Constants.USER_ID);
@@ -214,7 +211,8 @@ public class FlutterFirebaseAnalyticsPlugin
   private Task<Void> handleSetAnalyticsCollectionEnabled(final Map<String, Object> arguments) {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
+        FlutterFirebaseExecutor.Priority.BACKGROUND,
         () -> {
           try {
             final Boolean enabled =
@@ -232,7 +230,8 @@ public class FlutterFirebaseAnalyticsPlugin
   private Task<Void> handleSetSessionTimeoutDuration(final Map<String, Object> arguments) {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
+        FlutterFirebaseExecutor.Priority.BACKGROUND,
         () -> {
           try {
             final Integer milliseconds =
@@ -250,7 +249,8 @@ public class FlutterFirebaseAnalyticsPlugin
   private Task<Void> handleSetUserProperty(final Map<String, Object> arguments) {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
+        FlutterFirebaseExecutor.Priority.BACKGROUND,
         () -> {
           try {
             final String name = (String) Objects.requireNonNull(arguments.get(Constants.NAME));
@@ -268,7 +268,8 @@ public class FlutterFirebaseAnalyticsPlugin
   private Task<Void> handleResetAnalyticsData() {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
+        FlutterFirebaseExecutor.Priority.BACKGROUND,
         () -> {
           try {
             analytics.resetAnalyticsData();
@@ -284,7 +285,8 @@ public class FlutterFirebaseAnalyticsPlugin
   private Task<Void> setConsent(final Map<String, Object> arguments) {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
+        FlutterFirebaseExecutor.Priority.BACKGROUND,
         () -> {
           try {
             final Boolean adStorageGranted =
@@ -343,7 +345,8 @@ public class FlutterFirebaseAnalyticsPlugin
   private Task<Void> setDefaultEventParameters(final Map<String, Object> arguments) {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
+        FlutterFirebaseExecutor.Priority.BACKGROUND,
         () -> {
           try {
             analytics.setDefaultEventParameters(createBundleFromMap(arguments));
@@ -357,25 +360,14 @@ public class FlutterFirebaseAnalyticsPlugin
   }
 
   private Task<String> handleGetAppInstanceId() {
-    TaskCompletionSource<String> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
-        () -> {
-          try {
-            taskCompletionSource.setResult(Tasks.await(analytics.getAppInstanceId()));
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
-          }
-        });
-
-    return taskCompletionSource.getTask();
+    return FlutterFirebaseTasks.call(executor, () -> analytics.getAppInstanceId());
   }
 
   @Override
   public Task<Map<String, Object>> getPluginConstantsForFirebaseApp(FirebaseApp firebaseApp) {
     TaskCompletionSource<Map<String, Object>> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             taskCompletionSource.setResult(new HashMap<String, Object>() {});
@@ -391,7 +383,7 @@ public class FlutterFirebaseAnalyticsPlugin
   public Task<Void> didReinitializeFirebaseCore() {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             taskCompletionSource.setResult(null);
@@ -10,7 +10,6 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.google.android.gms.tasks.Task;
 import com.google.android.gms.tasks.TaskCompletionSource;
-import com.google.android.gms.tasks.Tasks;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.appcheck.AppCheckToken;
 import com.google.firebase.appcheck.FirebaseAppCheck;
@@ -24,7 +23,11 @@ import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.common.MethodChannel.MethodCallHandler;
 import io.flutter.plugin.common.MethodChannel.Result;
+import io.flutter.plugins.firebase.core.FlutterFirebaseChannelMetrics;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutor;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutors;
 import io.flutter.plugins.firebase.core.FlutterFirebasePlugin;
+import io.flutter.plugins.firebase.core.FlutterFirebaseTasks;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -33,6 +36,8 @@ public class FlutterFirebaseAppCheckPlugin
     implements FlutterFirebasePlugin, FlutterPlugin, MethodCallHandler {
 
   private static final String METHOD_CHANNEL_NAME = "plugins.flutter.io/firebase_app_check";
+  private static final FlutterFirebaseExecutor executor =
+      FlutterFirebaseExecutors.getExecutor(METHOD_CHANNEL_NAME);
   private final Map<EventChannel, TokenChannelStreamHandler> streamHandlers = new HashMap<>();
 
   private final String debugProvider = "debug";
@@ -45,7 +50,8 @@ public class FlutterFirebaseAppCheckPlugin
 
   private void initInstance(BinaryMessenger messenger) {
     registerPlugin(METHOD_CHANNEL_NAME, this);
-    channel = new MethodChannel(messenger, METHOD_CHANNEL_NAME);
+    channel =
+        new MethodChannel(FlutterFirebaseChannelMetrics.instrument(messenger), METHOD_CHANNEL_NAME);
     channel.setMethodCallHandler(this);
 
     this.messenger = messenger;
@@ -72,20 +78,11 @@ public class FlutterFirebaseAppCheckPlugin
   }
 
   private Task<String> getLimitedUseAppCheckToken(Map<String, Object> arguments) {
-    TaskCompletionSource<String> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
-        () -> {
-          try {
-            FirebaseAppCheck firebaseAppCheck = getAppCheck(arguments);
-            AppCheckToken tokenResult = Tasks.await(firebaseAppCheck.getLimitedUseAppCheckToken());
-            taskCompletionSource.setResult(tokenResult.getToken());
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
-          }
-        });
-
-    return taskCompletionSource.getTask();
+    return FlutterFirebaseTasks.map(
+        FlutterFirebaseTasks.call(
+            executor, () -> getAppCheck(arguments).getLimitedUseAppCheckToken()),
+        executor,
+        AppCheckToken::getToken);
   }
 
   // SafetyNet is deprecated and is already annotated as such on the user facing Dart API. Please remove annotation when SafetyNet is removed.
@@ -93,7 +90,7 @@ public class FlutterFirebaseAppCheckPlugin
   private Task<Void> activate(Map<String, Object> arguments) {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             String provider = (String) Objects.requireNonNull(arguments.get("androidProvider"));
@@ -131,29 +128,23 @@ public class FlutterFirebaseAppCheckPlugin
   }
 
   private Task<String> getToken(Map<String, Object> arguments) {
-    TaskCompletionSource<String> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
-        () -> {
-          try {
-            FirebaseAppCheck firebaseAppCheck = getAppCheck(arguments);
-            Boolean forceRefresh = (Boolean) Objects.requireNonNull(arguments.get("forceRefresh"));
-            AppCheckToken tokenResult =
-                Tasks.await(firebaseAppCheck.getAppCheckToken(forceRefresh));
-
-            taskCompletionSource.setResult(tokenResult.getToken());
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
-          }
-        });
-
-    return taskCompletionSource.getTask();
+    return FlutterFirebaseTasks.map(
+        FlutterFirebaseTasks.call(
+            executor,
+            () -> {
+              FirebaseAppCheck firebaseAppCheck = getAppCheck(arguments);
+              Boolean forceRefresh =
+                  (Boolean) Objects.requireNonNull(arguments.get("forceRefresh"));
+              return firebaseAppCheck.getAppCheckToken(forceRefresh);
+            }),
+        executor,
+        AppCheckToken::getToken);
   }
 
   private Task<Void> setTokenAutoRefreshEnabled(Map<String, Object> arguments) {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             FirebaseAppCheck firebaseAppCheck = getAppCheck(arguments);
@@ -173,7 +164,7 @@ public class FlutterFirebaseAppCheckPlugin
   private Task<String> registerTokenListener(Map<String, Object> arguments) {
     TaskCompletionSource<String> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             String appName = (String) Objects.requireNonNull(arguments.get("appName"));
@@ -249,7 +240,7 @@ public class FlutterFirebaseAppCheckPlugin
   public Task<Map<String, Object>> getPluginConstantsForFirebaseApp(FirebaseApp firebaseApp) {
     TaskCompletionSource<Map<String, Object>> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             taskCompletionSource.setResult(null);
@@ -265,7 +256,7 @@ public class FlutterFirebaseAppCheckPlugin
   public Task<Void> didReinitializeFirebaseCore() {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             taskCompletionSource.setResult(null);
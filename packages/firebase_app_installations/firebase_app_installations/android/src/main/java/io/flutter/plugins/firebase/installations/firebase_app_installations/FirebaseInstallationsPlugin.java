@@ -8,7 +8,6 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.google.android.gms.tasks.Task;
 import com.google.android.gms.tasks.TaskCompletionSource;
-import com.google.android.gms.tasks.Tasks;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.installations.FirebaseInstallations;
 import com.google.firebase.installations.InstallationTokenResult;
@@ -19,8 +18,12 @@ import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.common.MethodChannel.MethodCallHandler;
 import io.flutter.plugin.common.MethodChannel.Result;
+import io.flutter.plugins.firebase.core.FlutterFirebaseChannelMetrics;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutor;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutors;
 import io.flutter.plugins.firebase.core.FlutterFirebasePlugin;
 import io.flutter.plugins.firebase.core.FlutterFirebasePluginRegistry;
+import io.flutter.plugins.firebase.core.FlutterFirebaseTasks;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -30,12 +33,17 @@ public class FirebaseInstallationsPlugin
     implements FlutterFirebasePlugin, FlutterPlugin, MethodCallHandler {
   private MethodChannel channel;
   private static final String METHOD_CHANNEL_NAME = "plugins.flutter.io/firebase_app_installations";
+  private static final FlutterFirebaseExecutor executor =
+      FlutterFirebaseExecutors.getExecutor(METHOD_CHANNEL_NAME);
   private final Map<EventChannel, EventChannel.StreamHandler> streamHandlers = new HashMap<>();
 
   @Nullable private BinaryMessenger messenger;
 
   private MethodChannel setup(BinaryMessenger binaryMessenger) {
-    final MethodChannel channel = new MethodChannel(binaryMessenger, METHOD_CHANNEL_NAME);
+    final MethodChannel channel =
+        new MethodChannel(
+            FlutterFirebaseChannelMetrics.instrument(binaryMessenger),
+            METHOD_CHANNEL_NAME);
     channel.setMethodCallHandler(this);
     this.messenger = binaryMessenger;
     return channel;
@@ -65,44 +73,27 @@ public class FirebaseInstallationsPlugin
   }
 
   private Task<String> getId(Map<String, Object> arguments) {
-    TaskCompletionSource<String> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
-        () -> {
-          try {
-            taskCompletionSource.setResult(Tasks.await(getInstallations(arguments).getId()));
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
-          }
-        });
-
-    return taskCompletionSource.getTask();
+    return FlutterFirebaseTasks.call(executor, () -> getInstallations(arguments).getId());
   }
 
   private Task<String> getToken(Map<String, Object> arguments) {
-    TaskCompletionSource<String> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
-        () -> {
-          try {
-            FirebaseInstallations firebaseInstallations = getInstallations(arguments);
-            Boolean forceRefresh = (Boolean) Objects.requireNonNull(arguments.get("forceRefresh"));
-            InstallationTokenResult tokenResult =
-                Tasks.await(firebaseInstallations.getToken(forceRefresh));
-
-            taskCompletionSource.setResult(tokenResult.getToken());
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
-          }
-        });
-
-    return taskCompletionSource.getTask();
+    return FlutterFirebaseTasks.map(
+        FlutterFirebaseTasks.call(
+            executor,
+            () -> {
+              FirebaseInstallations firebaseInstallations = getInstallations(arguments);
+              Boolean forceRefresh =
+                  (Boolean) Objects.requireNonNull(arguments.get("forceRefresh"));
+              return firebaseInstallations.getToken(forceRefresh);
+            }),
+        executor,
+        InstallationTokenResult::getToken);
   }
 
   private Task<String> registerIdChangeListener(Map<String, Object> arguments) {
     TaskCompletionSource<String> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             String appName = (String) Objects.requireNonNull(arguments.get("appName"));
@@ -129,20 +120,7 @@ public class FirebaseInstallationsPlugin
   }
 
   private Task<Void> deleteId(Map<String, Object> arguments) {
-    TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
-        () -> {
-          try {
-            Tasks.await(getInstallations(arguments).delete());
-
-            taskCompletionSource.setResult(null);
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
-          }
-        });
-
-    return taskCompletionSource.getTask();
+    return FlutterFirebaseTasks.call(executor, () -> getInstallations(arguments).delete());
   }
 
   @Override
@@ -197,7 +175,7 @@ public class FirebaseInstallationsPlugin
   public Task<Map<String, Object>> getPluginConstantsForFirebaseApp(FirebaseApp firebaseApp) {
     TaskCompletionSource<Map<String, Object>> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             taskCompletionSource.setResult(new HashMap<String, Object>() {});
@@ -213,7 +191,7 @@ public class FirebaseInstallationsPlugin
   public Task<Void> didReinitializeFirebaseCore() {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             taskCompletionSource.setResult(null);
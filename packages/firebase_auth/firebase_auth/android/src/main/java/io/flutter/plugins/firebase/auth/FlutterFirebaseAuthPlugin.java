@@ -31,7 +31,10 @@ import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugin.common.EventChannel.StreamHandler;
 import io.flutter.plugin.common.MethodChannel;
+import io.flutter.plugins.firebase.core.FlutterFirebaseChannelMetrics;
 import io.flutter.plugins.firebase.core.FlutterFirebaseCorePlugin;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutor;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutors;
 import io.flutter.plugins.firebase.core.FlutterFirebasePlugin;
 import java.util.HashMap;
 import java.util.List;
@@ -45,7 +48,9 @@ public class FlutterFirebaseAuthPlugin
         ActivityAware,
         GeneratedAndroidFirebaseAuth.FirebaseAuthHostApi {
 
-  private static final String METHOD_CHANNEL_NAME = "plugins.flutter.io/firebase_auth";
+  static final String METHOD_CHANNEL_NAME = "plugins.flutter.io/firebase_auth";
+  private static final FlutterFirebaseExecutor executor =
+      FlutterFirebaseExecutors.getExecutor(METHOD_CHANNEL_NAME);
 
   // Stores the instances of native AuthCredentials by their hashCode
   static final HashMap<Integer, AuthCredential> authCredentials = new HashMap<>();
@@ -66,13 +71,19 @@ public class FlutterFirebaseAuthPlugin
 
   private void initInstance(BinaryMessenger messenger) {
     registerPlugin(METHOD_CHANNEL_NAME, this);
-    channel = new MethodChannel(messenger, METHOD_CHANNEL_NAME);
-    GeneratedAndroidFirebaseAuth.FirebaseAuthHostApi.setUp(messenger, this);
-    GeneratedAndroidFirebaseAuth.FirebaseAuthUserHostApi.setUp(messenger, firebaseAuthUser);
-    GeneratedAndroidFirebaseAuth.MultiFactorUserHostApi.setUp(messenger, firebaseMultiFactor);
-    GeneratedAndroidFirebaseAuth.MultiFactoResolverHostApi.setUp(messenger, firebaseMultiFactor);
-    GeneratedAndroidFirebaseAuth.MultiFactorTotpHostApi.setUp(messenger, firebaseTotpMultiFactor);
-    GeneratedAndroidFirebaseAuth.MultiFactorTotpSecretHostApi.setUp(messenger, firebaseTotpSecret);
+    BinaryMessenger instrumentedMessenger = FlutterFirebaseChannelMetrics.instrument(messenger);
+    channel = new MethodChannel(instrumentedMessenger, METHOD_CHANNEL_NAME);
+    GeneratedAndroidFirebaseAuth.FirebaseAuthHostApi.setUp(instrumentedMessenger, this);
+    GeneratedAndroidFirebaseAuth.FirebaseAuthUserHostApi.setUp(
+        instrumentedMessenger, firebaseAuthUser);
+    GeneratedAndroidFirebaseAuth.MultiFactorUserHostApi.setUp(
+        instrumentedMessenger, firebaseMultiFactor);
+    GeneratedAndroidFirebaseAuth.MultiFactoResolverHostApi.setUp(
+        instrumentedMessenger, firebaseMultiFactor);
+    GeneratedAndroidFirebaseAuth.MultiFactorTotpHostApi.setUp(
+        instrumentedMessenger, firebaseTotpMultiFactor);
+    GeneratedAndroidFirebaseAuth.MultiFactorTotpSecretHostApi.setUp(
+        instrumentedMessenger, firebaseTotpSecret);
 
     this.messenger = messenger;
   }
@@ -681,7 +692,7 @@ public class FlutterFirebaseAuthPlugin
   public Task<Map<String, Object>> getPluginConstantsForFirebaseApp(FirebaseApp firebaseApp) {
     TaskCompletionSource<Map<String, Object>> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             Map<String, Object> constants = new HashMap<>();
@@ -713,7 +724,7 @@ public class FlutterFirebaseAuthPlugin
   public Task<Void> didReinitializeFirebaseCore() {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             removeEventListeners();
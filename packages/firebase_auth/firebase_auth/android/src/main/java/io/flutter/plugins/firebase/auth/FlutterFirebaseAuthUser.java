@@ -6,13 +6,10 @@
 
 package io.flutter.plugins.firebase.auth;
 
-import static io.flutter.plugins.firebase.core.FlutterFirebasePlugin.cachedThreadPool;
-
 import android.app.Activity;
 import android.net.Uri;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
-import com.google.android.gms.tasks.Tasks;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.auth.AuthCredential;
 import com.google.firebase.auth.FirebaseAuth;
@@ -21,10 +18,14 @@ import com.google.firebase.auth.GetTokenResult;
 import com.google.firebase.auth.OAuthProvider;
 import com.google.firebase.auth.PhoneAuthCredential;
 import com.google.firebase.auth.UserProfileChangeRequest;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutor;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutors;
 import java.util.Map;
 
 public class FlutterFirebaseAuthUser
     implements GeneratedAndroidFirebaseAuth.FirebaseAuthUserHostApi {
+  private static final FlutterFirebaseExecutor executor =
+      FlutterFirebaseExecutors.getExecutor(FlutterFirebaseAuthPlugin.METHOD_CHANNEL_NAME);
 
   private Activity activity;
 
@@ -75,21 +76,27 @@ public class FlutterFirebaseAuthUser
       @NonNull
           GeneratedAndroidFirebaseAuth.Result<GeneratedAndroidFirebaseAuth.PigeonIdTokenResult>
               result) {
-    cachedThreadPool.execute(
-        () -> {
-          FirebaseUser firebaseUser = getCurrentUserFromPigeon(app);
-
-          if (firebaseUser == null) {
-            result.error(FlutterFirebaseAuthPluginException.noUser());
-            return;
-          }
-          try {
-            GetTokenResult response = Tasks.await(firebaseUser.getIdToken(forceRefresh));
-            result.success(PigeonParser.parseTokenResult(response));
-          } catch (Exception exception) {
-            result.error(FlutterFirebaseAuthPluginException.parserExceptionToFlutter(exception));
-          }
-        });
+    FirebaseUser firebaseUser = getCurrentUserFromPigeon(app);
+
+    if (firebaseUser == null) {
+      result.error(FlutterFirebaseAuthPluginException.noUser());
+      return;
+    }
+
+    firebaseUser
+        .getIdToken(forceRefresh)
+        .addOnCompleteListener(
+            executor.getContinuationExecutor(),
+            task -> {
+              if (task.isSuccessful()) {
+                GetTokenResult response = task.getResult();
+                result.success(PigeonParser.parseTokenResult(response));
+              } else {
+                result.error(
+                    FlutterFirebaseAuthPluginException.parserExceptionToFlutter(
+                        task.getException()));
+              }
+            });
   }
 
   @Override
@@ -0,0 +1,384 @@
+/*
+ * Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+ * for details. All rights reserved. Use of this source code is governed by a
+ * BSD-style license that can be found in the LICENSE file.
+ */
+
+package io.flutter.plugins.firebase.core;
+
+import androidx.annotation.Keep;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugin.common.BinaryMessenger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-method latency and throughput metrics for the platform channels of FlutterFire plugins.
+ *
+ * <p>Plugins opt in by registering their Pigeon host APIs and MethodChannels through {@link
+ * #instrument(BinaryMessenger)}. For every call the following is then recorded, keyed by the
+ * Pigeon channel (for example `FirebaseFirestoreHostApi.documentReferenceGet`) or by the
+ * MethodChannel name and method (for example
+ * `plugins.flutter.io/firebase_analytics#Analytics#logEvent`):
+ *
+ * <ul>
+ *   <li>serialization: time on the platform thread to decode the call and hand it off, that is
+ *       until the call is queued on a {@link FlutterFirebaseExecutor} or the handler returns;
+ *   <li>queue wait: time the call waits in the plugin's executor before a worker picks it up;
+ *   <li>execution: time from the worker picking the call up until the encoded reply is sent,
+ *       including the native SDK call;
+ *   <li>request and reply payload sizes, in bytes;
+ *   <li>the number of calls, and of calls answered with an error.
+ * </ul>
+ *
+ * <p>Durations are recorded in nanoseconds into {@link FlutterFirebaseHistogram}s, so recording
+ * is lock-free and never allocates once a method has been seen.
+ *
+ * <p>Recording is off until it is enabled with {@link #setEnabled}, which the core plugin does the
+ * first time Dart asks for the metrics, so apps that never read them do not pay for them.
+ */
+@Keep
+public class FlutterFirebaseChannelMetrics {
+  private static final String PIGEON_CHANNEL_PREFIX = "dev.flutter.pigeon.";
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+  // StandardMessageCodec type tags, see io.flutter.plugin.common.StandardMessageCodec.
+  private static final byte STRING = 7;
+  private static final byte LIST = 12;
+
+  private static final ConcurrentHashMap<String, MethodMetrics> metrics =
+      new ConcurrentHashMap<>();
+  private static final ThreadLocal<Call> currentCall = new ThreadLocal<>();
+  private static volatile boolean enabled;
+
+  /** The metrics recorded for a single Pigeon method or MethodChannel method. */
+  public static final class MethodMetrics {
+    public final FlutterFirebaseHistogram queueWaitNanos = new FlutterFirebaseHistogram();
+    public final FlutterFirebaseHistogram executionNanos = new FlutterFirebaseHistogram();
+    public final FlutterFirebaseHistogram serializationNanos = new FlutterFirebaseHistogram();
+    public final FlutterFirebaseHistogram requestBytes = new FlutterFirebaseHistogram();
+    public final FlutterFirebaseHistogram replyBytes = new FlutterFirebaseHistogram();
+    // Only recorded for operations that retry, see #recordOperation.
+    public final FlutterFirebaseHistogram attempts = new FlutterFirebaseHistogram();
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    public long getCalls() {
+      return calls.get();
+    }
+
+    public long getErrors() {
+      return errors.get();
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> map = new HashMap<>();
+      map.put("calls", calls.get());
+      map.put("errors", errors.get());
+      map.put("queueWaitNanos", queueWaitNanos.getSnapshot().toMap());
+      map.put("executionNanos", executionNanos.getSnapshot().toMap());
+      map.put("serializationNanos", serializationNanos.getSnapshot().toMap());
+      map.put("requestBytes", requestBytes.getSnapshot().toMap());
+      map.put("replyBytes", replyBytes.getSnapshot().toMap());
+      if (attempts.getCount() > 0) {
+        map.put("attempts", attempts.getSnapshot().toMap());
+      }
+      return map;
+    }
+
+    void reset() {
+      calls.set(0);
+      errors.set(0);
+      queueWaitNanos.reset();
+      executionNanos.reset();
+      serializationNanos.reset();
+      requestBytes.reset();
+      replyBytes.reset();
+      attempts.reset();
+    }
+  }
+
+  /** Timestamps of a single call, from the moment its message reached the platform side. */
+  static final class Call {
+    final MethodMetrics metrics;
+    final long receivedAtNanos = System.nanoTime();
+    private volatile long dispatchedAtNanos;
+    private final AtomicLong startedAtNanos = new AtomicLong();
+
+    Call(MethodMetrics metrics) {
+      this.metrics = metrics;
+    }
+
+    /** Marks the call as handed off to an executor. Only the first hand-off is recorded. */
+    void markDispatched() {
+      if (dispatchedAtNanos == 0) {
+        dispatchedAtNanos = System.nanoTime();
+      }
+    }
+
+    /** Marks the call as picked up by a worker. Only the first worker is recorded. */
+    void markStarted() {
+      startedAtNanos.compareAndSet(0, System.nanoTime());
+    }
+
+    void markReplied(@Nullable ByteBuffer reply, boolean isError) {
+      long repliedAtNanos = System.nanoTime();
+      long dispatchedAt = dispatchedAtNanos == 0 ? repliedAtNanos : dispatchedAtNanos;
+      long startedAt = startedAtNanos.get() == 0 ? dispatchedAt : startedAtNanos.get();
+
+      metrics.serializationNanos.record(dispatchedAt - receivedAtNanos);
+      metrics.queueWaitNanos.record(startedAt - dispatchedAt);
+      metrics.executionNanos.record(repliedAtNanos - startedAt);
+      metrics.replyBytes.record(reply == null ? 0 : reply.remaining());
+      if (isError) {
+        metrics.errors.incrementAndGet();
+      }
+    }
+  }
+
+  /**
+   * Returns a messenger that records metrics for every handler registered through it, and forwards
+   * everything else to `messenger`. Use it when setting up Pigeon host APIs and MethodChannels, for
+   * example `new MethodChannel(FlutterFirebaseChannelMetrics.instrument(messenger), name)`.
+   */
+  @NonNull
+  public static BinaryMessenger instrument(@NonNull BinaryMessenger messenger) {
+    if (messenger instanceof InstrumentedMessenger) {
+      return messenger;
+    }
+    return new InstrumentedMessenger(messenger);
+  }
+
+  /** Enables or disables recording. Recording is disabled by default. */
+  public static void setEnabled(boolean enabled) {
+    FlutterFirebaseChannelMetrics.enabled = enabled;
+  }
+
+  /**
+   * Records an event a plugin sends to Dart outside of a call, for example a snapshot on an
+   * EventChannel, under `name` (for example `plugins.flutter.io/firebase_firestore/query#snapshot`
+   * for Firestore query snapshots): the time spent encoding it as serialization, and its encoded
+   * size as reply bytes.
+   */
+  public static void recordEvent(@NonNull String name, long serializationNanos, int bytes) {
+    if (!enabled) {
+      return;
+    }
+    MethodMetrics methodMetrics = getOrCreateMethodMetrics(name);
+    methodMetrics.calls.incrementAndGet();
+    methodMetrics.serializationNanos.record(serializationNanos);
+    methodMetrics.replyBytes.record(bytes);
+  }
+
+  /**
+   * Records an operation a plugin runs across several calls and events under `name`, for example
+   * a Firestore transaction under `plugins.flutter.io/firebase_firestore/transaction#run`: the
+   * time it waited to start as queue wait, the time it ran as execution, the number of attempts
+   * it took, and whether it failed.
+   */
+  public static void recordOperation(
+      @NonNull String name,
+      long queueWaitNanos,
+      long executionNanos,
+      int attempts,
+      boolean isError) {
+    if (!enabled) {
+      return;
+    }
+    MethodMetrics methodMetrics = getOrCreateMethodMetrics(name);
+    methodMetrics.calls.incrementAndGet();
+    methodMetrics.queueWaitNanos.record(queueWaitNanos);
+    methodMetrics.executionNanos.record(executionNanos);
+    methodMetrics.attempts.record(attempts);
+    if (isError) {
+      methodMetrics.errors.incrementAndGet();
+    }
+  }
+
+  /** Returns the metrics of a method, or null if it has not been called yet. */
+  @Nullable
+  public static MethodMetrics getMethodMetrics(@NonNull String method) {
+    return metrics.get(method);
+  }
+
+  /**
+   * Returns the metrics of every method called so far as plain values, keyed by method, and
+   * optionally resets them.
+   */
+  @NonNull
+  public static Map<String, Object> getSnapshot(boolean reset) {
+    Map<String, Object> snapshot = new HashMap<>(metrics.size());
+    for (Map.Entry<String, MethodMetrics> entry : metrics.entrySet()) {
+      snapshot.put(entry.getKey(), entry.getValue().toMap());
+      if (reset) {
+        entry.getValue().reset();
+      }
+    }
+    return snapshot;
+  }
+
+  /** Returns the call whose handler is running on the current thread, if any. */
+  @Nullable
+  static Call getCurrentCall() {
+    return currentCall.get();
+  }
+
+  private static MethodMetrics getOrCreateMethodMetrics(String method) {
+    MethodMetrics methodMetrics = metrics.get(method);
+    if (methodMetrics == null) {
+      MethodMetrics created = new MethodMetrics();
+      methodMetrics = metrics.putIfAbsent(method, created);
+      if (methodMetrics == null) {
+        methodMetrics = created;
+      }
+    }
+    return methodMetrics;
+  }
+
+  private static String methodKey(String channel, @Nullable ByteBuffer message) {
+    if (channel.startsWith(PIGEON_CHANNEL_PREFIX)) {
+      return channel.substring(PIGEON_CHANNEL_PREFIX.length());
+    }
+    String method = message == null ? null : readMethodName(message);
+    return channel + "#" + (method == null ? "unknown" : method);
+  }
+
+  /**
+   * Reads the method name of a MethodChannel call, which StandardMethodCodec encodes as the first
+   * value of the message, without consuming `message`.
+   */
+  @Nullable
+  private static String readMethodName(ByteBuffer message) {
+    ByteBuffer buffer = message.duplicate().order(ByteOrder.nativeOrder());
+    try {
+      if (buffer.get() != STRING) {
+        return null;
+      }
+      int size = readSize(buffer);
+      byte[] bytes = new byte[size];
+      buffer.get(bytes);
+      return new String(bytes, UTF_8);
+    } catch (RuntimeException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Returns true if `reply` is an error: an error envelope for MethodChannels, or a list with an
+   * error code, message and details for Pigeon channels. A null reply means the method is not
+   * implemented.
+   */
+  private static boolean isError(boolean isPigeon, @Nullable ByteBuffer reply) {
+    if (reply == null || !reply.hasRemaining()) {
+      return true;
+    }
+    ByteBuffer buffer = reply.duplicate().order(ByteOrder.nativeOrder());
+    try {
+      if (!isPigeon) {
+        return buffer.get() != 0;
+      }
+      return buffer.get() == LIST && readSize(buffer) > 1;
+    } catch (RuntimeException e) {
+      return false;
+    }
+  }
+
+  private static int readSize(ByteBuffer buffer) {
+    int value = buffer.get() & 0xff;
+    if (value < 254) {
+      return value;
+    } else if (value == 254) {
+      return buffer.getChar();
+    } else {
+      return buffer.getInt();
+    }
+  }
+
+  private static final class InstrumentedMessenger implements BinaryMessenger {
+    private final BinaryMessenger delegate;
+
+    InstrumentedMessenger(BinaryMessenger delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public TaskQueue makeBackgroundTaskQueue(TaskQueueOptions options) {
+      return delegate.makeBackgroundTaskQueue(options);
+    }
+
+    @Override
+    public void send(@NonNull String channel, @Nullable ByteBuffer message) {
+      delegate.send(channel, message);
+    }
+
+    @Override
+    public void send(
+        @NonNull String channel, @Nullable ByteBuffer message, @Nullable BinaryReply callback) {
+      delegate.send(channel, message, callback);
+    }
+
+    @Override
+    public void setMessageHandler(
+        @NonNull String channel, @Nullable BinaryMessageHandler handler) {
+      delegate.setMessageHandler(channel, wrap(channel, handler));
+    }
+
+    @Override
+    public void setMessageHandler(
+        @NonNull String channel,
+        @Nullable BinaryMessageHandler handler,
+        @Nullable TaskQueue taskQueue) {
+      delegate.setMessageHandler(channel, wrap(channel, handler), taskQueue);
+    }
+
+    @Override
+    public void enableBufferingIncomingMessages() {
+      delegate.enableBufferingIncomingMessages();
+    }
+
+    @Override
+    public void disableBufferingIncomingMessages() {
+      delegate.disableBufferingIncomingMessages();
+    }
+
+    @Nullable
+    private static BinaryMessageHandler wrap(
+        @NonNull String channel, @Nullable BinaryMessageHandler handler) {
+      if (handler == null) {
+        return null;
+      }
+      boolean isPigeon = channel.startsWith(PIGEON_CHANNEL_PREFIX);
+      return (message, reply) -> {
+        if (!enabled) {
+          handler.onMessage(message, reply);
+          return;
+        }
+
+        MethodMetrics methodMetrics = getOrCreateMethodMetrics(methodKey(channel, message));
+        methodMetrics.calls.incrementAndGet();
+        methodMetrics.requestBytes.record(message == null ? 0 : message.remaining());
+
+        Call call = new Call(methodMetrics);
+        Call previous = currentCall.get();
+        currentCall.set(call);
+        try {
+          handler.onMessage(
+              message,
+              replyMessage -> {
+                call.markReplied(replyMessage, isError(isPigeon, replyMessage));
+                reply.reply(replyMessage);
+              });
+        } finally {
+          call.markDispatched();
+          currentCall.set(previous);
+        }
+      };
+    }
+  }
+}
@@ -3,8 +3,6 @@
 // found in the LICENSE file.
 package io.flutter.plugins.firebase.core;
 
-import static io.flutter.plugins.firebase.core.FlutterFirebasePlugin.cachedThreadPool;
-
 import android.content.Context;
 import android.os.Looper;
 import androidx.annotation.NonNull;
@@ -28,6 +26,10 @@ public class FlutterFirebaseCorePlugin
     implements FlutterPlugin,
         GeneratedAndroidFirebaseCore.FirebaseCoreHostApi,
         GeneratedAndroidFirebaseCore.FirebaseAppHostApi {
+  static final String METHOD_CHANNEL_NAME = "plugins.flutter.io/firebase_core";
+  private static final FlutterFirebaseExecutor executor =
+      FlutterFirebaseExecutors.getExecutor(METHOD_CHANNEL_NAME);
+
   private Context applicationContext;
   private boolean coreInitialized = false;
 
@@ -69,46 +71,45 @@ public class FlutterFirebaseCorePlugin
 
   private Task<GeneratedAndroidFirebaseCore.PigeonInitializeResponse> firebaseAppToMap(
       FirebaseApp firebaseApp) {
-    TaskCompletionSource<GeneratedAndroidFirebaseCore.PigeonInitializeResponse>
-        taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
-        () -> {
-          try {
-            GeneratedAndroidFirebaseCore.PigeonInitializeResponse.Builder initializeResponse =
-                new GeneratedAndroidFirebaseCore.PigeonInitializeResponse.Builder();
-
-            initializeResponse.setName(firebaseApp.getName());
-            initializeResponse.setOptions(firebaseOptionsToMap(firebaseApp.getOptions()));
-
-            initializeResponse.setIsAutomaticDataCollectionEnabled(
-                firebaseApp.isDataCollectionDefaultEnabled());
-            initializeResponse.setPluginConstants(
-                Tasks.await(
-                    FlutterFirebasePluginRegistry.getPluginConstantsForFirebaseApp(firebaseApp)));
+    return firebaseAppToMap(
+        firebaseApp, FlutterFirebasePluginRegistry.getPluginConstantsForFirebaseApp(firebaseApp));
+  }
 
-            taskCompletionSource.setResult(initializeResponse.build());
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
-          }
+  private Task<GeneratedAndroidFirebaseCore.PigeonInitializeResponse> firebaseAppToMap(
+      FirebaseApp firebaseApp, Task<Map<String, Object>> pluginConstantsTask) {
+    return FlutterFirebaseTasks.map(
+        pluginConstantsTask,
+        executor,
+        pluginConstants -> {
+          GeneratedAndroidFirebaseCore.PigeonInitializeResponse.Builder initializeResponse =
+              new GeneratedAndroidFirebaseCore.PigeonInitializeResponse.Builder();
+
+          initializeResponse.setName(firebaseApp.getName());
+          initializeResponse.setOptions(firebaseOptionsToMap(firebaseApp.getOptions()));
+
+          initializeResponse.setIsAutomaticDataCollectionEnabled(
+              firebaseApp.isDataCollectionDefaultEnabled());
+          initializeResponse.setPluginConstants(pluginConstants);
+
+          return initializeResponse.build();
         });
-
-    return taskCompletionSource.getTask();
   }
 
   private <T> void listenToResponse(
       TaskCompletionSource<T> taskCompletionSource, GeneratedAndroidFirebaseCore.Result<T> result) {
-    taskCompletionSource
-        .getTask()
-        .addOnCompleteListener(
-            task -> {
-              if (task.isSuccessful()) {
-                result.success(task.getResult());
-              } else {
-                Exception exception = task.getException();
-                result.error(exception);
-              }
-            });
+    listenToResponse(taskCompletionSource.getTask(), result);
+  }
+
+  private <T> void listenToResponse(Task<T> task, GeneratedAndroidFirebaseCore.Result<T> result) {
+    task.addOnCompleteListener(
+        completedTask -> {
+          if (completedTask.isSuccessful()) {
+            result.success(completedTask.getResult());
+          } else {
+            Exception exception = completedTask.getException();
+            result.error(exception);
+          }
+        });
   }
 
   @Override
@@ -117,45 +118,39 @@ public class FlutterFirebaseCorePlugin
       @NonNull GeneratedAndroidFirebaseCore.PigeonFirebaseOptions initializeAppRequest,
       GeneratedAndroidFirebaseCore.Result<GeneratedAndroidFirebaseCore.PigeonInitializeResponse>
           result) {
-    TaskCompletionSource<GeneratedAndroidFirebaseCore.PigeonInitializeResponse>
-        taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
-        () -> {
-          try {
-
-            FirebaseOptions options =
-                new FirebaseOptions.Builder()
-                    .setApiKey(initializeAppRequest.getApiKey())
-                    .setApplicationId(initializeAppRequest.getAppId())
-                    .setDatabaseUrl(initializeAppRequest.getDatabaseURL())
-                    .setGcmSenderId(initializeAppRequest.getMessagingSenderId())
-                    .setProjectId(initializeAppRequest.getProjectId())
-                    .setStorageBucket(initializeAppRequest.getStorageBucket())
-                    .setGaTrackingId(initializeAppRequest.getTrackingId())
-                    .build();
-            // TODO(Salakar) hacky workaround a bug with FirebaseInAppMessaging causing the error:
-            //    Can't create handler inside thread Thread[pool-3-thread-1,5,main] that has not called Looper.prepare()
-            //     at com.google.firebase.inappmessaging.internal.ForegroundNotifier.<init>(ForegroundNotifier.java:61)
-            try {
-              Looper.prepare();
-            } catch (Exception e) {
-              // do nothing
-            }
+    Task<GeneratedAndroidFirebaseCore.PigeonInitializeResponse> task =
+        FlutterFirebaseTasks.call(
+            executor,
+            () -> {
+              FirebaseOptions options =
+                  new FirebaseOptions.Builder()
+                      .setApiKey(initializeAppRequest.getApiKey())
+                      .setApplicationId(initializeAppRequest.getAppId())
+                      .setDatabaseUrl(initializeAppRequest.getDatabaseURL())
+                      .setGcmSenderId(initializeAppRequest.getMessagingSenderId())
+                      .setProjectId(initializeAppRequest.getProjectId())
+                      .setStorageBucket(initializeAppRequest.getStorageBucket())
+                      .setGaTrackingId(initializeAppRequest.getTrackingId())
+                      .build();
+              // TODO(Salakar) hacky workaround a bug with FirebaseInAppMessaging causing the error:
+              //    Can't create handler inside thread Thread[pool-3-thread-1,5,main] that has not called Looper.prepare()
+              //     at com.google.firebase.inappmessaging.internal.ForegroundNotifier.<init>(ForegroundNotifier.java:61)
+              try {
+                Looper.prepare();
+              } catch (Exception e) {
+                // do nothing
+              }
 
-            if (initializeAppRequest.getAuthDomain() != null) {
-              customAuthDomain.put(appName, initializeAppRequest.getAuthDomain());
-            }
+              if (initializeAppRequest.getAuthDomain() != null) {
+                customAuthDomain.put(appName, initializeAppRequest.getAuthDomain());
+              }
 
-            FirebaseApp firebaseApp =
-                FirebaseApp.initializeApp(applicationContext, options, appName);
-            taskCompletionSource.setResult(Tasks.await(firebaseAppToMap(firebaseApp)));
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
-          }
-        });
+              FirebaseApp firebaseApp =
+                  FirebaseApp.initializeApp(applicationContext, options, appName);
+              return firebaseAppToMap(firebaseApp);
+            });
 
-    listenToResponse(taskCompletionSource, result);
+    listenToResponse(task, result);
   }
 
   @Override
@@ -163,33 +158,116 @@ public class FlutterFirebaseCorePlugin
       GeneratedAndroidFirebaseCore.Result<
               List<GeneratedAndroidFirebaseCore.PigeonInitializeResponse>>
           result) {
-    TaskCompletionSource<List<GeneratedAndroidFirebaseCore.PigeonInitializeResponse>>
-        taskCompletionSource = new TaskCompletionSource<>();
+    Task<List<GeneratedAndroidFirebaseCore.PigeonInitializeResponse>> task =
+        FlutterFirebaseTasks.call(
+            executor,
+            () -> {
+              if (!coreInitialized) {
+                coreInitialized = true;
+                return initializeFirebaseApps();
+              }
+              return FlutterFirebaseTasks.chain(
+                  FlutterFirebasePluginRegistry.didReinitializeFirebaseCore(),
+                  executor,
+                  ignored -> firebaseAppsToList(FirebaseApp.getApps(applicationContext)));
+            });
 
-    cachedThreadPool.execute(
-        () -> {
-          try {
-            if (!coreInitialized) {
-              coreInitialized = true;
-            } else {
-              Tasks.await(FlutterFirebasePluginRegistry.didReinitializeFirebaseCore());
-            }
+    listenToResponse(task, result);
+  }
 
-            List<FirebaseApp> firebaseApps = FirebaseApp.getApps(applicationContext);
-            List<GeneratedAndroidFirebaseCore.PigeonInitializeResponse> firebaseAppsList =
-                new ArrayList<>(firebaseApps.size());
+  /**
+   * Builds the responses for the first `initializeCore` call of this process. With the warm-start
+   * cache enabled, the constants of plugins that allow caching them are taken from the previous
+   * launch instead of being waited for, while every other plugin's constants are always fresh. The
+   * fresh cacheable constants are saved for the next launch if they differ.
+   */
+  private Task<List<GeneratedAndroidFirebaseCore.PigeonInitializeResponse>>
+      initializeFirebaseApps() {
+    List<FirebaseApp> firebaseApps = FirebaseApp.getApps(applicationContext);
+    FlutterFirebaseInitializeCache initializeCache =
+        FlutterFirebaseInitializeCache.create(applicationContext);
+    if (initializeCache == null) {
+      return firebaseAppsToList(firebaseApps);
+    }
 
-            for (FirebaseApp firebaseApp : firebaseApps) {
-              firebaseAppsList.add(Tasks.await(firebaseAppToMap(firebaseApp)));
-            }
+    List<Map<String, Object>> cachedConstants = initializeCache.read(firebaseApps);
+    List<Task<GeneratedAndroidFirebaseCore.PigeonInitializeResponse>> responseTasks =
+        new ArrayList<>(firebaseApps.size());
+    List<Task<Map<String, Object>>> freshConstantsTasks = new ArrayList<>(firebaseApps.size());
+
+    for (int i = 0; i < firebaseApps.size(); i++) {
+      FirebaseApp firebaseApp = firebaseApps.get(i);
+      // Plugins are still asked for their constants, so their side effects happen as before.
+      Map<String, Task<Map<String, Object>>> constantsTasks =
+          FlutterFirebasePluginRegistry.requestPluginConstants(firebaseApp);
+      freshConstantsTasks.add(FlutterFirebasePluginRegistry.collectPluginConstants(constantsTasks));
+
+      if (cachedConstants != null) {
+        Map<String, Object> cacheableConstants =
+            FlutterFirebasePluginRegistry.getCacheablePluginConstants(cachedConstants.get(i));
+        constantsTasks = new HashMap<>(constantsTasks);
+        for (Map.Entry<String, Object> entry : cacheableConstants.entrySet()) {
+          if (constantsTasks.containsKey(entry.getKey()) && entry.getValue() instanceof Map) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> constants = (Map<String, Object>) entry.getValue();
+            constantsTasks.put(entry.getKey(), Tasks.forResult(constants));
+          }
+        }
+      }
+      responseTasks.add(
+          firebaseAppToMap(
+              firebaseApp, FlutterFirebasePluginRegistry.collectPluginConstants(constantsTasks)));
+    }
 
-            taskCompletionSource.setResult(firebaseAppsList);
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
+    Tasks.<Map<String, Object>>whenAllSuccess(freshConstantsTasks)
+        .addOnSuccessListener(
+            executor.getContinuationExecutor(),
+            freshConstants -> {
+              List<Map<String, Object>> cacheableConstants =
+                  new ArrayList<>(freshConstants.size());
+              for (Map<String, Object> pluginConstants : freshConstants) {
+                cacheableConstants.add(
+                    FlutterFirebasePluginRegistry.getCacheablePluginConstants(pluginConstants));
+              }
+              if (!cacheableConstants.equals(cachedConstants)) {
+                initializeCache.write(firebaseApps, cacheableConstants);
+              }
+            });
+
+    return responsesToList(responseTasks);
+  }
+
+  private Task<List<GeneratedAndroidFirebaseCore.PigeonInitializeResponse>> firebaseAppsToList(
+      List<FirebaseApp> firebaseApps) {
+    List<Task<GeneratedAndroidFirebaseCore.PigeonInitializeResponse>> responseTasks =
+        new ArrayList<>(firebaseApps.size());
+
+    for (FirebaseApp firebaseApp : firebaseApps) {
+      responseTasks.add(firebaseAppToMap(firebaseApp));
+    }
+
+    return responsesToList(responseTasks);
+  }
+
+  private Task<List<GeneratedAndroidFirebaseCore.PigeonInitializeResponse>> responsesToList(
+      List<Task<GeneratedAndroidFirebaseCore.PigeonInitializeResponse>> responseTasks) {
+    return FlutterFirebaseTasks.map(
+        Tasks.whenAllComplete(responseTasks),
+        executor,
+        completed -> {
+          List<GeneratedAndroidFirebaseCore.PigeonInitializeResponse> firebaseAppsList =
+              new ArrayList<>(responseTasks.size());
+
+          for (Task<GeneratedAndroidFirebaseCore.PigeonInitializeResponse> responseTask :
+              responseTasks) {
+            if (!responseTask.isSuccessful()) {
+              throw FlutterFirebaseTasks.getException(responseTask);
+            }
+            firebaseAppsList.add(responseTask.getResult());
           }
-        });
 
-    listenToResponse(taskCompletionSource, result);
+          return firebaseAppsList;
+        });
   }
 
   @Override
@@ -199,7 +277,7 @@ public class FlutterFirebaseCorePlugin
     TaskCompletionSource<GeneratedAndroidFirebaseCore.PigeonFirebaseOptions> taskCompletionSource =
         new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             final FirebaseOptions options = FirebaseOptions.fromResource(applicationContext);
@@ -218,6 +296,18 @@ public class FlutterFirebaseCorePlugin
     listenToResponse(taskCompletionSource, result);
   }
 
+  @Override
+  public void getChannelMetrics(
+      @NonNull Boolean reset, GeneratedAndroidFirebaseCore.Result<Map<String, Object>> result) {
+    // Recording is off until the metrics are first asked for.
+    FlutterFirebaseChannelMetrics.setEnabled(true);
+    // Building the snapshot walks every histogram, so keep it off the platform thread.
+    listenToResponse(
+        FlutterFirebaseTasks.call(
+            executor, () -> Tasks.forResult(FlutterFirebaseChannelMetrics.getSnapshot(reset))),
+        result);
+  }
+
   @Override
   public void setAutomaticDataCollectionEnabled(
       @NonNull String appName,
@@ -225,7 +315,7 @@ public class FlutterFirebaseCorePlugin
       GeneratedAndroidFirebaseCore.Result<Void> result) {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             FirebaseApp firebaseApp = FirebaseApp.getInstance(appName);
@@ -247,7 +337,7 @@ public class FlutterFirebaseCorePlugin
       GeneratedAndroidFirebaseCore.Result<Void> result) {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             FirebaseApp firebaseApp = FirebaseApp.getInstance(appName);
@@ -266,7 +356,7 @@ public class FlutterFirebaseCorePlugin
   public void delete(@NonNull String appName, GeneratedAndroidFirebaseCore.Result<Void> result) {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             FirebaseApp firebaseApp = FirebaseApp.getInstance(appName);
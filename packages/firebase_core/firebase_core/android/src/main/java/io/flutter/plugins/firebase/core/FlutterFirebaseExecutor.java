@@ -0,0 +1,504 @@
+/*
+ * Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+ * for details. All rights reserved. Use of this source code is governed by a
+ * BSD-style license that can be found in the LICENSE file.
+ */
+
+package io.flutter.plugins.firebase.core;
+
+import android.os.Looper;
+import androidx.annotation.Keep;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded, prioritized executor used by a single FlutterFire plugin.
+ *
+ * <p>Work is queued in two lanes: {@link Priority#USER_INITIATED} tasks always run before {@link
+ * Priority#BACKGROUND} tasks (such as Analytics `logEvent`). The queue is bounded; once it is full
+ * the configured {@link RejectionPolicy} is applied. Background tasks are additionally limited to a
+ * share of the queue so they can never starve user-facing calls.
+ *
+ * <p>A slot in the queue, and in the background lane, is reserved atomically before a task is
+ * queued, so concurrent submitters can never queue more tasks than the configured capacity. Tasks
+ * are always queued, including the ones submitted from the executor's own workers, so FIFO order
+ * within a lane holds for continuations too. Continuations of work the executor already accepted go
+ * through {@link #getContinuationExecutor()}, which skips the capacity check, so only new calls are
+ * ever rejected.
+ *
+ * <p>Instances are obtained through {@link FlutterFirebaseExecutors}.
+ */
+@Keep
+public class FlutterFirebaseExecutor extends ThreadPoolExecutor {
+
+  /** The lane a task is queued in. */
+  public enum Priority {
+    /** Calls a user is waiting on, for example a document read. */
+    USER_INITIATED,
+    /** Fire-and-forget work, for example logging an Analytics event. */
+    BACKGROUND,
+  }
+
+  /** What happens to a task submitted while the queue is full. */
+  public enum RejectionPolicy {
+    /** Throw a {@link RejectedExecutionException} to the caller. */
+    ABORT,
+    /**
+     * Run the task on the submitting thread, slowing the producer down. The main thread is never
+     * used; tasks submitted from it are rejected as with {@link #ABORT}.
+     */
+    CALLER_RUNS,
+  }
+
+  /** Configuration of a {@link FlutterFirebaseExecutor}. */
+  public static final class Config {
+    private final int maxThreads;
+    private final int queueCapacity;
+    private final int backgroundQueueCapacity;
+    private final long keepAliveMillis;
+    private final RejectionPolicy rejectionPolicy;
+
+    private Config(Builder builder) {
+      this.maxThreads = builder.maxThreads;
+      this.queueCapacity = builder.queueCapacity;
+      this.backgroundQueueCapacity = builder.backgroundQueueCapacity;
+      this.keepAliveMillis = builder.keepAliveMillis;
+      this.rejectionPolicy = builder.rejectionPolicy;
+    }
+
+    public int getMaxThreads() {
+      return maxThreads;
+    }
+
+    public int getQueueCapacity() {
+      return queueCapacity;
+    }
+
+    public int getBackgroundQueueCapacity() {
+      return backgroundQueueCapacity;
+    }
+
+    public long getKeepAliveMillis() {
+      return keepAliveMillis;
+    }
+
+    @NonNull
+    public RejectionPolicy getRejectionPolicy() {
+      return rejectionPolicy;
+    }
+
+    public static final class Builder {
+      private int maxThreads =
+          Math.max(4, Math.min(16, 2 * Runtime.getRuntime().availableProcessors()));
+      private int queueCapacity = 1024;
+      private int backgroundQueueCapacity = 512;
+      private long keepAliveMillis = 30_000L;
+      private RejectionPolicy rejectionPolicy = RejectionPolicy.ABORT;
+
+      @NonNull
+      public Builder setMaxThreads(int maxThreads) {
+        if (maxThreads < 1) {
+          throw new IllegalArgumentException("maxThreads must be at least 1.");
+        }
+        this.maxThreads = maxThreads;
+        return this;
+      }
+
+      @NonNull
+      public Builder setQueueCapacity(int queueCapacity) {
+        if (queueCapacity < 1) {
+          throw new IllegalArgumentException("queueCapacity must be at least 1.");
+        }
+        this.queueCapacity = queueCapacity;
+        return this;
+      }
+
+      @NonNull
+      public Builder setBackgroundQueueCapacity(int backgroundQueueCapacity) {
+        if (backgroundQueueCapacity < 0) {
+          throw new IllegalArgumentException("backgroundQueueCapacity must not be negative.");
+        }
+        this.backgroundQueueCapacity = backgroundQueueCapacity;
+        return this;
+      }
+
+      @NonNull
+      public Builder setKeepAliveMillis(long keepAliveMillis) {
+        this.keepAliveMillis = keepAliveMillis;
+        return this;
+      }
+
+      @NonNull
+      public Builder setRejectionPolicy(@NonNull RejectionPolicy rejectionPolicy) {
+        this.rejectionPolicy = rejectionPolicy;
+        return this;
+      }
+
+      @NonNull
+      public Config build() {
+        if (backgroundQueueCapacity > queueCapacity) {
+          backgroundQueueCapacity = queueCapacity;
+        }
+        return new Config(this);
+      }
+    }
+  }
+
+  /** A point-in-time view of an executor's load. */
+  public static final class Stats {
+    public final String name;
+    public final int activeThreads;
+    public final int poolSize;
+    public final int largestPoolSize;
+    public final int maxThreads;
+    public final int queueDepth;
+    public final int backgroundQueueDepth;
+    public final int peakQueueDepth;
+    public final long submittedTasks;
+    public final long completedTasks;
+    public final long inlinedTasks;
+    public final long rejectedTasks;
+    public final long totalQueueWaitMillis;
+
+    Stats(FlutterFirebaseExecutor executor) {
+      this.name = executor.name;
+      this.activeThreads = executor.getActiveCount();
+      this.poolSize = executor.getPoolSize();
+      this.largestPoolSize = executor.getLargestPoolSize();
+      this.maxThreads = executor.getMaximumPoolSize();
+      this.queueDepth = executor.queueDepth.get();
+      this.backgroundQueueDepth = executor.backgroundQueueDepth.get();
+      this.peakQueueDepth = executor.peakQueueDepth.get();
+      this.submittedTasks = executor.submittedTasks.get();
+      this.completedTasks = executor.getCompletedTaskCount();
+      this.inlinedTasks = executor.inlinedTasks.get();
+      this.rejectedTasks = executor.rejectedTasks.get();
+      this.totalQueueWaitMillis = TimeUnit.NANOSECONDS.toMillis(executor.queueWaitNanos.get());
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+      return name
+          + "{active="
+          + activeThreads
+          + ", pool="
+          + poolSize
+          + "/"
+          + maxThreads
+          + ", queued="
+          + queueDepth
+          + " ("
+          + backgroundQueueDepth
+          + " background, peak "
+          + peakQueueDepth
+          + "), submitted="
+          + submittedTasks
+          + ", completed="
+          + completedTasks
+          + ", inlined="
+          + inlinedTasks
+          + ", rejected="
+          + rejectedTasks
+          + "}";
+    }
+  }
+
+  private final String name;
+  private final Config config;
+  private final AtomicLong sequence = new AtomicLong();
+  private final AtomicLong submittedTasks = new AtomicLong();
+  private final AtomicLong inlinedTasks = new AtomicLong();
+  private final AtomicLong rejectedTasks = new AtomicLong();
+  private final AtomicLong queueWaitNanos = new AtomicLong();
+  // Tasks queued and not picked up by a worker yet, reserved before they are queued.
+  private final AtomicInteger queueDepth = new AtomicInteger();
+  private final AtomicInteger backgroundQueueDepth = new AtomicInteger();
+  private final AtomicInteger peakQueueDepth = new AtomicInteger();
+  private final Executor continuationExecutor = this::executeContinuation;
+
+  FlutterFirebaseExecutor(@NonNull String name, @NonNull Config config) {
+    // An unbounded PriorityBlockingQueue never lets the pool grow past its core size, so core and
+    // maximum sizes are equal and idle core threads are allowed to time out instead.
+    super(
+        config.getMaxThreads(),
+        config.getMaxThreads(),
+        config.getKeepAliveMillis(),
+        TimeUnit.MILLISECONDS,
+        new PriorityBlockingQueue<>(),
+        new WorkerThreadFactory(name),
+        new PolicyHandler(config.getRejectionPolicy()));
+    this.name = name;
+    this.config = config;
+    allowCoreThreadTimeOut(true);
+  }
+
+  @NonNull
+  public String getName() {
+    return name;
+  }
+
+  @NonNull
+  public Config getConfig() {
+    return config;
+  }
+
+  @NonNull
+  public Stats getStats() {
+    return new Stats(this);
+  }
+
+  /**
+   * Returns an executor that queues tasks in the {@link Priority#USER_INITIATED} lane without the
+   * capacity check, for the continuations of tasks this executor already accepted, for example
+   * with `Task#continueWith`. Rejecting those would throw on the SDK thread that completed the task
+   * and leave the call without a reply. Tasks are still rejected once the executor is shut down.
+   */
+  @NonNull
+  public Executor getContinuationExecutor() {
+    return continuationExecutor;
+  }
+
+  /**
+   * Returns a new executor that runs its tasks one at a time, in order, on this executor's threads,
+   * for work that must stay ordered, for example the events of a listener. Each serial executor
+   * only holds one thread at a time, so a slow task delays its own queue and not the others. Its
+   * queue is unbounded, tasks are never run on the submitting thread, and they are queued through
+   * {@link #getContinuationExecutor()}.
+   */
+  @NonNull
+  public Executor newSerialExecutor() {
+    return new SerialExecutor(continuationExecutor);
+  }
+
+  /** Queues the task in the {@link Priority#USER_INITIATED} lane. */
+  @Override
+  public void execute(@NonNull Runnable command) {
+    execute(Priority.USER_INITIATED, command);
+  }
+
+  /** Queues the task in the given lane. */
+  public void execute(@NonNull Priority priority, @NonNull Runnable command) {
+    submittedTasks.incrementAndGet();
+
+    int depth = reserve(queueDepth, config.getQueueCapacity());
+    if (depth < 0) {
+      getRejectedExecutionHandler().rejectedExecution(command, this);
+      return;
+    }
+    if (priority == Priority.BACKGROUND
+        && reserve(backgroundQueueDepth, config.getBackgroundQueueCapacity()) < 0) {
+      queueDepth.decrementAndGet();
+      getRejectedExecutionHandler().rejectedExecution(command, this);
+      return;
+    }
+
+    enqueue(priority, command, depth);
+  }
+
+  private void executeContinuation(@NonNull Runnable command) {
+    submittedTasks.incrementAndGet();
+    enqueue(Priority.USER_INITIATED, command, queueDepth.incrementAndGet());
+  }
+
+  /** Queues the task once its slots are reserved; `depth` is the queue depth it reserved. */
+  private void enqueue(Priority priority, Runnable command, int depth) {
+    FlutterFirebaseChannelMetrics.Call call = FlutterFirebaseChannelMetrics.getCurrentCall();
+    if (call != null) {
+      call.markDispatched();
+    }
+
+    try {
+      super.execute(new PrioritizedTask(command, priority, sequence.getAndIncrement(), call));
+    } catch (RejectedExecutionException e) {
+      queueDepth.decrementAndGet();
+      if (priority == Priority.BACKGROUND) {
+        backgroundQueueDepth.decrementAndGet();
+      }
+      throw e;
+    }
+    updatePeakQueueDepth(depth);
+  }
+
+  /**
+   * Takes one of the `capacity` slots counted by `depth`, and returns the new depth, or -1 if every
+   * slot is taken.
+   */
+  private static int reserve(AtomicInteger depth, int capacity) {
+    while (true) {
+      int current = depth.get();
+      if (current >= capacity) {
+        return -1;
+      }
+      if (depth.compareAndSet(current, current + 1)) {
+        return current + 1;
+      }
+    }
+  }
+
+  @Override
+  protected void beforeExecute(Thread thread, Runnable runnable) {
+    super.beforeExecute(thread, runnable);
+    if (runnable instanceof PrioritizedTask) {
+      PrioritizedTask task = (PrioritizedTask) runnable;
+      queueWaitNanos.addAndGet(System.nanoTime() - task.enqueuedAtNanos);
+      queueDepth.decrementAndGet();
+      if (task.call != null) {
+        task.call.markStarted();
+      }
+      if (task.priority == Priority.BACKGROUND) {
+        backgroundQueueDepth.decrementAndGet();
+      }
+    }
+  }
+
+  private void updatePeakQueueDepth(int queueDepth) {
+    int peak = peakQueueDepth.get();
+    while (queueDepth > peak && !peakQueueDepth.compareAndSet(peak, queueDepth)) {
+      peak = peakQueueDepth.get();
+    }
+  }
+
+  private static final class PrioritizedTask implements Runnable, Comparable<PrioritizedTask> {
+    final Runnable delegate;
+    final Priority priority;
+    final long sequence;
+    final long enqueuedAtNanos = System.nanoTime();
+    // The platform channel call this task was queued for, if any.
+    @Nullable final FlutterFirebaseChannelMetrics.Call call;
+
+    PrioritizedTask(
+        Runnable delegate,
+        Priority priority,
+        long sequence,
+        @Nullable FlutterFirebaseChannelMetrics.Call call) {
+      this.delegate = delegate;
+      this.priority = priority;
+      this.sequence = sequence;
+      this.call = call;
+    }
+
+    @Override
+    public void run() {
+      delegate.run();
+    }
+
+    @Override
+    public int compareTo(PrioritizedTask other) {
+      int byPriority = priority.compareTo(other.priority);
+      if (byPriority != 0) {
+        return byPriority;
+      }
+      // FIFO within a lane.
+      return Long.compare(sequence, other.sequence);
+    }
+  }
+
+  private static final class SerialExecutor implements Executor {
+    private final Executor executor;
+    // Guarded by itself, like `running`.
+    private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+    private boolean running;
+
+    SerialExecutor(Executor executor) {
+      this.executor = executor;
+    }
+
+    @Override
+    public void execute(@NonNull Runnable command) {
+      synchronized (tasks) {
+        tasks.add(command);
+        if (running) {
+          return;
+        }
+        running = true;
+      }
+      schedule();
+    }
+
+    // Tasks are queued one by one, so serial executors sharing the pool take turns.
+    private void schedule() {
+      try {
+        executor.execute(this::runNext);
+      } catch (RejectedExecutionException e) {
+        synchronized (tasks) {
+          tasks.clear();
+          running = false;
+        }
+        throw e;
+      }
+    }
+
+    private void runNext() {
+      Runnable task;
+      synchronized (tasks) {
+        task = tasks.poll();
+      }
+      try {
+        if (task != null) {
+          task.run();
+        }
+      } finally {
+        boolean hasNext;
+        synchronized (tasks) {
+          hasNext = !tasks.isEmpty();
+          running = hasNext;
+        }
+        if (hasNext) {
+          schedule();
+        }
+      }
+    }
+  }
+
+  private static final class PolicyHandler implements RejectedExecutionHandler {
+    private final RejectionPolicy policy;
+
+    PolicyHandler(RejectionPolicy policy) {
+      this.policy = policy;
+    }
+
+    @Override
+    public void rejectedExecution(Runnable runnable, ThreadPoolExecutor threadPoolExecutor) {
+      FlutterFirebaseExecutor executor = (FlutterFirebaseExecutor) threadPoolExecutor;
+      if (policy == RejectionPolicy.CALLER_RUNS
+          && !executor.isShutdown()
+          && Looper.myLooper() != Looper.getMainLooper()) {
+        executor.inlinedTasks.incrementAndGet();
+        runnable.run();
+        return;
+      }
+
+      executor.rejectedTasks.incrementAndGet();
+      throw new RejectedExecutionException(
+          "FlutterFire executor '" + executor.name + "' is saturated: " + executor.getStats());
+    }
+  }
+
+  private static final class WorkerThreadFactory implements ThreadFactory {
+    private final String name;
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    WorkerThreadFactory(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public Thread newThread(@NonNull Runnable runnable) {
+      String threadName = "FlutterFire-" + name + "-" + threadCount.incrementAndGet();
+      Thread thread = new Thread(runnable, threadName);
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+ * for details. All rights reserved. Use of this source code is governed by a
+ * BSD-style license that can be found in the LICENSE file.
+ */
+
+package io.flutter.plugins.firebase.core;
+
+import androidx.annotation.Keep;
+import androidx.annotation.NonNull;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registry of the {@link FlutterFirebaseExecutor}s used by FlutterFire plugins.
+ *
+ * <p>Each plugin gets its own bounded pool, keyed by its MethodChannel name (for example
+ * `plugins.flutter.io/firebase_firestore`), so a burst of calls to one plugin cannot starve the
+ * others.
+ */
+@Keep
+public class FlutterFirebaseExecutors {
+  /** Key of the executor shared by code that does not belong to a specific plugin. */
+  public static final String SHARED = "plugins.flutter.io/firebase_shared";
+
+  private static final Map<String, FlutterFirebaseExecutor> executors = new HashMap<>();
+  private static final Map<String, FlutterFirebaseExecutor.Config> configs = new HashMap<>();
+
+  /**
+   * Returns the executor for a plugin, creating it with its configured (or the default)
+   * configuration on first use.
+   *
+   * @param channelName The MethodChannel name the plugin registers with, for example
+   *     `plugins.flutter.io/firebase_core`.
+   */
+  @NonNull
+  public static FlutterFirebaseExecutor getExecutor(@NonNull String channelName) {
+    return getExecutor(channelName, new FlutterFirebaseExecutor.Config.Builder().build());
+  }
+
+  /**
+   * Returns the executor for `channelName`, creating it with its configured configuration, or with
+   * `defaultConfig` if none was set through {@link #configure}, on first use. Plugins use it for
+   * executors with specific needs, for example a single thread to keep events in order.
+   */
+  @NonNull
+  public static FlutterFirebaseExecutor getExecutor(
+      @NonNull String channelName, @NonNull FlutterFirebaseExecutor.Config defaultConfig) {
+    synchronized (executors) {
+      FlutterFirebaseExecutor executor = executors.get(channelName);
+      if (executor == null || executor.isShutdown()) {
+        FlutterFirebaseExecutor.Config config = configs.get(channelName);
+        if (config == null) {
+          config = defaultConfig;
+        }
+        executor = new FlutterFirebaseExecutor(threadNameFor(channelName), config);
+        executors.put(channelName, executor);
+      }
+      return executor;
+    }
+  }
+
+  /**
+   * Sets the configuration used for a plugin's executor. This must be called before the plugin is
+   * attached to an engine (for example from `Application#onCreate`); an executor that has already
+   * been created keeps its current configuration.
+   */
+  public static void configure(
+      @NonNull String channelName, @NonNull FlutterFirebaseExecutor.Config config) {
+    synchronized (executors) {
+      configs.put(channelName, config);
+    }
+  }
+
+  /** Returns the current load of every executor created so far, keyed by channel name. */
+  @NonNull
+  public static Map<String, FlutterFirebaseExecutor.Stats> getStats() {
+    synchronized (executors) {
+      Map<String, FlutterFirebaseExecutor.Stats> stats = new HashMap<>(executors.size());
+      for (Map.Entry<String, FlutterFirebaseExecutor> entry : executors.entrySet()) {
+        stats.put(entry.getKey(), entry.getValue().getStats());
+      }
+      return stats;
+    }
+  }
+
+  private static String threadNameFor(String channelName) {
+    int separator = channelName.lastIndexOf('/');
+    return separator == -1 ? channelName : channelName.substring(separator + 1);
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+ * for details. All rights reserved. Use of this source code is governed by a
+ * BSD-style license that can be found in the LICENSE file.
+ */
+
+package io.flutter.plugins.firebase.core;
+
+import androidx.annotation.Keep;
+import androidx.annotation.NonNull;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed-size, lock-free histogram of non-negative long values, such as durations in nanoseconds
+ * or payload sizes in bytes.
+ *
+ * <p>Like an HDR histogram, values are counted in log-linear buckets: every power of two is split
+ * into 8 equal sub-buckets, so any recorded value is reported with a relative error of at most
+ * 12.5%. Values up to 2^41 (about 36 minutes in nanoseconds) are tracked; larger values are
+ * counted in the last bucket.
+ *
+ * <p>Recording only touches atomics and never allocates. A {@link Snapshot} taken while values are
+ * being recorded may be off by the values recorded concurrently.
+ */
+@Keep
+public class FlutterFirebaseHistogram {
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int MAX_EXPONENT = 40;
+  private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong sum = new AtomicLong();
+  private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+  private final AtomicLong max = new AtomicLong();
+
+  /** A point-in-time summary of a {@link FlutterFirebaseHistogram}. */
+  public static final class Snapshot {
+    public final long count;
+    public final long sum;
+    public final long min;
+    public final long max;
+    public final long p50;
+    public final long p90;
+    public final long p99;
+    public final long p999;
+
+    private Snapshot(FlutterFirebaseHistogram histogram) {
+      long[] buckets = new long[BUCKET_COUNT];
+      long total = 0;
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+        buckets[i] = histogram.counts.get(i);
+        total += buckets[i];
+      }
+
+      this.count = total;
+      this.sum = histogram.sum.get();
+      this.max = histogram.max.get();
+      this.min = total == 0 ? 0 : Math.min(histogram.min.get(), max);
+      this.p50 = percentile(buckets, total, 0.5, max);
+      this.p90 = percentile(buckets, total, 0.9, max);
+      this.p99 = percentile(buckets, total, 0.99, max);
+      this.p999 = percentile(buckets, total, 0.999, max);
+    }
+
+    public long getMean() {
+      return count == 0 ? 0 : sum / count;
+    }
+
+    /** Returns the snapshot as a map of plain values, as sent to Dart. */
+    @NonNull
+    public Map<String, Object> toMap() {
+      Map<String, Object> map = new HashMap<>();
+      map.put("count", count);
+      map.put("sum", sum);
+      map.put("min", min);
+      map.put("max", max);
+      map.put("mean", getMean());
+      map.put("p50", p50);
+      map.put("p90", p90);
+      map.put("p99", p99);
+      map.put("p999", p999);
+      return map;
+    }
+
+    private static long percentile(long[] buckets, long total, double quantile, long max) {
+      if (total == 0) {
+        return 0;
+      }
+      long rank = Math.max(1, (long) Math.ceil(quantile * total));
+      long seen = 0;
+      for (int i = 0; i < buckets.length; i++) {
+        seen += buckets[i];
+        if (seen >= rank) {
+          return Math.min(highestEquivalentValue(i), max);
+        }
+      }
+      return max;
+    }
+  }
+
+  /** Records a value; negative values are recorded as 0. */
+  public void record(long value) {
+    long clamped = Math.max(0, value);
+    counts.incrementAndGet(bucketIndex(clamped));
+    count.incrementAndGet();
+    sum.addAndGet(clamped);
+    updateMin(clamped);
+    updateMax(clamped);
+  }
+
+  public long getCount() {
+    return count.get();
+  }
+
+  @NonNull
+  public Snapshot getSnapshot() {
+    return new Snapshot(this);
+  }
+
+  /** Clears all recorded values. */
+  public void reset() {
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts.set(i, 0);
+    }
+    count.set(0);
+    sum.set(0);
+    min.set(Long.MAX_VALUE);
+    max.set(0);
+  }
+
+  private void updateMin(long value) {
+    long current = min.get();
+    while (value < current && !min.compareAndSet(current, value)) {
+      current = min.get();
+    }
+  }
+
+  private void updateMax(long value) {
+    long current = max.get();
+    while (value > current && !max.compareAndSet(current, value)) {
+      current = max.get();
+    }
+  }
+
+  static int bucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    if (exponent > MAX_EXPONENT) {
+      return BUCKET_COUNT - 1;
+    }
+    int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  static long highestEquivalentValue(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+    long subBucket = index % SUB_BUCKET_COUNT;
+    long lowest = (SUB_BUCKET_COUNT + subBucket) << (exponent - SUB_BUCKET_BITS);
+    return lowest + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+ * for details. All rights reserved. Use of this source code is governed by a
+ * BSD-style license that can be found in the LICENSE file.
+ */
+
+package io.flutter.plugins.firebase.core;
+
+import android.content.Context;
+import android.content.pm.ApplicationInfo;
+import android.content.pm.PackageManager;
+import android.os.Bundle;
+import android.util.AtomicFile;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.FirebaseOptions;
+import io.flutter.plugin.common.StandardMessageCodec;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * On-disk snapshot of the plugin constants returned to `initializeCore` at the previous launch, so
+ * that the next cold start can answer Dart without waiting for the plugins that allow it.
+ *
+ * <p>The cache is opt-in, through the application's manifest:
+ *
+ * <pre>{@code
+ * <meta-data android:name="firebase_core_warm_start_cache_enabled" android:value="true" />
+ * }</pre>
+ *
+ * <p>Only the constants of plugins that allow it are stored, see {@link
+ * FlutterFirebasePlugin#canCachePluginConstants()}; the app name, options and the constants of
+ * every other plugin are always built fresh. Constants are stored per app, keyed by the app name
+ * and a hash of its options. The whole snapshot is discarded when the firebase_core version, the
+ * app install, or the set of registered plugins changes.
+ */
+class FlutterFirebaseInitializeCache {
+  private static final String TAG = "FLTFirebaseCore";
+  private static final String META_DATA_ENABLED = "firebase_core_warm_start_cache_enabled";
+  private static final String FILE_NAME = "io.flutter.plugins.firebase.core.initialize_cache";
+  private static final int FORMAT_VERSION = 2;
+
+  private final Context context;
+  private final AtomicFile file;
+
+  private FlutterFirebaseInitializeCache(Context context) {
+    this.context = context;
+    this.file = new AtomicFile(new File(context.getNoBackupFilesDir(), FILE_NAME));
+  }
+
+  /** Returns the cache if the application enabled it in its manifest, null otherwise. */
+  @Nullable
+  static FlutterFirebaseInitializeCache create(@NonNull Context context) {
+    try {
+      ApplicationInfo applicationInfo =
+          context
+              .getPackageManager()
+              .getApplicationInfo(context.getPackageName(), PackageManager.GET_META_DATA);
+      Bundle metaData = applicationInfo.metaData;
+      if (metaData == null || !metaData.getBoolean(META_DATA_ENABLED, false)) {
+        return null;
+      }
+    } catch (PackageManager.NameNotFoundException e) {
+      return null;
+    }
+    return new FlutterFirebaseInitializeCache(context);
+  }
+
+  /**
+   * Returns the cached plugin constants for `firebaseApps`, in the same order, or null if the
+   * snapshot is missing, outdated, or does not cover every app.
+   */
+  @Nullable
+  List<Map<String, Object>> read(@NonNull List<FirebaseApp> firebaseApps) {
+    Map<String, Object> constantsByKey = readSnapshot();
+    if (constantsByKey == null) {
+      return null;
+    }
+
+    List<Map<String, Object>> pluginConstants = new ArrayList<>(firebaseApps.size());
+    for (FirebaseApp firebaseApp : firebaseApps) {
+      Object cachedConstants = constantsByKey.get(keyFor(firebaseApp));
+      if (!(cachedConstants instanceof Map)) {
+        return null;
+      }
+
+      @SuppressWarnings("unchecked")
+      Map<String, Object> constants = (Map<String, Object>) cachedConstants;
+      pluginConstants.add(constants);
+    }
+    return pluginConstants;
+  }
+
+  /**
+   * Replaces the snapshot with `pluginConstants`, the cacheable plugin constants of
+   * `firebaseApps`.
+   */
+  void write(
+      @NonNull List<FirebaseApp> firebaseApps, @NonNull List<Map<String, Object>> pluginConstants) {
+    Map<String, Object> constantsByKey = new HashMap<>(pluginConstants.size());
+    for (int i = 0; i < pluginConstants.size(); i++) {
+      constantsByKey.put(keyFor(firebaseApps.get(i)), pluginConstants.get(i));
+    }
+
+    List<Object> snapshot = new ArrayList<>(3);
+    snapshot.add(FORMAT_VERSION);
+    snapshot.add(getFingerprint());
+    snapshot.add(constantsByKey);
+
+    FileOutputStream stream = null;
+    try {
+      ByteBuffer buffer = StandardMessageCodec.INSTANCE.encodeMessage(snapshot);
+      byte[] bytes = new byte[buffer.remaining()];
+      buffer.get(bytes);
+
+      stream = file.startWrite();
+      stream.write(bytes);
+      file.finishWrite(stream);
+    } catch (Exception e) {
+      // Plugin constants the codec cannot encode, or a disk error; the next launch starts cold.
+      if (stream != null) {
+        file.failWrite(stream);
+      }
+      Log.w(TAG, "Failed to write the initializeCore cache.", e);
+    }
+  }
+
+  @Nullable
+  private Map<String, Object> readSnapshot() {
+    if (!file.getBaseFile().exists()) {
+      return null;
+    }
+
+    try {
+      Object decoded =
+          StandardMessageCodec.INSTANCE.decodeMessage(ByteBuffer.wrap(file.readFully()));
+      if (!(decoded instanceof List)) {
+        return null;
+      }
+
+      List<?> snapshot = (List<?>) decoded;
+      if (snapshot.size() != 3
+          || !Integer.valueOf(FORMAT_VERSION).equals(snapshot.get(0))
+          || !getFingerprint().equals(snapshot.get(1))
+          || !(snapshot.get(2) instanceof Map)) {
+        return null;
+      }
+
+      @SuppressWarnings("unchecked")
+      Map<String, Object> constantsByKey = (Map<String, Object>) snapshot.get(2);
+      return constantsByKey;
+    } catch (Exception e) {
+      Log.w(TAG, "Discarding unreadable initializeCore cache.", e);
+      file.delete();
+      return null;
+    }
+  }
+
+  /**
+   * Identifies everything the cached constants depend on besides the app options: the
+   * firebase_core version, the installed app build, and the plugins that contribute constants.
+   */
+  private String getFingerprint() {
+    long lastUpdateTime = 0;
+    try {
+      lastUpdateTime =
+          context.getPackageManager().getPackageInfo(context.getPackageName(), 0).lastUpdateTime;
+    } catch (PackageManager.NameNotFoundException e) {
+      // Fall back to the version and plugins only.
+    }
+
+    return BuildConfig.LIBRARY_VERSION
+        + "|"
+        + lastUpdateTime
+        + "|"
+        + FlutterFirebasePluginRegistry.getRegisteredPluginNames();
+  }
+
+  private static String keyFor(FirebaseApp firebaseApp) {
+    FirebaseOptions options = firebaseApp.getOptions();
+    int optionsHash =
+        Arrays.hashCode(
+            new Object[] {
+              options.getApiKey(),
+              options.getApplicationId(),
+              options.getDatabaseUrl(),
+              options.getGaTrackingId(),
+              options.getGcmSenderId(),
+              options.getStorageBucket(),
+              options.getProjectId()
+            });
+    return firebaseApp.getName() + ":" + Integer.toHexString(optionsHash);
+  }
+}
@@ -8,12 +8,19 @@ import com.google.android.gms.tasks.Task;
 import com.google.firebase.FirebaseApp;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 @Keep
 public interface FlutterFirebasePlugin {
-  // A shared ExecutorService used by all FlutterFire Plugins for their GMS Tasks.
-  ExecutorService cachedThreadPool = Executors.newCachedThreadPool();
+  /**
+   * A shared, bounded ExecutorService kept for plugins built against older versions of
+   * firebase_core.
+   *
+   * @deprecated FlutterFire plugins use their own pool from {@link
+   *     FlutterFirebaseExecutors#getExecutor(String)} instead.
+   */
+  @Deprecated
+  ExecutorService cachedThreadPool =
+      FlutterFirebaseExecutors.getExecutor(FlutterFirebaseExecutors.SHARED);
 
   /**
    * FlutterFire plugins implementing FlutterFirebasePlugin must provide this method to provide it's
@@ -24,6 +31,20 @@ public interface FlutterFirebasePlugin {
    */
   Task<Map<String, Object>> getPluginConstantsForFirebaseApp(FirebaseApp firebaseApp);
 
+  /**
+   * FlutterFire plugins can override this method to allow the warm-start cache of `initializeCore`
+   * to store their constants on disk and serve them on the next launch, without waiting for {@link
+   * #getPluginConstantsForFirebaseApp}.
+   *
+   * <p>Only return true if the constants depend on nothing but the Firebase App and the installed
+   * build: never for runtime state such as the signed-in user, or for personal data.
+   *
+   * @return Whether the plugin's constants may be cached across launches, false by default.
+   */
+  default boolean canCachePluginConstants() {
+    return false;
+  }
+
   /**
    * FlutterFire plugins implementing FlutterFirebasePlugin should provide this method to be
    * notified when FirebaseCore#initializeCore was called again (first time is ignored).
@@ -3,21 +3,116 @@
 // found in the LICENSE file.
 package io.flutter.plugins.firebase.core;
 
-import static io.flutter.plugins.firebase.core.FlutterFirebasePlugin.cachedThreadPool;
-
+import android.util.Log;
 import androidx.annotation.Keep;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import com.google.android.gms.tasks.Task;
-import com.google.android.gms.tasks.TaskCompletionSource;
 import com.google.android.gms.tasks.Tasks;
 import com.google.firebase.FirebaseApp;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Keep
 public class FlutterFirebasePluginRegistry {
 
+  private static final String TAG = "FLTFirebaseCore";
+
   private static final Map<String, FlutterFirebasePlugin> registeredPlugins = new WeakHashMap<>();
+  private static final Map<String, PluginConstantsReport> pluginConstantsReports = new HashMap<>();
+  private static final FlutterFirebaseExecutor executor =
+      FlutterFirebaseExecutors.getExecutor(FlutterFirebaseCorePlugin.METHOD_CHANNEL_NAME);
+
+  private static volatile long pluginConstantsTimeoutMillis = 5000;
+  private static volatile long reinitializeTimeoutMillis = 10000;
+  @Nullable private static volatile ReinitializeReport lastReinitializeReport;
+
+  /** How long the plugins took to return their constants for a Firebase App. */
+  public static final class PluginConstantsReport {
+    /** The deadline every plugin had to return its constants. */
+    public final long timeoutMillis;
+    /** Time from asking the plugins until the last one returned or hit the deadline. */
+    public final long elapsedMillis;
+    /** Time each plugin took to return its constants, keyed by channel name. */
+    public final Map<String, Long> pluginMillis;
+    /** Channel names of the plugins that missed the deadline and were left out. */
+    public final List<String> timedOutPlugins;
+
+    PluginConstantsReport(
+        long timeoutMillis,
+        long elapsedMillis,
+        Map<String, Long> pluginMillis,
+        List<String> timedOutPlugins) {
+      this.timeoutMillis = timeoutMillis;
+      this.elapsedMillis = elapsedMillis;
+      this.pluginMillis = Collections.unmodifiableMap(pluginMillis);
+      this.timedOutPlugins = Collections.unmodifiableList(timedOutPlugins);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+      return "PluginConstantsReport{elapsed="
+          + elapsedMillis
+          + "ms, timeout="
+          + timeoutMillis
+          + "ms, timedOut="
+          + timedOutPlugins
+          + ", plugins="
+          + pluginMillis
+          + "}";
+    }
+  }
+
+  /** Outcome of the plugin cleanups run when `initializeCore` is called again (hot restart). */
+  public static final class ReinitializeReport {
+    /** The deadline every plugin had to finish its cleanup. */
+    public final long timeoutMillis;
+    /** Time from starting the cleanups until the last one finished or hit the deadline. */
+    public final long elapsedMillis;
+    /** Time each plugin took to clean up, keyed by channel name. */
+    public final Map<String, Long> pluginMillis;
+    /** Channel names of the plugins that did not finish before the deadline. */
+    public final List<String> timedOutPlugins;
+    /** Error messages of the plugins whose cleanup failed, keyed by channel name. */
+    public final Map<String, String> failedPlugins;
+
+    ReinitializeReport(
+        long timeoutMillis,
+        long elapsedMillis,
+        Map<String, Long> pluginMillis,
+        List<String> timedOutPlugins,
+        Map<String, String> failedPlugins) {
+      this.timeoutMillis = timeoutMillis;
+      this.elapsedMillis = elapsedMillis;
+      this.pluginMillis = Collections.unmodifiableMap(pluginMillis);
+      this.timedOutPlugins = Collections.unmodifiableList(timedOutPlugins);
+      this.failedPlugins = Collections.unmodifiableMap(failedPlugins);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+      return "ReinitializeReport{elapsed="
+          + elapsedMillis
+          + "ms, timeout="
+          + timeoutMillis
+          + "ms, timedOut="
+          + timedOutPlugins
+          + ", failed="
+          + failedPlugins
+          + ", plugins="
+          + pluginMillis
+          + "}";
+    }
+  }
 
   /**
    * Register a Flutter Firebase plugin with the Firebase plugin registry.
@@ -28,7 +123,49 @@ public class FlutterFirebasePluginRegistry {
    */
   public static void registerPlugin(
       String channelName, FlutterFirebasePlugin flutterFirebasePlugin) {
-    registeredPlugins.put(channelName, flutterFirebasePlugin);
+    synchronized (registeredPlugins) {
+      registeredPlugins.put(channelName, flutterFirebasePlugin);
+    }
+  }
+
+  /**
+   * Sets how long a single plugin may take to return its constants. A plugin that misses the
+   * deadline is left out of the constants sent to Dart (it then sees an empty map) instead of
+   * delaying `initializeCore` for every other plugin, and is reported in {@link
+   * #getPluginConstantsReports()}. Defaults to 5 seconds.
+   */
+  public static void setPluginConstantsTimeout(long timeoutMillis) {
+    pluginConstantsTimeoutMillis = timeoutMillis;
+  }
+
+  /**
+   * Sets the deadline for the plugin cleanups run when `initializeCore` is called again, for
+   * example after a hot restart. The cleanups run in parallel; plugins still running at the
+   * deadline are reported in {@link #getLastReinitializeReport()} and no longer waited for.
+   * Defaults to 10 seconds.
+   */
+  public static void setReinitializeTimeout(long timeoutMillis) {
+    reinitializeTimeoutMillis = timeoutMillis;
+  }
+
+  /**
+   * Returns the report of the last time plugins were notified that `initializeCore` was called
+   * again, or null if that has not happened yet.
+   */
+  @Nullable
+  public static ReinitializeReport getLastReinitializeReport() {
+    return lastReinitializeReport;
+  }
+
+  /**
+   * Returns the report of the last time the plugins' constants were gathered for each Firebase
+   * App, keyed by app name.
+   */
+  @NonNull
+  public static Map<String, PluginConstantsReport> getPluginConstantsReports() {
+    synchronized (pluginConstantsReports) {
+      return new HashMap<>(pluginConstantsReports);
+    }
   }
 
   /**
@@ -41,27 +178,114 @@ public class FlutterFirebasePluginRegistry {
    *     key) for the provided Firebase App.
    */
   static Task<Map<String, Object>> getPluginConstantsForFirebaseApp(FirebaseApp firebaseApp) {
-    TaskCompletionSource<Map<String, Object>> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
-        () -> {
-          try {
-            Map<String, Object> pluginConstants = new HashMap<>(registeredPlugins.size());
-
-            for (Map.Entry<String, FlutterFirebasePlugin> entry : registeredPlugins.entrySet()) {
-              String channelName = entry.getKey();
-              FlutterFirebasePlugin plugin = entry.getValue();
-              pluginConstants.put(
-                  channelName, Tasks.await(plugin.getPluginConstantsForFirebaseApp(firebaseApp)));
+    return collectPluginConstants(requestPluginConstants(firebaseApp));
+  }
+
+  /**
+   * Asks every registered plugin for its constants for `firebaseApp`, returning a task per plugin
+   * keyed by channel name. A task fails with a {@link TimeoutException} if its plugin misses the
+   * deadline.
+   */
+  static Map<String, Task<Map<String, Object>>> requestPluginConstants(FirebaseApp firebaseApp) {
+    Map<String, FlutterFirebasePlugin> plugins = getRegisteredPlugins();
+    Map<String, Task<Map<String, Object>>> constantsTasks = new HashMap<>(plugins.size());
+    Map<String, Long> pluginMillis = Collections.synchronizedMap(new HashMap<>());
+    List<String> timedOutPlugins = Collections.synchronizedList(new ArrayList<>());
+    AtomicInteger remainingPlugins = new AtomicInteger(plugins.size());
+    long timeoutMillis = pluginConstantsTimeoutMillis;
+    long startNanos = System.nanoTime();
+
+    // Every plugin is asked at once, so the total cost is that of the slowest plugin.
+    for (Map.Entry<String, FlutterFirebasePlugin> entry : plugins.entrySet()) {
+      String channelName = entry.getKey();
+      FlutterFirebasePlugin plugin = entry.getValue();
+
+      Task<Map<String, Object>> constantsTask =
+          FlutterFirebaseTasks.withTimeout(
+              FlutterFirebaseTasks.call(
+                  executor, () -> plugin.getPluginConstantsForFirebaseApp(firebaseApp)),
+              timeoutMillis);
+
+      constantsTasks.put(
+          channelName,
+          constantsTask.continueWithTask(
+              executor.getContinuationExecutor(),
+              completed -> {
+                pluginMillis.put(channelName, elapsedMillisSince(startNanos));
+                if (!completed.isSuccessful()
+                    && FlutterFirebaseTasks.getException(completed) instanceof TimeoutException) {
+                  timedOutPlugins.add(channelName);
+                  Log.w(
+                      TAG,
+                      "Plugin "
+                          + channelName
+                          + " did not return its constants for app "
+                          + firebaseApp.getName()
+                          + " within "
+                          + timeoutMillis
+                          + "ms, skipping.");
+                }
+                // The last plugin to finish records the report, before any result is gathered.
+                if (remainingPlugins.decrementAndGet() == 0) {
+                  recordPluginConstantsReport(
+                      firebaseApp,
+                      new PluginConstantsReport(
+                          timeoutMillis,
+                          elapsedMillisSince(startNanos),
+                          new HashMap<>(pluginMillis),
+                          new ArrayList<>(timedOutPlugins)));
+                }
+                return completed;
+              }));
+    }
+
+    return constantsTasks;
+  }
+
+  /**
+   * Returns a task gathering the results of `constantsTasks`, as returned by {@link
+   * #requestPluginConstants}, keyed by channel name. Plugins that missed the deadline are left
+   * out; any other failure fails the task.
+   */
+  static Task<Map<String, Object>> collectPluginConstants(
+      Map<String, Task<Map<String, Object>>> constantsTasks) {
+    return FlutterFirebaseTasks.map(
+        Tasks.whenAllComplete(constantsTasks.values()),
+        executor,
+        ignored -> {
+          Map<String, Object> pluginConstants = new HashMap<>(constantsTasks.size());
+
+          for (Map.Entry<String, Task<Map<String, Object>>> entry : constantsTasks.entrySet()) {
+            Task<Map<String, Object>> constantsTask = entry.getValue();
+            if (constantsTask.isSuccessful()) {
+              pluginConstants.put(entry.getKey(), constantsTask.getResult());
+              continue;
             }
 
-            taskCompletionSource.setResult(pluginConstants);
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
+            Exception exception = FlutterFirebaseTasks.getException(constantsTask);
+            if (!(exception instanceof TimeoutException)) {
+              throw exception;
+            }
           }
+
+          return pluginConstants;
         });
+  }
 
-    return taskCompletionSource.getTask();
+  /**
+   * Returns the constants of the plugins in `pluginConstants` that allow caching them, see {@link
+   * FlutterFirebasePlugin#canCachePluginConstants()}.
+   */
+  static Map<String, Object> getCacheablePluginConstants(Map<String, Object> pluginConstants) {
+    Map<String, FlutterFirebasePlugin> plugins = getRegisteredPlugins();
+    Map<String, Object> cacheableConstants = new HashMap<>();
+    for (Map.Entry<String, Object> entry : pluginConstants.entrySet()) {
+      FlutterFirebasePlugin plugin = plugins.get(entry.getKey());
+      if (plugin != null && plugin.canCachePluginConstants()) {
+        cacheableConstants.put(entry.getKey(), entry.getValue());
+      }
+    }
+    return cacheableConstants;
   }
 
   /**
@@ -72,22 +296,99 @@ public class FlutterFirebasePluginRegistry {
    * Restarts as `initializeCore` can only be called once in Dart.
    */
   static Task<Void> didReinitializeFirebaseCore() {
-    TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
-        () -> {
-          try {
-            for (Map.Entry<String, FlutterFirebasePlugin> entry : registeredPlugins.entrySet()) {
-              FlutterFirebasePlugin plugin = entry.getValue();
-              Tasks.await(plugin.didReinitializeFirebaseCore());
+    Map<String, FlutterFirebasePlugin> plugins = getRegisteredPlugins();
+    List<String> channelNames = new ArrayList<>(plugins.size());
+    List<Task<Void>> cleanupTasks = new ArrayList<>(plugins.size());
+    Map<String, Long> pluginMillis = Collections.synchronizedMap(new HashMap<>());
+    long timeoutMillis = reinitializeTimeoutMillis;
+    long startNanos = System.nanoTime();
+
+    for (Map.Entry<String, FlutterFirebasePlugin> entry : plugins.entrySet()) {
+      String channelName = entry.getKey();
+      FlutterFirebasePlugin plugin = entry.getValue();
+
+      Task<Void> cleanupTask =
+          FlutterFirebaseTasks.withTimeout(
+              FlutterFirebaseTasks.call(executor, plugin::didReinitializeFirebaseCore),
+              timeoutMillis);
+
+      channelNames.add(channelName);
+      cleanupTasks.add(
+          cleanupTask.continueWithTask(
+              executor.getContinuationExecutor(),
+              completed -> {
+                pluginMillis.put(channelName, elapsedMillisSince(startNanos));
+                return completed;
+              }));
+    }
+
+    return FlutterFirebaseTasks.map(
+        Tasks.whenAllComplete(cleanupTasks),
+        executor,
+        ignored -> {
+          List<String> timedOutPlugins = new ArrayList<>();
+          Map<String, String> failedPlugins = new HashMap<>();
+          Exception firstFailure = null;
+
+          for (int i = 0; i < cleanupTasks.size(); i++) {
+            Task<Void> cleanupTask = cleanupTasks.get(i);
+            if (cleanupTask.isSuccessful()) {
+              continue;
+            }
+
+            String channelName = channelNames.get(i);
+            Exception exception = FlutterFirebaseTasks.getException(cleanupTask);
+            if (exception instanceof TimeoutException) {
+              timedOutPlugins.add(channelName);
+            } else {
+              failedPlugins.put(channelName, String.valueOf(exception.getMessage()));
+              if (firstFailure == null) {
+                firstFailure = exception;
+              }
             }
+          }
 
-            taskCompletionSource.setResult(null);
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
+          ReinitializeReport report =
+              new ReinitializeReport(
+                  timeoutMillis,
+                  elapsedMillisSince(startNanos),
+                  new HashMap<>(pluginMillis),
+                  timedOutPlugins,
+                  failedPlugins);
+          lastReinitializeReport = report;
+
+          if (!timedOutPlugins.isEmpty() || !failedPlugins.isEmpty()) {
+            Log.w(
+                TAG, "Not all plugins cleaned up after initializeCore was called again: " + report);
+          }
+          if (firstFailure != null) {
+            throw firstFailure;
           }
+          return null;
         });
+  }
+
+  /** Returns the channel names of the registered plugins, sorted. */
+  static List<String> getRegisteredPluginNames() {
+    List<String> channelNames = new ArrayList<>(getRegisteredPlugins().keySet());
+    Collections.sort(channelNames);
+    return channelNames;
+  }
+
+  private static Map<String, FlutterFirebasePlugin> getRegisteredPlugins() {
+    synchronized (registeredPlugins) {
+      return new HashMap<>(registeredPlugins);
+    }
+  }
+
+  private static void recordPluginConstantsReport(
+      FirebaseApp firebaseApp, PluginConstantsReport report) {
+    synchronized (pluginConstantsReports) {
+      pluginConstantsReports.put(firebaseApp.getName(), report);
+    }
+  }
 
-    return taskCompletionSource.getTask();
+  private static long elapsedMillisSince(long startNanos) {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
   }
 }
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+ * for details. All rights reserved. Use of this source code is governed by a
+ * BSD-style license that can be found in the LICENSE file.
+ */
+
+package io.flutter.plugins.firebase.core;
+
+import androidx.annotation.Keep;
+import androidx.annotation.NonNull;
+import com.google.android.gms.tasks.RuntimeExecutionException;
+import com.google.android.gms.tasks.Task;
+import com.google.android.gms.tasks.TaskCompletionSource;
+import com.google.android.gms.tasks.Tasks;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Continuation helpers that let FlutterFire plugins answer platform calls from GMS {@link Task}
+ * callbacks instead of parking a thread in `Tasks.await`.
+ *
+ * <p>The callbacks are plain interfaces so that both Pigeon `Result` types and
+ * `MethodChannel.Result` can be adapted with a method reference, for example `result::success`.
+ */
+@Keep
+public class FlutterFirebaseTasks {
+  private static ScheduledThreadPoolExecutor timeoutScheduler;
+
+  /** Receives the value of a successful task. */
+  public interface SuccessCallback<T> {
+    void success(T value);
+  }
+
+  /** Receives the (unwrapped) exception of a failed or cancelled task. */
+  public interface ErrorCallback {
+    void error(@NonNull Exception exception);
+  }
+
+  /** Synchronously converts the value of a successful task. */
+  public interface Transformation<T, R> {
+    R apply(T value) throws Exception;
+  }
+
+  /** Starts a follow-up task from the value of a successful task. */
+  public interface TaskTransformation<T, R> {
+    @NonNull
+    Task<R> apply(T value) throws Exception;
+  }
+
+  /** Starts a task; any exception thrown fails the returned task. */
+  public interface TaskCallable<T> {
+    @NonNull
+    Task<T> call() throws Exception;
+  }
+
+  /**
+   * Runs `callable` on `executor` and returns a task that completes with the task it started. Use
+   * this for the synchronous setup work of a call (argument parsing, instance lookup) so that it
+   * leaves the platform thread, without waiting on the resulting task.
+   */
+  @NonNull
+  public static <T> Task<T> call(@NonNull Executor executor, @NonNull TaskCallable<T> callable) {
+    return Tasks.<Void>forResult(null).continueWithTask(executor, ignored -> callable.call());
+  }
+
+  /** Converts the value of `task` on `executor` once it succeeds. Failures propagate unchanged. */
+  @NonNull
+  public static <T, R> Task<R> map(
+      @NonNull Task<T> task,
+      @NonNull Executor executor,
+      @NonNull Transformation<T, R> transformation) {
+    TaskCompletionSource<R> taskCompletionSource = new TaskCompletionSource<>();
+    continueOn(
+        task,
+        executor,
+        taskCompletionSource::trySetException,
+        completed ->
+            taskCompletionSource.trySetResult(transformation.apply(getResult(completed))));
+    return taskCompletionSource.getTask();
+  }
+
+  /** Chains a follow-up task onto `task` once it succeeds. Failures propagate unchanged. */
+  @NonNull
+  public static <T, R> Task<R> chain(
+      @NonNull Task<T> task,
+      @NonNull Executor executor,
+      @NonNull TaskTransformation<T, R> transformation) {
+    TaskCompletionSource<R> taskCompletionSource = new TaskCompletionSource<>();
+    continueOn(
+        task,
+        executor,
+        taskCompletionSource::trySetException,
+        completed ->
+            transformation
+                .apply(getResult(completed))
+                .addOnCompleteListener(
+                    Runnable::run,
+                    next -> {
+                      if (next.isSuccessful()) {
+                        taskCompletionSource.trySetResult(next.getResult());
+                      } else {
+                        taskCompletionSource.trySetException(getException(next));
+                      }
+                    }));
+    return taskCompletionSource.getTask();
+  }
+
+  /**
+   * Delivers the outcome of `task` to the given callbacks on `executor`. Exceptions thrown by the
+   * success callback are delivered to the error callback.
+   */
+  public static <T> void forward(
+      @NonNull Task<T> task,
+      @NonNull Executor executor,
+      @NonNull SuccessCallback<T> onSuccess,
+      @NonNull ErrorCallback onError) {
+    continueOn(task, executor, onError, completed -> onSuccess.success(getResult(completed)));
+  }
+
+  /** Runs a continuation with the completed task; any exception thrown is reported. */
+  private interface Continuation<T> {
+    void run(@NonNull Task<T> completed) throws Exception;
+  }
+
+  /**
+   * Runs `continuation` on `executor` once `task` completes, and reports any exception it throws to
+   * `onError`. A {@link FlutterFirebaseExecutor} queues it without its capacity check, since the
+   * call it belongs to was already accepted. If `executor` still rejects it, for example because it
+   * was shut down, the rejection is reported to `onError` too, so the call never goes unanswered.
+   */
+  private static <T> void continueOn(
+      @NonNull Task<T> task,
+      @NonNull Executor executor,
+      @NonNull ErrorCallback onError,
+      @NonNull Continuation<T> continuation) {
+    Executor continuationExecutor =
+        executor instanceof FlutterFirebaseExecutor
+            ? ((FlutterFirebaseExecutor) executor).getContinuationExecutor()
+            : executor;
+
+    task.addOnCompleteListener(
+        Runnable::run,
+        completed -> {
+          try {
+            continuationExecutor.execute(
+                () -> {
+                  try {
+                    continuation.run(completed);
+                  } catch (Exception e) {
+                    onError.error(unwrap(e));
+                  }
+                });
+          } catch (RejectedExecutionException e) {
+            onError.error(e);
+          }
+        });
+  }
+
+  /**
+   * Returns a task that completes like `task`, or fails with a {@link TimeoutException} if `task`
+   * has not completed within `timeoutMillis`. The original task keeps running; only its result is
+   * ignored once the deadline has passed.
+   */
+  @NonNull
+  public static <T> Task<T> withTimeout(@NonNull Task<T> task, long timeoutMillis) {
+    if (task.isComplete()) {
+      return task;
+    }
+
+    TaskCompletionSource<T> taskCompletionSource = new TaskCompletionSource<>();
+    ScheduledFuture<?> timeout =
+        getTimeoutScheduler()
+            .schedule(
+                () ->
+                    taskCompletionSource.trySetException(
+                        new TimeoutException(
+                            "The task did not complete within " + timeoutMillis + "ms.")),
+                timeoutMillis,
+                TimeUnit.MILLISECONDS);
+
+    task.addOnCompleteListener(
+        Runnable::run,
+        completed -> {
+          timeout.cancel(false);
+          if (completed.isSuccessful()) {
+            taskCompletionSource.trySetResult(completed.getResult());
+          } else {
+            taskCompletionSource.trySetException(getException(completed));
+          }
+        });
+
+    return taskCompletionSource.getTask();
+  }
+
+  /**
+   * Returns the exception of a failed or cancelled task, without the wrappers added by
+   * `Tasks.await` and `Task.getResult`.
+   */
+  @NonNull
+  public static Exception getException(@NonNull Task<?> task) {
+    if (task.isCanceled()) {
+      return new CancellationException("The task was cancelled.");
+    }
+    Exception exception = task.getException();
+    if (exception == null) {
+      return new Exception("An unknown error occurred.");
+    }
+    return unwrap(exception);
+  }
+
+  /** Strips `ExecutionException` and `RuntimeExecutionException` wrappers from `exception`. */
+  @NonNull
+  public static Exception unwrap(@NonNull Exception exception) {
+    Exception current = exception;
+    while ((current instanceof ExecutionException || current instanceof RuntimeExecutionException)
+        && current.getCause() instanceof Exception) {
+      current = (Exception) current.getCause();
+    }
+    return current;
+  }
+
+  private static synchronized ScheduledThreadPoolExecutor getTimeoutScheduler() {
+    if (timeoutScheduler == null) {
+      timeoutScheduler =
+          new ScheduledThreadPoolExecutor(
+              1,
+              runnable -> {
+                Thread thread = new Thread(runnable, "FlutterFire-timeout");
+                thread.setDaemon(true);
+                return thread;
+              });
+      timeoutScheduler.setRemoveOnCancelPolicy(true);
+      timeoutScheduler.setKeepAliveTime(30, TimeUnit.SECONDS);
+      timeoutScheduler.allowCoreThreadTimeOut(true);
+    }
+    return timeoutScheduler;
+  }
+
+  private static <T> T getResult(Task<T> task) throws Exception {
+    if (!task.isSuccessful()) {
+      throw getException(task);
+    }
+    return task.getResult();
+  }
+}
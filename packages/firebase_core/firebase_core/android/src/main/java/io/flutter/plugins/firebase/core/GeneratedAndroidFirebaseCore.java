@@ -556,6 +556,8 @@ public class GeneratedAndroidFirebaseCore {
 
     void optionsFromResource(@NonNull Result<PigeonFirebaseOptions> result);
 
+    void getChannelMetrics(@NonNull Boolean reset, @NonNull Result<Map<String, Object>> result);
+
     /** The codec used by FirebaseCoreHostApi. */
     static @NonNull MessageCodec<Object> getCodec() {
       return FirebaseCoreHostApiCodec.INSTANCE;
@@ -655,6 +657,37 @@ public class GeneratedAndroidFirebaseCore {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.FirebaseCoreHostApi.getChannelMetrics",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<Object>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Boolean resetArg = (Boolean) args.get(0);
+                Result<Map<String, Object>> resultCallback =
+                    new Result<Map<String, Object>>() {
+                      public void success(Map<String, Object> result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.getChannelMetrics(resetArg, resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
   /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
@@ -207,6 +207,13 @@ static NSMutableDictionary<NSString *, NSString *> *customAuthDomains;
   completion(nil, nil);
 }
 
+- (void)getChannelMetricsReset:(nonnull NSNumber *)reset
+                    completion:(nonnull void (^)(NSDictionary<NSString *, id> *_Nullable,
+                                                 FlutterError *_Nullable))completion {
+  // Channel metrics are only recorded on Android.
+  completion(@{}, nil);
+}
+
 - (void)deleteAppName:(nonnull NSString *)appName
            completion:(nonnull void (^)(FlutterError *_Nullable))completion {
   FIRApp *firebaseApp = [FLTFirebasePlugin firebaseAppNamed:appName];
@@ -74,6 +74,9 @@ NSObject<FlutterMessageCodec> *FirebaseCoreHostApiGetCodec(void);
                                                FlutterError *_Nullable))completion;
 - (void)optionsFromResourceWithCompletion:(void (^)(PigeonFirebaseOptions *_Nullable,
                                                     FlutterError *_Nullable))completion;
+- (void)getChannelMetricsReset:(NSNumber *)reset
+                    completion:(void (^)(NSDictionary<NSString *, id> *_Nullable,
+                                         FlutterError *_Nullable))completion;
 @end
 
 extern void FirebaseCoreHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger,
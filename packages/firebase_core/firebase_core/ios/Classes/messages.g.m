@@ -275,6 +275,29 @@ void FirebaseCoreHostApiSetup(id<FlutterBinaryMessenger> binaryMessenger,
       [channel setMessageHandler:nil];
     }
   }
+  {
+    FlutterBasicMessageChannel *channel = [[FlutterBasicMessageChannel alloc]
+           initWithName:@"dev.flutter.pigeon.FirebaseCoreHostApi.getChannelMetrics"
+        binaryMessenger:binaryMessenger
+                  codec:FirebaseCoreHostApiGetCodec()];
+    if (api) {
+      NSCAssert([api respondsToSelector:@selector(getChannelMetricsReset:completion:)],
+                @"FirebaseCoreHostApi api (%@) doesn't respond to "
+                @"@selector(getChannelMetricsReset:completion:)",
+                api);
+      [channel setMessageHandler:^(id _Nullable message, FlutterReply callback) {
+        NSArray *args = message;
+        NSNumber *arg_reset = GetNullableObjectAtIndex(args, 0);
+        [api getChannelMetricsReset:arg_reset
+                         completion:^(NSDictionary<NSString *, id> *_Nullable output,
+                                      FlutterError *_Nullable error) {
+                           callback(wrapResult(output, error));
+                         }];
+      }];
+    } else {
+      [channel setMessageHandler:nil];
+    }
+  }
 }
 NSObject<FlutterMessageCodec> *FirebaseAppHostApiGetCodec(void) {
   static FlutterStandardMessageCodec *sSharedObject = nil;
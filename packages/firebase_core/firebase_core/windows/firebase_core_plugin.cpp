@@ -137,6 +137,13 @@ void FirebaseCorePlugin::InitializeCore(
 void FirebaseCorePlugin::OptionsFromResource(
     std::function<void(ErrorOr<PigeonFirebaseOptions> reply)> result) {}
 
+void FirebaseCorePlugin::GetChannelMetrics(
+    bool reset,
+    std::function<void(ErrorOr<flutter::EncodableMap> reply)> result) {
+  // Channel metrics are only recorded on Android.
+  result(flutter::EncodableMap());
+}
+
 void FirebaseCorePlugin::SetAutomaticDataCollectionEnabled(
     const std::string &app_name, bool enabled,
     std::function<void(std::optional<FlutterError> reply)> result) {
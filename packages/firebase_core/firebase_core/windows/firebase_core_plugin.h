@@ -43,6 +43,10 @@ class FirebaseCorePlugin : public flutter::Plugin,
   virtual void OptionsFromResource(
       std::function<void(ErrorOr<PigeonFirebaseOptions> reply)> result)
       override;
+  virtual void GetChannelMetrics(
+      bool reset,
+      std::function<void(ErrorOr<flutter::EncodableMap> reply)> result)
+      override;
 
   // FirebaseAppHostApi
   virtual void SetAutomaticDataCollectionEnabled(
@@ -203,6 +203,9 @@ class FirebaseCoreHostApi {
       std::function<void(ErrorOr<flutter::EncodableList> reply)> result) = 0;
   virtual void OptionsFromResource(
       std::function<void(ErrorOr<PigeonFirebaseOptions> reply)> result) = 0;
+  virtual void GetChannelMetrics(
+      bool reset,
+      std::function<void(ErrorOr<flutter::EncodableMap> reply)> result) = 0;
 
   // The codec used by FirebaseCoreHostApi.
   static const flutter::StandardMessageCodec& GetCodec();
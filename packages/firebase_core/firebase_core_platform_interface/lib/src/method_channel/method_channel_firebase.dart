@@ -194,4 +194,13 @@ class MethodChannelFirebase extends FirebasePlatform {
 
     throw noAppExists(name);
   }
+
+  /// Returns the platform channel metrics recorded by the host platform.
+  ///
+  /// Only Android records metrics; other platforms return an empty map.
+  @override
+  Future<Map<String, Object?>> getChannelMetrics({bool reset = false}) async {
+    final metrics = await api.getChannelMetrics(reset);
+    return metrics.cast<String, Object?>();
+  }
 }
@@ -253,6 +253,34 @@ class FirebaseCoreHostApi {
       return (replyList[0] as PigeonFirebaseOptions?)!;
     }
   }
+
+  Future<Map<String?, Object?>> getChannelMetrics(bool arg_reset) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.FirebaseCoreHostApi.getChannelMetrics', codec,
+        binaryMessenger: _binaryMessenger);
+    final List<Object?>? replyList =
+        await channel.send(<Object?>[arg_reset]) as List<Object?>?;
+    if (replyList == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyList.length > 1) {
+      throw PlatformException(
+        code: replyList[0]! as String,
+        message: replyList[1] as String?,
+        details: replyList[2],
+      );
+    } else if (replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyList[0] as Map<Object?, Object?>?)!
+          .cast<String?, Object?>();
+    }
+  }
 }
 
 class FirebaseAppHostApi {
@@ -47,6 +47,11 @@ class MockFirebaseApp implements TestFirebaseCoreHostApi {
       messagingSenderId: '123',
     );
   }
+
+  @override
+  Future<Map<String?, Object?>> getChannelMetrics(bool reset) async {
+    return {};
+  }
 }
 
 /// [setupFirebaseCoreMocks] can be used to mock the FirebasePlatform.
@@ -53,6 +53,8 @@ abstract class TestFirebaseCoreHostApi {
 
   Future<PigeonFirebaseOptions> optionsFromResource();
 
+  Future<Map<String?, Object?>> getChannelMetrics(bool reset);
+
   static void setup(TestFirebaseCoreHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -117,6 +119,29 @@ abstract class TestFirebaseCoreHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.FirebaseCoreHostApi.getChannelMetrics', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel, null);
+      } else {
+        _testBinaryMessengerBinding!.defaultBinaryMessenger
+            .setMockDecodedMessageHandler<Object?>(channel,
+                (Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.FirebaseCoreHostApi.getChannelMetrics was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final bool? arg_reset = (args[0] as bool?);
+          assert(arg_reset != null,
+              'Argument for dev.flutter.pigeon.FirebaseCoreHostApi.getChannelMetrics was null, expected non-null bool.');
+          final Map<String?, Object?> output =
+              await api.getChannelMetrics(arg_reset!);
+          return <Object?>[output];
+        });
+      }
+    }
   }
 }
 
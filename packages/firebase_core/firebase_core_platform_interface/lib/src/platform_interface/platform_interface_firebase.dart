@@ -53,4 +53,24 @@ abstract class FirebasePlatform extends PlatformInterface {
   FirebaseAppPlatform app([String name = defaultFirebaseAppName]) {
     throw UnimplementedError('app() has not been implemented.');
   }
+
+  /// Returns the platform channel metrics recorded natively, keyed by method.
+  ///
+  /// Each entry holds the number of `calls` and `errors`, and summaries
+  /// (`count`, `min`, `max`, `mean`, `p50`, `p90`, `p99`, `p999`) of the
+  /// `queueWaitNanos`, `executionNanos`, `serializationNanos`, `requestBytes`
+  /// and `replyBytes` of every call. Events sent outside of calls, such as
+  /// Firestore snapshots, are recorded as calls too, with their encoding time
+  /// as `serializationNanos` and their size as `replyBytes`. Operations that
+  /// span several calls, such as Firestore transactions, record the time they
+  /// waited to start and ran as `queueWaitNanos` and `executionNanos`, and a
+  /// summary of their `attempts`. If [reset] is true, the metrics are cleared
+  /// once read.
+  ///
+  /// Recording only starts with the first call, so that apps which never read
+  /// the metrics do not pay for them; the first call usually returns an
+  /// empty map.
+  Future<Map<String, Object?>> getChannelMetrics({bool reset = false}) {
+    throw UnimplementedError('getChannelMetrics() has not been implemented.');
+  }
 }
@@ -97,6 +97,9 @@ abstract class FirebaseCoreHostApi {
 
   @async
   PigeonFirebaseOptions optionsFromResource();
+
+  @async
+  Map<String?, Object?> getChannelMetrics(bool reset);
 }
 
 @HostApi(dartHostTestHandler: 'TestFirebaseAppHostApi')
@@ -38,6 +38,20 @@ void main() {
       final FirebaseCoreMockPlatform mock = FirebaseCoreMockPlatform();
       FirebasePlatform.instance = mock;
     });
+
+    test('getChannelMetrics() returns the metrics of the host platform',
+        () async {
+      TestFirebaseCoreHostApi.setup(MockChannelMetricsApp());
+
+      final metrics =
+          await MethodChannelFirebase().getChannelMetrics(reset: true);
+
+      expect(metrics, {
+        'FirebaseCoreHostApi.initializeCore': {'calls': 1, 'errors': 0},
+        'reset': true,
+      });
+      TestFirebaseCoreHostApi.setup(null);
+    });
   });
 }
 
@@ -57,6 +71,11 @@ class ImplementsFirebasePlatform implements FirebasePlatform {
 
   @override
   List<FirebaseAppPlatform> get apps => [];
+
+  @override
+  Future<Map<String, Object?>> getChannelMetrics({bool reset = false}) async {
+    return {};
+  }
 }
 
 // ignore: avoid_implementing_value_types
@@ -64,6 +83,16 @@ class FakeFirebaseAppPlatform extends Fake implements FirebaseAppPlatform {}
 
 class ExtendsFirebasePlatform extends FirebasePlatform {}
 
+class MockChannelMetricsApp extends MockFirebaseApp {
+  @override
+  Future<Map<String?, Object?>> getChannelMetrics(bool reset) async {
+    return {
+      'FirebaseCoreHostApi.initializeCore': {'calls': 1, 'errors': 0},
+      'reset': reset,
+    };
+  }
+}
+
 class FirebaseCoreMockPlatform extends Mock
     with
         // ignore: prefer_mixin, plugin_platform_interface needs to migrate to use `mixin`
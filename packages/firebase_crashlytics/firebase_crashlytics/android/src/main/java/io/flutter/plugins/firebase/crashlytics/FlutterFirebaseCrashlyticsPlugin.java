@@ -12,7 +12,6 @@ import android.util.Log;
 import androidx.annotation.NonNull;
 import com.google.android.gms.tasks.Task;
 import com.google.android.gms.tasks.TaskCompletionSource;
-import com.google.android.gms.tasks.Tasks;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.crashlytics.FirebaseCrashlytics;
 import com.google.firebase.crashlytics.FlutterFirebaseCrashlyticsInternal;
@@ -21,8 +20,12 @@ import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.common.MethodChannel.MethodCallHandler;
+import io.flutter.plugins.firebase.core.FlutterFirebaseChannelMetrics;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutor;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutors;
 import io.flutter.plugins.firebase.core.FlutterFirebasePlugin;
 import io.flutter.plugins.firebase.core.FlutterFirebasePluginRegistry;
+import io.flutter.plugins.firebase.core.FlutterFirebaseTasks;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -33,11 +36,13 @@ import java.util.Objects;
 public class FlutterFirebaseCrashlyticsPlugin
     implements FlutterFirebasePlugin, FlutterPlugin, MethodCallHandler {
   public static final String TAG = "FLTFirebaseCrashlytics";
+  private static final FlutterFirebaseExecutor executor =
+      FlutterFirebaseExecutors.getExecutor("plugins.flutter.io/firebase_crashlytics");
   private MethodChannel channel;
 
   private void initInstance(BinaryMessenger messenger) {
     String channelName = "plugins.flutter.io/firebase_crashlytics";
-    channel = new MethodChannel(messenger, channelName);
+    channel = new MethodChannel(FlutterFirebaseChannelMetrics.instrument(messenger), channelName);
     channel.setMethodCallHandler(this);
     FlutterFirebasePluginRegistry.registerPlugin(channelName, this);
   }
@@ -56,26 +61,16 @@ public class FlutterFirebaseCrashlyticsPlugin
   }
 
   private Task<Map<String, Object>> checkForUnsentReports() {
-    TaskCompletionSource<Map<String, Object>> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
-        () -> {
-          try {
-            final boolean unsentReports =
-                Tasks.await(FirebaseCrashlytics.getInstance().checkForUnsentReports());
-
-            taskCompletionSource.setResult(
-                new HashMap<String, Object>() {
-                  {
-                    put(Constants.UNSENT_REPORTS, unsentReports);
-                  }
-                });
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
-          }
-        });
-
-    return taskCompletionSource.getTask();
+    return FlutterFirebaseTasks.map(
+        FlutterFirebaseTasks.call(
+            executor, () -> FirebaseCrashlytics.getInstance().checkForUnsentReports()),
+        executor,
+        unsentReports ->
+            new HashMap<String, Object>() {
+              {
+                put(Constants.UNSENT_REPORTS, unsentReports);
+              }
+            });
   }
 
   private void crash() {
@@ -90,7 +85,7 @@ public class FlutterFirebaseCrashlyticsPlugin
   private Task<Void> deleteUnsentReports() {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             FirebaseCrashlytics.getInstance().deleteUnsentReports();
@@ -106,7 +101,7 @@ public class FlutterFirebaseCrashlyticsPlugin
   private Task<Map<String, Object>> didCrashOnPreviousExecution() {
     TaskCompletionSource<Map<String, Object>> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             final boolean didCrashOnPreviousExecution =
@@ -129,7 +124,8 @@ public class FlutterFirebaseCrashlyticsPlugin
   private Task<Void> recordError(final Map<String, Object> arguments) {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
+        FlutterFirebaseExecutor.Priority.BACKGROUND,
         () -> {
           try {
             FirebaseCrashlytics crashlytics = FirebaseCrashlytics.getInstance();
@@ -196,7 +192,8 @@ public class FlutterFirebaseCrashlyticsPlugin
   private Task<Void> log(final Map<String, Object> arguments) {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
+        FlutterFirebaseExecutor.Priority.BACKGROUND,
         () -> {
           try {
             String message = (String) Objects.requireNonNull(arguments.get(Constants.MESSAGE));
@@ -213,7 +210,7 @@ public class FlutterFirebaseCrashlyticsPlugin
   private Task<Void> sendUnsentReports() {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             FirebaseCrashlytics.getInstance().sendUnsentReports();
@@ -230,7 +227,7 @@ public class FlutterFirebaseCrashlyticsPlugin
       final Map<String, Object> arguments) {
     TaskCompletionSource<Map<String, Object>> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             Boolean enabled = (Boolean) Objects.requireNonNull(arguments.get(Constants.ENABLED));
@@ -255,7 +252,8 @@ public class FlutterFirebaseCrashlyticsPlugin
   private Task<Void> setUserIdentifier(final Map<String, Object> arguments) {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
+        FlutterFirebaseExecutor.Priority.BACKGROUND,
         () -> {
           try {
             String identifier =
@@ -273,7 +271,8 @@ public class FlutterFirebaseCrashlyticsPlugin
   private Task<Void> setCustomKey(final Map<String, Object> arguments) {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
+        FlutterFirebaseExecutor.Priority.BACKGROUND,
         () -> {
           try {
             String key = (String) Objects.requireNonNull(arguments.get(Constants.KEY));
@@ -398,7 +397,7 @@ public class FlutterFirebaseCrashlyticsPlugin
   public Task<Map<String, Object>> getPluginConstantsForFirebaseApp(FirebaseApp firebaseApp) {
     TaskCompletionSource<Map<String, Object>> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             taskCompletionSource.setResult(
@@ -422,7 +421,7 @@ public class FlutterFirebaseCrashlyticsPlugin
   public Task<Void> didReinitializeFirebaseCore() {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             taskCompletionSource.setResult(null);
@@ -63,6 +63,11 @@ class MockFirebaseAppWithCollectionEnabled implements TestFirebaseCoreHostApi {
       messagingSenderId: '123',
     );
   }
+
+  @override
+  Future<Map<String?, Object?>> getChannelMetrics(bool reset) async {
+    return {};
+  }
 }
 
 void setupFirebaseCrashlyticsMocks([Callback? customHandlers]) {
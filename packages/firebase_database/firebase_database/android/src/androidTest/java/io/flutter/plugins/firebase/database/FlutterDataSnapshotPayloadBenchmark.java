@@ -0,0 +1,136 @@
+/*
+ * Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+ * for details. All rights reserved. Use of this source code is governed by a
+ * BSD-style license that can be found in the LICENSE file.
+ */
+
+package io.flutter.plugins.firebase.database;
+
+import android.content.Context;
+import androidx.annotation.NonNull;
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import androidx.test.platform.app.InstrumentationRegistry;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.FirebaseOptions;
+import com.google.firebase.database.DataSnapshot;
+import com.google.firebase.database.DatabaseError;
+import com.google.firebase.database.DatabaseReference;
+import com.google.firebase.database.FirebaseDatabase;
+import com.google.firebase.database.ValueEventListener;
+import io.flutter.plugin.common.StandardMessageCodec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/** Measures converting SDK data snapshots to the payloads sent to Dart. */
+@RunWith(Parameterized.class)
+public class FlutterDataSnapshotPayloadBenchmark {
+  private static final String APP_NAME = "flutterfire-benchmark";
+  private static final String DATABASE_URL = "https://demo-benchmark-default-rtdb.firebaseio.com";
+
+  private static FirebaseDatabase database;
+
+  @Rule public BenchmarkRule benchmarkRule = new BenchmarkRule();
+
+  /** Encoded payload sizes the benchmark runs with: 1 KB to 10 MB. */
+  @Parameterized.Parameters(name = "{0}B")
+  public static Collection<Object[]> sizes() {
+    return Arrays.asList(new Object[][] {{1 << 10}, {100 << 10}, {1 << 20}, {10 << 20}});
+  }
+
+  private final int targetBytes;
+  private DataSnapshot snapshot;
+
+  public FlutterDataSnapshotPayloadBenchmark(int targetBytes) {
+    this.targetBytes = targetBytes;
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    DatabaseReference reference = getDatabase().getReference("benchmark-" + targetBytes);
+    // The database is offline, so the write is applied locally and never acknowledged.
+    reference.setValue(createTree(targetBytes));
+
+    CountDownLatch latch = new CountDownLatch(1);
+    AtomicReference<DataSnapshot> snapshotReference = new AtomicReference<>();
+    reference.addListenerForSingleValueEvent(
+        new ValueEventListener() {
+          @Override
+          public void onDataChange(@NonNull DataSnapshot dataSnapshot) {
+            snapshotReference.set(dataSnapshot);
+            latch.countDown();
+          }
+
+          @Override
+          public void onCancelled(@NonNull DatabaseError error) {
+            latch.countDown();
+          }
+        });
+    if (!latch.await(60, TimeUnit.SECONDS) || snapshotReference.get() == null) {
+      throw new IllegalStateException("Failed to read the benchmark data.");
+    }
+    snapshot = snapshotReference.get();
+  }
+
+  @Test
+  public void toMap() {
+    BenchmarkState state = benchmarkRule.getState();
+    while (state.keepRunning()) {
+      new FlutterDataSnapshotPayload(snapshot).toMap();
+    }
+  }
+
+  private static synchronized FirebaseDatabase getDatabase() {
+    if (database == null) {
+      Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+      FirebaseOptions options =
+          new FirebaseOptions.Builder()
+              .setApiKey("benchmark")
+              .setApplicationId("1:000000000000:android:0000000000000000")
+              .setProjectId("demo-benchmark")
+              .setDatabaseUrl(DATABASE_URL)
+              .build();
+      FirebaseApp app = FirebaseApp.initializeApp(context, options, APP_NAME);
+
+      database = FirebaseDatabase.getInstance(app);
+      database.goOffline();
+    }
+    return database;
+  }
+
+  /** Returns a tree whose encoded size is about `targetBytes`. */
+  private static Map<String, Object> createTree(int targetBytes) {
+    Map<String, Object> tree = new HashMap<>();
+    int size = 0;
+    for (int i = 0; size < targetBytes; i++) {
+      Map<String, Object> nested = new HashMap<>();
+      nested.put("enabled", i % 2 == 0);
+      nested.put("ratio", i / 7.0);
+
+      List<Object> tags = new ArrayList<>(Arrays.asList("alpha", "beta", "gamma", "tag-" + i));
+
+      Map<String, Object> item = new HashMap<>();
+      item.put("name", "item-" + i + "-lorem-ipsum-dolor-sit-amet-consectetur-adipiscing");
+      item.put("count", (long) i);
+      item.put("score", i * 1.5);
+      item.put("tags", tags);
+      item.put("nested", nested);
+
+      tree.put("item-" + i, item);
+      size += StandardMessageCodec.INSTANCE.encodeMessage(item).capacity();
+    }
+    return tree;
+  }
+}
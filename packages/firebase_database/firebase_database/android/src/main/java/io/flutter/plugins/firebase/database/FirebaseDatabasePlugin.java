@@ -10,9 +10,7 @@ import android.util.Log;
 import androidx.annotation.NonNull;
 import com.google.android.gms.tasks.Task;
 import com.google.android.gms.tasks.TaskCompletionSource;
-import com.google.android.gms.tasks.Tasks;
 import com.google.firebase.FirebaseApp;
-import com.google.firebase.database.DataSnapshot;
 import com.google.firebase.database.DatabaseException;
 import com.google.firebase.database.DatabaseReference;
 import com.google.firebase.database.FirebaseDatabase;
@@ -27,7 +25,11 @@ import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.common.MethodChannel.MethodCallHandler;
 import io.flutter.plugin.common.MethodChannel.Result;
+import io.flutter.plugins.firebase.core.FlutterFirebaseChannelMetrics;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutor;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutors;
 import io.flutter.plugins.firebase.core.FlutterFirebasePlugin;
+import io.flutter.plugins.firebase.core.FlutterFirebaseTasks;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -37,6 +39,8 @@ public class FirebaseDatabasePlugin
     implements FlutterFirebasePlugin, FlutterPlugin, MethodCallHandler {
   protected static final HashMap<String, FirebaseDatabase> databaseInstanceCache = new HashMap<>();
   private static final String METHOD_CHANNEL_NAME = "plugins.flutter.io/firebase_database";
+  private static final FlutterFirebaseExecutor executor =
+      FlutterFirebaseExecutors.getExecutor(METHOD_CHANNEL_NAME);
   private int listenerCount = 0;
   private final Map<EventChannel, StreamHandler> streamHandlers = new HashMap<>();
   private MethodChannel methodChannel;
@@ -62,7 +66,8 @@ public class FirebaseDatabasePlugin
     registerPlugin(METHOD_CHANNEL_NAME, this);
     this.messenger = messenger;
 
-    methodChannel = new MethodChannel(messenger, METHOD_CHANNEL_NAME);
+    methodChannel =
+        new MethodChannel(FlutterFirebaseChannelMetrics.instrument(messenger), METHOD_CHANNEL_NAME);
     methodChannel.setMethodCallHandler(this);
   }
 
@@ -146,7 +151,7 @@ public class FirebaseDatabasePlugin
   private Task<Void> goOnline(Map<String, Object> arguments) {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             final FirebaseDatabase database = getDatabase(arguments);
@@ -164,7 +169,7 @@ public class FirebaseDatabasePlugin
   private Task<Void> goOffline(Map<String, Object> arguments) {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             final FirebaseDatabase database = getDatabase(arguments);
@@ -182,7 +187,7 @@ public class FirebaseDatabasePlugin
   private Task<Void> purgeOutstandingWrites(Map<String, Object> arguments) {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             final FirebaseDatabase database = getDatabase(arguments);
@@ -198,138 +203,82 @@ public class FirebaseDatabasePlugin
   }
 
   private Task<Void> setValue(Map<String, Object> arguments) {
-    TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
+    return FlutterFirebaseTasks.call(
+        executor,
         () -> {
-          try {
-            final DatabaseReference ref = getReference(arguments);
-            final Object value = arguments.get(Constants.VALUE);
-            Tasks.await(ref.setValue(value));
-
-            taskCompletionSource.setResult(null);
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
-          }
+          final DatabaseReference ref = getReference(arguments);
+          final Object value = arguments.get(Constants.VALUE);
+          return ref.setValue(value);
         });
-
-    return taskCompletionSource.getTask();
   }
 
   private Task<Void> setValueWithPriority(Map<String, Object> arguments) {
-    TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
+    return FlutterFirebaseTasks.call(
+        executor,
         () -> {
-          try {
-            final DatabaseReference ref = getReference(arguments);
-            final Object value = arguments.get(Constants.VALUE);
-            final Object priority = arguments.get(Constants.PRIORITY);
-            Tasks.await(ref.setValue(value, priority));
-
-            taskCompletionSource.setResult(null);
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
-          }
+          final DatabaseReference ref = getReference(arguments);
+          final Object value = arguments.get(Constants.VALUE);
+          final Object priority = arguments.get(Constants.PRIORITY);
+          return ref.setValue(value, priority);
         });
-
-    return taskCompletionSource.getTask();
   }
 
   private Task<Void> update(Map<String, Object> arguments) {
-    TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
+    return FlutterFirebaseTasks.call(
+        executor,
         () -> {
-          try {
-            final DatabaseReference ref = getReference(arguments);
+          final DatabaseReference ref = getReference(arguments);
 
-            @SuppressWarnings("unchecked")
-            final Map<String, Object> value =
-                (Map<String, Object>) Objects.requireNonNull(arguments.get(Constants.VALUE));
-            Tasks.await(ref.updateChildren(value));
-
-            taskCompletionSource.setResult(null);
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
-          }
+          @SuppressWarnings("unchecked")
+          final Map<String, Object> value =
+              (Map<String, Object>) Objects.requireNonNull(arguments.get(Constants.VALUE));
+          return ref.updateChildren(value);
         });
-
-    return taskCompletionSource.getTask();
   }
 
   private Task<Void> setPriority(Map<String, Object> arguments) {
-    TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
+    return FlutterFirebaseTasks.call(
+        executor,
         () -> {
-          try {
-            final DatabaseReference ref = getReference(arguments);
-            final Object priority = arguments.get(Constants.PRIORITY);
-            Tasks.await(ref.setPriority(priority));
-
-            taskCompletionSource.setResult(null);
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
-          }
+          final DatabaseReference ref = getReference(arguments);
+          final Object priority = arguments.get(Constants.PRIORITY);
+          return ref.setPriority(priority);
         });
-
-    return taskCompletionSource.getTask();
   }
 
   private Task<Map<String, Object>> runTransaction(Map<String, Object> arguments) {
-    TaskCompletionSource<Map<String, Object>> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
+    return FlutterFirebaseTasks.call(
+        executor,
         () -> {
-          try {
-            final DatabaseReference ref = getReference(arguments);
+          final DatabaseReference ref = getReference(arguments);
 
-            final int transactionKey =
-                (int) Objects.requireNonNull(arguments.get(Constants.TRANSACTION_KEY));
-            final boolean transactionApplyLocally =
-                (boolean)
-                    Objects.requireNonNull(arguments.get(Constants.TRANSACTION_APPLY_LOCALLY));
+          final int transactionKey =
+              (int) Objects.requireNonNull(arguments.get(Constants.TRANSACTION_KEY));
+          final boolean transactionApplyLocally =
+              (boolean) Objects.requireNonNull(arguments.get(Constants.TRANSACTION_APPLY_LOCALLY));
 
-            final TransactionHandler handler =
-                new TransactionHandler(methodChannel, transactionKey);
+          final TransactionHandler handler = new TransactionHandler(methodChannel, transactionKey);
 
-            ref.runTransaction(handler, transactionApplyLocally);
+          ref.runTransaction(handler, transactionApplyLocally);
 
-            Map<String, Object> result = Tasks.await(handler.getTask());
-
-            taskCompletionSource.setResult(result);
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
-          }
+          return handler.getTask();
         });
-
-    return taskCompletionSource.getTask();
   }
 
   private Task<Map<String, Object>> queryGet(Map<String, Object> arguments) {
-    TaskCompletionSource<Map<String, Object>> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
-        () -> {
-          try {
-            final Query query = getQuery(arguments);
-            final DataSnapshot snapshot = Tasks.await(query.get());
-            final FlutterDataSnapshotPayload payload = new FlutterDataSnapshotPayload(snapshot);
-
-            taskCompletionSource.setResult(payload.toMap());
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
-          }
+    return FlutterFirebaseTasks.map(
+        FlutterFirebaseTasks.call(executor, () -> getQuery(arguments).get()),
+        executor,
+        snapshot -> {
+          final FlutterDataSnapshotPayload payload = new FlutterDataSnapshotPayload(snapshot);
+          return payload.toMap();
         });
-
-    return taskCompletionSource.getTask();
   }
 
   private Task<Void> queryKeepSynced(Map<String, Object> arguments) {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             final Query query = getQuery(arguments);
@@ -348,7 +297,7 @@ public class FirebaseDatabasePlugin
   private Task<String> observe(Map<String, Object> arguments) {
     TaskCompletionSource<String> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             final Query query = getQuery(arguments);
@@ -377,95 +326,52 @@ public class FirebaseDatabasePlugin
   }
 
   private Task<Void> setOnDisconnect(Map<String, Object> arguments) {
-    TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
+    return FlutterFirebaseTasks.call(
+        executor,
         () -> {
-          try {
-            final Object value = arguments.get(Constants.VALUE);
-            final OnDisconnect onDisconnect = getReference(arguments).onDisconnect();
-            Tasks.await(onDisconnect.setValue(value));
-            taskCompletionSource.setResult(null);
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
-          }
+          final Object value = arguments.get(Constants.VALUE);
+          final OnDisconnect onDisconnect = getReference(arguments).onDisconnect();
+          return onDisconnect.setValue(value);
         });
-
-    return taskCompletionSource.getTask();
   }
 
   private Task<Void> setWithPriorityOnDisconnect(Map<String, Object> arguments) {
-    TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
+    return FlutterFirebaseTasks.call(
+        executor,
         () -> {
-          try {
-            final Object value = arguments.get(Constants.VALUE);
-            final Object priority = arguments.get(Constants.PRIORITY);
-            final OnDisconnect onDisconnect = getReference(arguments).onDisconnect();
-
-            Task<Void> onDisconnectTask;
-            if (priority instanceof Double) {
-              onDisconnectTask = onDisconnect.setValue(value, ((Number) priority).doubleValue());
-            } else if (priority instanceof String) {
-              onDisconnectTask = onDisconnect.setValue(value, (String) priority);
-            } else if (priority == null) {
-              onDisconnectTask = onDisconnect.setValue(value, (String) null);
-            } else {
-              throw new Exception("Invalid priority value for OnDisconnect.setWithPriority");
-            }
-
-            Tasks.await(onDisconnectTask);
-
-            taskCompletionSource.setResult(null);
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
+          final Object value = arguments.get(Constants.VALUE);
+          final Object priority = arguments.get(Constants.PRIORITY);
+          final OnDisconnect onDisconnect = getReference(arguments).onDisconnect();
+
+          if (priority instanceof Double) {
+            return onDisconnect.setValue(value, ((Number) priority).doubleValue());
+          } else if (priority instanceof String) {
+            return onDisconnect.setValue(value, (String) priority);
+          } else if (priority == null) {
+            return onDisconnect.setValue(value, (String) null);
+          } else {
+            throw new Exception("Invalid priority value for OnDisconnect.setWithPriority");
           }
         });
-
-    return taskCompletionSource.getTask();
   }
 
   private Task<Void> updateOnDisconnect(Map<String, Object> arguments) {
-    TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
+    return FlutterFirebaseTasks.call(
+        executor,
         () -> {
-          try {
-            final DatabaseReference ref = getReference(arguments);
+          final DatabaseReference ref = getReference(arguments);
 
-            @SuppressWarnings("unchecked")
-            final Map<String, Object> value =
-                (Map<String, Object>) Objects.requireNonNull(arguments.get(Constants.VALUE));
+          @SuppressWarnings("unchecked")
+          final Map<String, Object> value =
+              (Map<String, Object>) Objects.requireNonNull(arguments.get(Constants.VALUE));
 
-            final Task<Void> task = ref.onDisconnect().updateChildren(value);
-            Tasks.await(task);
-
-            taskCompletionSource.setResult(null);
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
-          }
+          return ref.onDisconnect().updateChildren(value);
         });
-
-    return taskCompletionSource.getTask();
   }
 
   private Task<Void> cancelOnDisconnect(Map<String, Object> arguments) {
-    TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
-        () -> {
-          try {
-            final DatabaseReference ref = getReference(arguments);
-            Tasks.await(ref.onDisconnect().cancel());
-
-            taskCompletionSource.setResult(null);
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
-          }
-        });
-
-    return taskCompletionSource.getTask();
+    return FlutterFirebaseTasks.call(
+        executor, () -> getReference(arguments).onDisconnect().cancel());
   }
 
   @Override
@@ -568,7 +474,7 @@ public class FirebaseDatabasePlugin
   public Task<Map<String, Object>> getPluginConstantsForFirebaseApp(FirebaseApp firebaseApp) {
     TaskCompletionSource<Map<String, Object>> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             final Map<String, Object> constants = new HashMap<>();
@@ -585,7 +491,7 @@ public class FirebaseDatabasePlugin
   public Task<Void> didReinitializeFirebaseCore() {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             cleanup();
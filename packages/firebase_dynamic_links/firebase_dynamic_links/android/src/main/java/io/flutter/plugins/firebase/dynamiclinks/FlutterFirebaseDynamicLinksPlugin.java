@@ -25,8 +25,12 @@ import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.common.MethodChannel.MethodCallHandler;
 import io.flutter.plugin.common.PluginRegistry.NewIntentListener;
+import io.flutter.plugins.firebase.core.FlutterFirebaseChannelMetrics;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutor;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutors;
 import io.flutter.plugins.firebase.core.FlutterFirebasePlugin;
 import io.flutter.plugins.firebase.core.FlutterFirebasePluginRegistry;
+import io.flutter.plugins.firebase.core.FlutterFirebaseTasks;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -50,9 +54,12 @@ public class FlutterFirebaseDynamicLinksPlugin
   private MethodChannel channel;
 
   private static final String METHOD_CHANNEL_NAME = "plugins.flutter.io/firebase_dynamic_links";
+  private static final FlutterFirebaseExecutor executor =
+      FlutterFirebaseExecutors.getExecutor(METHOD_CHANNEL_NAME);
 
   private void initInstance(BinaryMessenger messenger) {
-    channel = new MethodChannel(messenger, METHOD_CHANNEL_NAME);
+    channel =
+        new MethodChannel(FlutterFirebaseChannelMetrics.instrument(messenger), METHOD_CHANNEL_NAME);
     channel.setMethodCallHandler(this);
     FlutterFirebasePluginRegistry.registerPlugin(METHOD_CHANNEL_NAME, this);
     checkForCachedData();
@@ -192,90 +199,77 @@ public class FlutterFirebaseDynamicLinksPlugin
   }
 
   private Task<Map<String, Object>> buildShortLink(@NonNull Map<String, Object> arguments) {
-    TaskCompletionSource<Map<String, Object>> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
-        () -> {
-          try {
-            DynamicLink.Builder urlBuilder = setupParameters(arguments);
-            String longDynamicLink = (String) arguments.get("longDynamicLink");
-
-            if (longDynamicLink != null) {
-              urlBuilder.setLongLink(Uri.parse(longDynamicLink));
-            }
-
-            Integer suffix = 1;
-            Integer shortDynamicLinkPathLength = (Integer) arguments.get("shortLinkType");
-            if (shortDynamicLinkPathLength != null) {
-              switch (shortDynamicLinkPathLength) {
-                case 0:
-                  suffix = ShortDynamicLink.Suffix.UNGUESSABLE;
-                  break;
-                case 1:
-                  suffix = ShortDynamicLink.Suffix.SHORT;
-                  break;
-                default:
-                  break;
+    Task<ShortDynamicLink> shortLinkTask =
+        FlutterFirebaseTasks.call(
+            executor,
+            () -> {
+              DynamicLink.Builder urlBuilder = setupParameters(arguments);
+              String longDynamicLink = (String) arguments.get("longDynamicLink");
+
+              if (longDynamicLink != null) {
+                urlBuilder.setLongLink(Uri.parse(longDynamicLink));
               }
-            }
 
-            Map<String, Object> result = new HashMap<>();
-            ShortDynamicLink shortLink;
+              Integer suffix = 1;
+              Integer shortDynamicLinkPathLength = (Integer) arguments.get("shortLinkType");
+              if (shortDynamicLinkPathLength != null) {
+                switch (shortDynamicLinkPathLength) {
+                  case 0:
+                    suffix = ShortDynamicLink.Suffix.UNGUESSABLE;
+                    break;
+                  case 1:
+                    suffix = ShortDynamicLink.Suffix.SHORT;
+                    break;
+                  default:
+                    break;
+                }
+              }
 
-            shortLink = Tasks.await(urlBuilder.buildShortDynamicLink(suffix));
+              return urlBuilder.buildShortDynamicLink(suffix);
+            });
 
-            List<String> warnings = new ArrayList<>();
+    return FlutterFirebaseTasks.map(
+        shortLinkTask,
+        executor,
+        shortLink -> {
+          Map<String, Object> result = new HashMap<>();
+          List<String> warnings = new ArrayList<>();
 
-            for (ShortDynamicLink.Warning warning : shortLink.getWarnings()) {
-              warnings.add(warning.getMessage());
-            }
+          for (ShortDynamicLink.Warning warning : shortLink.getWarnings()) {
+            warnings.add(warning.getMessage());
+          }
 
-            result.put("url", shortLink.getShortLink().toString());
-            result.put("warnings", warnings);
-            result.put("previewLink", shortLink.getPreviewLink().toString());
+          result.put("url", shortLink.getShortLink().toString());
+          result.put("warnings", warnings);
+          result.put("previewLink", shortLink.getPreviewLink().toString());
 
-            taskCompletionSource.setResult(result);
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
-          }
+          return result;
         });
-
-    return taskCompletionSource.getTask();
   }
 
   private Task<Map<String, Object>> getDynamicLink(
       FirebaseDynamicLinks dynamicLinks, @Nullable String url) {
-    TaskCompletionSource<Map<String, Object>> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
-        () -> {
-          try {
-            PendingDynamicLinkData pendingDynamicLink;
+    Task<PendingDynamicLinkData> pendingDynamicLinkTask =
+        FlutterFirebaseTasks.call(
+            executor,
+            () -> {
+              if (url != null) {
+                return dynamicLinks.getDynamicLink(Uri.parse(url));
+              }
 
-            if (url != null) {
-              pendingDynamicLink = Tasks.await(dynamicLinks.getDynamicLink(Uri.parse(url)));
-            } else {
               // If there's no activity or initial Intent, then there's no initial dynamic link.
               if (activity.get() == null
                   || activity.get().getIntent() == null
                   || activity.get().getIntent().getBooleanExtra("flutterfire-used-link", false)) {
-                taskCompletionSource.setResult(null);
-                return;
+                return Tasks.forResult(null);
               }
 
               activity.get().getIntent().putExtra("flutterfire-used-link", true);
-              pendingDynamicLink =
-                  Tasks.await(dynamicLinks.getDynamicLink(activity.get().getIntent()));
-            }
-
-            taskCompletionSource.setResult(
-                Utils.getMapFromPendingDynamicLinkData(pendingDynamicLink));
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
-          }
-        });
+              return dynamicLinks.getDynamicLink(activity.get().getIntent());
+            });
 
-    return taskCompletionSource.getTask();
+    return FlutterFirebaseTasks.map(
+        pendingDynamicLinkTask, executor, Utils::getMapFromPendingDynamicLinkData);
   }
 
   private DynamicLink.Builder setupParameters(Map<String, Object> arguments) {
@@ -405,7 +399,7 @@ public class FlutterFirebaseDynamicLinksPlugin
   @Override
   public Task<Map<String, Object>> getPluginConstantsForFirebaseApp(FirebaseApp firebaseApp) {
     TaskCompletionSource<Map<String, Object>> taskCompletionSource = new TaskCompletionSource<>();
-    cachedThreadPool.execute(() -> taskCompletionSource.setResult(null));
+    executor.execute(() -> taskCompletionSource.setResult(null));
 
     return taskCompletionSource.getTask();
   }
@@ -413,7 +407,7 @@ public class FlutterFirebaseDynamicLinksPlugin
   @Override
   public Task<Void> didReinitializeFirebaseCore() {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
-    cachedThreadPool.execute(() -> taskCompletionSource.setResult(null));
+    executor.execute(() -> taskCompletionSource.setResult(null));
 
     return taskCompletionSource.getTask();
   }
@@ -15,6 +15,9 @@ import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.common.MethodChannel.MethodCallHandler;
 import io.flutter.plugin.common.MethodChannel.Result;
+import io.flutter.plugins.firebase.core.FlutterFirebaseChannelMetrics;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutor;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutors;
 import io.flutter.plugins.firebase.core.FlutterFirebasePlugin;
 import java.util.Map;
 import java.util.Objects;
@@ -22,12 +25,18 @@ import java.util.Objects;
 /** FirebaseInAppMessagingPlugin */
 public class FirebaseInAppMessagingPlugin
     implements FlutterFirebasePlugin, FlutterPlugin, MethodCallHandler {
+  private static final FlutterFirebaseExecutor executor =
+      FlutterFirebaseExecutors.getExecutor("plugins.flutter.io/firebase_in_app_messaging");
+
   private MethodChannel channel;
 
   @Override
   public void onAttachedToEngine(FlutterPluginBinding binding) {
     BinaryMessenger binaryMessenger = binding.getBinaryMessenger();
-    channel = new MethodChannel(binaryMessenger, "plugins.flutter.io/firebase_in_app_messaging");
+    channel =
+        new MethodChannel(
+            FlutterFirebaseChannelMetrics.instrument(binaryMessenger),
+            "plugins.flutter.io/firebase_in_app_messaging");
     channel.setMethodCallHandler(new FirebaseInAppMessagingPlugin());
   }
 
@@ -75,7 +84,7 @@ public class FirebaseInAppMessagingPlugin
   public Task<Map<String, Object>> getPluginConstantsForFirebaseApp(FirebaseApp firebaseApp) {
     TaskCompletionSource<Map<String, Object>> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             taskCompletionSource.setResult(null);
@@ -91,7 +100,7 @@ public class FirebaseInAppMessagingPlugin
   public Task<Void> didReinitializeFirebaseCore() {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             taskCompletionSource.setResult(null);
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2024, the Chromium project authors.  Please see the AUTHORS file
+ * for details. All rights reserved. Use of this source code is governed by a
+ * BSD-style license that can be found in the LICENSE file.
+ */
+
+package io.flutter.plugins.firebase.messaging;
+
+import androidx.benchmark.BenchmarkState;
+import androidx.benchmark.junit4.BenchmarkRule;
+import com.google.firebase.messaging.RemoteMessage;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/** Measures converting received messages to the maps sent to Dart. */
+@RunWith(Parameterized.class)
+public class FlutterFirebaseMessagingUtilsBenchmark {
+  @Rule public BenchmarkRule benchmarkRule = new BenchmarkRule();
+
+  /** Data payload sizes the benchmark runs with: 1 KB to 10 MB. */
+  @Parameterized.Parameters(name = "{0}B")
+  public static Collection<Object[]> sizes() {
+    return Arrays.asList(new Object[][] {{1 << 10}, {100 << 10}, {1 << 20}, {10 << 20}});
+  }
+
+  private final int targetBytes;
+  private RemoteMessage remoteMessage;
+
+  public FlutterFirebaseMessagingUtilsBenchmark(int targetBytes) {
+    this.targetBytes = targetBytes;
+  }
+
+  @Before
+  public void setUp() {
+    Map<String, String> data = new HashMap<>();
+    int size = 0;
+    for (int i = 0; size < targetBytes; i++) {
+      String key = "key-" + i;
+      String value = "value-" + i + "-lorem-ipsum-dolor-sit-amet-consectetur-adipiscing";
+      data.put(key, value);
+      size += key.length() + value.length();
+    }
+
+    remoteMessage =
+        new RemoteMessage.Builder("benchmark@fcm.googleapis.com")
+            .setMessageId("benchmark-" + targetBytes)
+            .setMessageType("benchmark")
+            .setCollapseKey("benchmark")
+            .setTtl(60)
+            .setData(data)
+            .build();
+  }
+
+  @Test
+  public void remoteMessageToMap() {
+    BenchmarkState state = benchmarkRule.getState();
+    while (state.keepRunning()) {
+      FlutterFirebaseMessagingUtils.remoteMessageToMap(remoteMessage);
+    }
+  }
+}
@@ -33,7 +33,11 @@ import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.common.MethodChannel.MethodCallHandler;
 import io.flutter.plugin.common.MethodChannel.Result;
 import io.flutter.plugin.common.PluginRegistry.NewIntentListener;
+import io.flutter.plugins.firebase.core.FlutterFirebaseChannelMetrics;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutor;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutors;
 import io.flutter.plugins.firebase.core.FlutterFirebasePlugin;
+import io.flutter.plugins.firebase.core.FlutterFirebaseTasks;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -46,6 +50,9 @@ public class FlutterFirebaseMessagingPlugin
         FlutterPlugin,
         ActivityAware {
 
+  private static final FlutterFirebaseExecutor executor =
+      FlutterFirebaseExecutors.getExecutor("plugins.flutter.io/firebase_messaging");
+
   private final HashMap<String, Boolean> consumedInitialMessages = new HashMap<>();
   private MethodChannel channel;
   private Activity mainActivity;
@@ -66,7 +73,7 @@ public class FlutterFirebaseMessagingPlugin
 
   private void initInstance(BinaryMessenger messenger) {
     String channelName = "plugins.flutter.io/firebase_messaging";
-    channel = new MethodChannel(messenger, channelName);
+    channel = new MethodChannel(FlutterFirebaseChannelMetrics.instrument(messenger), channelName);
     channel.setMethodCallHandler(this);
     permissionManager = new FlutterFirebasePermissionManager();
 
@@ -127,86 +134,51 @@ public class FlutterFirebaseMessagingPlugin
   }
 
   private Task<Void> deleteToken() {
-    TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
-        () -> {
-          try {
-            Tasks.await(FirebaseMessaging.getInstance().deleteToken());
-            taskCompletionSource.setResult(null);
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
-          }
-        });
-
-    return taskCompletionSource.getTask();
+    return FlutterFirebaseTasks.call(
+        executor, () -> FirebaseMessaging.getInstance().deleteToken());
   }
 
   private Task<Map<String, Object>> getToken() {
-    TaskCompletionSource<Map<String, Object>> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
-        () -> {
-          try {
-            String token = Tasks.await(FirebaseMessaging.getInstance().getToken());
-            taskCompletionSource.setResult(
-                new HashMap<String, Object>() {
-                  {
-                    put("token", token);
-                  }
-                });
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
-          }
-        });
-
-    return taskCompletionSource.getTask();
+    return FlutterFirebaseTasks.map(
+        FlutterFirebaseTasks.call(executor, () -> FirebaseMessaging.getInstance().getToken()),
+        executor,
+        token ->
+            new HashMap<String, Object>() {
+              {
+                put("token", token);
+              }
+            });
   }
 
   private Task<Void> subscribeToTopic(Map<String, Object> arguments) {
-    TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
+    return FlutterFirebaseTasks.call(
+        executor,
         () -> {
-          try {
-            FirebaseMessaging firebaseMessaging =
-                FlutterFirebaseMessagingUtils.getFirebaseMessagingForArguments(arguments);
-            String topic = (String) Objects.requireNonNull(arguments.get("topic"));
-            Tasks.await(firebaseMessaging.subscribeToTopic(topic));
-            taskCompletionSource.setResult(null);
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
-          }
+          FirebaseMessaging firebaseMessaging =
+              FlutterFirebaseMessagingUtils.getFirebaseMessagingForArguments(arguments);
+          String topic = (String) Objects.requireNonNull(arguments.get("topic"));
+          return firebaseMessaging.subscribeToTopic(topic);
         });
-
-    return taskCompletionSource.getTask();
   }
 
   private Task<Void> unsubscribeFromTopic(Map<String, Object> arguments) {
-    TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
+    return FlutterFirebaseTasks.call(
+        executor,
         () -> {
-          try {
-            FirebaseMessaging firebaseMessaging =
-                FlutterFirebaseMessagingUtils.getFirebaseMessagingForArguments(arguments);
-            String topic = (String) Objects.requireNonNull(arguments.get("topic"));
-            Tasks.await(firebaseMessaging.unsubscribeFromTopic(topic));
-            taskCompletionSource.setResult(null);
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
-          }
+          FirebaseMessaging firebaseMessaging =
+              FlutterFirebaseMessagingUtils.getFirebaseMessagingForArguments(arguments);
+          String topic = (String) Objects.requireNonNull(arguments.get("topic"));
+          return firebaseMessaging.unsubscribeFromTopic(topic);
         });
-
-    return taskCompletionSource.getTask();
   }
+
   // This API will be removed in a future release. Slated to be removed by June 2024 by Firebase.
   // https://firebase.google.com/docs/reference/android/com/google/firebase/messaging/FirebaseMessaging#send
   @SuppressWarnings("deprecation")
   private Task<Void> sendMessage(Map<String, Object> arguments) {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             FirebaseMessaging firebaseMessaging =
@@ -226,7 +198,7 @@ public class FlutterFirebaseMessagingPlugin
   private Task<Map<String, Object>> setAutoInitEnabled(Map<String, Object> arguments) {
     TaskCompletionSource<Map<String, Object>> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             FirebaseMessaging firebaseMessaging =
@@ -252,7 +224,7 @@ public class FlutterFirebaseMessagingPlugin
   private Task<Void> setDeliveryMetricsExportToBigQuery(Map<String, Object> arguments) {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             FirebaseMessaging firebaseMessaging =
@@ -271,7 +243,7 @@ public class FlutterFirebaseMessagingPlugin
   private Task<Map<String, Object>> getInitialMessage() {
     TaskCompletionSource<Map<String, Object>> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             if (initialMessage != null) {
@@ -357,7 +329,7 @@ public class FlutterFirebaseMessagingPlugin
   @RequiresApi(api = 33)
   private Task<Map<String, Integer>> requestPermissions() {
     TaskCompletionSource<Map<String, Integer>> taskCompletionSource = new TaskCompletionSource<>();
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           final Map<String, Integer> permissions = new HashMap<>();
           try {
@@ -395,7 +367,7 @@ public class FlutterFirebaseMessagingPlugin
   private Task<Map<String, Integer>> getPermissions() {
     TaskCompletionSource<Map<String, Integer>> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             final Map<String, Integer> permissions = new HashMap<>();
@@ -589,7 +561,7 @@ public class FlutterFirebaseMessagingPlugin
   public Task<Map<String, Object>> getPluginConstantsForFirebaseApp(FirebaseApp firebaseApp) {
     TaskCompletionSource<Map<String, Object>> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             Map<String, Object> constants = new HashMap<>();
@@ -611,7 +583,7 @@ public class FlutterFirebaseMessagingPlugin
   public Task<Void> didReinitializeFirebaseCore() {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(() -> taskCompletionSource.setResult(null));
+    executor.execute(() -> taskCompletionSource.setResult(null));
 
     return taskCompletionSource.getTask();
   }
@@ -11,7 +11,6 @@ import androidx.annotation.NonNull;
 import androidx.annotation.RequiresApi;
 import com.google.android.gms.tasks.Task;
 import com.google.android.gms.tasks.TaskCompletionSource;
-import com.google.android.gms.tasks.Tasks;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.ml.modeldownloader.CustomModel;
 import com.google.firebase.ml.modeldownloader.CustomModelDownloadConditions;
@@ -23,19 +22,24 @@ import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.common.MethodChannel.MethodCallHandler;
 import io.flutter.plugin.common.MethodChannel.Result;
+import io.flutter.plugins.firebase.core.FlutterFirebaseChannelMetrics;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutor;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutors;
 import io.flutter.plugins.firebase.core.FlutterFirebasePlugin;
+import io.flutter.plugins.firebase.core.FlutterFirebaseTasks;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 
 public class FirebaseModelDownloaderPlugin
     implements FlutterPlugin, MethodCallHandler, FlutterFirebasePlugin {
 
   private static final String METHOD_CHANNEL_NAME =
       "plugins.flutter.io/firebase_ml_model_downloader";
+  private static final FlutterFirebaseExecutor executor =
+      FlutterFirebaseExecutors.getExecutor(METHOD_CHANNEL_NAME);
   private MethodChannel channel;
 
   public FirebaseModelDownloaderPlugin() {}
@@ -51,7 +55,7 @@ public class FirebaseModelDownloaderPlugin
     String message = exception.getMessage();
 
     if (exception instanceof FirebaseMlException) {
-      FirebaseMlException mlException = (FirebaseMlException) exception.getCause();
+      FirebaseMlException mlException = (FirebaseMlException) exception;
       code = exceptionCodeToString(mlException.getCode());
       message = mlException.getMessage();
     }
@@ -108,7 +112,10 @@ public class FirebaseModelDownloaderPlugin
 
   @Override
   public void onAttachedToEngine(@NonNull FlutterPluginBinding binding) {
-    channel = new MethodChannel(binding.getBinaryMessenger(), METHOD_CHANNEL_NAME);
+    channel =
+        new MethodChannel(
+            FlutterFirebaseChannelMetrics.instrument(binding.getBinaryMessenger()),
+            METHOD_CHANNEL_NAME);
     channel.setMethodCallHandler(this);
   }
 
@@ -153,88 +160,65 @@ public class FirebaseModelDownloaderPlugin
   @SuppressWarnings("ConstantConditions")
   @RequiresApi(api = Build.VERSION_CODES.N)
   Task<Map<String, Object>> getModel(Map<String, Object> arguments) {
-    TaskCompletionSource<Map<String, Object>> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
-        () -> {
-          FirebaseModelDownloader instance = getFirebaseModelDownloader(arguments);
-          String modelName = (String) Objects.requireNonNull(arguments.get("modelName"));
-          String downloadType = (String) Objects.requireNonNull(arguments.get("downloadType"));
-          @SuppressWarnings("unchecked")
-          Map<String, Boolean> conditions =
-              (Map<String, Boolean>) Objects.requireNonNull(arguments.get("conditions"));
-
-          CustomModelDownloadConditions.Builder conditionsBuilder =
-              new CustomModelDownloadConditions.Builder();
-
-          if (conditions.get("androidChargingRequired")) {
-            conditionsBuilder.requireCharging();
-          }
-
-          if (conditions.get("androidWifiRequired")) {
-            conditionsBuilder.requireWifi();
-          }
-
-          if (conditions.get("androidDeviceIdleRequired")) {
-            conditionsBuilder.requireDeviceIdle();
-          }
-
-          try {
-            CustomModel model =
-                Tasks.await(
-                    instance.getModel(
-                        modelName, getDownloadType(downloadType), conditionsBuilder.build()));
-            taskCompletionSource.setResult(customModelToMap(model));
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
-          }
-        });
-
-    return taskCompletionSource.getTask();
+    Task<CustomModel> modelTask =
+        FlutterFirebaseTasks.call(
+            executor,
+            () -> {
+              FirebaseModelDownloader instance = getFirebaseModelDownloader(arguments);
+              String modelName = (String) Objects.requireNonNull(arguments.get("modelName"));
+              String downloadType =
+                  (String) Objects.requireNonNull(arguments.get("downloadType"));
+              @SuppressWarnings("unchecked")
+              Map<String, Boolean> conditions =
+                  (Map<String, Boolean>) Objects.requireNonNull(arguments.get("conditions"));
+
+              CustomModelDownloadConditions.Builder conditionsBuilder =
+                  new CustomModelDownloadConditions.Builder();
+
+              if (conditions.get("androidChargingRequired")) {
+                conditionsBuilder.requireCharging();
+              }
+
+              if (conditions.get("androidWifiRequired")) {
+                conditionsBuilder.requireWifi();
+              }
+
+              if (conditions.get("androidDeviceIdleRequired")) {
+                conditionsBuilder.requireDeviceIdle();
+              }
+
+              return instance.getModel(
+                  modelName, getDownloadType(downloadType), conditionsBuilder.build());
+            });
+
+    return FlutterFirebaseTasks.map(modelTask, executor, this::customModelToMap);
   }
 
   Task<List<Map<String, Object>>> listDownloadedModels(Map<String, Object> arguments) {
-    TaskCompletionSource<List<Map<String, Object>>> taskCompletionSource =
-        new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
-        () -> {
-          FirebaseModelDownloader instance = getFirebaseModelDownloader(arguments);
-
-          try {
-            Set<CustomModel> result = Tasks.await(instance.listDownloadedModels());
-            List<Map<String, Object>> models = new ArrayList<>(result.size());
-
-            for (CustomModel model : result) {
-              models.add(customModelToMap(model));
-            }
-
-            taskCompletionSource.setResult(models);
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
+    return FlutterFirebaseTasks.map(
+        FlutterFirebaseTasks.call(
+            executor, () -> getFirebaseModelDownloader(arguments).listDownloadedModels()),
+        executor,
+        result -> {
+          List<Map<String, Object>> models = new ArrayList<>(result.size());
+
+          for (CustomModel model : result) {
+            models.add(customModelToMap(model));
           }
-        });
 
-    return taskCompletionSource.getTask();
+          return models;
+        });
   }
 
   Task<Void> deleteDownloadedModel(Map<String, Object> arguments) {
-    TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
-
-    cachedThreadPool.execute(
+    return FlutterFirebaseTasks.call(
+        executor,
         () -> {
           FirebaseModelDownloader instance = getFirebaseModelDownloader(arguments);
           String modelName = (String) Objects.requireNonNull(arguments.get("modelName"));
 
-          try {
-            Tasks.await(instance.deleteDownloadedModel(modelName));
-            taskCompletionSource.setResult(null);
-          } catch (Exception e) {
-            taskCompletionSource.setException(e);
-          }
+          return instance.deleteDownloadedModel(modelName);
         });
-
-    return taskCompletionSource.getTask();
   }
 
   @RequiresApi(api = Build.VERSION_CODES.N)
@@ -276,7 +260,7 @@ public class FirebaseModelDownloaderPlugin
   // Returns a nullable task.
   private <T> Task<T> nullTask() {
     TaskCompletionSource<T> taskCompletionSource = new TaskCompletionSource<>();
-    cachedThreadPool.execute(() -> taskCompletionSource.setResult(null));
+    executor.execute(() -> taskCompletionSource.setResult(null));
     return taskCompletionSource.getTask();
   }
 
@@ -18,6 +18,9 @@ import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.common.MethodChannel.MethodCallHandler;
+import io.flutter.plugins.firebase.core.FlutterFirebaseChannelMetrics;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutor;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutors;
 import io.flutter.plugins.firebase.core.FlutterFirebasePlugin;
 import java.util.HashMap;
 import java.util.Map;
@@ -31,6 +34,8 @@ import java.util.Objects;
 public class FlutterFirebasePerformancePlugin
     implements FlutterFirebasePlugin, FlutterPlugin, MethodCallHandler {
   private static final String METHOD_CHANNEL_NAME = "plugins.flutter.io/firebase_performance";
+  private static final FlutterFirebaseExecutor executor =
+      FlutterFirebaseExecutors.getExecutor(METHOD_CHANNEL_NAME);
 
   static final HashMap<Integer, HttpMetric> _httpMetrics = new HashMap<>();
   static final HashMap<Integer, Trace> _traces = new HashMap<>();
@@ -40,7 +45,8 @@ public class FlutterFirebasePerformancePlugin
 
   private void initInstance(BinaryMessenger messenger) {
     registerPlugin(METHOD_CHANNEL_NAME, this);
-    channel = new MethodChannel(messenger, METHOD_CHANNEL_NAME);
+    channel =
+        new MethodChannel(FlutterFirebaseChannelMetrics.instrument(messenger), METHOD_CHANNEL_NAME);
     channel.setMethodCallHandler(this);
   }
 
@@ -85,7 +91,7 @@ public class FlutterFirebasePerformancePlugin
   private Task<Boolean> isPerformanceCollectionEnabled() {
     TaskCompletionSource<Boolean> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             taskCompletionSource.setResult(
@@ -101,7 +107,7 @@ public class FlutterFirebasePerformancePlugin
   private Task<Void> setPerformanceCollectionEnabled(MethodCall call) {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             final Boolean enable = call.argument("enable");
@@ -118,7 +124,7 @@ public class FlutterFirebasePerformancePlugin
   private Task<Integer> traceStart(MethodCall call) {
     TaskCompletionSource<Integer> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             final String name = Objects.requireNonNull(call.argument("name"));
@@ -138,7 +144,8 @@ public class FlutterFirebasePerformancePlugin
   private Task<Void> traceStop(MethodCall call) {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
+        FlutterFirebaseExecutor.Priority.BACKGROUND,
         () -> {
           try {
             final int traceHandle = Objects.requireNonNull(call.argument("handle"));
@@ -185,7 +192,7 @@ public class FlutterFirebasePerformancePlugin
   private Task<Integer> httpMetricStart(MethodCall call) {
     TaskCompletionSource<Integer> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             final String url = Objects.requireNonNull(call.argument("url"));
@@ -208,7 +215,8 @@ public class FlutterFirebasePerformancePlugin
   private Task<Void> httpMetricStop(MethodCall call) {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
+        FlutterFirebaseExecutor.Priority.BACKGROUND,
         () -> {
           try {
             final int httpMetricHandle = Objects.requireNonNull(call.argument("handle"));
@@ -306,7 +314,7 @@ public class FlutterFirebasePerformancePlugin
   public Task<Map<String, Object>> getPluginConstantsForFirebaseApp(FirebaseApp firebaseApp) {
     TaskCompletionSource<Map<String, Object>> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             taskCompletionSource.setResult(new HashMap<String, Object>() {});
@@ -322,7 +330,7 @@ public class FlutterFirebasePerformancePlugin
   public Task<Void> didReinitializeFirebaseCore() {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             for (Trace trace : _traces.values()) {
@@ -29,6 +29,9 @@ import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
+import io.flutter.plugins.firebase.core.FlutterFirebaseChannelMetrics;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutor;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutors;
 import io.flutter.plugins.firebase.core.FlutterFirebasePlugin;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -45,6 +48,8 @@ public class FirebaseRemoteConfigPlugin
   static final String TAG = "FRCPlugin";
   static final String METHOD_CHANNEL = "plugins.flutter.io/firebase_remote_config";
   static final String EVENT_CHANNEL = "plugins.flutter.io/firebase_remote_config_updated";
+  private static final FlutterFirebaseExecutor executor =
+      FlutterFirebaseExecutors.getExecutor(METHOD_CHANNEL);
 
   private MethodChannel channel;
 
@@ -66,7 +71,7 @@ public class FirebaseRemoteConfigPlugin
   public Task<Map<String, Object>> getPluginConstantsForFirebaseApp(final FirebaseApp firebaseApp) {
     TaskCompletionSource<Map<String, Object>> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             FirebaseRemoteConfig remoteConfig = FirebaseRemoteConfig.getInstance(firebaseApp);
@@ -101,7 +106,7 @@ public class FirebaseRemoteConfigPlugin
   public Task<Void> didReinitializeFirebaseCore() {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
 
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           try {
             removeEventListeners();
@@ -116,7 +121,8 @@ public class FirebaseRemoteConfigPlugin
 
   private void setupChannel(BinaryMessenger messenger) {
     registerPlugin(METHOD_CHANNEL, this);
-    channel = new MethodChannel(messenger, METHOD_CHANNEL);
+    channel =
+        new MethodChannel(FlutterFirebaseChannelMetrics.instrument(messenger), METHOD_CHANNEL);
     channel.setMethodCallHandler(this);
 
     eventChannel = new EventChannel(messenger, EVENT_CHANNEL);
@@ -20,6 +20,9 @@ import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugin.common.EventChannel.StreamHandler;
 import io.flutter.plugin.common.MethodChannel;
+import io.flutter.plugins.firebase.core.FlutterFirebaseChannelMetrics;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutor;
+import io.flutter.plugins.firebase.core.FlutterFirebaseExecutors;
 import io.flutter.plugins.firebase.core.FlutterFirebasePlugin;
 import io.flutter.plugins.firebase.core.FlutterFirebasePluginRegistry;
 import java.io.File;
@@ -39,6 +42,8 @@ public class FlutterFirebaseStoragePlugin
   private MethodChannel channel;
   @Nullable private BinaryMessenger messenger;
   static final String STORAGE_METHOD_CHANNEL_NAME = "plugins.flutter.io/firebase_storage";
+  private static final FlutterFirebaseExecutor executor =
+      FlutterFirebaseExecutors.getExecutor(STORAGE_METHOD_CHANNEL_NAME);
   static final String STORAGE_TASK_EVENT_NAME = "taskEvent";
   static final String DEFAULT_ERROR_CODE = "firebase_storage";
 
@@ -140,8 +145,9 @@ public class FlutterFirebaseStoragePlugin
 
   private void initInstance(BinaryMessenger messenger) {
     FlutterFirebasePluginRegistry.registerPlugin(STORAGE_METHOD_CHANNEL_NAME, this);
-    channel = new MethodChannel(messenger, STORAGE_METHOD_CHANNEL_NAME);
-    GeneratedAndroidFirebaseStorage.FirebaseStorageHostApi.setup(messenger, this);
+    BinaryMessenger instrumentedMessenger = FlutterFirebaseChannelMetrics.instrument(messenger);
+    channel = new MethodChannel(instrumentedMessenger, STORAGE_METHOD_CHANNEL_NAME);
+    GeneratedAndroidFirebaseStorage.FirebaseStorageHostApi.setup(instrumentedMessenger, this);
     this.messenger = messenger;
   }
 
@@ -682,7 +688,7 @@ public class FlutterFirebaseStoragePlugin
   @Override
   public Task<Map<String, Object>> getPluginConstantsForFirebaseApp(FirebaseApp firebaseApp) {
     TaskCompletionSource<Map<String, Object>> taskCompletionSource = new TaskCompletionSource<>();
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           HashMap<String, Object> obj = new HashMap<String, Object>();
           taskCompletionSource.setResult(obj);
@@ -694,7 +700,7 @@ public class FlutterFirebaseStoragePlugin
   @Override
   public Task<Void> didReinitializeFirebaseCore() {
     TaskCompletionSource<Void> taskCompletionSource = new TaskCompletionSource<>();
-    cachedThreadPool.execute(
+    executor.execute(
         () -> {
           FlutterFirebaseStorageTask.cancelInProgressTasks();
           taskCompletionSource.setResult(null);
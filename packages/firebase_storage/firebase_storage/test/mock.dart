@@ -80,6 +80,11 @@ class MockFirebaseAppStorage implements TestFirebaseCoreHostApi {
       storageBucket: kBucket,
     );
   }
+
+  @override
+  Future<Map<String?, Object?>> getChannelMetrics(bool reset) async {
+    return {};
+  }
 }
 
 void setupFirebaseStorageMocks() {
@@ -55,6 +55,11 @@ class MockFirebaseAppVertexAI implements TestFirebaseCoreHostApi {
       messagingSenderId: '123',
     );
   }
+
+  @override
+  Future<Map<String?, Object?>> getChannelMetrics(bool reset) async {
+    return {};
+  }
 }
 
 void setupFirebaseVertexAIMocks() {